@@ -20,6 +20,7 @@ import java.util.LinkedHashSet;
 import java.util.Objects;
 import java.util.Optional;
 import java.util.function.Consumer;
+import java.util.function.Supplier;
 import java.util.stream.Collectors;
 
 import javax.annotation.Nullable;
@@ -50,7 +51,7 @@ public final class ImmutableChange implements Change {
     private final EntityId entityId;
     private final ChangeAction action;
     private final JsonPointer path;
-    @Nullable private final JsonValue value;
+    private final LazyJsonValue value;
     private final long revision;
     @Nullable private final Instant timestamp;
     @Nullable private final JsonObject extra;
@@ -81,6 +82,50 @@ public final class ImmutableChange implements Change {
             final DittoHeaders dittoHeaders,
             final Consumer<Acknowledgement> acknowledgementPublisher) {
 
+        this(entityId, changeAction, path, LazyJsonValue.of(value), revision, timestamp, extra, dittoHeaders,
+                acknowledgementPublisher);
+    }
+
+    /**
+     * Constructs a new {@code ImmutableChange} object whose value is computed by the passed {@code valueSupplier} on
+     * first access and memoized afterwards.
+     *
+     * @param entityId ID (with EntityType) of the changed entity.
+     * @param changeAction the operation which caused the change.
+     * @param path the JsonPointer of the changed json field.
+     * @param valueSupplier supplies the value of the changed json field, may supply {@code null}.
+     * @param revision the revision (change counter) of the change.
+     * @param timestamp the timestamp of the change.
+     * @param extra the extra data to be included in the change.
+     * @param dittoHeaders the DittoHeaders of the event which lead to the change.
+     * @param acknowledgementPublisher the consumer for publishing built acknowledgements to the Ditto backend.
+     * @throws NullPointerException if any required argument is {@code null}.
+     * @since 3.6.0
+     */
+    ImmutableChange(final EntityId entityId,
+            final ChangeAction changeAction,
+            final JsonPointer path,
+            final Supplier<JsonValue> valueSupplier,
+            final long revision,
+            @Nullable final Instant timestamp,
+            @Nullable final JsonObject extra,
+            final DittoHeaders dittoHeaders,
+            final Consumer<Acknowledgement> acknowledgementPublisher) {
+
+        this(entityId, changeAction, path, LazyJsonValue.computedBy(valueSupplier), revision, timestamp, extra,
+                dittoHeaders, acknowledgementPublisher);
+    }
+
+    private ImmutableChange(final EntityId entityId,
+            final ChangeAction changeAction,
+            final JsonPointer path,
+            final LazyJsonValue value,
+            final long revision,
+            @Nullable final Instant timestamp,
+            @Nullable final JsonObject extra,
+            final DittoHeaders dittoHeaders,
+            final Consumer<Acknowledgement> acknowledgementPublisher) {
+
         this.entityId = checkNotNull(entityId, "entityId");
         this.action = checkNotNull(changeAction, "changeAction");
         this.path = checkNotNull(path, "path");
@@ -114,7 +159,7 @@ public final class ImmutableChange implements Change {
 
     @Override
     public Optional<JsonValue> getValue() {
-        return Optional.ofNullable(value);
+        return Optional.ofNullable(value.get());
     }
 
     @Override
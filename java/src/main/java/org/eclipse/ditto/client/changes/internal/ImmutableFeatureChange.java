@@ -72,8 +72,8 @@ public final class ImmutableFeatureChange implements FeatureChange {
             final DittoHeaders dittoHeaders,
             final Consumer<Acknowledgement> acknowledgementPublisher) {
 
-        this(new ImmutableChange(entityId, changeAction, path, getJsonValueForFeature(feature), revision, timestamp,
-                extra, dittoHeaders, acknowledgementPublisher), feature);
+        this(new ImmutableChange(entityId, changeAction, path, () -> getJsonValueForFeature(feature), revision,
+                timestamp, extra, dittoHeaders, acknowledgementPublisher), feature);
     }
 
     /**
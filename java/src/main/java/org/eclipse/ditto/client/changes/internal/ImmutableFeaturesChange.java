@@ -72,8 +72,8 @@ public final class ImmutableFeaturesChange implements FeaturesChange {
             final DittoHeaders dittoHeaders,
             final Consumer<Acknowledgement> acknowledgementPublisher) {
 
-        this(new ImmutableChange(entityId, changeAction, path, getJsonValueForFeatures(features), revision, timestamp,
-                extra, dittoHeaders, acknowledgementPublisher), features);
+        this(new ImmutableChange(entityId, changeAction, path, () -> getJsonValueForFeatures(features), revision,
+                timestamp, extra, dittoHeaders, acknowledgementPublisher), features);
     }
 
     /**
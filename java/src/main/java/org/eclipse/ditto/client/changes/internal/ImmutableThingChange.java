@@ -76,7 +76,8 @@ public final class ImmutableThingChange implements ThingChange {
             final Consumer<Acknowledgement> acknowledgementPublisher) {
 
         this(new ImmutableChange(checkNotNull(entityId, "Thing ID"), checkNotNull(changeAction, "change action"), path,
-                        getJsonValueForThing(thing), revision, timestamp, extra, dittoHeaders, acknowledgementPublisher),
+                        () -> getJsonValueForThing(thing), revision, timestamp, extra, dittoHeaders,
+                        acknowledgementPublisher),
                 thing);
     }
 
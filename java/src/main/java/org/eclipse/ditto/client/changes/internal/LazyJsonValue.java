@@ -0,0 +1,105 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.ditto.client.changes.internal;
+
+import static org.eclipse.ditto.base.model.common.ConditionChecker.checkNotNull;
+
+import java.util.Objects;
+import java.util.function.Supplier;
+
+import javax.annotation.Nullable;
+import javax.annotation.concurrent.ThreadSafe;
+
+import org.eclipse.ditto.json.JsonValue;
+
+/**
+ * Holds the value of a Change which is computed on first access and memoized afterwards. This avoids building the JSON
+ * representation of a changed entity for handlers which never access the value.
+ * <p>
+ * The supplier may be invoked more than once by concurrent readers, which is harmless as it yields equal immutable
+ * values. The volatile write of the flag publishes the value to other threads.
+ * </p>
+ *
+ * @since 3.6.0
+ */
+@ThreadSafe
+final class LazyJsonValue {
+
+    private final Supplier<JsonValue> valueSupplier;
+    @Nullable private JsonValue value;
+    private volatile boolean materialized;
+
+    private LazyJsonValue(final Supplier<JsonValue> valueSupplier, @Nullable final JsonValue value,
+            final boolean materialized) {
+
+        this.valueSupplier = valueSupplier;
+        this.value = value;
+        this.materialized = materialized;
+    }
+
+    /**
+     * Returns a LazyJsonValue which holds the passed already computed {@code value}.
+     *
+     * @param value the value or {@code null}.
+     * @return the LazyJsonValue.
+     */
+    static LazyJsonValue of(@Nullable final JsonValue value) {
+        return new LazyJsonValue(() -> value, value, true);
+    }
+
+    /**
+     * Returns a LazyJsonValue which computes its value with the passed {@code valueSupplier} on first access.
+     *
+     * @param valueSupplier supplies the value, may supply {@code null}.
+     * @return the LazyJsonValue.
+     * @throws NullPointerException if {@code valueSupplier} is {@code null}.
+     */
+    static LazyJsonValue computedBy(final Supplier<JsonValue> valueSupplier) {
+        return new LazyJsonValue(checkNotNull(valueSupplier, "valueSupplier"), null, false);
+    }
+
+    /**
+     * @return the value, computing it if this is the first access.
+     */
+    @Nullable
+    JsonValue get() {
+        if (!materialized) {
+            value = valueSupplier.get();
+            materialized = true;
+        }
+        return value;
+    }
+
+    @Override
+    public boolean equals(@Nullable final Object o) {
+        if (this == o) {
+            return true;
+        }
+        if (o == null || getClass() != o.getClass()) {
+            return false;
+        }
+        final LazyJsonValue that = (LazyJsonValue) o;
+        return Objects.equals(get(), that.get());
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hashCode(get());
+    }
+
+    @Override
+    public String toString() {
+        return String.valueOf(get());
+    }
+
+}
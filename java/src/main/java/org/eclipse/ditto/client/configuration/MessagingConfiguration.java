@@ -31,6 +31,13 @@ import org.eclipse.ditto.base.model.json.JsonSchemaVersion;
  */
 public interface MessagingConfiguration {
 
+    /**
+     * The default maximum number of thing and feature handles which are cached per channel.
+     *
+     * @since 3.6.0
+     */
+    int DEFAULT_HANDLE_CACHE_SIZE = 10_000;
+
     /**
      * Returns how long to wait for a response before giving up.
      *
@@ -100,6 +107,56 @@ public interface MessagingConfiguration {
      */
     Optional<Consumer<DisconnectedContext>> getDisconnectedListener();
 
+    /**
+     * Returns the maximum number of thing and feature handles which are cached per channel.
+     *
+     * @return the maximum number of cached handles.
+     * @since 3.6.0
+     */
+    int getHandleCacheSize();
+
+    /**
+     * Returns the configuration of the admission control applied to requests which expect a response.
+     *
+     * @return the request admission configuration or an empty optional if requests are sent without restriction.
+     * @since 3.6.0
+     */
+    Optional<RequestAdmissionConfiguration> getRequestAdmissionConfiguration();
+
+    /**
+     * Returns the maximum number of thing IDs sent in a single {@code RetrieveThings} command when retrieving
+     * multiple things.
+     *
+     * @return the maximum number of thing IDs per retrieve command.
+     * @since 3.6.0
+     */
+    int getRetrieveThingsBatchSize();
+
+    /**
+     * Returns the maximum number of {@code RetrieveThings} commands in flight at the same time when retrieving
+     * multiple things.
+     *
+     * @return the maximum number of parallel retrieve commands.
+     * @since 3.6.0
+     */
+    int getRetrieveThingsParallelism();
+
+    /**
+     * Indicates whether identical concurrent thing retrieve requests are coalesced into a single request.
+     *
+     * @return {@code true} if retrieve requests are coalesced.
+     * @since 3.6.0
+     */
+    boolean isRetrieveCoalescingEnabled();
+
+    /**
+     * Returns the configuration of the cache of search results shared by identical search queries.
+     *
+     * @return the search result cache configuration or an empty optional if search results are not cached.
+     * @since 3.6.0
+     */
+    Optional<SearchResultCacheConfiguration> getSearchResultCacheConfiguration();
+
     /**
      * Builder for creating an instance of {@code MessagingConfiguration} by utilizing Object Scoping and Method
      * Chaining.
@@ -196,6 +253,85 @@ public interface MessagingConfiguration {
          */
         Builder disconnectedListener(@Nullable Consumer<DisconnectedContext> contextListener);
 
+        /**
+         * Sets the maximum number of thing and feature handles (each) to cache per channel. When exceeded, the least
+         * recently used handles are evicted and re-created on their next access.
+         * <p>
+         * Default is {@code 10000}.
+         *
+         * @param handleCacheSize the maximum number of cached handles, must be positive.
+         * @return this builder.
+         * @throws IllegalArgumentException if {@code handleCacheSize} is not positive.
+         * @since 3.6.0
+         */
+        Builder handleCacheSize(int handleCacheSize);
+
+        /**
+         * Sets the admission control for requests which expect a response, limiting the number of in-flight requests
+         * and the request rate of the client.
+         * <p>
+         * Default is no admission control.
+         *
+         * @param requestAdmissionConfiguration the admission control configuration or {@code null} to send requests
+         * without restriction.
+         * @return this builder.
+         * @since 3.6.0
+         */
+        Builder requestAdmissionConfiguration(@Nullable RequestAdmissionConfiguration requestAdmissionConfiguration);
+
+        /**
+         * Sets the maximum number of thing IDs sent in a single {@code RetrieveThings} command. Retrieving more
+         * things splits the IDs into batches of this size, which keeps the size of the response frames bounded.
+         * <p>
+         * Default is {@code 100}.
+         *
+         * @param retrieveThingsBatchSize the maximum number of thing IDs per retrieve command, must be positive.
+         * @return this builder.
+         * @throws IllegalArgumentException if {@code retrieveThingsBatchSize} is not positive.
+         * @since 3.6.0
+         */
+        Builder retrieveThingsBatchSize(int retrieveThingsBatchSize);
+
+        /**
+         * Sets the maximum number of {@code RetrieveThings} commands in flight at the same time when the thing IDs
+         * to retrieve are split into batches.
+         * <p>
+         * Default is {@code 4}.
+         *
+         * @param retrieveThingsParallelism the maximum number of parallel retrieve commands, must be positive.
+         * @return this builder.
+         * @throws IllegalArgumentException if {@code retrieveThingsParallelism} is not positive.
+         * @since 3.6.0
+         */
+        Builder retrieveThingsParallelism(int retrieveThingsParallelism);
+
+        /**
+         * Sets whether identical concurrent thing retrieve requests are coalesced. While a retrieve request for a
+         * thing is in flight, further retrieve requests for the same thing with the same field selector and options
+         * join its response instead of being sent.
+         * <p>
+         * Default is {@code false}.
+         *
+         * @param retrieveCoalescingEnabled whether retrieve requests are coalesced.
+         * @return this builder.
+         * @since 3.6.0
+         */
+        Builder retrieveCoalescingEnabled(boolean retrieveCoalescingEnabled);
+
+        /**
+         * Sets the cache of search results shared by identical search queries. Identical concurrent queries share
+         * one search subscription, and later identical queries reuse the results until they expire.
+         * <p>
+         * Default is no cache.
+         *
+         * @param searchResultCacheConfiguration the cache configuration or {@code null} to not cache search
+         * results.
+         * @return this builder.
+         * @since 3.6.0
+         */
+        Builder searchResultCacheConfiguration(
+                @Nullable SearchResultCacheConfiguration searchResultCacheConfiguration);
+
         /**
          * Creates a new instance of {@code MessagingConfiguration}.
          *
@@ -0,0 +1,174 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.ditto.client.configuration;
+
+import static org.eclipse.ditto.base.model.common.ConditionChecker.checkArgument;
+
+import java.time.Duration;
+import java.util.Optional;
+
+import javax.annotation.Nullable;
+
+/**
+ * Configures the admission of requests which expect a response, e.g. commands sent via a
+ * {@link org.eclipse.ditto.client.management.ThingHandle}. Requests which exceed the maximum number of in-flight
+ * requests or the maximum request rate wait in a FIFO queue until they are admitted. The response timeout of a request
+ * only starts once it is admitted.
+ *
+ * @since 3.6.0
+ */
+public final class RequestAdmissionConfiguration {
+
+    private final int maxInFlightRequests;
+    private final int maxRequestsPerSecond;
+    private final int maxQueuedRequests;
+    @Nullable private final Duration maxQueueWait;
+
+    private RequestAdmissionConfiguration(final Builder builder) {
+        maxInFlightRequests = builder.maxInFlightRequests;
+        maxRequestsPerSecond = builder.maxRequestsPerSecond;
+        maxQueuedRequests = builder.maxQueuedRequests;
+        maxQueueWait = builder.maxQueueWait;
+    }
+
+    /**
+     * @return a new builder used to create a RequestAdmissionConfiguration object.
+     */
+    public static Builder newBuilder() {
+        return new Builder();
+    }
+
+    /**
+     * @return the maximum number of requests which wait for their response at the same time.
+     */
+    public int getMaxInFlightRequests() {
+        return maxInFlightRequests;
+    }
+
+    /**
+     * @return the maximum number of requests admitted per second or {@code 0} if the rate is not limited.
+     */
+    public int getMaxRequestsPerSecond() {
+        return maxRequestsPerSecond;
+    }
+
+    /**
+     * @return the maximum number of requests waiting for admission. Further requests fail immediately.
+     */
+    public int getMaxQueuedRequests() {
+        return maxQueuedRequests;
+    }
+
+    /**
+     * @return how long a request waits for admission at most before it fails, or an empty optional if it waits until
+     * it is admitted.
+     */
+    public Optional<Duration> getMaxQueueWait() {
+        return Optional.ofNullable(maxQueueWait);
+    }
+
+    @Override
+    public String toString() {
+        return getClass().getSimpleName() + " [" +
+                "maxInFlightRequests=" + maxInFlightRequests +
+                ", maxRequestsPerSecond=" + maxRequestsPerSecond +
+                ", maxQueuedRequests=" + maxQueuedRequests +
+                ", maxQueueWait=" + maxQueueWait +
+                "]";
+    }
+
+    /**
+     * Builder for creating an instance of {@code RequestAdmissionConfiguration}. All limits are disabled by default.
+     */
+    public static final class Builder {
+
+        private int maxInFlightRequests = Integer.MAX_VALUE;
+        private int maxRequestsPerSecond = 0;
+        private int maxQueuedRequests = Integer.MAX_VALUE;
+        @Nullable private Duration maxQueueWait = null;
+
+        private Builder() {
+            super();
+        }
+
+        /**
+         * Sets the maximum number of requests which wait for their response at the same time.
+         *
+         * @param maxInFlightRequests the maximum number of in-flight requests.
+         * @return this builder to allow method chaining.
+         * @throws IllegalArgumentException if {@code maxInFlightRequests} is not positive.
+         */
+        public Builder maxInFlightRequests(final int maxInFlightRequests) {
+            checkArgument(maxInFlightRequests, max -> max > 0,
+                    () -> "The maxInFlightRequests must be positive!");
+            this.maxInFlightRequests = maxInFlightRequests;
+            return this;
+        }
+
+        /**
+         * Sets the maximum number of requests admitted per second. Up to this number of requests may be admitted in
+         * a burst.
+         *
+         * @param maxRequestsPerSecond the maximum request rate or {@code 0} to not limit the rate.
+         * @return this builder to allow method chaining.
+         * @throws IllegalArgumentException if {@code maxRequestsPerSecond} is negative.
+         */
+        public Builder maxRequestsPerSecond(final int maxRequestsPerSecond) {
+            checkArgument(maxRequestsPerSecond, max -> max >= 0,
+                    () -> "The maxRequestsPerSecond must not be negative!");
+            this.maxRequestsPerSecond = maxRequestsPerSecond;
+            return this;
+        }
+
+        /**
+         * Sets the maximum number of requests waiting for admission. Further requests fail immediately with a
+         * {@link java.util.concurrent.RejectedExecutionException}.
+         *
+         * @param maxQueuedRequests the maximum number of queued requests.
+         * @return this builder to allow method chaining.
+         * @throws IllegalArgumentException if {@code maxQueuedRequests} is negative.
+         */
+        public Builder maxQueuedRequests(final int maxQueuedRequests) {
+            checkArgument(maxQueuedRequests, max -> max >= 0,
+                    () -> "The maxQueuedRequests must not be negative!");
+            this.maxQueuedRequests = maxQueuedRequests;
+            return this;
+        }
+
+        /**
+         * Sets how long a request waits for admission at most. Requests which are not admitted in time fail with a
+         * {@link java.util.concurrent.TimeoutException}.
+         *
+         * @param maxQueueWait the maximum wait or {@code null} to wait until the request is admitted.
+         * @return this builder to allow method chaining.
+         * @throws IllegalArgumentException if {@code maxQueueWait} is not positive.
+         */
+        public Builder maxQueueWait(@Nullable final Duration maxQueueWait) {
+            if (null != maxQueueWait) {
+                checkArgument(maxQueueWait, wait -> !wait.isNegative() && !wait.isZero(),
+                        () -> "The maxQueueWait must be positive!");
+            }
+            this.maxQueueWait = maxQueueWait;
+            return this;
+        }
+
+        /**
+         * @return the built RequestAdmissionConfiguration.
+         */
+        public RequestAdmissionConfiguration build() {
+            return new RequestAdmissionConfiguration(this);
+        }
+
+    }
+
+}
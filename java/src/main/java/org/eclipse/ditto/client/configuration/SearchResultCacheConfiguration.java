@@ -0,0 +1,127 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.ditto.client.configuration;
+
+import static org.eclipse.ditto.base.model.common.ConditionChecker.checkArgument;
+import static org.eclipse.ditto.base.model.common.ConditionChecker.checkNotNull;
+
+import java.time.Duration;
+
+/**
+ * Configures the cache of search results shared by identical search queries, e.g. those of
+ * {@link org.eclipse.ditto.client.twin.TwinSearchHandle#stream(java.util.function.Consumer)}. Queries are identical
+ * if they have the same filter, options, selected fields and namespaces. A cached query fetches all its results
+ * before the first page is delivered, so that only queries with small results should be cached. Fetching stops once
+ * the results exceed {@link #getMaxBytes()}; the query is then streamed without the cache, and so are identical
+ * queries until the time to live passed.
+ * <p>
+ * Cached results which contain a thing are dropped once the client receives a twin event of that thing; this
+ * requires the consumption of twin events to be started.
+ * </p>
+ *
+ * @since 3.6.0
+ */
+public final class SearchResultCacheConfiguration {
+
+    private final Duration timeToLive;
+    private final long maxBytes;
+
+    private SearchResultCacheConfiguration(final Builder builder) {
+        timeToLive = builder.timeToLive;
+        maxBytes = builder.maxBytes;
+    }
+
+    /**
+     * @return a new builder used to create a SearchResultCacheConfiguration object.
+     */
+    public static Builder newBuilder() {
+        return new Builder();
+    }
+
+    /**
+     * @return how long the results of a query are reused after they were fetched.
+     */
+    public Duration getTimeToLive() {
+        return timeToLive;
+    }
+
+    /**
+     * @return the maximum estimated size of all cached results in bytes. Results of a single query which are larger
+     * are not cached but streamed.
+     */
+    public long getMaxBytes() {
+        return maxBytes;
+    }
+
+    @Override
+    public String toString() {
+        return getClass().getSimpleName() + " [" +
+                "timeToLive=" + timeToLive +
+                ", maxBytes=" + maxBytes +
+                "]";
+    }
+
+    /**
+     * Builder for creating an instance of {@code SearchResultCacheConfiguration}. By default, results are cached
+     * for 10 seconds and at most 16 MiB of results are cached.
+     */
+    public static final class Builder {
+
+        private Duration timeToLive = Duration.ofSeconds(10L);
+        private long maxBytes = 16L * 1024L * 1024L;
+
+        private Builder() {
+            super();
+        }
+
+        /**
+         * Sets how long the results of a query are reused after they were fetched.
+         *
+         * @param timeToLive the time to live of cached results.
+         * @return this builder to allow method chaining.
+         * @throws NullPointerException if {@code timeToLive} is {@code null}.
+         * @throws IllegalArgumentException if {@code timeToLive} is not positive.
+         */
+        public Builder timeToLive(final Duration timeToLive) {
+            checkNotNull(timeToLive, "timeToLive");
+            checkArgument(timeToLive, ttl -> !ttl.isNegative() && !ttl.isZero(),
+                    () -> "The timeToLive must be positive!");
+            this.timeToLive = timeToLive;
+            return this;
+        }
+
+        /**
+         * Sets the maximum estimated size of all cached results in bytes. The least recently used results are
+         * dropped when it is exceeded. Results of a single query which are larger are not cached but streamed, so
+         * that at most this size is buffered before the first page of such a query is delivered.
+         *
+         * @param maxBytes the maximum size in bytes.
+         * @return this builder to allow method chaining.
+         * @throws IllegalArgumentException if {@code maxBytes} is not positive.
+         */
+        public Builder maxBytes(final long maxBytes) {
+            checkArgument(maxBytes, max -> max > 0, () -> "The maxBytes must be positive!");
+            this.maxBytes = maxBytes;
+            return this;
+        }
+
+        /**
+         * @return the built SearchResultCacheConfiguration.
+         */
+        public SearchResultCacheConfiguration build() {
+            return new SearchResultCacheConfiguration(this);
+        }
+
+    }
+
+}
@@ -51,6 +51,12 @@ public final class WebSocketMessagingConfiguration implements MessagingConfigura
     @Nullable private final Consumer<Throwable> connectionErrorHandler;
     @Nullable private final Consumer<DisconnectedContext> disconnectedListener;
     private final Set<AcknowledgementLabel> declaredAcknowledgements;
+    private final int handleCacheSize;
+    @Nullable private final RequestAdmissionConfiguration requestAdmissionConfiguration;
+    private final int retrieveThingsBatchSize;
+    private final int retrieveThingsParallelism;
+    private final boolean retrieveCoalescingEnabled;
+    @Nullable private final SearchResultCacheConfiguration searchResultCacheConfiguration;
 
     public WebSocketMessagingConfiguration(final WebSocketMessagingConfigurationBuilder builder,
             final URI endpointUri) {
@@ -65,6 +71,12 @@ public final class WebSocketMessagingConfiguration implements MessagingConfigura
         this.timeout = builder.timeout;
         this.declaredAcknowledgements = Collections.unmodifiableSet(builder.declaredAcknowledgements);
         this.endpointUri = endpointUri;
+        handleCacheSize = builder.handleCacheSize;
+        requestAdmissionConfiguration = builder.requestAdmissionConfiguration;
+        retrieveThingsBatchSize = builder.retrieveThingsBatchSize;
+        retrieveThingsParallelism = builder.retrieveThingsParallelism;
+        retrieveCoalescingEnabled = builder.retrieveCoalescingEnabled;
+        searchResultCacheConfiguration = builder.searchResultCacheConfiguration;
     }
 
     public static MessagingConfiguration.Builder newBuilder() {
@@ -121,11 +133,43 @@ public final class WebSocketMessagingConfiguration implements MessagingConfigura
         return Optional.ofNullable(disconnectedListener);
     }
 
+    @Override
+    public int getHandleCacheSize() {
+        return handleCacheSize;
+    }
+
+    @Override
+    public Optional<RequestAdmissionConfiguration> getRequestAdmissionConfiguration() {
+        return Optional.ofNullable(requestAdmissionConfiguration);
+    }
+
+    @Override
+    public int getRetrieveThingsBatchSize() {
+        return retrieveThingsBatchSize;
+    }
+
+    @Override
+    public int getRetrieveThingsParallelism() {
+        return retrieveThingsParallelism;
+    }
+
+    @Override
+    public boolean isRetrieveCoalescingEnabled() {
+        return retrieveCoalescingEnabled;
+    }
+
+    @Override
+    public Optional<SearchResultCacheConfiguration> getSearchResultCacheConfiguration() {
+        return Optional.ofNullable(searchResultCacheConfiguration);
+    }
+
     private static final class WebSocketMessagingConfigurationBuilder implements MessagingConfiguration.Builder {
 
         private static final List<String> ALLOWED_URI_SCHEME = Arrays.asList("wss", "ws");
         private static final String WS_PATH = "/ws/";
         private static final String WS_PATH_REGEX = "/ws/2/?";
+        private static final int DEFAULT_RETRIEVE_THINGS_BATCH_SIZE = 100;
+        private static final int DEFAULT_RETRIEVE_THINGS_PARALLELISM = 4;
 
         private JsonSchemaVersion jsonSchemaVersion;
         private Duration timeout = Duration.ofSeconds(60L);
@@ -137,6 +181,12 @@ public final class WebSocketMessagingConfiguration implements MessagingConfigura
         @Nullable private Consumer<Throwable> connectionErrorHandler;
         @Nullable private Consumer<DisconnectedContext> disconnectedListener;
         private final Set<AcknowledgementLabel> declaredAcknowledgements = new HashSet<>();
+        private int handleCacheSize;
+        @Nullable private RequestAdmissionConfiguration requestAdmissionConfiguration;
+        private int retrieveThingsBatchSize;
+        private int retrieveThingsParallelism;
+        private boolean retrieveCoalescingEnabled;
+        @Nullable private SearchResultCacheConfiguration searchResultCacheConfiguration;
 
         private WebSocketMessagingConfigurationBuilder() {
             jsonSchemaVersion = JsonSchemaVersion.LATEST;
@@ -145,6 +195,12 @@ public final class WebSocketMessagingConfiguration implements MessagingConfigura
             proxyConfiguration = null;
             connectionErrorHandler = null;
             disconnectedListener = null;
+            handleCacheSize = MessagingConfiguration.DEFAULT_HANDLE_CACHE_SIZE;
+            requestAdmissionConfiguration = null;
+            retrieveThingsBatchSize = DEFAULT_RETRIEVE_THINGS_BATCH_SIZE;
+            retrieveThingsParallelism = DEFAULT_RETRIEVE_THINGS_PARALLELISM;
+            retrieveCoalescingEnabled = false;
+            searchResultCacheConfiguration = null;
         }
 
         @Override
@@ -217,6 +273,49 @@ public final class WebSocketMessagingConfiguration implements MessagingConfigura
             return this;
         }
 
+        @Override
+        public Builder handleCacheSize(final int handleCacheSize) {
+            checkArgument(handleCacheSize, size -> size > 0, () -> "The handleCacheSize must be positive!");
+            this.handleCacheSize = handleCacheSize;
+            return this;
+        }
+
+        @Override
+        public Builder requestAdmissionConfiguration(
+                @Nullable final RequestAdmissionConfiguration requestAdmissionConfiguration) {
+            this.requestAdmissionConfiguration = requestAdmissionConfiguration;
+            return this;
+        }
+
+        @Override
+        public Builder retrieveThingsBatchSize(final int retrieveThingsBatchSize) {
+            checkArgument(retrieveThingsBatchSize, size -> size > 0,
+                    () -> "The retrieveThingsBatchSize must be positive!");
+            this.retrieveThingsBatchSize = retrieveThingsBatchSize;
+            return this;
+        }
+
+        @Override
+        public Builder retrieveThingsParallelism(final int retrieveThingsParallelism) {
+            checkArgument(retrieveThingsParallelism, parallelism -> parallelism > 0,
+                    () -> "The retrieveThingsParallelism must be positive!");
+            this.retrieveThingsParallelism = retrieveThingsParallelism;
+            return this;
+        }
+
+        @Override
+        public Builder retrieveCoalescingEnabled(final boolean retrieveCoalescingEnabled) {
+            this.retrieveCoalescingEnabled = retrieveCoalescingEnabled;
+            return this;
+        }
+
+        @Override
+        public Builder searchResultCacheConfiguration(
+                @Nullable final SearchResultCacheConfiguration searchResultCacheConfiguration) {
+            this.searchResultCacheConfiguration = searchResultCacheConfiguration;
+            return this;
+        }
+
         @Override
         public MessagingConfiguration build() {
             final URI wsEndpointUri = appendWsPathIfNecessary(this.endpointUri, jsonSchemaVersion);
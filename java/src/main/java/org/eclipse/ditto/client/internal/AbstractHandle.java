@@ -50,7 +50,6 @@ import org.eclipse.ditto.json.JsonValue;
 import org.eclipse.ditto.policies.model.signals.commands.PolicyCommand;
 import org.eclipse.ditto.policies.model.signals.commands.PolicyCommandResponse;
 import org.eclipse.ditto.protocol.Adaptable;
-import org.eclipse.ditto.protocol.ProtocolFactory;
 import org.eclipse.ditto.protocol.TopicPath;
 import org.eclipse.ditto.protocol.adapter.DittoProtocolAdapter;
 import org.eclipse.ditto.protocol.adapter.ProtocolAdapter;
@@ -114,7 +113,7 @@ public abstract class AbstractHandle {
      * @return JSON string of the corresponding Ditto protocol message.
      */
     protected String signalToJsonString(final Signal<?> signal) {
-        return ProtocolFactory.wrapAsJsonifiableAdaptable(PROTOCOL_ADAPTER.toAdaptable(signal)).toJsonString();
+        return AdaptableJsonWriter.toJsonString(PROTOCOL_ADAPTER.toAdaptable(signal));
     }
 
     /**
@@ -176,6 +175,37 @@ public abstract class AbstractHandle {
                 ErrorResponse::getDittoRuntimeException);
     }
 
+    /**
+     * Send a thing command without expecting a response. The command is sent with {@code response-required=false};
+     * neither a response consumer nor a timeout is registered for it.
+     *
+     * @param command the command to send.
+     * @param <T> type of the command.
+     * @return future which completes as soon as the command was handed to the messaging provider. The future is
+     * exceptional with a {@link ClientReconnectingException} if the client is reconnecting while this method is called.
+     * @throws IllegalArgumentException if the command requests acknowledgements.
+     * @since 3.6.0
+     */
+    protected <T extends ThingCommand<T>> CompletionStage<Void> tellThingCommand(final T command) {
+        if (!command.getDittoHeaders().getAcknowledgementRequests().isEmpty()) {
+            throw new IllegalArgumentException("Acknowledgements can not be requested for commands which are sent " +
+                    "without expecting a response!");
+        }
+        final T commandWithChannel = setChannel(command, channel);
+        final T oneWayCommand = commandWithChannel.setDittoHeaders(commandWithChannel.getDittoHeaders()
+                .toBuilder()
+                .responseRequired(false)
+                .build());
+        try {
+            messagingProvider.emit(signalToJsonString(oneWayCommand));
+            return CompletableFuture.completedFuture(null);
+        } catch (final ClientReconnectingException cre) {
+            final CompletableFuture<Void> failedFuture = new CompletableFuture<>();
+            failedFuture.completeExceptionally(cre);
+            return failedFuture;
+        }
+    }
+
     /**
      * Send a request and expect a response.
      *
@@ -188,7 +218,9 @@ public abstract class AbstractHandle {
      * @param <E> type of the expected error response.
      * @param <R> type of the result.
      * @return future of the result. The future can be exceptional with a {@link ClientReconnectingException} if the
-     * client is reconnecting while this method is called.
+     * client is reconnecting while this method is called, or as described in
+     * {@link RequestAdmissionController#admit(java.util.function.Supplier)} if the request is not admitted.
+     * Cancelling the future releases the subscription for the response and its timeout.
      */
     protected <S, E, R> CompletionStage<R> sendSignalAndExpectResponse(final Signal<?> signal,
             final Class<S> expectedResponseClass,
@@ -196,33 +228,40 @@ public abstract class AbstractHandle {
             final Class<E> expectedErrorResponseClass,
             final Function<E, ? extends RuntimeException> onError) {
 
-        try {
-            final CompletionStage<Adaptable> responseFuture = messagingProvider.getAdaptableBus()
-                    .subscribeOnceForAdaptable(Classification.forCorrelationId(signal), getTimeout());
-
-            messagingProvider.emit(signalToJsonString(signal));
-            return responseFuture.thenApply(responseAdaptable -> {
-                final Signal<?> response = signalFromAdaptable(responseAdaptable);
-                if (expectedErrorResponseClass.isInstance(response)) {
-                    // extracted runtime exception will be wrapped in CompletionException.
-                    throw onError.apply(expectedErrorResponseClass.cast(response));
-                } else if (response instanceof Acknowledgements) {
-                    final CommandResponse<?> commandResponse =
-                            extractCommandResponseFromAcknowledgements(signal, (Acknowledgements) response);
-                    return onSuccess.apply(expectedResponseClass.cast(commandResponse));
-                } else if (expectedResponseClass.isInstance(response)) {
-                    return onSuccess.apply(expectedResponseClass.cast(response));
-                } else {
-                    throw new ClassCastException(
-                            "Expect " + expectedResponseClass.getSimpleName() + ", got: " + response);
-                }
-            });
-        } catch (final ClientReconnectingException cre) {
-            return CompletableFuture.supplyAsync(() -> {
-                throw cre;
-            });
-        }
-
+        return messagingProvider.getRequestAdmissionController().admit(() -> {
+            try {
+                final CompletionStage<Adaptable> responseFuture = messagingProvider.getAdaptableBus()
+                        .subscribeOnceForAdaptable(Classification.forCorrelationId(signal), getTimeout());
+
+                messagingProvider.emit(signalToJsonString(signal));
+                final CompletableFuture<R> result = responseFuture.thenApply(responseAdaptable -> {
+                    final Signal<?> response = signalFromAdaptable(responseAdaptable);
+                    if (expectedErrorResponseClass.isInstance(response)) {
+                        // extracted runtime exception will be wrapped in CompletionException.
+                        throw onError.apply(expectedErrorResponseClass.cast(response));
+                    } else if (response instanceof Acknowledgements) {
+                        final CommandResponse<?> commandResponse =
+                                extractCommandResponseFromAcknowledgements(signal, (Acknowledgements) response);
+                        return onSuccess.apply(expectedResponseClass.cast(commandResponse));
+                    } else if (expectedResponseClass.isInstance(response)) {
+                        return onSuccess.apply(expectedResponseClass.cast(response));
+                    } else {
+                        throw new ClassCastException(
+                                "Expect " + expectedResponseClass.getSimpleName() + ", got: " + response);
+                    }
+                }).toCompletableFuture();
+                result.whenComplete((value, error) -> {
+                    if (result.isCancelled()) {
+                        responseFuture.toCompletableFuture().cancel(false);
+                    }
+                });
+                return result;
+            } catch (final ClientReconnectingException cre) {
+                return CompletableFuture.supplyAsync(() -> {
+                    throw cre;
+                });
+            }
+        });
     }
 
     /**
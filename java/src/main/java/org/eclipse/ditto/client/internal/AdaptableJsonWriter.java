@@ -0,0 +1,132 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.ditto.client.internal;
+
+import java.util.Optional;
+
+import org.eclipse.ditto.json.JsonValue;
+import org.eclipse.ditto.protocol.Adaptable;
+import org.eclipse.ditto.protocol.Payload;
+import org.eclipse.ditto.protocol.ProtocolFactory;
+import org.eclipse.ditto.protocol.TopicPath;
+
+/**
+ * Serializes outgoing {@link Adaptable}s to their Ditto Protocol JSON string. Hot adaptables, i.e. modify and merge
+ * commands of things and live messages whose payload consists of path and value only, are written directly into a
+ * reused per-thread {@code StringBuilder} instead of building a {@code JsonifiableAdaptable} and a complete
+ * {@code JsonObject} first. The output is identical to
+ * {@code ProtocolFactory.wrapAsJsonifiableAdaptable(adaptable).toJsonString()}, which is used for all other
+ * adaptables.
+ *
+ * @since 3.6.0
+ */
+public final class AdaptableJsonWriter {
+
+    private static final int INITIAL_CAPACITY = 1024;
+    private static final int MAX_RETAINED_CAPACITY = 64 * 1024;
+
+    private static final ThreadLocal<StringBuilder> STRING_BUILDER =
+            ThreadLocal.withInitial(() -> new StringBuilder(INITIAL_CAPACITY));
+
+    private AdaptableJsonWriter() {
+        throw new AssertionError();
+    }
+
+    /**
+     * Serializes the given adaptable.
+     *
+     * @param adaptable the adaptable to serialize.
+     * @return the Ditto Protocol JSON string of the adaptable.
+     */
+    public static String toJsonString(final Adaptable adaptable) {
+        if (isStreamable(adaptable)) {
+            return writeStreaming(adaptable);
+        }
+        return ProtocolFactory.wrapAsJsonifiableAdaptable(adaptable).toJsonString();
+    }
+
+    /**
+     * Indicates whether the given adaptable is serialized by the streaming writer.
+     *
+     * @param adaptable the adaptable.
+     * @return {@code true} if the adaptable is written directly.
+     */
+    static boolean isStreamable(final Adaptable adaptable) {
+        final TopicPath topicPath = adaptable.getTopicPath();
+        final boolean isHotTopic;
+        if (topicPath.getGroup() != TopicPath.Group.THINGS) {
+            isHotTopic = false;
+        } else if (topicPath.getCriterion() == TopicPath.Criterion.MESSAGES) {
+            isHotTopic = true;
+        } else if (topicPath.getCriterion() == TopicPath.Criterion.COMMANDS) {
+            final Optional<TopicPath.Action> action = topicPath.getAction();
+            isHotTopic = action.filter(a -> a == TopicPath.Action.MODIFY || a == TopicPath.Action.MERGE).isPresent();
+        } else {
+            isHotTopic = false;
+        }
+        return isHotTopic && hasPathAndValueOnly(adaptable.getPayload());
+    }
+
+    private static boolean hasPathAndValueOnly(final Payload payload) {
+        return payload.getValue().isPresent() &&
+                !payload.getExtra().isPresent() &&
+                !payload.getHttpStatus().isPresent() &&
+                !payload.getRevision().isPresent() &&
+                !payload.getTimestamp().isPresent() &&
+                !payload.getMetadata().isPresent() &&
+                !payload.getFields().isPresent();
+    }
+
+    private static String writeStreaming(final Adaptable adaptable) {
+        final Payload payload = adaptable.getPayload();
+        final StringBuilder stringBuilder = acquireStringBuilder();
+        stringBuilder.append("{\"topic\":");
+        appendString(stringBuilder, adaptable.getTopicPath().getPath());
+        stringBuilder.append(",\"headers\":").append(adaptable.getDittoHeaders().toJson());
+        stringBuilder.append(",\"path\":");
+        appendString(stringBuilder, payload.getPath().toString());
+        stringBuilder.append(",\"value\":").append(payload.getValue().orElseThrow(IllegalStateException::new));
+        stringBuilder.append('}');
+        return stringBuilder.toString();
+    }
+
+    private static StringBuilder acquireStringBuilder() {
+        StringBuilder stringBuilder = STRING_BUILDER.get();
+        if (stringBuilder.capacity() > MAX_RETAINED_CAPACITY) {
+            // do not keep the memory of an unusually large message alive for the lifetime of the thread
+            stringBuilder = new StringBuilder(INITIAL_CAPACITY);
+            STRING_BUILDER.set(stringBuilder);
+        }
+        stringBuilder.setLength(0);
+        return stringBuilder;
+    }
+
+    private static void appendString(final StringBuilder stringBuilder, final String value) {
+        if (isPlainAscii(value)) {
+            stringBuilder.append('"').append(value).append('"');
+        } else {
+            stringBuilder.append(JsonValue.of(value));
+        }
+    }
+
+    private static boolean isPlainAscii(final String value) {
+        for (int i = 0; i < value.length(); i++) {
+            final char c = value.charAt(i);
+            if (c < 0x20 || c > 0x7E || c == '"' || c == '\\') {
+                return false;
+            }
+        }
+        return true;
+    }
+
+}
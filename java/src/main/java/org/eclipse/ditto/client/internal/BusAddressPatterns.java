@@ -12,10 +12,14 @@
  */
 package org.eclipse.ditto.client.internal;
 
-import java.text.MessageFormat;
+import java.util.ArrayList;
+import java.util.List;
 
 /**
  * Defines patterns of bus addresses used for the notification of thing events.
+ * <p>
+ * The patterns use the {@code {n}} placeholder syntax of {@link java.text.MessageFormat}, but are split into literal
+ * segments and argument indices once so that formatting an address on the event path only concatenates strings.
  */
 enum BusAddressPatterns {
 
@@ -32,10 +36,27 @@ enum BusAddressPatterns {
     FEATURE_DESIRED_PROPERTIES_PATTERN("/things/{0}/features/{1}/desiredProperties"),
     FEATURE_DESIRED_PROPERTY_PATTERN("/things/{0}/features/{1}/desiredProperties{2}");
 
-    private final String pattern;
+    private final String[] literals;
+    private final int[] argumentIndices;
+    private final int literalsLength;
 
     BusAddressPatterns(final String pattern) {
-        this.pattern = pattern;
+        final List<String> literalList = new ArrayList<>();
+        final List<Integer> indexList = new ArrayList<>();
+        int literalStart = 0;
+        int placeholderStart = pattern.indexOf('{');
+        while (placeholderStart >= 0) {
+            final int placeholderEnd = pattern.indexOf('}', placeholderStart);
+            literalList.add(pattern.substring(literalStart, placeholderStart));
+            indexList.add(Integer.parseInt(pattern.substring(placeholderStart + 1, placeholderEnd)));
+            literalStart = placeholderEnd + 1;
+            placeholderStart = pattern.indexOf('{', literalStart);
+        }
+        literalList.add(pattern.substring(literalStart));
+
+        literals = literalList.toArray(new String[0]);
+        argumentIndices = indexList.stream().mapToInt(Integer::intValue).toArray();
+        literalsLength = literalList.stream().mapToInt(String::length).sum();
     }
 
     /**
@@ -45,6 +66,16 @@ enum BusAddressPatterns {
      * @return the formatted address
      */
     String format(final Object... arguments) {
-        return MessageFormat.format(pattern, arguments);
+        final String[] formattedArguments = new String[argumentIndices.length];
+        int length = literalsLength;
+        for (int i = 0; i < argumentIndices.length; i++) {
+            formattedArguments[i] = String.valueOf(arguments[argumentIndices[i]]);
+            length += formattedArguments[i].length();
+        }
+        final StringBuilder stringBuilder = new StringBuilder(length).append(literals[0]);
+        for (int i = 0; i < formattedArguments.length; i++) {
+            stringBuilder.append(formattedArguments[i]).append(literals[i + 1]);
+        }
+        return stringBuilder.toString();
     }
 }
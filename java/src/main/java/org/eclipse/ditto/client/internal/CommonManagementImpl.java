@@ -28,8 +28,11 @@ import java.util.UUID;
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.CompletionStage;
 import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReferenceArray;
 import java.util.function.Consumer;
 import java.util.function.Function;
+import java.util.stream.Stream;
 
 import javax.annotation.Nullable;
 
@@ -47,6 +50,7 @@ import org.eclipse.ditto.client.changes.ThingChange;
 import org.eclipse.ditto.client.changes.internal.ImmutableFeatureChange;
 import org.eclipse.ditto.client.changes.internal.ImmutableFeaturesChange;
 import org.eclipse.ditto.client.changes.internal.ImmutableThingChange;
+import org.eclipse.ditto.client.configuration.MessagingConfiguration;
 import org.eclipse.ditto.client.internal.bus.AdaptableBus;
 import org.eclipse.ditto.client.internal.bus.Classification;
 import org.eclipse.ditto.client.internal.bus.PointerBus;
@@ -58,6 +62,8 @@ import org.eclipse.ditto.client.messaging.MessagingProvider;
 import org.eclipse.ditto.client.options.Option;
 import org.eclipse.ditto.client.options.OptionName;
 import org.eclipse.ditto.client.options.internal.OptionsEvaluator;
+import org.eclipse.ditto.client.streaming.RetrieveThingsPublisher;
+import org.eclipse.ditto.client.streaming.SpliteratorSubscriber;
 import org.eclipse.ditto.json.JsonFieldSelector;
 import org.eclipse.ditto.json.JsonObject;
 import org.eclipse.ditto.json.JsonPointer;
@@ -79,6 +85,7 @@ import org.eclipse.ditto.things.model.signals.commands.modify.DeleteThing;
 import org.eclipse.ditto.things.model.signals.commands.modify.ModifyThing;
 import org.eclipse.ditto.things.model.signals.commands.query.RetrieveThings;
 import org.eclipse.ditto.things.model.signals.commands.query.RetrieveThingsResponse;
+import org.reactivestreams.Publisher;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
@@ -103,6 +110,7 @@ public abstract class CommonManagementImpl<T extends ThingHandle<F>, F extends F
     private final AtomicBoolean subscriptionRequestPending = new AtomicBoolean(false);
     private final HandlerRegistry<T, F> handlerRegistry;
     private final PointerBus bus;
+    private final Map<String, EventToChangeConverter<?>> eventConverters;
 
     protected CommonManagementImpl(
             final TopicPath.Channel channel,
@@ -115,6 +123,7 @@ public abstract class CommonManagementImpl<T extends ThingHandle<F>, F extends F
         this.outgoingMessageFactory = outgoingMessageFactory;
         this.handlerRegistry = handlerRegistry;
         this.bus = bus;
+        eventConverters = EventToChangeConverters.forThingEvents(messagingProvider);
     }
 
     @Override
@@ -500,7 +509,8 @@ public abstract class CommonManagementImpl<T extends ThingHandle<F>, F extends F
     public CompletionStage<List<Thing>> retrieve(final Iterable<ThingId> thingIds) {
         argumentNotNull(thingIds);
 
-        return sendRetrieveThingsMessage(outgoingMessageFactory.retrieveThings(thingIds));
+        return retrieveInBatches(thingIds, batch -> sendRetrieveThingsMessage(
+                outgoingMessageFactory.retrieveThings(batch)));
     }
 
     @Override
@@ -512,7 +522,7 @@ public abstract class CommonManagementImpl<T extends ThingHandle<F>, F extends F
         thingIdList.add(thingId);
         Collections.addAll(thingIdList, thingIds);
 
-        return sendRetrieveThingsMessage(outgoingMessageFactory.retrieveThings(thingIdList));
+        return retrieve(thingIdList);
     }
 
     @Override
@@ -536,7 +546,37 @@ public abstract class CommonManagementImpl<T extends ThingHandle<F>, F extends F
         argumentNotNull(fieldSelector);
         argumentNotNull(thingIds);
 
-        return sendRetrieveThingsMessage(outgoingMessageFactory.retrieveThings(thingIds, fieldSelector.getPointers()));
+        return retrieveInBatches(thingIds, batch -> sendRetrieveThingsMessage(
+                outgoingMessageFactory.retrieveThings(batch, fieldSelector.getPointers())));
+    }
+
+    @Override
+    public Publisher<Thing> retrieveAsPublisher(final Iterable<ThingId> thingIds) {
+        argumentNotNull(thingIds);
+
+        return retrieveBatchesAsPublisher(thingIds, batch -> sendRetrieveThingsMessage(
+                outgoingMessageFactory.retrieveThings(batch)));
+    }
+
+    @Override
+    public Publisher<Thing> retrieveAsPublisher(final JsonFieldSelector fieldSelector,
+            final Iterable<ThingId> thingIds) {
+
+        argumentNotNull(fieldSelector);
+        argumentNotNull(thingIds);
+
+        return retrieveBatchesAsPublisher(thingIds, batch -> sendRetrieveThingsMessage(
+                outgoingMessageFactory.retrieveThings(batch, fieldSelector.getPointers())));
+    }
+
+    @Override
+    public Stream<Thing> retrieveAsStream(final Iterable<ThingId> thingIds) {
+        return asStream(retrieveAsPublisher(thingIds));
+    }
+
+    @Override
+    public Stream<Thing> retrieveAsStream(final JsonFieldSelector fieldSelector, final Iterable<ThingId> thingIds) {
+        return asStream(retrieveAsPublisher(fieldSelector, thingIds));
     }
 
     @Override
@@ -663,8 +703,23 @@ public abstract class CommonManagementImpl<T extends ThingHandle<F>, F extends F
                 protocolCommand,
                 protocolCommandAck,
                 futureToCompleteOrFailAfterAck,
-                adaptable -> pointerBus -> asThingMessage(adaptable).ifPresent(message -> pointerBus.notify(message.getSubject(),
-                        message)));
+                adaptable -> pointerBus -> notifyThingSignal(adaptable, pointerBus));
+    }
+
+    /**
+     * Resolves the converter of the event contained in the passed {@code adaptable} by the event type and notifies the
+     * passed {@code pointerBus} with the resulting change at the address where it happened. The event is converted
+     * directly without wrapping it in a {@link Message} first. Signals without a converter are wrapped in a thing
+     * message and published at their type.
+     */
+    private void notifyThingSignal(final Adaptable adaptable, final PointerBus pointerBus) {
+        final Signal<?> signal = PROTOCOL_ADAPTER.fromAdaptable(adaptable);
+        final EventToChangeConverter<?> converter = eventConverters.get(signal.getType());
+        if (null != converter) {
+            converter.convertAndNotify(signal, adaptable.getPayload().getExtra().orElse(null), pointerBus);
+        } else {
+            asThingMessage(adaptable, signal).ifPresent(message -> pointerBus.notify(message.getSubject(), message));
+        }
     }
 
     protected AdaptableBus.SubscriptionId subscribeAndPublishMessage(
@@ -752,13 +807,13 @@ public abstract class CommonManagementImpl<T extends ThingHandle<F>, F extends F
     }
 
     /**
-     * Build a {@link Message} out of the given {@link Adaptable}.
+     * Build a {@link Message} out of the given {@link Adaptable} and the signal it contains.
      *
      * @param adaptable from which the things {@link Message} shall be build from.
+     * @param signal the signal contained in {@code adaptable}.
      * @return empty if the adaptable doesn't provide a thingId, or the build {@link Message}.
      */
-    private static Optional<Message<?>> asThingMessage(final Adaptable adaptable) {
-        final Signal<?> signal = PROTOCOL_ADAPTER.fromAdaptable(adaptable);
+    private static Optional<Message<?>> asThingMessage(final Adaptable adaptable, final Signal<?> signal) {
         final Optional<ThingId> thingIdOptional = WithEntityId.getEntityIdOfType(ThingId.class, signal);
         final Message<?> message;
         if (thingIdOptional.isPresent()) {
@@ -799,6 +854,81 @@ public abstract class CommonManagementImpl<T extends ThingHandle<F>, F extends F
         }
     }
 
+    /**
+     * Retrieves the things in batches of at most {@code retrieveThingsBatchSize} IDs with at most
+     * {@code retrieveThingsParallelism} batches in flight and concatenates the batch results in the order of the IDs.
+     * The returned future fails with the first failure of a batch; no further batches are started then.
+     */
+    private CompletionStage<List<Thing>> retrieveInBatches(final Iterable<ThingId> thingIds,
+            final Function<List<ThingId>, CompletionStage<List<Thing>>> retrieveBatch) {
+
+        final MessagingConfiguration configuration = messagingProvider.getMessagingConfiguration();
+        final int batchSize = configuration.getRetrieveThingsBatchSize();
+        final List<List<ThingId>> batches = new ArrayList<>();
+        List<ThingId> currentBatch = new ArrayList<>();
+        for (final ThingId thingId : thingIds) {
+            if (currentBatch.size() == batchSize) {
+                batches.add(currentBatch);
+                currentBatch = new ArrayList<>();
+            }
+            currentBatch.add(thingId);
+        }
+        if (batches.isEmpty()) {
+            return retrieveBatch.apply(currentBatch);
+        }
+        batches.add(currentBatch);
+
+        final CompletableFuture<List<Thing>> result = new CompletableFuture<>();
+        final AtomicReferenceArray<List<Thing>> batchResults = new AtomicReferenceArray<>(batches.size());
+        final AtomicInteger nextBatch = new AtomicInteger();
+        final AtomicInteger pendingBatches = new AtomicInteger(batches.size());
+        final Runnable startNextBatch = new Runnable() {
+            @Override
+            public void run() {
+                final int index = nextBatch.getAndIncrement();
+                if (index < batches.size() && !result.isDone()) {
+                    retrieveBatch.apply(batches.get(index)).whenComplete((things, error) -> {
+                        if (null != error) {
+                            result.completeExceptionally(error);
+                        } else {
+                            batchResults.set(index, things);
+                            if (pendingBatches.decrementAndGet() == 0) {
+                                final List<Thing> allThings = new ArrayList<>();
+                                for (int i = 0; i < batchResults.length(); i++) {
+                                    allThings.addAll(batchResults.get(i));
+                                }
+                                result.complete(allThings);
+                            } else {
+                                run();
+                            }
+                        }
+                    });
+                }
+            }
+        };
+        for (int i = 0; i < configuration.getRetrieveThingsParallelism(); i++) {
+            startNextBatch.run();
+        }
+        return result;
+    }
+
+    private Publisher<Thing> retrieveBatchesAsPublisher(final Iterable<ThingId> thingIds,
+            final Function<List<ThingId>, CompletionStage<List<Thing>>> retrieveBatch) {
+
+        final MessagingConfiguration configuration = messagingProvider.getMessagingConfiguration();
+        return RetrieveThingsPublisher.of(thingIds, configuration.getRetrieveThingsBatchSize(),
+                configuration.getRetrieveThingsParallelism(), retrieveBatch);
+    }
+
+    private Stream<Thing> asStream(final Publisher<Thing> publisher) {
+        final MessagingConfiguration configuration = messagingProvider.getMessagingConfiguration();
+        final int batchSize = configuration.getRetrieveThingsBatchSize();
+        final SpliteratorSubscriber<Thing> subscriber =
+                SpliteratorSubscriber.of(configuration.getTimeout(), batchSize, batchSize);
+        publisher.subscribe(subscriber);
+        return subscriber.asStream();
+    }
+
     private CompletionStage<List<Thing>> sendRetrieveThingsMessage(final RetrieveThings command) {
         return sendSignalAndExpectResponse(command,
                 RetrieveThingsResponse.class,
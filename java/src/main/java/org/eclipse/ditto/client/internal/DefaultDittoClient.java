@@ -19,26 +19,17 @@ import java.util.function.Consumer;
 
 import org.eclipse.ditto.base.model.acks.AcknowledgementLabelNotDeclaredException;
 import org.eclipse.ditto.base.model.acks.AcknowledgementLabelNotUniqueException;
-import org.eclipse.ditto.base.model.headers.DittoHeaderDefinition;
-import org.eclipse.ditto.base.model.headers.DittoHeadersBuilder;
 import org.eclipse.ditto.base.model.json.JsonSchemaVersion;
 import org.eclipse.ditto.base.model.signals.Signal;
-import org.eclipse.ditto.base.model.signals.acks.Acknowledgement;
 import org.eclipse.ditto.base.model.signals.commands.ErrorResponse;
 import org.eclipse.ditto.client.DisconnectedDittoClient;
 import org.eclipse.ditto.client.DittoClient;
-import org.eclipse.ditto.client.changes.ChangeAction;
-import org.eclipse.ditto.client.changes.internal.ImmutableChange;
-import org.eclipse.ditto.client.changes.internal.ImmutableFeatureChange;
-import org.eclipse.ditto.client.changes.internal.ImmutableFeaturesChange;
-import org.eclipse.ditto.client.changes.internal.ImmutableThingChange;
 import org.eclipse.ditto.client.configuration.MessagingConfiguration;
 import org.eclipse.ditto.client.internal.bus.AdaptableBus;
 import org.eclipse.ditto.client.internal.bus.BusFactory;
 import org.eclipse.ditto.client.internal.bus.Classification;
 import org.eclipse.ditto.client.internal.bus.JsonPointerSelectors;
 import org.eclipse.ditto.client.internal.bus.PointerBus;
-import org.eclipse.ditto.client.internal.bus.SelectorUtil;
 import org.eclipse.ditto.client.live.Live;
 import org.eclipse.ditto.client.live.internal.LiveImpl;
 import org.eclipse.ditto.client.live.messages.MessageSerializerRegistry;
@@ -53,36 +44,7 @@ import org.eclipse.ditto.messages.model.MessageDirection;
 import org.eclipse.ditto.protocol.Adaptable;
 import org.eclipse.ditto.protocol.ProtocolFactory;
 import org.eclipse.ditto.protocol.TopicPath;
-import org.eclipse.ditto.protocol.adapter.ProtocolAdapter;
 import org.eclipse.ditto.things.model.ThingId;
-import org.eclipse.ditto.things.model.signals.events.AttributeCreated;
-import org.eclipse.ditto.things.model.signals.events.AttributeDeleted;
-import org.eclipse.ditto.things.model.signals.events.AttributeModified;
-import org.eclipse.ditto.things.model.signals.events.AttributesCreated;
-import org.eclipse.ditto.things.model.signals.events.AttributesDeleted;
-import org.eclipse.ditto.things.model.signals.events.AttributesModified;
-import org.eclipse.ditto.things.model.signals.events.FeatureCreated;
-import org.eclipse.ditto.things.model.signals.events.FeatureDeleted;
-import org.eclipse.ditto.things.model.signals.events.FeatureDesiredPropertiesCreated;
-import org.eclipse.ditto.things.model.signals.events.FeatureDesiredPropertiesDeleted;
-import org.eclipse.ditto.things.model.signals.events.FeatureDesiredPropertiesModified;
-import org.eclipse.ditto.things.model.signals.events.FeatureDesiredPropertyCreated;
-import org.eclipse.ditto.things.model.signals.events.FeatureDesiredPropertyDeleted;
-import org.eclipse.ditto.things.model.signals.events.FeatureDesiredPropertyModified;
-import org.eclipse.ditto.things.model.signals.events.FeatureModified;
-import org.eclipse.ditto.things.model.signals.events.FeaturePropertiesCreated;
-import org.eclipse.ditto.things.model.signals.events.FeaturePropertiesDeleted;
-import org.eclipse.ditto.things.model.signals.events.FeaturePropertiesModified;
-import org.eclipse.ditto.things.model.signals.events.FeaturePropertyCreated;
-import org.eclipse.ditto.things.model.signals.events.FeaturePropertyDeleted;
-import org.eclipse.ditto.things.model.signals.events.FeaturePropertyModified;
-import org.eclipse.ditto.things.model.signals.events.FeaturesCreated;
-import org.eclipse.ditto.things.model.signals.events.FeaturesDeleted;
-import org.eclipse.ditto.things.model.signals.events.FeaturesModified;
-import org.eclipse.ditto.things.model.signals.events.ThingCreated;
-import org.eclipse.ditto.things.model.signals.events.ThingDeleted;
-import org.eclipse.ditto.things.model.signals.events.ThingMerged;
-import org.eclipse.ditto.things.model.signals.events.ThingModified;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
@@ -246,7 +208,6 @@ public final class DefaultDittoClient implements DittoClient, DisconnectedDittoC
 
     private static void init(final PointerBus bus, final MessagingProvider messagingProvider) {
         registerKeyBasedDistributorForIncomingEvents(bus);
-        registerKeyBasedHandlersForIncomingEvents(bus, messagingProvider, AbstractHandle.PROTOCOL_ADAPTER);
         messagingProvider.getAdaptableBus().subscribeForAdaptable(Classification.forErrors(), errorAdaptable ->
                 messagingProvider.onDittoProtocolError(asDittoRuntimeException(errorAdaptable))
         );
@@ -277,322 +238,6 @@ public final class DefaultDittoClient implements DittoClient, DisconnectedDittoC
         });
     }
 
-    private static <T extends Signal<?>> Consumer<T> emitSignal(final MessagingProvider messagingProvider,
-            final ProtocolAdapter protocolAdapter,
-            final DittoHeaderDefinition... headersToRemove) {
-
-        return signal -> {
-            final DittoHeadersBuilder<?, ?> headersBuilder = signal.getDittoHeaders().toBuilder();
-            for (final DittoHeaderDefinition definition : headersToRemove) {
-                headersBuilder.removeHeader(definition.getKey());
-            }
-            final Signal<?> signalToEmit = signal.setDittoHeaders(headersBuilder.build());
-            messagingProvider.emitAdaptable(protocolAdapter.toAdaptable(signalToEmit));
-        };
-    }
-
-    private static void registerKeyBasedHandlersForIncomingEvents(final PointerBus bus,
-            final MessagingProvider messagingProvider,
-            final ProtocolAdapter protocolAdapter) {
-
-        final Consumer<Acknowledgement> emitAcknowledgement = emitSignal(
-                messagingProvider,
-                protocolAdapter,
-                DittoHeaderDefinition.READ_SUBJECTS,
-                DittoHeaderDefinition.AUTHORIZATION_CONTEXT,
-                DittoHeaderDefinition.RESPONSE_REQUIRED
-        );
-
-        /*
-         * Merged Events are distinguished by their resource path. There is only one command for all existing
-         * resource paths.
-         */
-        SelectorUtil.addHandlerForThingEvent(LOGGER, bus, ThingMerged.TYPE, ThingMerged.class,
-                e -> BusAddressFactory.forThingMergedEvent(e.getEntityId(), e.getResourcePath()),
-                (e, extra) -> new ImmutableChange(e.getEntityId(), ChangeAction.MERGED,
-                        e.getResourcePath(), e.getValue(), e.getRevision(), e.getTimestamp().orElse(null),
-                        extra, e.getDittoHeaders(), emitAcknowledgement));
-
-        /*
-         * Thing
-         */
-        SelectorUtil.addHandlerForThingEvent(LOGGER, bus, ThingCreated.TYPE, ThingCreated.class,
-                e -> BusAddressFactory.forThing(e.getEntityId()),
-                (e, extra) -> new ImmutableThingChange(e.getEntityId(), ChangeAction.CREATED, e.getThing(),
-                        e.getRevision(), e.getTimestamp().orElse(null), extra, e.getDittoHeaders(),
-                        emitAcknowledgement)
-        );
-
-        SelectorUtil.addHandlerForThingEvent(LOGGER, bus, ThingModified.TYPE, ThingModified.class,
-                e -> BusAddressFactory.forThing(e.getEntityId()),
-                (e, extra) -> new ImmutableThingChange(e.getEntityId(), ChangeAction.UPDATED, e.getThing(),
-                        e.getRevision(), e.getTimestamp().orElse(null), extra, e.getDittoHeaders(),
-                        emitAcknowledgement)
-        );
-
-        SelectorUtil.addHandlerForThingEvent(LOGGER, bus, ThingDeleted.TYPE, ThingDeleted.class,
-                e -> BusAddressFactory.forThing(e.getEntityId()),
-                (e, extra) -> new ImmutableThingChange(e.getEntityId(), ChangeAction.DELETED, null,
-                        e.getRevision(), e.getTimestamp().orElse(null), extra, e.getDittoHeaders(),
-                        emitAcknowledgement)
-        );
-
-        /*
-         * Attributes
-         */
-        SelectorUtil.addHandlerForThingEvent(LOGGER, bus, AttributesCreated.TYPE, AttributesCreated.class,
-                e -> BusAddressFactory.forAttributes(e.getEntityId()),
-                (e, extra) -> new ImmutableChange(e.getEntityId(), ChangeAction.CREATED,
-                        JsonPointer.empty(),
-                        e.getCreatedAttributes(),
-                        e.getRevision(), e.getTimestamp().orElse(null), extra, e.getDittoHeaders(),
-                        emitAcknowledgement)
-        );
-
-        SelectorUtil.addHandlerForThingEvent(LOGGER, bus, AttributesModified.TYPE, AttributesModified.class,
-                e -> BusAddressFactory.forAttributes(e.getEntityId()),
-                (e, extra) -> new ImmutableChange(e.getEntityId(), ChangeAction.UPDATED,
-                        JsonPointer.empty(),
-                        e.getModifiedAttributes(),
-                        e.getRevision(), e.getTimestamp().orElse(null), extra, e.getDittoHeaders(),
-                        emitAcknowledgement)
-        );
-
-        SelectorUtil.addHandlerForThingEvent(LOGGER, bus, AttributesDeleted.TYPE, AttributesDeleted.class,
-                e -> BusAddressFactory.forAttributes(e.getEntityId()),
-                (e, extra) -> new ImmutableChange(e.getEntityId(), ChangeAction.DELETED,
-                        JsonPointer.empty(),
-                        null,
-                        e.getRevision(), e.getTimestamp().orElse(null), extra, e.getDittoHeaders(),
-                        emitAcknowledgement)
-        );
-
-        /*
-         * Attribute
-         */
-        SelectorUtil.addHandlerForThingEvent(LOGGER, bus, AttributeCreated.TYPE, AttributeCreated.class,
-                e -> BusAddressFactory.forAttribute(e.getEntityId(), e.getAttributePointer()),
-                (e, extra) -> new ImmutableChange(e.getEntityId(), ChangeAction.CREATED,
-                        e.getAttributePointer(),
-                        e.getAttributeValue(),
-                        e.getRevision(), e.getTimestamp().orElse(null), extra, e.getDittoHeaders(),
-                        emitAcknowledgement));
-
-        SelectorUtil.addHandlerForThingEvent(LOGGER, bus, AttributeModified.TYPE, AttributeModified.class,
-                e -> BusAddressFactory.forAttribute(e.getEntityId(), e.getAttributePointer()),
-                (e, extra) -> new ImmutableChange(e.getEntityId(), ChangeAction.UPDATED,
-                        e.getAttributePointer(),
-                        e.getAttributeValue(),
-                        e.getRevision(), e.getTimestamp().orElse(null), extra, e.getDittoHeaders(),
-                        emitAcknowledgement));
-
-        SelectorUtil.addHandlerForThingEvent(LOGGER, bus, AttributeDeleted.TYPE, AttributeDeleted.class,
-                e -> BusAddressFactory.forAttribute(e.getEntityId(), e.getAttributePointer()),
-                (e, extra) -> new ImmutableChange(e.getEntityId(), ChangeAction.DELETED,
-                        e.getAttributePointer(),
-                        null,
-                        e.getRevision(), e.getTimestamp().orElse(null), extra, e.getDittoHeaders(),
-                        emitAcknowledgement));
-
-        /*
-         * Features
-         */
-        SelectorUtil.addHandlerForThingEvent(LOGGER, bus, FeaturesCreated.TYPE, FeaturesCreated.class,
-                e -> BusAddressFactory.forFeatures(e.getEntityId()),
-                (e, extra) -> new ImmutableFeaturesChange(e.getEntityId(), ChangeAction.CREATED,
-                        e.getFeatures(),
-                        JsonPointer.empty(),
-                        e.getRevision(), e.getTimestamp().orElse(null), extra, e.getDittoHeaders(),
-                        emitAcknowledgement)
-        );
-
-        SelectorUtil.addHandlerForThingEvent(LOGGER, bus, FeaturesModified.TYPE, FeaturesModified.class,
-                e -> BusAddressFactory.forFeatures(e.getEntityId()),
-                (e, extra) -> new ImmutableFeaturesChange(e.getEntityId(), ChangeAction.UPDATED,
-                        e.getFeatures(),
-                        JsonPointer.empty(),
-                        e.getRevision(), e.getTimestamp().orElse(null), extra, e.getDittoHeaders(),
-                        emitAcknowledgement)
-        );
-
-        SelectorUtil.addHandlerForThingEvent(LOGGER, bus, FeaturesDeleted.TYPE, FeaturesDeleted.class,
-                e -> BusAddressFactory.forFeatures(e.getEntityId()),
-                (e, extra) -> new ImmutableFeaturesChange(e.getEntityId(), ChangeAction.DELETED,
-                        null,
-                        JsonPointer.empty(),
-                        e.getRevision(), e.getTimestamp().orElse(null), extra, e.getDittoHeaders(),
-                        emitAcknowledgement)
-        );
-
-        /*
-         * Feature
-         */
-        SelectorUtil.addHandlerForThingEvent(LOGGER, bus, FeatureCreated.TYPE, FeatureCreated.class,
-                e -> BusAddressFactory.forFeature(e.getEntityId(), e.getFeatureId()),
-                (e, extra) -> new ImmutableFeatureChange(e.getEntityId(), ChangeAction.CREATED,
-                        e.getFeature(),
-                        JsonPointer.empty(),
-                        e.getRevision(), e.getTimestamp().orElse(null), extra, e.getDittoHeaders(),
-                        emitAcknowledgement)
-        );
-
-        SelectorUtil.addHandlerForThingEvent(LOGGER, bus, FeatureModified.TYPE, FeatureModified.class,
-                e -> BusAddressFactory.forFeature(e.getEntityId(), e.getFeatureId()),
-                (e, extra) -> new ImmutableFeatureChange(e.getEntityId(), ChangeAction.UPDATED,
-                        e.getFeature(),
-                        JsonPointer.empty(),
-                        e.getRevision(), e.getTimestamp().orElse(null), extra, e.getDittoHeaders(),
-                        emitAcknowledgement)
-        );
-
-        SelectorUtil.addHandlerForThingEvent(LOGGER, bus, FeatureDeleted.TYPE, FeatureDeleted.class,
-                e -> BusAddressFactory.forFeature(e.getEntityId(), e.getFeatureId()),
-                (e, extra) -> new ImmutableFeatureChange(e.getEntityId(), ChangeAction.DELETED,
-                        null,
-                        JsonPointer.empty(),
-                        e.getRevision(), e.getTimestamp().orElse(null), extra, e.getDittoHeaders(),
-                        emitAcknowledgement)
-        );
-
-        /*
-         * Feature Properties
-         */
-        SelectorUtil.addHandlerForThingEvent(LOGGER, bus, FeaturePropertiesCreated.TYPE,
-                FeaturePropertiesCreated.class,
-                e -> BusAddressFactory.forFeatureProperties(e.getEntityId(), e.getFeatureId()),
-                (e, extra) -> new ImmutableChange(e.getEntityId(), ChangeAction.CREATED,
-                        JsonPointer.empty(),
-                        e.getProperties().toJson(e.getImplementedSchemaVersion()),
-                        e.getRevision(), e.getTimestamp().orElse(null), extra, e.getDittoHeaders(),
-                        emitAcknowledgement)
-        );
-
-        SelectorUtil.addHandlerForThingEvent(LOGGER, bus, FeaturePropertiesModified.TYPE,
-                FeaturePropertiesModified.class,
-                e -> BusAddressFactory.forFeatureProperties(e.getEntityId(), e.getFeatureId()),
-                (e, extra) -> new ImmutableChange(e.getEntityId(), ChangeAction.UPDATED,
-                        JsonPointer.empty(),
-                        e.getProperties().toJson(e.getImplementedSchemaVersion()),
-                        e.getRevision(), e.getTimestamp().orElse(null), extra, e.getDittoHeaders(),
-                        emitAcknowledgement)
-        );
-
-        SelectorUtil.addHandlerForThingEvent(LOGGER, bus, FeaturePropertiesDeleted.TYPE,
-                FeaturePropertiesDeleted.class,
-                e -> BusAddressFactory.forFeatureProperties(e.getEntityId(), e.getFeatureId()),
-                (e, extra) -> new ImmutableChange(e.getEntityId(), ChangeAction.DELETED,
-                        JsonPointer.empty(),
-                        null,
-                        e.getRevision(), e.getTimestamp().orElse(null), extra, e.getDittoHeaders(),
-                        emitAcknowledgement)
-        );
-
-        /*
-         * Feature Property
-         */
-        SelectorUtil.addHandlerForThingEvent(LOGGER, bus, FeaturePropertyCreated.TYPE,
-                FeaturePropertyCreated.class,
-                e -> BusAddressFactory.forFeatureProperty(e.getEntityId(), e.getFeatureId(),
-                        e.getPropertyPointer()),
-                (e, extra) -> new ImmutableChange(e.getEntityId(), ChangeAction.CREATED,
-                        e.getPropertyPointer(),
-                        e.getPropertyValue(),
-                        e.getRevision(), e.getTimestamp().orElse(null), extra, e.getDittoHeaders(),
-                        emitAcknowledgement)
-        );
-
-        SelectorUtil.addHandlerForThingEvent(LOGGER, bus, FeaturePropertyModified.TYPE,
-                FeaturePropertyModified.class,
-                e -> BusAddressFactory.forFeatureProperty(e.getEntityId(), e.getFeatureId(),
-                        e.getPropertyPointer()),
-                (e, extra) -> new ImmutableChange(e.getEntityId(), ChangeAction.UPDATED,
-                        e.getPropertyPointer(),
-                        e.getPropertyValue(),
-                        e.getRevision(), e.getTimestamp().orElse(null), extra, e.getDittoHeaders(),
-                        emitAcknowledgement)
-        );
-
-        SelectorUtil.addHandlerForThingEvent(LOGGER, bus, FeaturePropertyDeleted.TYPE,
-                FeaturePropertyDeleted.class,
-                e -> BusAddressFactory.forFeatureProperty(e.getEntityId(), e.getFeatureId(),
-                        e.getPropertyPointer()),
-                (e, extra) -> new ImmutableChange(e.getEntityId(), ChangeAction.DELETED,
-                        e.getPropertyPointer(),
-                        null,
-                        e.getRevision(), e.getTimestamp().orElse(null), extra, e.getDittoHeaders(),
-                        emitAcknowledgement)
-        );
-
-        /*
-         * Feature Desired Properties
-         */
-        SelectorUtil.addHandlerForThingEvent(LOGGER, bus, FeatureDesiredPropertiesCreated.TYPE,
-                FeatureDesiredPropertiesCreated.class,
-                e -> BusAddressFactory.forFeatureDesiredProperties(e.getEntityId(), e.getFeatureId()),
-                (e, extra) -> new ImmutableChange(e.getEntityId(), ChangeAction.CREATED,
-                        JsonPointer.empty(),
-                        e.getDesiredProperties().toJson(e.getImplementedSchemaVersion()),
-                        e.getRevision(), e.getTimestamp().orElse(null), extra, e.getDittoHeaders(),
-                        emitAcknowledgement)
-        );
-
-        SelectorUtil.addHandlerForThingEvent(LOGGER, bus, FeatureDesiredPropertiesModified.TYPE,
-                FeatureDesiredPropertiesModified.class,
-                e -> BusAddressFactory.forFeatureDesiredProperties(e.getEntityId(), e.getFeatureId()),
-                (e, extra) -> new ImmutableChange(e.getEntityId(), ChangeAction.UPDATED,
-                        JsonPointer.empty(),
-                        e.getDesiredProperties().toJson(e.getImplementedSchemaVersion()),
-                        e.getRevision(), e.getTimestamp().orElse(null), extra, e.getDittoHeaders(),
-                        emitAcknowledgement)
-        );
-
-        SelectorUtil.addHandlerForThingEvent(LOGGER, bus, FeatureDesiredPropertiesDeleted.TYPE,
-                FeatureDesiredPropertiesDeleted.class,
-                e -> BusAddressFactory.forFeatureDesiredProperties(e.getEntityId(), e.getFeatureId()),
-                (e, extra) -> new ImmutableChange(e.getEntityId(), ChangeAction.DELETED,
-                        JsonPointer.empty(),
-                        null,
-                        e.getRevision(), e.getTimestamp().orElse(null), extra, e.getDittoHeaders(),
-                        emitAcknowledgement)
-        );
-
-        /*
-         * Feature Desired Property
-         */
-        SelectorUtil.addHandlerForThingEvent(LOGGER, bus, FeatureDesiredPropertyCreated.TYPE,
-                FeatureDesiredPropertyCreated.class,
-                e -> BusAddressFactory.forFeatureDesiredProperty(e.getEntityId(), e.getFeatureId(),
-                        e.getDesiredPropertyPointer()),
-                (e, extra) -> new ImmutableChange(e.getEntityId(), ChangeAction.CREATED,
-                        e.getDesiredPropertyPointer(),
-                        e.getDesiredPropertyValue(),
-                        e.getRevision(), e.getTimestamp().orElse(null), extra, e.getDittoHeaders(),
-                        emitAcknowledgement)
-        );
-
-        SelectorUtil.addHandlerForThingEvent(LOGGER, bus, FeatureDesiredPropertyModified.TYPE,
-                FeatureDesiredPropertyModified.class,
-                e -> BusAddressFactory.forFeatureDesiredProperty(e.getEntityId(), e.getFeatureId(),
-                        e.getDesiredPropertyPointer()),
-                (e, extra) -> new ImmutableChange(e.getEntityId(), ChangeAction.UPDATED,
-                        e.getDesiredPropertyPointer(),
-                        e.getDesiredPropertyValue(),
-                        e.getRevision(), e.getTimestamp().orElse(null), extra, e.getDittoHeaders(),
-                        emitAcknowledgement)
-        );
-
-        SelectorUtil.addHandlerForThingEvent(LOGGER, bus, FeatureDesiredPropertyDeleted.TYPE,
-                FeatureDesiredPropertyDeleted.class,
-                e -> BusAddressFactory.forFeatureDesiredProperty(e.getEntityId(), e.getFeatureId(),
-                        e.getDesiredPropertyPointer()),
-                (e, extra) -> new ImmutableChange(e.getEntityId(), ChangeAction.DELETED,
-                        e.getDesiredPropertyPointer(),
-                        null,
-                        e.getRevision(), e.getTimestamp().orElse(null), extra, e.getDittoHeaders(),
-                        emitAcknowledgement)
-        );
-    }
-
     @Override
     public CompletionStage<DittoClient> connect() {
         return twin.messagingProvider.initializeAsync()
@@ -0,0 +1,78 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.ditto.client.internal;
+
+import java.util.function.BiFunction;
+import java.util.function.Function;
+
+import javax.annotation.Nullable;
+
+import org.eclipse.ditto.base.model.signals.events.Event;
+import org.eclipse.ditto.client.changes.Change;
+import org.eclipse.ditto.client.internal.bus.PointerBus;
+import org.eclipse.ditto.client.internal.bus.SelectorUtil;
+import org.eclipse.ditto.json.JsonObject;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Converts a received event of a specific type into a {@link Change} and notifies the {@link PointerBus} at the
+ * address where the change actually happened.
+ *
+ * @param <T> the type of the event to convert.
+ * @since 3.6.0
+ */
+final class EventToChangeConverter<T extends Event<?>> {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(EventToChangeConverter.class);
+
+    private final Class<T> eventClass;
+    private final Function<T, String> addressBuilderFunction;
+    private final BiFunction<T, JsonObject, Change> changeBuilderFunction;
+
+    /**
+     * Constructs a new EventToChangeConverter.
+     *
+     * @param eventClass the type of the event to convert.
+     * @param addressBuilderFunction the function to build the Bus address from the occurred event.
+     * @param changeBuilderFunction the function to build the {@link Change} from the occurred event and the optional
+     * extra fields.
+     */
+    EventToChangeConverter(final Class<T> eventClass,
+            final Function<T, String> addressBuilderFunction,
+            final BiFunction<T, JsonObject, Change> changeBuilderFunction) {
+
+        this.eventClass = eventClass;
+        this.addressBuilderFunction = addressBuilderFunction;
+        this.changeBuilderFunction = changeBuilderFunction;
+    }
+
+    /**
+     * Converts the passed {@code event} into a {@link Change} and notifies the passed {@code bus} with it.
+     *
+     * @param event the received event.
+     * @param extra the extra fields of the received event or {@code null}.
+     * @param bus the bus to notify.
+     * @throws IllegalStateException if {@code event} is not of the type this converter handles.
+     */
+    void convertAndNotify(final Object event, @Nullable final JsonObject extra, final PointerBus bus) {
+        if (!eventClass.isInstance(event)) {
+            throw new IllegalStateException("Could not map received event which should be of type '" + eventClass +
+                    "'. The actual class of the event is: " + event.getClass());
+        }
+        final T typedEvent = eventClass.cast(event);
+        final Change change = changeBuilderFunction.apply(typedEvent, extra);
+        SelectorUtil.notifyChange(LOGGER, bus, addressBuilderFunction.apply(typedEvent), change);
+    }
+
+}
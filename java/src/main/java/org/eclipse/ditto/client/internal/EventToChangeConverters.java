@@ -0,0 +1,395 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.ditto.client.internal;
+
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.function.BiFunction;
+import java.util.function.Consumer;
+import java.util.function.Function;
+
+import org.eclipse.ditto.base.model.headers.DittoHeaderDefinition;
+import org.eclipse.ditto.base.model.headers.DittoHeadersBuilder;
+import org.eclipse.ditto.base.model.signals.Signal;
+import org.eclipse.ditto.base.model.signals.acks.Acknowledgement;
+import org.eclipse.ditto.base.model.signals.events.Event;
+import org.eclipse.ditto.client.changes.Change;
+import org.eclipse.ditto.client.changes.ChangeAction;
+import org.eclipse.ditto.client.changes.internal.ImmutableChange;
+import org.eclipse.ditto.client.changes.internal.ImmutableFeatureChange;
+import org.eclipse.ditto.client.changes.internal.ImmutableFeaturesChange;
+import org.eclipse.ditto.client.changes.internal.ImmutableThingChange;
+import org.eclipse.ditto.client.messaging.MessagingProvider;
+import org.eclipse.ditto.json.JsonObject;
+import org.eclipse.ditto.json.JsonPointer;
+import org.eclipse.ditto.things.model.signals.events.AttributeCreated;
+import org.eclipse.ditto.things.model.signals.events.AttributeDeleted;
+import org.eclipse.ditto.things.model.signals.events.AttributeModified;
+import org.eclipse.ditto.things.model.signals.events.AttributesCreated;
+import org.eclipse.ditto.things.model.signals.events.AttributesDeleted;
+import org.eclipse.ditto.things.model.signals.events.AttributesModified;
+import org.eclipse.ditto.things.model.signals.events.FeatureCreated;
+import org.eclipse.ditto.things.model.signals.events.FeatureDeleted;
+import org.eclipse.ditto.things.model.signals.events.FeatureDesiredPropertiesCreated;
+import org.eclipse.ditto.things.model.signals.events.FeatureDesiredPropertiesDeleted;
+import org.eclipse.ditto.things.model.signals.events.FeatureDesiredPropertiesModified;
+import org.eclipse.ditto.things.model.signals.events.FeatureDesiredPropertyCreated;
+import org.eclipse.ditto.things.model.signals.events.FeatureDesiredPropertyDeleted;
+import org.eclipse.ditto.things.model.signals.events.FeatureDesiredPropertyModified;
+import org.eclipse.ditto.things.model.signals.events.FeatureModified;
+import org.eclipse.ditto.things.model.signals.events.FeaturePropertiesCreated;
+import org.eclipse.ditto.things.model.signals.events.FeaturePropertiesDeleted;
+import org.eclipse.ditto.things.model.signals.events.FeaturePropertiesModified;
+import org.eclipse.ditto.things.model.signals.events.FeaturePropertyCreated;
+import org.eclipse.ditto.things.model.signals.events.FeaturePropertyDeleted;
+import org.eclipse.ditto.things.model.signals.events.FeaturePropertyModified;
+import org.eclipse.ditto.things.model.signals.events.FeaturesCreated;
+import org.eclipse.ditto.things.model.signals.events.FeaturesDeleted;
+import org.eclipse.ditto.things.model.signals.events.FeaturesModified;
+import org.eclipse.ditto.things.model.signals.events.ThingCreated;
+import org.eclipse.ditto.things.model.signals.events.ThingDeleted;
+import org.eclipse.ditto.things.model.signals.events.ThingMerged;
+import org.eclipse.ditto.things.model.signals.events.ThingModified;
+
+/**
+ * Builds the dispatch table of {@link EventToChangeConverter}s keyed by the type of the thing events they convert, so
+ * that the converter of a received event is resolved by a single map lookup.
+ *
+ * @since 3.6.0
+ */
+final class EventToChangeConverters {
+
+    private EventToChangeConverters() {
+        throw new AssertionError();
+    }
+
+    /**
+     * Creates the converters for all thing events which are represented as {@link Change}s.
+     *
+     * @param messagingProvider the messaging provider to emit acknowledgements of changes with.
+     * @return the unmodifiable map of converters keyed by the event type.
+     */
+    static Map<String, EventToChangeConverter<?>> forThingEvents(final MessagingProvider messagingProvider) {
+        final Map<String, EventToChangeConverter<?>> converters = new HashMap<>();
+        final Consumer<Acknowledgement> emitAcknowledgement = emitSignal(
+                messagingProvider,
+                DittoHeaderDefinition.READ_SUBJECTS,
+                DittoHeaderDefinition.AUTHORIZATION_CONTEXT,
+                DittoHeaderDefinition.RESPONSE_REQUIRED
+        );
+
+        /*
+         * Merged Events are distinguished by their resource path. There is only one command for all existing
+         * resource paths.
+         */
+        put(converters, ThingMerged.TYPE, ThingMerged.class,
+                e -> BusAddressFactory.forThingMergedEvent(e.getEntityId(), e.getResourcePath()),
+                (e, extra) -> new ImmutableChange(e.getEntityId(), ChangeAction.MERGED,
+                        e.getResourcePath(), e.getValue(), e.getRevision(), e.getTimestamp().orElse(null),
+                        extra, e.getDittoHeaders(), emitAcknowledgement));
+
+        /*
+         * Thing
+         */
+        put(converters, ThingCreated.TYPE, ThingCreated.class,
+                e -> BusAddressFactory.forThing(e.getEntityId()),
+                (e, extra) -> new ImmutableThingChange(e.getEntityId(), ChangeAction.CREATED, e.getThing(),
+                        e.getRevision(), e.getTimestamp().orElse(null), extra, e.getDittoHeaders(),
+                        emitAcknowledgement)
+        );
+
+        put(converters, ThingModified.TYPE, ThingModified.class,
+                e -> BusAddressFactory.forThing(e.getEntityId()),
+                (e, extra) -> new ImmutableThingChange(e.getEntityId(), ChangeAction.UPDATED, e.getThing(),
+                        e.getRevision(), e.getTimestamp().orElse(null), extra, e.getDittoHeaders(),
+                        emitAcknowledgement)
+        );
+
+        put(converters, ThingDeleted.TYPE, ThingDeleted.class,
+                e -> BusAddressFactory.forThing(e.getEntityId()),
+                (e, extra) -> new ImmutableThingChange(e.getEntityId(), ChangeAction.DELETED, null,
+                        e.getRevision(), e.getTimestamp().orElse(null), extra, e.getDittoHeaders(),
+                        emitAcknowledgement)
+        );
+
+        /*
+         * Attributes
+         */
+        put(converters, AttributesCreated.TYPE, AttributesCreated.class,
+                e -> BusAddressFactory.forAttributes(e.getEntityId()),
+                (e, extra) -> new ImmutableChange(e.getEntityId(), ChangeAction.CREATED,
+                        JsonPointer.empty(),
+                        e.getCreatedAttributes(),
+                        e.getRevision(), e.getTimestamp().orElse(null), extra, e.getDittoHeaders(),
+                        emitAcknowledgement)
+        );
+
+        put(converters, AttributesModified.TYPE, AttributesModified.class,
+                e -> BusAddressFactory.forAttributes(e.getEntityId()),
+                (e, extra) -> new ImmutableChange(e.getEntityId(), ChangeAction.UPDATED,
+                        JsonPointer.empty(),
+                        e.getModifiedAttributes(),
+                        e.getRevision(), e.getTimestamp().orElse(null), extra, e.getDittoHeaders(),
+                        emitAcknowledgement)
+        );
+
+        put(converters, AttributesDeleted.TYPE, AttributesDeleted.class,
+                e -> BusAddressFactory.forAttributes(e.getEntityId()),
+                (e, extra) -> new ImmutableChange(e.getEntityId(), ChangeAction.DELETED,
+                        JsonPointer.empty(),
+                        null,
+                        e.getRevision(), e.getTimestamp().orElse(null), extra, e.getDittoHeaders(),
+                        emitAcknowledgement)
+        );
+
+        /*
+         * Attribute
+         */
+        put(converters, AttributeCreated.TYPE, AttributeCreated.class,
+                e -> BusAddressFactory.forAttribute(e.getEntityId(), e.getAttributePointer()),
+                (e, extra) -> new ImmutableChange(e.getEntityId(), ChangeAction.CREATED,
+                        e.getAttributePointer(),
+                        e.getAttributeValue(),
+                        e.getRevision(), e.getTimestamp().orElse(null), extra, e.getDittoHeaders(),
+                        emitAcknowledgement));
+
+        put(converters, AttributeModified.TYPE, AttributeModified.class,
+                e -> BusAddressFactory.forAttribute(e.getEntityId(), e.getAttributePointer()),
+                (e, extra) -> new ImmutableChange(e.getEntityId(), ChangeAction.UPDATED,
+                        e.getAttributePointer(),
+                        e.getAttributeValue(),
+                        e.getRevision(), e.getTimestamp().orElse(null), extra, e.getDittoHeaders(),
+                        emitAcknowledgement));
+
+        put(converters, AttributeDeleted.TYPE, AttributeDeleted.class,
+                e -> BusAddressFactory.forAttribute(e.getEntityId(), e.getAttributePointer()),
+                (e, extra) -> new ImmutableChange(e.getEntityId(), ChangeAction.DELETED,
+                        e.getAttributePointer(),
+                        null,
+                        e.getRevision(), e.getTimestamp().orElse(null), extra, e.getDittoHeaders(),
+                        emitAcknowledgement));
+
+        /*
+         * Features
+         */
+        put(converters, FeaturesCreated.TYPE, FeaturesCreated.class,
+                e -> BusAddressFactory.forFeatures(e.getEntityId()),
+                (e, extra) -> new ImmutableFeaturesChange(e.getEntityId(), ChangeAction.CREATED,
+                        e.getFeatures(),
+                        JsonPointer.empty(),
+                        e.getRevision(), e.getTimestamp().orElse(null), extra, e.getDittoHeaders(),
+                        emitAcknowledgement)
+        );
+
+        put(converters, FeaturesModified.TYPE, FeaturesModified.class,
+                e -> BusAddressFactory.forFeatures(e.getEntityId()),
+                (e, extra) -> new ImmutableFeaturesChange(e.getEntityId(), ChangeAction.UPDATED,
+                        e.getFeatures(),
+                        JsonPointer.empty(),
+                        e.getRevision(), e.getTimestamp().orElse(null), extra, e.getDittoHeaders(),
+                        emitAcknowledgement)
+        );
+
+        put(converters, FeaturesDeleted.TYPE, FeaturesDeleted.class,
+                e -> BusAddressFactory.forFeatures(e.getEntityId()),
+                (e, extra) -> new ImmutableFeaturesChange(e.getEntityId(), ChangeAction.DELETED,
+                        null,
+                        JsonPointer.empty(),
+                        e.getRevision(), e.getTimestamp().orElse(null), extra, e.getDittoHeaders(),
+                        emitAcknowledgement)
+        );
+
+        /*
+         * Feature
+         */
+        put(converters, FeatureCreated.TYPE, FeatureCreated.class,
+                e -> BusAddressFactory.forFeature(e.getEntityId(), e.getFeatureId()),
+                (e, extra) -> new ImmutableFeatureChange(e.getEntityId(), ChangeAction.CREATED,
+                        e.getFeature(),
+                        JsonPointer.empty(),
+                        e.getRevision(), e.getTimestamp().orElse(null), extra, e.getDittoHeaders(),
+                        emitAcknowledgement)
+        );
+
+        put(converters, FeatureModified.TYPE, FeatureModified.class,
+                e -> BusAddressFactory.forFeature(e.getEntityId(), e.getFeatureId()),
+                (e, extra) -> new ImmutableFeatureChange(e.getEntityId(), ChangeAction.UPDATED,
+                        e.getFeature(),
+                        JsonPointer.empty(),
+                        e.getRevision(), e.getTimestamp().orElse(null), extra, e.getDittoHeaders(),
+                        emitAcknowledgement)
+        );
+
+        put(converters, FeatureDeleted.TYPE, FeatureDeleted.class,
+                e -> BusAddressFactory.forFeature(e.getEntityId(), e.getFeatureId()),
+                (e, extra) -> new ImmutableFeatureChange(e.getEntityId(), ChangeAction.DELETED,
+                        null,
+                        JsonPointer.empty(),
+                        e.getRevision(), e.getTimestamp().orElse(null), extra, e.getDittoHeaders(),
+                        emitAcknowledgement)
+        );
+
+        /*
+         * Feature Properties
+         */
+        put(converters, FeaturePropertiesCreated.TYPE, FeaturePropertiesCreated.class,
+                e -> BusAddressFactory.forFeatureProperties(e.getEntityId(), e.getFeatureId()),
+                (e, extra) -> new ImmutableChange(e.getEntityId(), ChangeAction.CREATED,
+                        JsonPointer.empty(),
+                        e.getProperties().toJson(e.getImplementedSchemaVersion()),
+                        e.getRevision(), e.getTimestamp().orElse(null), extra, e.getDittoHeaders(),
+                        emitAcknowledgement)
+        );
+
+        put(converters, FeaturePropertiesModified.TYPE, FeaturePropertiesModified.class,
+                e -> BusAddressFactory.forFeatureProperties(e.getEntityId(), e.getFeatureId()),
+                (e, extra) -> new ImmutableChange(e.getEntityId(), ChangeAction.UPDATED,
+                        JsonPointer.empty(),
+                        e.getProperties().toJson(e.getImplementedSchemaVersion()),
+                        e.getRevision(), e.getTimestamp().orElse(null), extra, e.getDittoHeaders(),
+                        emitAcknowledgement)
+        );
+
+        put(converters, FeaturePropertiesDeleted.TYPE, FeaturePropertiesDeleted.class,
+                e -> BusAddressFactory.forFeatureProperties(e.getEntityId(), e.getFeatureId()),
+                (e, extra) -> new ImmutableChange(e.getEntityId(), ChangeAction.DELETED,
+                        JsonPointer.empty(),
+                        null,
+                        e.getRevision(), e.getTimestamp().orElse(null), extra, e.getDittoHeaders(),
+                        emitAcknowledgement)
+        );
+
+        /*
+         * Feature Property
+         */
+        put(converters, FeaturePropertyCreated.TYPE, FeaturePropertyCreated.class,
+                e -> BusAddressFactory.forFeatureProperty(e.getEntityId(), e.getFeatureId(),
+                        e.getPropertyPointer()),
+                (e, extra) -> new ImmutableChange(e.getEntityId(), ChangeAction.CREATED,
+                        e.getPropertyPointer(),
+                        e.getPropertyValue(),
+                        e.getRevision(), e.getTimestamp().orElse(null), extra, e.getDittoHeaders(),
+                        emitAcknowledgement)
+        );
+
+        put(converters, FeaturePropertyModified.TYPE, FeaturePropertyModified.class,
+                e -> BusAddressFactory.forFeatureProperty(e.getEntityId(), e.getFeatureId(),
+                        e.getPropertyPointer()),
+                (e, extra) -> new ImmutableChange(e.getEntityId(), ChangeAction.UPDATED,
+                        e.getPropertyPointer(),
+                        e.getPropertyValue(),
+                        e.getRevision(), e.getTimestamp().orElse(null), extra, e.getDittoHeaders(),
+                        emitAcknowledgement)
+        );
+
+        put(converters, FeaturePropertyDeleted.TYPE, FeaturePropertyDeleted.class,
+                e -> BusAddressFactory.forFeatureProperty(e.getEntityId(), e.getFeatureId(),
+                        e.getPropertyPointer()),
+                (e, extra) -> new ImmutableChange(e.getEntityId(), ChangeAction.DELETED,
+                        e.getPropertyPointer(),
+                        null,
+                        e.getRevision(), e.getTimestamp().orElse(null), extra, e.getDittoHeaders(),
+                        emitAcknowledgement)
+        );
+
+        /*
+         * Feature Desired Properties
+         */
+        put(converters, FeatureDesiredPropertiesCreated.TYPE, FeatureDesiredPropertiesCreated.class,
+                e -> BusAddressFactory.forFeatureDesiredProperties(e.getEntityId(), e.getFeatureId()),
+                (e, extra) -> new ImmutableChange(e.getEntityId(), ChangeAction.CREATED,
+                        JsonPointer.empty(),
+                        e.getDesiredProperties().toJson(e.getImplementedSchemaVersion()),
+                        e.getRevision(), e.getTimestamp().orElse(null), extra, e.getDittoHeaders(),
+                        emitAcknowledgement)
+        );
+
+        put(converters, FeatureDesiredPropertiesModified.TYPE, FeatureDesiredPropertiesModified.class,
+                e -> BusAddressFactory.forFeatureDesiredProperties(e.getEntityId(), e.getFeatureId()),
+                (e, extra) -> new ImmutableChange(e.getEntityId(), ChangeAction.UPDATED,
+                        JsonPointer.empty(),
+                        e.getDesiredProperties().toJson(e.getImplementedSchemaVersion()),
+                        e.getRevision(), e.getTimestamp().orElse(null), extra, e.getDittoHeaders(),
+                        emitAcknowledgement)
+        );
+
+        put(converters, FeatureDesiredPropertiesDeleted.TYPE, FeatureDesiredPropertiesDeleted.class,
+                e -> BusAddressFactory.forFeatureDesiredProperties(e.getEntityId(), e.getFeatureId()),
+                (e, extra) -> new ImmutableChange(e.getEntityId(), ChangeAction.DELETED,
+                        JsonPointer.empty(),
+                        null,
+                        e.getRevision(), e.getTimestamp().orElse(null), extra, e.getDittoHeaders(),
+                        emitAcknowledgement)
+        );
+
+        /*
+         * Feature Desired Property
+         */
+        put(converters, FeatureDesiredPropertyCreated.TYPE, FeatureDesiredPropertyCreated.class,
+                e -> BusAddressFactory.forFeatureDesiredProperty(e.getEntityId(), e.getFeatureId(),
+                        e.getDesiredPropertyPointer()),
+                (e, extra) -> new ImmutableChange(e.getEntityId(), ChangeAction.CREATED,
+                        e.getDesiredPropertyPointer(),
+                        e.getDesiredPropertyValue(),
+                        e.getRevision(), e.getTimestamp().orElse(null), extra, e.getDittoHeaders(),
+                        emitAcknowledgement)
+        );
+
+        put(converters, FeatureDesiredPropertyModified.TYPE, FeatureDesiredPropertyModified.class,
+                e -> BusAddressFactory.forFeatureDesiredProperty(e.getEntityId(), e.getFeatureId(),
+                        e.getDesiredPropertyPointer()),
+                (e, extra) -> new ImmutableChange(e.getEntityId(), ChangeAction.UPDATED,
+                        e.getDesiredPropertyPointer(),
+                        e.getDesiredPropertyValue(),
+                        e.getRevision(), e.getTimestamp().orElse(null), extra, e.getDittoHeaders(),
+                        emitAcknowledgement)
+        );
+
+        put(converters, FeatureDesiredPropertyDeleted.TYPE, FeatureDesiredPropertyDeleted.class,
+                e -> BusAddressFactory.forFeatureDesiredProperty(e.getEntityId(), e.getFeatureId(),
+                        e.getDesiredPropertyPointer()),
+                (e, extra) -> new ImmutableChange(e.getEntityId(), ChangeAction.DELETED,
+                        e.getDesiredPropertyPointer(),
+                        null,
+                        e.getRevision(), e.getTimestamp().orElse(null), extra, e.getDittoHeaders(),
+                        emitAcknowledgement)
+        );
+
+        return Collections.unmodifiableMap(converters);
+    }
+
+    private static <T extends Event<?>> void put(final Map<String, EventToChangeConverter<?>> converters,
+            final String eventType,
+            final Class<T> eventClass,
+            final Function<T, String> addressBuilderFunction,
+            final BiFunction<T, JsonObject, Change> changeBuilderFunction) {
+
+        converters.put(eventType, new EventToChangeConverter<>(eventClass, addressBuilderFunction,
+                changeBuilderFunction));
+    }
+
+    private static <T extends Signal<?>> Consumer<T> emitSignal(final MessagingProvider messagingProvider,
+            final DittoHeaderDefinition... headersToRemove) {
+
+        return signal -> {
+            final DittoHeadersBuilder<?, ?> headersBuilder = signal.getDittoHeaders().toBuilder();
+            for (final DittoHeaderDefinition definition : headersToRemove) {
+                headersBuilder.removeHeader(definition.getKey());
+            }
+            final Signal<?> signalToEmit = signal.setDittoHeaders(headersBuilder.build());
+            messagingProvider.emitAdaptable(AbstractHandle.PROTOCOL_ADAPTER.toAdaptable(signalToEmit));
+        };
+    }
+
+}
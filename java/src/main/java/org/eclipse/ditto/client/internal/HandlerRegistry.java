@@ -15,6 +15,8 @@ package org.eclipse.ditto.client.internal;
 import static java.util.Objects.requireNonNull;
 import static org.eclipse.ditto.base.model.common.ConditionChecker.argumentNotNull;
 
+import java.util.Collections;
+import java.util.LinkedHashMap;
 import java.util.Map;
 import java.util.Optional;
 import java.util.concurrent.ConcurrentHashMap;
@@ -22,6 +24,7 @@ import java.util.concurrent.Executor;
 import java.util.function.Consumer;
 import java.util.function.Supplier;
 
+import org.eclipse.ditto.client.configuration.MessagingConfiguration;
 import org.eclipse.ditto.client.internal.bus.JsonPointerSelector;
 import org.eclipse.ditto.client.internal.bus.PointerBus;
 import org.eclipse.ditto.client.internal.bus.PointerWithData;
@@ -34,6 +37,10 @@ import org.eclipse.ditto.things.model.ThingId;
 /**
  * Manages handlers on an {@link PointerBus}. Allows registration and deregistration of consumers based on a {@code
  * registrationId}.
+ * <p>
+ * Created thing and feature handles are cached in bounded least-recently-used caches. Evicting a handle is safe as
+ * handles do not own any handler registrations: those are kept by their {@code registrationId} in this registry
+ * independently of the handle they were registered with.
  *
  * @param <T> the type of {@link ThingHandle} for handling {@code Things}s
  * @param <F> the type of {@link FeatureHandle} for handling {@code Feature}s
@@ -52,10 +59,36 @@ public final class HandlerRegistry<T extends ThingHandle<F>, F extends FeatureHa
      * @param bus the Bus
      */
     public HandlerRegistry(final PointerBus bus) {
+        this(bus, MessagingConfiguration.DEFAULT_HANDLE_CACHE_SIZE);
+    }
+
+    /**
+     * Constructor.
+     *
+     * @param bus the Bus
+     * @param handleCacheSize the maximum number of thing handles and feature handles to cache
+     * @throws IllegalArgumentException if {@code handleCacheSize} is not positive
+     * @since 3.6.0
+     */
+    public HandlerRegistry(final PointerBus bus, final int handleCacheSize) {
         this.bus = requireNonNull(bus);
+        if (handleCacheSize <= 0) {
+            throw new IllegalArgumentException("The handleCacheSize must be positive: " + handleCacheSize);
+        }
         registry = new ConcurrentHashMap<>();
-        thingHandles = new ConcurrentHashMap<>();
-        featureHandles = new ConcurrentHashMap<>();
+        thingHandles = newLruCache(handleCacheSize);
+        featureHandles = newLruCache(handleCacheSize);
+    }
+
+    private static <K, V> Map<K, V> newLruCache(final int maxSize) {
+        return Collections.synchronizedMap(new LinkedHashMap<K, V>(16, 0.75f, true) {
+            private static final long serialVersionUID = 1L;
+
+            @Override
+            protected boolean removeEldestEntry(final Map.Entry<K, V> eldest) {
+                return size() > maxSize;
+            }
+        });
     }
 
     private static void checkRegistrationId(final String registrationId) {
@@ -122,10 +155,7 @@ public final class HandlerRegistry<T extends ThingHandle<F>, F extends FeatureHa
      * @return the looked up or created thing handle
      */
     public T thingHandleForThingId(final ThingId thingId, final Supplier<T> thingHandleSupplier) {
-        if (!thingHandles.containsKey(thingId)) {
-            thingHandles.put(thingId, thingHandleSupplier.get());
-        }
-        return thingHandles.get(thingId);
+        return thingHandles.computeIfAbsent(thingId, id -> thingHandleSupplier.get());
     }
 
     /**
@@ -151,10 +181,7 @@ public final class HandlerRegistry<T extends ThingHandle<F>, F extends FeatureHa
     public F featureHandleForFeatureId(final ThingId thingId, final String featureId,
             final Supplier<F> featureHandleSupplier) {
         final String key = getFeatureKey(thingId, featureId);
-        if (!featureHandles.containsKey(key)) {
-            featureHandles.put(key, featureHandleSupplier.get());
-        }
-        return featureHandles.get(key);
+        return featureHandles.computeIfAbsent(key, k -> featureHandleSupplier.get());
     }
 
     /**
@@ -170,6 +197,24 @@ public final class HandlerRegistry<T extends ThingHandle<F>, F extends FeatureHa
         return Optional.ofNullable(featureHandles.get(key));
     }
 
+    /**
+     * Returns the number of currently cached thing handles.
+     *
+     * @return the number of cached thing handles.
+     */
+    int getThingHandleCount() {
+        return thingHandles.size();
+    }
+
+    /**
+     * Returns the number of currently cached feature handles.
+     *
+     * @return the number of cached feature handles.
+     */
+    int getFeatureHandleCount() {
+        return featureHandles.size();
+    }
+
     private static String getFeatureKey(final ThingId thingId, final String featureId) {
         return thingId + "&&" + featureId;
     }
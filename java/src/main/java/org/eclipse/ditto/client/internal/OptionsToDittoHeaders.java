@@ -26,6 +26,7 @@ import org.eclipse.ditto.base.model.headers.DittoHeadersBuilder;
 import org.eclipse.ditto.base.model.headers.entitytag.EntityTagMatcher;
 import org.eclipse.ditto.base.model.headers.entitytag.EntityTagMatchers;
 import org.eclipse.ditto.base.model.json.JsonSchemaVersion;
+import org.eclipse.ditto.client.options.CompiledOptions;
 import org.eclipse.ditto.client.options.Option;
 import org.eclipse.ditto.client.options.OptionName;
 import org.eclipse.ditto.client.options.internal.OptionsEvaluator;
@@ -79,6 +80,16 @@ final class OptionsToDittoHeaders {
             final Collection<? extends OptionName> explicitlyAllowedOptions,
             final Option<?>[] options) {
 
+        ConditionChecker.checkNotNull(schemaVersion, "schemaVersion");
+        ConditionChecker.checkNotNull(explicitlyAllowedOptions, "explicitlyAllowedOptions");
+        ConditionChecker.checkNotNull(options, "options");
+        if (1 == options.length && options[0] instanceof CompiledOptions) {
+            final CompiledOptions compiledOptions = (CompiledOptions) options[0];
+            if (areAllAllowed(compiledOptions.getOptionNames(), explicitlyAllowedOptions)) {
+                return getDittoHeaders(schemaVersion, compiledOptions.getValue());
+            }
+        }
+
         final OptionsToDittoHeaders optionsToDittoHeaders = new OptionsToDittoHeaders(
                 ConditionChecker.checkNotNull(schemaVersion, "schemaVersion"),
                 ConditionChecker.checkNotNull(explicitlyAllowedOptions, "explicitlyAllowedOptions"),
@@ -88,6 +99,32 @@ final class OptionsToDittoHeaders {
         return optionsToDittoHeaders.getDittoHeaders();
     }
 
+    private static boolean areAllAllowed(final Collection<OptionName> optionNames,
+            final Collection<? extends OptionName> explicitlyAllowedOptions) {
+
+        for (final OptionName optionName : optionNames) {
+            if (OptionName.Global.DITTO_HEADERS != optionName && OptionName.Modify.RESPONSE_REQUIRED != optionName &&
+                    !explicitlyAllowedOptions.contains(optionName)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /*
+     * The headers of compiled options were already evaluated; only the per-message values have to be added.
+     * Disallowed compiled options take the regular path so that they are rejected with the usual message.
+     */
+    private static DittoHeaders getDittoHeaders(final JsonSchemaVersion schemaVersion,
+            final DittoHeaders compiledHeaders) {
+
+        final DittoHeadersBuilder<?, ?> headersBuilder = compiledHeaders.toBuilder().schemaVersion(schemaVersion);
+        if (!compiledHeaders.getCorrelationId().isPresent()) {
+            headersBuilder.randomCorrelationId();
+        }
+        return headersBuilder.build();
+    }
+
     private DittoHeaders getDittoHeaders() {
         final DittoHeaders additionalHeaders = getAdditionalHeaders();
         putAdditionalHeaders(additionalHeaders);
@@ -214,6 +214,19 @@ public final class OutgoingMessageFactory {
         return MergeThing.withThing(thingId, thing, headers);
     }
 
+    /**
+     * @param thingId the thing to be merged.
+     * @param patch the JSON merge patch to apply to the whole thing.
+     * @param options options to be applied configuring behaviour of this method.
+     * @return the ThingCommand.
+     * @throws NullPointerException if any argument is {@code null}.
+     * @throws UnsupportedOperationException if an invalid option has been specified.
+     * @since 3.6.0
+     */
+    public MergeThing mergeThing(final ThingId thingId, final JsonObject patch, final Option<?>... options) {
+        return MergeThing.of(thingId, JsonPointer.empty(), patch, buildDittoHeaders(EnumSet.of(CONDITION), options));
+    }
+
     public RetrieveThing retrieveThing(final ThingId thingId, final Option<?>... options) {
         return RetrieveThing.of(thingId, buildDittoHeaders(EnumSet.of(CONDITION, LIVE_CHANNEL_CONDITION), options));
     }
@@ -0,0 +1,323 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.ditto.client.internal;
+
+import static org.eclipse.ditto.base.model.common.ConditionChecker.checkNotNull;
+
+import java.time.Duration;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.Future;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.LongSupplier;
+import java.util.function.Supplier;
+
+import javax.annotation.Nullable;
+import javax.annotation.concurrent.GuardedBy;
+
+import org.eclipse.ditto.client.configuration.RequestAdmissionConfiguration;
+
+/**
+ * Admits requests which expect a response according to a {@link RequestAdmissionConfiguration}: at most
+ * {@code maxInFlightRequests} requests wait for their response at the same time and at most
+ * {@code maxRequestsPerSecond} requests are admitted per second by a token bucket. Requests which cannot be admitted
+ * immediately wait in a FIFO queue.
+ *
+ * @since 3.6.0
+ */
+public final class RequestAdmissionController {
+
+    private static final RequestAdmissionController UNLIMITED = new RequestAdmissionController();
+
+    private final boolean unlimited;
+    private final int maxInFlightRequests;
+    private final int maxQueuedRequests;
+    private final double tokensPerNano;
+    private final double maxTokens;
+    @Nullable private final Duration maxQueueWait;
+    @Nullable private final ScheduledExecutorService scheduledExecutor;
+    @Nullable private final LongSupplier nanoClock;
+
+    private final LongAdder admittedRequests = new LongAdder();
+    private final LongAdder rejectedRequests = new LongAdder();
+    private final LongAdder timedOutRequests = new LongAdder();
+
+    private final Object lock = new Object();
+    @GuardedBy("lock") private final ArrayDeque<PendingRequest<?>> queue = new ArrayDeque<>();
+    @GuardedBy("lock") private int inFlightRequests = 0;
+    @GuardedBy("lock") private double tokens;
+    @GuardedBy("lock") private long lastRefillNanos;
+    @GuardedBy("lock") private boolean drainScheduled = false;
+
+    private RequestAdmissionController() {
+        unlimited = true;
+        maxInFlightRequests = Integer.MAX_VALUE;
+        maxQueuedRequests = 0;
+        tokensPerNano = 0;
+        maxTokens = 0;
+        maxQueueWait = null;
+        scheduledExecutor = null;
+        nanoClock = null;
+    }
+
+    RequestAdmissionController(final RequestAdmissionConfiguration configuration,
+            final ScheduledExecutorService scheduledExecutor,
+            final LongSupplier nanoClock) {
+
+        unlimited = false;
+        maxInFlightRequests = configuration.getMaxInFlightRequests();
+        maxQueuedRequests = configuration.getMaxQueuedRequests();
+        maxTokens = configuration.getMaxRequestsPerSecond();
+        tokensPerNano = maxTokens / TimeUnit.SECONDS.toNanos(1L);
+        maxQueueWait = configuration.getMaxQueueWait().orElse(null);
+        this.scheduledExecutor = scheduledExecutor;
+        this.nanoClock = nanoClock;
+        tokens = maxTokens;
+        lastRefillNanos = nanoClock.getAsLong();
+    }
+
+    /**
+     * Creates a controller which admits requests according to the passed configuration.
+     *
+     * @param configuration the admission configuration.
+     * @param scheduledExecutor the executor scheduling queue deadlines and token refills.
+     * @return the controller.
+     * @throws NullPointerException if any argument is {@code null}.
+     */
+    public static RequestAdmissionController of(final RequestAdmissionConfiguration configuration,
+            final ScheduledExecutorService scheduledExecutor) {
+
+        checkNotNull(configuration, "configuration");
+        checkNotNull(scheduledExecutor, "scheduledExecutor");
+        return new RequestAdmissionController(configuration, scheduledExecutor, System::nanoTime);
+    }
+
+    /**
+     * Returns a controller which admits every request immediately and does not record any metrics.
+     *
+     * @return the controller.
+     */
+    public static RequestAdmissionController unlimited() {
+        return UNLIMITED;
+    }
+
+    /**
+     * Sends a request as soon as it is admitted. The request's in-flight slot is released when the future returned by
+     * {@code request} completes.
+     *
+     * @param request sends the request and returns the future of its response.
+     * @param <T> type of the response.
+     * @return the future of the response. It fails with a {@link RejectedExecutionException} if the wait queue is
+     * full and with a {@link TimeoutException} if the request is not admitted within the configured maximum wait.
+     * Completing the returned future while the request is waiting removes it from the queue without sending it.
+     * Cancelling the returned future after the request was sent cancels the future returned by {@code request}.
+     */
+    public <T> CompletionStage<T> admit(final Supplier<? extends CompletionStage<T>> request) {
+        if (unlimited) {
+            return request.get();
+        }
+        final PendingRequest<T> pendingRequest = new PendingRequest<>(request);
+        final boolean admitted;
+        synchronized (lock) {
+            if (queue.isEmpty() && tryAcquire()) {
+                admitted = true;
+            } else if (queue.size() >= maxQueuedRequests) {
+                rejectedRequests.increment();
+                return failedFuture(new RejectedExecutionException(
+                        "The request was rejected as " + queue.size() + " requests are already waiting for admission."));
+            } else {
+                queue.addLast(pendingRequest);
+                scheduleDrainIfWaitingForTokens();
+                admitted = false;
+            }
+        }
+        if (admitted) {
+            pendingRequest.start();
+        } else if (null != maxQueueWait) {
+            pendingRequest.deadline = scheduleAfter(() -> expire(pendingRequest), maxQueueWait.toNanos());
+        }
+        return pendingRequest.result;
+    }
+
+    /**
+     * @return the number of requests currently waiting for admission.
+     */
+    public int getQueuedRequests() {
+        synchronized (lock) {
+            return queue.size();
+        }
+    }
+
+    /**
+     * @return the number of admitted requests currently waiting for their response.
+     */
+    public int getInFlightRequests() {
+        synchronized (lock) {
+            return inFlightRequests;
+        }
+    }
+
+    /**
+     * @return the total number of admitted requests.
+     */
+    public long getAdmittedRequests() {
+        return admittedRequests.sum();
+    }
+
+    /**
+     * @return the total number of requests rejected because the wait queue was full.
+     */
+    public long getRejectedRequests() {
+        return rejectedRequests.sum();
+    }
+
+    /**
+     * @return the total number of requests which failed because they were not admitted within the maximum wait.
+     */
+    public long getTimedOutRequests() {
+        return timedOutRequests.sum();
+    }
+
+    @GuardedBy("lock")
+    private boolean tryAcquire() {
+        if (inFlightRequests >= maxInFlightRequests) {
+            return false;
+        }
+        if (tokensPerNano > 0) {
+            refillTokens();
+            if (tokens < 1) {
+                return false;
+            }
+            tokens -= 1;
+        }
+        inFlightRequests++;
+        return true;
+    }
+
+    @GuardedBy("lock")
+    private void refillTokens() {
+        final long now = nanoClock.getAsLong();
+        tokens = Math.min(maxTokens, tokens + (now - lastRefillNanos) * tokensPerNano);
+        lastRefillNanos = now;
+    }
+
+    @GuardedBy("lock")
+    private void scheduleDrainIfWaitingForTokens() {
+        if (!drainScheduled && tokensPerNano > 0 && inFlightRequests < maxInFlightRequests && tokens < 1) {
+            drainScheduled = true;
+            final long delayNanos = (long) Math.ceil((1 - tokens) / tokensPerNano);
+            scheduleAfter(() -> {
+                synchronized (lock) {
+                    drainScheduled = false;
+                }
+                drain();
+            }, delayNanos);
+        }
+    }
+
+    private void release() {
+        synchronized (lock) {
+            inFlightRequests--;
+        }
+        drain();
+    }
+
+    private void drain() {
+        final List<PendingRequest<?>> admitted = new ArrayList<>();
+        synchronized (lock) {
+            PendingRequest<?> head;
+            while (null != (head = queue.peekFirst())) {
+                if (head.result.isDone()) {
+                    queue.pollFirst();
+                } else if (tryAcquire()) {
+                    admitted.add(queue.pollFirst());
+                } else {
+                    scheduleDrainIfWaitingForTokens();
+                    break;
+                }
+            }
+        }
+        admitted.forEach(PendingRequest::start);
+    }
+
+    private void expire(final PendingRequest<?> pendingRequest) {
+        final boolean removed;
+        synchronized (lock) {
+            removed = queue.remove(pendingRequest);
+        }
+        if (removed && !pendingRequest.result.isDone()) {
+            timedOutRequests.increment();
+            pendingRequest.result.completeExceptionally(
+                    new TimeoutException("The request was not admitted within " + maxQueueWait + "."));
+        }
+    }
+
+    @Nullable
+    private Future<?> scheduleAfter(final Runnable runnable, final long delayNanos) {
+        return scheduledExecutor.schedule(runnable, delayNanos, TimeUnit.NANOSECONDS);
+    }
+
+    private static <T> CompletableFuture<T> failedFuture(final Throwable error) {
+        final CompletableFuture<T> future = new CompletableFuture<>();
+        future.completeExceptionally(error);
+        return future;
+    }
+
+    private final class PendingRequest<T> {
+
+        private final Supplier<? extends CompletionStage<T>> request;
+        private final CompletableFuture<T> result = new CompletableFuture<>();
+        @Nullable private volatile Future<?> deadline;
+
+        private PendingRequest(final Supplier<? extends CompletionStage<T>> request) {
+            this.request = request;
+        }
+
+        private void start() {
+            final Future<?> scheduledDeadline = deadline;
+            if (null != scheduledDeadline) {
+                scheduledDeadline.cancel(false);
+            }
+            admittedRequests.increment();
+            CompletionStage<T> sentResponse;
+            try {
+                sentResponse = request.get();
+            } catch (final RuntimeException e) {
+                sentResponse = failedFuture(e);
+            }
+            final CompletionStage<T> response = sentResponse;
+            result.whenComplete((value, error) -> {
+                if (result.isCancelled()) {
+                    response.toCompletableFuture().cancel(false);
+                }
+            });
+            response.whenComplete((value, error) -> {
+                release();
+                if (null != error) {
+                    result.completeExceptionally(error);
+                } else {
+                    result.complete(value);
+                }
+            });
+        }
+
+    }
+
+}
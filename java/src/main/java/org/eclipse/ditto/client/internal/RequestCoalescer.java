@@ -0,0 +1,125 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.ditto.client.internal;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Function;
+import java.util.function.Supplier;
+
+/**
+ * Coalesces identical concurrent requests: while a request with a given key is in flight, further requests with an
+ * equal key join its response instead of being sent. Once the response arrives, the next request with that key is
+ * sent again. Only requests without side effects whose responses are immutable, e.g. retrieve commands, may be
+ * coalesced.
+ *
+ * @since 3.6.0
+ */
+public final class RequestCoalescer {
+
+    private static final RequestCoalescer DISABLED = new RequestCoalescer(false);
+
+    private final boolean enabled;
+    private final ConcurrentMap<Object, CompletableFuture<?>> inFlightRequests;
+    private final LongAdder sentRequests;
+    private final LongAdder coalescedRequests;
+
+    private RequestCoalescer(final boolean enabled) {
+        this.enabled = enabled;
+        inFlightRequests = new ConcurrentHashMap<>();
+        sentRequests = new LongAdder();
+        coalescedRequests = new LongAdder();
+    }
+
+    /**
+     * Creates a coalescer which coalesces requests with equal keys.
+     *
+     * @return the coalescer.
+     */
+    public static RequestCoalescer newInstance() {
+        return new RequestCoalescer(true);
+    }
+
+    /**
+     * Returns a coalescer which sends every request and does not record any metrics.
+     *
+     * @return the coalescer.
+     */
+    public static RequestCoalescer disabled() {
+        return DISABLED;
+    }
+
+    /**
+     * Sends a request unless a request with an equal key is in flight, in which case its response is joined.
+     *
+     * @param key the key identifying equal requests, it must implement {@code equals} and {@code hashCode}.
+     * @param request sends the request and returns the future of its response.
+     * @param <T> type of the response. Requests with equal keys must have the same response type.
+     * @return the future of the response. Completing it does not affect other requests joining the same response.
+     */
+    @SuppressWarnings("unchecked")
+    public <T> CompletionStage<T> coalesce(final Object key, final Supplier<? extends CompletionStage<T>> request) {
+        if (!enabled) {
+            return request.get();
+        }
+        final CompletableFuture<T> response = new CompletableFuture<>();
+        final CompletableFuture<?> inFlightResponse = inFlightRequests.putIfAbsent(key, response);
+        if (null != inFlightResponse) {
+            coalescedRequests.increment();
+            return ((CompletableFuture<T>) inFlightResponse).thenApply(Function.identity());
+        }
+        sentRequests.increment();
+        try {
+            request.get().whenComplete((value, error) -> {
+                inFlightRequests.remove(key, response);
+                if (null != error) {
+                    response.completeExceptionally(error);
+                } else {
+                    response.complete(value);
+                }
+            });
+        } catch (final RuntimeException e) {
+            inFlightRequests.remove(key, response);
+            response.completeExceptionally(e);
+        }
+        return response.thenApply(Function.identity());
+    }
+
+    /**
+     * @return the total number of requests which were sent.
+     */
+    public long getSentRequests() {
+        return sentRequests.sum();
+    }
+
+    /**
+     * @return the total number of requests which joined the response of an in-flight request instead of being sent.
+     */
+    public long getCoalescedRequests() {
+        return coalescedRequests.sum();
+    }
+
+    /**
+     * @return the fraction of requests which joined the response of an in-flight request, between {@code 0.0} and
+     * {@code 1.0}.
+     */
+    public double getCoalescingRate() {
+        final long coalesced = coalescedRequests.sum();
+        final long total = sentRequests.sum() + coalesced;
+        return total == 0 ? 0.0 : (double) coalesced / total;
+    }
+
+}
@@ -0,0 +1,402 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.ditto.client.internal;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Function;
+import java.util.function.LongSupplier;
+import java.util.function.Supplier;
+import java.util.stream.Collector;
+
+import javax.annotation.Nullable;
+import javax.annotation.concurrent.GuardedBy;
+
+import org.eclipse.ditto.client.configuration.SearchResultCacheConfiguration;
+import org.eclipse.ditto.client.internal.bus.AdaptableBus;
+import org.eclipse.ditto.client.internal.bus.Classification;
+import org.eclipse.ditto.json.JsonArray;
+import org.eclipse.ditto.json.JsonValue;
+import org.eclipse.ditto.protocol.TopicPath;
+import org.eclipse.ditto.things.model.Thing;
+import org.eclipse.ditto.things.model.ThingId;
+
+/**
+ * Caches the pages of search results by query for a time to live, up to a maximum estimated size in bytes.
+ * While the results of a query are fetched, identical queries join the same search instead of starting their own.
+ * Results containing a thing are dropped when a twin event of that thing is received; results of a search which was
+ * in flight while any twin event was received are not cached at all. A search is aborted as soon as its results exceed
+ * the maximum size, and the query is not looked up in the cache again until the time to live passed.
+ *
+ * @since 3.6.0
+ */
+public final class SearchResultCache {
+
+    private static final SearchResultCache DISABLED = new SearchResultCache(false, 0L, 0L, System::nanoTime);
+
+    private final boolean enabled;
+    private final long timeToLiveNanos;
+    private final long maxBytes;
+    private final LongSupplier nanoClock;
+    private final LongAdder hits;
+    private final LongAdder misses;
+
+    @GuardedBy("this") private final LinkedHashMap<Object, Entry> entries;
+    @GuardedBy("this") private final Map<Object, CompletableFuture<List<JsonArray>>> inFlightSearches;
+    @GuardedBy("this") private final Map<ThingId, Set<Object>> keysByThingId;
+    @GuardedBy("this") private final Set<Object> keysWithoutThingIds;
+    @GuardedBy("this") private final LinkedHashMap<Object, Long> tooLargeKeys;
+    @GuardedBy("this") private long bytes;
+    @GuardedBy("this") private long invalidations;
+
+    private SearchResultCache(final boolean enabled, final long timeToLiveNanos, final long maxBytes,
+            final LongSupplier nanoClock) {
+
+        this.enabled = enabled;
+        this.timeToLiveNanos = timeToLiveNanos;
+        this.maxBytes = maxBytes;
+        this.nanoClock = nanoClock;
+        hits = new LongAdder();
+        misses = new LongAdder();
+        // access order: the least recently used results are evicted first
+        entries = new LinkedHashMap<>(16, 0.75f, true);
+        inFlightSearches = new HashMap<>();
+        keysByThingId = new HashMap<>();
+        keysWithoutThingIds = new HashSet<>();
+        // insertion order: the keys expire in the order they were added
+        tooLargeKeys = new LinkedHashMap<>();
+        bytes = 0L;
+        invalidations = 0L;
+    }
+
+    /**
+     * Creates a cache which drops results on twin events published on the passed bus.
+     *
+     * @param configuration the configuration of the cache.
+     * @param adaptableBus the bus to receive twin events from.
+     * @return the cache.
+     */
+    public static SearchResultCache of(final SearchResultCacheConfiguration configuration,
+            final AdaptableBus adaptableBus) {
+
+        final SearchResultCache cache = of(configuration, System::nanoTime);
+        adaptableBus.subscribeForAdaptable(Classification.StreamingType.TWIN_EVENT,
+                adaptable -> cache.invalidate(adaptable.getTopicPath()));
+        return cache;
+    }
+
+    static SearchResultCache of(final SearchResultCacheConfiguration configuration, final LongSupplier nanoClock) {
+        return new SearchResultCache(true, configuration.getTimeToLive().toNanos(), configuration.getMaxBytes(),
+                nanoClock);
+    }
+
+    /**
+     * Returns a cache which starts every search and does not record any metrics.
+     *
+     * @return the cache.
+     */
+    public static SearchResultCache disabled() {
+        return DISABLED;
+    }
+
+    /**
+     * @return whether search results are cached.
+     */
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    /**
+     * Returns the cached pages of the query with the passed key, or joins its in-flight search, or starts the search.
+     * The search should collect its pages with {@link #newPagesCollector()}.
+     *
+     * @param key the normalized query, it must implement {@code equals} and {@code hashCode}.
+     * @param search starts the search and returns the future of all its pages.
+     * @return the future pages. Completing it does not affect other queries joining the same search. It fails with
+     * a {@link ResultTooLargeException} if the results of the query are too large to be cached.
+     */
+    public CompletionStage<List<JsonArray>> get(final Object key,
+            final Supplier<? extends CompletionStage<List<JsonArray>>> search) {
+
+        if (!enabled) {
+            return search.get();
+        }
+        final CompletableFuture<List<JsonArray>> pages = new CompletableFuture<>();
+        final long invalidationsAtStart;
+        synchronized (this) {
+            final Entry entry = entries.get(key);
+            if (null != entry && nanoClock.getAsLong() - entry.createdNanos < timeToLiveNanos) {
+                hits.increment();
+                return CompletableFuture.completedFuture(entry.pages);
+            } else if (null != entry) {
+                remove(key);
+            }
+            final CompletableFuture<List<JsonArray>> inFlightSearch = inFlightSearches.get(key);
+            if (null != inFlightSearch) {
+                hits.increment();
+                return inFlightSearch.thenApply(Function.identity());
+            }
+            misses.increment();
+            inFlightSearches.put(key, pages);
+            invalidationsAtStart = invalidations;
+        }
+        try {
+            search.get().whenComplete((result, error) -> {
+                synchronized (this) {
+                    inFlightSearches.remove(key, pages);
+                    // a twin event during the search may not be reflected by the result
+                    if (null == error && invalidations == invalidationsAtStart) {
+                        put(key, result);
+                    } else if (isResultTooLarge(error)) {
+                        tooLargeKeys.remove(key);
+                        tooLargeKeys.put(key, nanoClock.getAsLong());
+                    }
+                }
+                if (null != error) {
+                    pages.completeExceptionally(error);
+                } else {
+                    pages.complete(result);
+                }
+            });
+        } catch (final RuntimeException e) {
+            synchronized (this) {
+                inFlightSearches.remove(key, pages);
+            }
+            pages.completeExceptionally(e);
+        }
+        return pages.thenApply(Function.identity());
+    }
+
+    /**
+     * Returns whether the results of the query with the passed key were found to be too large to be cached within the
+     * time to live. Such queries should be searched without the cache.
+     *
+     * @param key the normalized query.
+     * @return whether the results of the query are too large to be cached.
+     */
+    public synchronized boolean isTooLarge(final Object key) {
+        if (!enabled) {
+            return false;
+        }
+        final long now = nanoClock.getAsLong();
+        final Iterator<Long> addedNanos = tooLargeKeys.values().iterator();
+        while (addedNanos.hasNext() && now - addedNanos.next() >= timeToLiveNanos) {
+            addedNanos.remove();
+        }
+        return tooLargeKeys.containsKey(key);
+    }
+
+    /**
+     * Returns whether the passed error of a search signals that its results are too large to be cached.
+     *
+     * @param error the error, possibly wrapped in a {@link CompletionException}.
+     * @return whether the error is a {@link ResultTooLargeException}.
+     */
+    public static boolean isResultTooLarge(@Nullable final Throwable error) {
+        return error instanceof ResultTooLargeException ||
+                error instanceof CompletionException && error.getCause() instanceof ResultTooLargeException;
+    }
+
+    /**
+     * Returns a collector of the pages of one search. It fails with a {@link ResultTooLargeException} as soon as the
+     * estimated size of the collected pages exceeds the maximum size of the cache, so that results which would not be
+     * cached are never held in memory as a whole.
+     *
+     * @return the collector.
+     */
+    public Collector<JsonArray, ?, List<JsonArray>> newPagesCollector() {
+        return Collector.of(() -> new BoundedPages(maxBytes), BoundedPages::add, BoundedPages::addAll,
+                BoundedPages::getPages);
+    }
+
+    /**
+     * Drops all cached results which contain the passed thing or whose things are unknown.
+     *
+     * @param thingId the ID of the changed thing.
+     */
+    public synchronized void invalidate(final ThingId thingId) {
+        if (!enabled) {
+            return;
+        }
+        invalidations++;
+        final Set<Object> keys = keysByThingId.get(thingId);
+        if (null != keys) {
+            new HashSet<>(keys).forEach(this::remove);
+        }
+        new HashSet<>(keysWithoutThingIds).forEach(this::remove);
+    }
+
+    private void invalidate(final TopicPath topicPath) {
+        invalidate(ThingId.of(topicPath.getNamespace(), topicPath.getEntityName()));
+    }
+
+    /**
+     * @return the number of queries answered from the cache or by joining an in-flight search.
+     */
+    public long getHits() {
+        return hits.sum();
+    }
+
+    /**
+     * @return the number of queries which started a search.
+     */
+    public long getMisses() {
+        return misses.sum();
+    }
+
+    /**
+     * @return the estimated size of all cached results in bytes.
+     */
+    public synchronized long getBytes() {
+        return bytes;
+    }
+
+    @GuardedBy("this")
+    private void put(final Object key, final List<JsonArray> pages) {
+        final long size = estimateBytes(pages);
+        if (size > maxBytes) {
+            return;
+        }
+        remove(key);
+        final Set<ThingId> thingIds = getThingIds(pages).orElse(null);
+        entries.put(key, new Entry(pages, thingIds, size, nanoClock.getAsLong()));
+        bytes += size;
+        if (null == thingIds) {
+            keysWithoutThingIds.add(key);
+        } else {
+            thingIds.forEach(thingId -> keysByThingId.computeIfAbsent(thingId, id -> new HashSet<>()).add(key));
+        }
+        while (bytes > maxBytes) {
+            // evict the least recently used results
+            remove(entries.keySet().iterator().next());
+        }
+    }
+
+    @GuardedBy("this")
+    private void remove(final Object key) {
+        final Entry entry = entries.remove(key);
+        if (null != entry) {
+            bytes -= entry.bytes;
+            if (null == entry.thingIds) {
+                keysWithoutThingIds.remove(key);
+            } else {
+                for (final ThingId thingId : entry.thingIds) {
+                    final Set<Object> keys = keysByThingId.get(thingId);
+                    if (null != keys) {
+                        keys.remove(key);
+                        if (keys.isEmpty()) {
+                            keysByThingId.remove(thingId);
+                        }
+                    }
+                }
+            }
+        }
+    }
+
+    private static long estimateBytes(final List<JsonArray> pages) {
+        long result = 0L;
+        for (final JsonArray page : pages) {
+            result += page.getUpperBoundForStringSize();
+        }
+        return result;
+    }
+
+    private static Optional<Set<ThingId>> getThingIds(final List<JsonArray> pages) {
+        final Set<ThingId> thingIds = new HashSet<>();
+        for (final JsonArray page : pages) {
+            for (final JsonValue item : page) {
+                final Optional<String> thingId = item.isObject()
+                        ? item.asObject().getValue(Thing.JsonFields.ID)
+                        : Optional.empty();
+                if (!thingId.isPresent()) {
+                    return Optional.empty();
+                }
+                thingIds.add(ThingId.of(thingId.get()));
+            }
+        }
+        return Optional.of(thingIds);
+    }
+
+    private static final class Entry {
+
+        private final List<JsonArray> pages;
+        @Nullable private final Set<ThingId> thingIds;
+        private final long bytes;
+        private final long createdNanos;
+
+        private Entry(final List<JsonArray> pages, @Nullable final Set<ThingId> thingIds, final long bytes,
+                final long createdNanos) {
+
+            this.pages = pages;
+            this.thingIds = thingIds;
+            this.bytes = bytes;
+            this.createdNanos = createdNanos;
+        }
+    }
+
+    /**
+     * Signals that the results of a query exceed the maximum size of the cache, so that the query should be searched
+     * without the cache.
+     */
+    public static final class ResultTooLargeException extends RuntimeException {
+
+        private static final long serialVersionUID = 1L;
+
+        ResultTooLargeException(final long maxBytes) {
+            super("The search results exceed the maximum cache size of <" + maxBytes + "> bytes.");
+        }
+    }
+
+    private static final class BoundedPages {
+
+        private final long maxBytes;
+        private final List<JsonArray> pages;
+        private long bytes;
+
+        private BoundedPages(final long maxBytes) {
+            this.maxBytes = maxBytes;
+            pages = new ArrayList<>();
+            bytes = 0L;
+        }
+
+        private void add(final JsonArray page) {
+            bytes += page.getUpperBoundForStringSize();
+            if (bytes > maxBytes) {
+                throw new ResultTooLargeException(maxBytes);
+            }
+            pages.add(page);
+        }
+
+        private BoundedPages addAll(final BoundedPages other) {
+            other.pages.forEach(this::add);
+            return this;
+        }
+
+        private List<JsonArray> getPages() {
+            return Collections.unmodifiableList(pages);
+        }
+    }
+
+}
@@ -14,6 +14,7 @@ package org.eclipse.ditto.client.internal.bus;
 
 import java.time.Duration;
 import java.time.Instant;
+import java.util.ArrayList;
 import java.util.Collection;
 import java.util.List;
 import java.util.Map;
@@ -32,8 +33,6 @@ import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.concurrent.atomic.AtomicReference;
 import java.util.function.Consumer;
 import java.util.function.Predicate;
-import java.util.stream.Collectors;
-import java.util.stream.Stream;
 
 import javax.annotation.Nullable;
 
@@ -175,6 +174,24 @@ final class DefaultAdaptableBus implements AdaptableBus {
         }
     }
 
+    /**
+     * @return the number of one-time subscriptions which are waiting for a message.
+     */
+    int getOneTimeSubscriptionCount() {
+        return countEntries(oneTimeStringConsumers) + countEntries(oneTimeAdaptableConsumers);
+    }
+
+    /**
+     * @return the number of scheduled subscription timeouts.
+     */
+    int getScheduledTimeoutCount() {
+        return timeoutFutures.size();
+    }
+
+    private static int countEntries(final Map<Classification, ? extends Set<?>> registry) {
+        return registry.values().stream().mapToInt(Set::size).sum();
+    }
+
     // call this in a single-threaded executor so that ordering is preserved
     private void doPublish(final String message) {
         if (publishToOneTimeStringSubscribers(message)) {
@@ -235,6 +252,9 @@ final class DefaultAdaptableBus implements AdaptableBus {
             addEntry(registry, subscriber);
         }
         removeAfter(registry, subscriber, timeout, resultFuture);
+        // release the subscription and its timeout as soon as the future is completed by a message, by the timeout or
+        // by the caller cancelling it
+        resultFuture.whenComplete((result, error) -> removeEntry(registry, subscriber, () -> {}));
         return resultFuture;
     }
 
@@ -288,17 +308,25 @@ final class DefaultAdaptableBus implements AdaptableBus {
     }
 
     private List<Classification> getAllAdaptableTags(final Adaptable adaptable) {
-        return adaptableClassifiers.stream()
-                .flatMap(classifier -> classifier.classify(adaptable).map(Stream::of).orElseGet(Stream::empty))
-                .collect(Collectors.toList());
+        final List<Classification> tags = new ArrayList<>();
+        for (final Classifier<Adaptable> classifier : adaptableClassifiers) {
+            classifier.classify(adaptable).ifPresent(tags::add);
+        }
+        return tags;
     }
 
     private <T> void removeAfter(final Map<Classification, Set<Entry<T>>> registry,
             final Entry<T> entry,
             final Duration after,
             final CompletableFuture<?> futureToFail) {
-        final Runnable cancellationRunnable = () ->
-                removeEntry(registry, entry, () -> futureToFail.completeExceptionally(timeout(after)));
+        final Runnable cancellationRunnable = () -> {
+            final AtomicBoolean removed = new AtomicBoolean(false);
+            removeEntry(registry, entry, () -> removed.set(true));
+            // complete outside of the registry update as completing the future removes the entry again
+            if (removed.get()) {
+                futureToFail.completeExceptionally(timeout(after));
+            }
+        };
         schedule(entry, cancellationRunnable, after);
     }
 
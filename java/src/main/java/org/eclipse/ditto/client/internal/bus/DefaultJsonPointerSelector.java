@@ -12,9 +12,6 @@
  */
 package org.eclipse.ditto.client.internal.bus;
 
-import java.util.ArrayList;
-import java.util.List;
-
 import javax.annotation.Nullable;
 
 import org.eclipse.ditto.json.JsonPointer;
@@ -68,11 +65,17 @@ final class DefaultJsonPointerSelector implements JsonPointerSelector {
             final JsonPointerWithChangePaths target = (JsonPointerWithChangePaths) pointer;
             final JsonPointer targetPointer = target.getTargetPath();
 
-            // we need to add the target path for modification on empty objects
-            final List<JsonPointer> targetPaths = new ArrayList<>(target.getChangePaths());
-            targetPaths.add(JsonPointer.empty());
+            // the target path itself matches for modification on empty objects:
+            if (JsonPointerSelector.doesTargetMatchTemplate(targetPointer, getPointer())) {
+                return true;
+            }
+
+            // calculating the change paths reads the value of the change, so only do it for nested paths of the target
+            if (!mayMatchNestedPathOf(targetPointer)) {
+                return false;
+            }
 
-            return targetPaths.stream() // iterate over all configured "changePaths"
+            return target.getChangePaths().stream() // iterate over all configured "changePaths"
                     .anyMatch(
                             targetPath -> // and check if the "changePath" appended to the initial "targetPath" matches
                                     // the template key looked up via "getObject()":
@@ -87,4 +90,19 @@ final class DefaultJsonPointerSelector implements JsonPointerSelector {
         }
     }
 
+    /**
+     * Returns whether this selector holds a path nested below the passed {@code targetPath}, so that it may match one
+     * of the change paths of a change at the {@code targetPath}.
+     *
+     * @param targetPath the path where a change happened.
+     * @return whether the selected path is nested below the {@code targetPath}.
+     * @since 3.6.0
+     */
+    boolean mayMatchNestedPathOf(final JsonPointer targetPath) {
+        final int targetLevelCount = targetPath.getLevelCount();
+        return jsonPointer.getLevelCount() > targetLevelCount &&
+                JsonPointerSelector.doesTargetMatchTemplate(targetPath,
+                        jsonPointer.getPrefixPointer(targetLevelCount).orElseGet(JsonPointer::empty));
+    }
+
 }
@@ -15,6 +15,7 @@ package org.eclipse.ditto.client.internal.bus;
 import java.util.ArrayList;
 import java.util.Iterator;
 import java.util.List;
+import java.util.Map;
 import java.util.concurrent.ConcurrentHashMap;
 
 import org.eclipse.ditto.json.JsonPointer;
@@ -27,6 +28,7 @@ import org.eclipse.ditto.json.JsonPointer;
 final class DefaultRegistry<T> implements Registry<T> {
 
     private final ConcurrentHashMap<JsonPointer, List<Registration<T>>> pointerCache = new ConcurrentHashMap<>();
+    private final ConcurrentHashMap<JsonPointer, List<Registration<T>>> nestedPathCache = new ConcurrentHashMap<>();
     private final ConcurrentHashMap<JsonPointerSelector, List<Registration<T>>> registrationMap =
             new ConcurrentHashMap<>();
 
@@ -57,11 +59,11 @@ final class DefaultRegistry<T> implements Registry<T> {
 
         final Registration<T> reg = new DefaultRegistration<>(sel, obj, () -> {
             this.registrationMap.remove(sel);
-            pointerCache.clear();
+            clearCaches();
         });
         registrations.add(reg);
 
-        pointerCache.clear();
+        clearCaches();
         return reg;
     }
 
@@ -79,12 +81,16 @@ final class DefaultRegistry<T> implements Registry<T> {
 
         if (useCache) {
             pointerCache.remove(pointer);
+            nestedPathCache.clear();
         }
         return found;
     }
 
     @Override
     public synchronized List<Registration<T>> select(final JsonPointer pointer) {
+        if (pointer instanceof JsonPointerWithChangePaths) {
+            return selectForChange((JsonPointerWithChangePaths) pointer);
+        }
         List<Registration<T>> selectedRegs;
         if (null != (selectedRegs = pointerCache.get(pointer))) {
             return selectedRegs;
@@ -104,9 +110,52 @@ final class DefaultRegistry<T> implements Registry<T> {
         return regs;
     }
 
+    /*
+     * Selects the registrations for a change without using its change paths as cache key: registrations matching the
+     * target path of the change are selected from the pointer cache, and only registrations of paths nested below the
+     * target path are matched against the change paths, which reads the value of the change.
+     */
+    private List<Registration<T>> selectForChange(final JsonPointerWithChangePaths pointer) {
+        final JsonPointer targetPath = pointer.getTargetPath();
+        final List<Registration<T>> targetRegs = select(targetPath);
+        List<Registration<T>> nestedRegs = nestedPathCache.get(targetPath);
+        if (null == nestedRegs) {
+            nestedRegs = new ArrayList<>();
+            for (final Map.Entry<JsonPointerSelector, List<Registration<T>>> entry : registrationMap.entrySet()) {
+                if (!entry.getKey().matches(targetPath) && mayMatchNestedPathOf(entry.getKey(), targetPath)) {
+                    nestedRegs.addAll(entry.getValue());
+                }
+            }
+            if (useCache) {
+                nestedPathCache.put(targetPath, nestedRegs);
+            }
+        }
+        if (nestedRegs.isEmpty()) {
+            return targetRegs;
+        }
+        final List<Registration<T>> regs = new ArrayList<>(targetRegs);
+        for (final Registration<T> nestedReg : nestedRegs) {
+            if (nestedReg.getSelector().matches(pointer)) {
+                regs.add(nestedReg);
+            }
+        }
+        return regs;
+    }
+
+    private static boolean mayMatchNestedPathOf(final JsonPointerSelector selector, final JsonPointer targetPath) {
+        // selectors other than pointer selectors are matched against all changes
+        return !(selector instanceof DefaultJsonPointerSelector) ||
+                ((DefaultJsonPointerSelector) selector).mayMatchNestedPathOf(targetPath);
+    }
+
+    private void clearCaches() {
+        pointerCache.clear();
+        nestedPathCache.clear();
+    }
+
     @Override
     public synchronized void clear() {
-        pointerCache.clear();
+        clearCaches();
         registrationMap.clear();
     }
 
@@ -13,11 +13,19 @@
 package org.eclipse.ditto.client.internal.bus;
 
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Collections;
+import java.util.HashMap;
 import java.util.Iterator;
 import java.util.List;
+import java.util.Map;
 import java.util.Objects;
 import java.util.Optional;
+import java.util.function.Supplier;
+
+import javax.annotation.Nullable;
+
+import org.eclipse.ditto.client.changes.Change;
 
 import org.eclipse.ditto.json.JsonFieldSelector;
 import org.eclipse.ditto.json.JsonKey;
@@ -32,7 +40,9 @@ import org.eclipse.ditto.json.JsonPointer;
 final class JsonPointerWithChangePaths implements JsonPointer {
 
     private final JsonPointer targetPath;
-    private final List<JsonPointer> changePaths;
+    private final Supplier<List<JsonPointer>> changePathsSupplier;
+    @Nullable private volatile List<JsonPointer> changePaths;
+    private final Map<List<Object>, Optional<Change>> derivedChanges;
 
     /**
      * Constructs a new {@code JsonPointerWithChangePaths}.
@@ -42,8 +52,22 @@ final class JsonPointerWithChangePaths implements JsonPointer {
      * change
      */
     JsonPointerWithChangePaths(final JsonPointer targetPath, final List<JsonPointer> changePaths) {
+        this(targetPath, () -> changePaths);
+    }
+
+    /**
+     * Constructs a new {@code JsonPointerWithChangePaths} whose change paths are calculated on first access. Change
+     * paths are calculated from the value of the Change, so notifications which only reach handlers of the
+     * {@code targetPath} itself never read the value.
+     *
+     * @param targetPath the JsonPointer where a Change was initially created
+     * @param changePathsSupplier supplies the list of changed paths relative to the {@code targetPath}
+     * @since 3.6.0
+     */
+    JsonPointerWithChangePaths(final JsonPointer targetPath, final Supplier<List<JsonPointer>> changePathsSupplier) {
         this.targetPath = targetPath;
-        this.changePaths = Collections.unmodifiableList(new ArrayList<>(changePaths));
+        this.changePathsSupplier = changePathsSupplier;
+        derivedChanges = new HashMap<>();
     }
 
     /**
@@ -61,7 +85,46 @@ final class JsonPointerWithChangePaths implements JsonPointer {
      * @return a list of changed paths relative to the {@code targetPath} which were also involved in a change.
      */
     List<JsonPointer> getChangePaths() {
-        return changePaths;
+        List<JsonPointer> result = changePaths;
+        if (null == result) {
+            // concurrent readers may calculate equal change paths more than once, which is harmless
+            result = Collections.unmodifiableList(new ArrayList<>(changePathsSupplier.get()));
+            changePaths = result;
+        }
+        return result;
+    }
+
+    /**
+     * Returns the Change derived from the root Change of this notification for the passed {@code selectorPointer},
+     * {@code changeClass} and {@code combinedPath}. The Change is built by the passed {@code changeBuilder} only once
+     * per notification, so all handlers registered with equal selectors for the same type of Change share it.
+     *
+     * @param selectorPointer the pointer of the selector the handler was registered with.
+     * @param changeClass the type of the Change the handler expects.
+     * @param combinedPath the changed path the Change is derived for.
+     * @param changeBuilder builds the derived Change or {@code null} if the handler is not notified for it.
+     * @param <T> the type of the Change.
+     * @return the derived Change or {@code null}.
+     * @since 3.6.0
+     */
+    @Nullable
+    synchronized <T extends Change> T computeDerivedChangeIfAbsent(final JsonPointer selectorPointer,
+            final Class<T> changeClass,
+            final JsonPointer combinedPath,
+            final Supplier<T> changeBuilder) {
+
+        final List<Object> key = Arrays.asList(selectorPointer, changeClass, combinedPath);
+        return derivedChanges.computeIfAbsent(key, k -> Optional.ofNullable(changeBuilder.get()))
+                .map(changeClass::cast)
+                .orElse(null);
+    }
+
+    /**
+     * Releases the derived Changes after the notification was dispatched, as bus registries may keep this pointer
+     * as cache key.
+     */
+    synchronized void clearDerivedChanges() {
+        derivedChanges.clear();
     }
 
     public static JsonPointer empty() {return JsonPointer.empty();}
@@ -127,16 +190,16 @@ final class JsonPointerWithChangePaths implements JsonPointer {
             return false;
         }
         final JsonPointerWithChangePaths that = (JsonPointerWithChangePaths) o;
-        return Objects.equals(targetPath, that.targetPath) && Objects.equals(changePaths, that.changePaths);
+        return Objects.equals(targetPath, that.targetPath) && Objects.equals(getChangePaths(), that.getChangePaths());
     }
 
     @Override
     public int hashCode() {
-        return Objects.hash(targetPath, changePaths);
+        return Objects.hash(targetPath, getChangePaths());
     }
 
     @Override
     public String toString() {
-        return targetPath + " + " + changePaths;
+        return targetPath + " + " + getChangePaths();
     }
 }
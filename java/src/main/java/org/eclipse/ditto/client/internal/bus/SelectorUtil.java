@@ -23,14 +23,14 @@ import java.util.List;
 import java.util.Map;
 import java.util.Optional;
 import java.util.concurrent.Executor;
-import java.util.function.BiFunction;
+import java.util.function.BiConsumer;
 import java.util.function.Consumer;
-import java.util.function.Function;
 import java.util.function.Predicate;
 import java.util.regex.Matcher;
 import java.util.regex.Pattern;
 
-import org.eclipse.ditto.base.model.signals.events.Event;
+import javax.annotation.Nullable;
+
 import org.eclipse.ditto.client.changes.Change;
 import org.eclipse.ditto.client.internal.HandlerRegistry;
 import org.eclipse.ditto.client.internal.SpecificChangeBuilderFunction;
@@ -40,7 +40,6 @@ import org.eclipse.ditto.json.JsonObject;
 import org.eclipse.ditto.json.JsonPointer;
 import org.eclipse.ditto.json.JsonValue;
 import org.eclipse.ditto.json.JsonValueContainer;
-import org.eclipse.ditto.messages.model.Message;
 import org.slf4j.Logger;
 
 /**
@@ -64,6 +63,7 @@ public final class SelectorUtil {
             '|'
     };
     private static final Pattern DOUBLE_SLASH_PATTERN = Pattern.compile("//");
+    private static final List<JsonPointer> ROOT_CHANGE_PATHS = Collections.singletonList(JsonPointer.empty());
 
     private SelectorUtil() {
         throw new AssertionError();
@@ -93,63 +93,35 @@ public final class SelectorUtil {
     }
 
     /**
-     * Adds a handler on the passed {@link PointerBus in Bus} handling ThingEvents with the specified {@code
-     * thingEventTypeString} and {@code eventClass} by calculating the Bus address by applying the passed {@code
-     * addressBuilderFunction} and creating the {@link org.eclipse.ditto.client.changes.Change} to put on the Bus at
-     * this address by applying the passed {@code changeBuilderFunction}.
+     * Notifies the passed {@link PointerBus in Bus} at the passed {@code address} where the Change actually happened
+     * with the passed {@code change}. The change paths of the Change's value are calculated so that handlers
+     * registered for sub paths of the {@code address} are notified as well. They are only calculated if such a
+     * handler is registered, so that the value of the Change is not read for handlers of the {@code address} itself.
      *
      * @param logger the Logger to use for logging
-     * @param in the "in" Bus to register the handler on
-     * @param thingEventTypeString the "TYPE" string of the ThingEvent
-     * @param eventClass the type of the ThingEvent to handle
-     * @param addressBuilderFunction the function to build the Bus address from the occurred ThingEvent
-     * @param changeBuilderFunction the function to build the {@link org.eclipse.ditto.client.changes.Change} from the
-     * occurred ThingEvent
-     * @param <T> the type of the ThingEvent
+     * @param in the "in" Bus to notify
+     * @param address the Bus address where the Change happened
+     * @param change the {@link org.eclipse.ditto.client.changes.Change} to put on the Bus
+     * @since 3.6.0
      */
-    @SuppressWarnings({"rawtypes", "java:S3740"})
-    public static <T extends Event> void addHandlerForThingEvent(
-            final Logger logger,
-            final PointerBus in,
-            final String thingEventTypeString,
-            final Class<T> eventClass,
-            final Function<T, String> addressBuilderFunction,
-            final BiFunction<T, JsonObject, Change> changeBuilderFunction) {
-
-        logger.trace("Adding bus handler for address '{}'", thingEventTypeString);
-
-        in.on(JsonPointerSelectors.jsonPointer(thingEventTypeString), e -> {
-            final Message<?> message = (Message<?>) e.getData();
-            final T event =
-                    message.getPayload()
-                            .filter(p -> eventClass.isAssignableFrom(p.getClass()))
-                            .map(eventClass::cast)
-                            .orElseThrow(() -> new IllegalStateException(
-                                    "Could not map received event '" + thingEventTypeString +
-                                            "' which should be of type '" + eventClass +
-                                            "'. The actual class of the event is: " +
-                                            message.getPayload()
-                                                    .orElseThrow(() ->
-                                                            new IllegalStateException(
-                                                                    "Payload of event was not present"))
-                                                    .getClass()));
-
-            final Change change = changeBuilderFunction.apply(event, message.getExtra().orElse(null));
-
-            final List<JsonPointer> jsonPointers = change.getValue()
-                    .filter(JsonValue::isObject)
-                    .map(JsonValue::asObject)
-                    .map(obj -> calculateJsonPointerHierarchy(JsonPointer.empty(), obj))
-                    .orElse(Collections.singletonList(JsonPointer.empty()));
-
-            // notify the address where the Change actually happened:
-            String address = addressBuilderFunction.apply(event);
-            final JsonPointer jsonPointer = JsonPointer.of(address);
-            final JsonPointerWithChangePaths
-                    jsonPointerWithChangePaths = new JsonPointerWithChangePaths(jsonPointer, jsonPointers);
-            logger.trace("Notifying bus at address '{}' with obj: {}", jsonPointerWithChangePaths, change);
-            in.notify(jsonPointerWithChangePaths, change);
-        });
+    public static void notifyChange(final Logger logger, final PointerBus in, final String address,
+            final Change change) {
+
+        final JsonPointer jsonPointer = JsonPointer.of(address);
+        final JsonPointerWithChangePaths jsonPointerWithChangePaths =
+                new JsonPointerWithChangePaths(jsonPointer, () -> calculateChangePaths(change));
+        logger.trace("Notifying bus at address '{}' with obj: {}", jsonPointerWithChangePaths, change);
+        in.notify(jsonPointerWithChangePaths, change);
+        jsonPointerWithChangePaths.clearDerivedChanges();
+    }
+
+    private static List<JsonPointer> calculateChangePaths(final Change change) {
+        final JsonValue value = change.getValue().orElse(null);
+        if (null != value && value.isObject()) {
+            return calculateJsonPointerHierarchy(JsonPointer.empty(), value.asObject());
+        } else {
+            return ROOT_CHANGE_PATHS;
+        }
     }
 
     /**
@@ -167,32 +139,33 @@ public final class SelectorUtil {
     private static List<JsonPointer> calculateJsonPointerHierarchy(final JsonPointer entryPointer,
             final JsonValueContainer<JsonField> fromJsonObject) {
 
-        return fromJsonObject.stream()
-                .map(jsonField -> {
-                    final JsonValue value = jsonField.getValue();
-                    final JsonPointer pointerOnLevel = entryPointer.addLeaf(jsonField.getKey());
-                    if (value.isObject()) {
-                        final List<JsonPointer> pointersOnLevel = new ArrayList<>();
-                        final JsonObject objectOnLevel = value.asObject();
-                        pointersOnLevel.add(pointerOnLevel);
-
-                        // recurse further "down":
-                        pointersOnLevel.addAll(calculateJsonPointerHierarchy(pointerOnLevel, objectOnLevel));
-                        return pointersOnLevel;
-                    } else {
-                        return Collections.singletonList(pointerOnLevel);
-                    }
-                })
-                .reduce(new ArrayList<>(), (a, b) -> {
-                    a.addAll(b);
-                    return a;
-                });
+        final List<JsonPointer> jsonPointers = new ArrayList<>(fromJsonObject.getSize());
+        addJsonPointerHierarchy(entryPointer, fromJsonObject, jsonPointers);
+        return jsonPointers;
+    }
+
+    private static void addJsonPointerHierarchy(final JsonPointer entryPointer,
+            final JsonValueContainer<JsonField> fromJsonObject, final List<JsonPointer> jsonPointers) {
+
+        for (final JsonField jsonField : fromJsonObject) {
+            final JsonValue value = jsonField.getValue();
+            final JsonPointer pointerOnLevel = entryPointer.addLeaf(jsonField.getKey());
+            jsonPointers.add(pointerOnLevel);
+            if (value.isObject()) {
+                // recurse further "down":
+                addJsonPointerHierarchy(pointerOnLevel, value.asObject(), jsonPointers);
+            }
+        }
     }
 
     /**
      * Registers for the passed {@code selector} and {@code changeClass} the specified {@code handler} which will get a
      * Change of type {@code <T>} when a messages on the bus matches the passed {@link DefaultJsonPointerSelector
      * selector}.
+     * <p>
+     * Handlers registered with equal selectors for the same {@code changeClass} share the Change built for one
+     * notification, so the {@code changeBuilderFunction} must only depend on the selector and the change class.
+     * </p>
      *
      * @param inHandlerRegistry the HandlerRegistry to use for registering the {@code handler} with the passed {@code
      * registrationId}
@@ -236,8 +209,11 @@ public final class SelectorUtil {
                     // if already the targetPointer matches the selector
                     else if (JsonPointerSelector.doesTargetMatchTemplate(targetPointer, selector.getPointer())) {
                         // we can directly invoke the handler
-                        resolveTemplateParametersAndPassChangeToHandler(targetPointer, targetPointer,
-                                selectorTemplatePath, rootChange, changeBuilderFunction, handler, busDispatcher);
+                        passChangeToHandler(jsonPointerWithChangePaths.computeDerivedChangeIfAbsent(
+                                selector.getPointer(), changeClass, targetPointer,
+                                () -> resolveTemplateParametersAndBuildChange(targetPointer, targetPointer,
+                                        selectorTemplatePath, rootChange, changeBuilderFunction)),
+                                handler, busDispatcher);
                     } else {
                         // otherwise, we iterate over all "changePaths", find the matching paths and invoke the handler
                         // for them:
@@ -246,10 +222,14 @@ public final class SelectorUtil {
                                 // filter only matching combined paths:
                                 .filter(combinedPath -> JsonPointerSelector.doesTargetMatchTemplate(combinedPath,
                                         selector.getPointer()))
-                                // for each matching combinedPath, resolve its template parameters and pass it to the handler:
-                                .forEach(combinedPath -> resolveTemplateParametersAndPassChangeToHandler(targetPointer,
-                                        combinedPath, selectorTemplatePath, rootChange, changeBuilderFunction, handler,
-                                        busDispatcher));
+                                // for each matching combinedPath, build or reuse the Change and pass it to the handler:
+                                .forEach(combinedPath -> passChangeToHandler(
+                                        jsonPointerWithChangePaths.computeDerivedChangeIfAbsent(selector.getPointer(),
+                                                changeClass, combinedPath,
+                                                () -> resolveTemplateParametersAndBuildChange(targetPointer,
+                                                        combinedPath, selectorTemplatePath, rootChange,
+                                                        changeBuilderFunction)),
+                                        handler, busDispatcher));
                     }
                 } else {
                     // only of the rootChange defines the passed in "changeClass" directly as interface (not inherited)
@@ -258,26 +238,95 @@ public final class SelectorUtil {
                         handler.accept(changeClass.cast(rootChange));
                     } else {
                         final JsonPointer startPointer = JsonPointer.of(event.getPointer().toString());
-                        resolveTemplateParametersAndPassChangeToHandler(startPointer, startPointer,
-                                selectorTemplatePath, rootChange, changeBuilderFunction, handler, busDispatcher);
+                        passChangeToHandler(resolveTemplateParametersAndBuildChange(startPointer, startPointer,
+                                selectorTemplatePath, rootChange, changeBuilderFunction), handler, busDispatcher);
                     }
                 }
             }
         });
     }
 
+    /**
+     * Registers for the passed {@code selector} the specified {@code handler} which gets the root Change and the value
+     * at the selected path when a Change on the bus creates or modifies this value. In contrast to
+     * {@link #registerForChanges(HandlerRegistry, String, JsonPointerSelector, Class, Consumer,
+     * SpecificChangeBuilderFunction)} no specific Change is built for the handler and template parameters in the
+     * selector are not resolved, so the selector must address a concrete path.
+     *
+     * @param inHandlerRegistry the HandlerRegistry to use for registering the {@code handler} with the passed {@code
+     * registrationId}
+     * @param registrationId the ID to register in the {@code inHandlerRegistry} with
+     * @param selector the JsonPointerSelector addressing the concrete path of the value
+     * @param handler the handler which will be notified of the root Change and the changed value
+     * @since 3.6.0
+     */
+    public static void registerForValueChanges(final HandlerRegistry<?, ?> inHandlerRegistry,
+            final String registrationId,
+            final JsonPointerSelector selector,
+            final BiConsumer<Change, JsonValue> handler) {
+
+        final JsonPointer selectorPointer = selector.getPointer();
+        final Executor busDispatcher = inHandlerRegistry.getBusExecutor();
+
+        inHandlerRegistry.register(registrationId, selector, event -> {
+            if (event.getData() instanceof Change && event.getPointer() instanceof JsonPointerWithChangePaths) {
+                final Change rootChange = (Change) event.getData();
+                final JsonPointer targetPointer = ((JsonPointerWithChangePaths) event.getPointer()).getTargetPath();
+                final JsonValue value = getValueAtSelectedPath(rootChange, targetPointer, selectorPointer);
+                if (null != value) {
+                    busDispatcher.execute(() -> handler.accept(rootChange, value));
+                }
+            }
+        });
+    }
+
+    @Nullable
+    private static JsonValue getValueAtSelectedPath(final Change rootChange, final JsonPointer targetPointer,
+            final JsonPointer selectorPointer) {
+
+        final int targetLevelCount = targetPointer.getLevelCount();
+        if (targetLevelCount > selectorPointer.getLevelCount()) {
+            // a nested value of the selected path changed, so the selected value itself is an object
+            return null;
+        }
+        final JsonValue rootValue = rootChange.getValue().orElse(null);
+        if (null == rootValue || targetLevelCount == selectorPointer.getLevelCount()) {
+            return rootValue;
+        } else if (rootValue.isObject()) {
+            final JsonPointer relativePointer = selectorPointer.getSubPointer(targetLevelCount)
+                    .orElseGet(JsonPointer::empty);
+            return rootValue.asObject().getValue(relativePointer).orElse(null);
+        } else {
+            return null;
+        }
+    }
+
+    /**
+     * Invokes the passed {@code handler} with the passed {@code change} wrapping the execution with the passed
+     * {@code busDispatcher}. Does nothing if the {@code change} is {@code null}.
+     */
+    private static <T extends Change> void passChangeToHandler(@Nullable final T change,
+            final Consumer<T> handler,
+            final Executor busDispatcher) {
+
+        if (null != change) {
+            // use the configured Dispatcher of the Thing Client for responding to the handlers:
+            busDispatcher.execute(() -> handler.accept(change));
+        }
+    }
+
     /**
      * Resolves template parameters in the passed {@code selectorTemplatePath} with the matching values in {@code
-     * targetPath}, builds the specific change with the passed {@code changeBuilderFunction} and invokes the passed
-     * {@code handler} with the resulting Change wrapping the execution with the passed {@code busDispatcher}.
+     * targetPath} and builds the specific change with the passed {@code changeBuilderFunction}.
+     *
+     * @return the specific change or {@code null} if the change was not subscribed for.
      */
-    private static <T extends Change> void resolveTemplateParametersAndPassChangeToHandler(final JsonPointer targetPath,
+    @Nullable
+    private static <T extends Change> T resolveTemplateParametersAndBuildChange(final JsonPointer targetPath,
             final JsonPointer combinedPath,
             final JsonPointer selectorTemplatePath,
             final Change rootChange,
-            final SpecificChangeBuilderFunction<T> changeBuilderFunction,
-            final Consumer<T> handler,
-            final Executor busDispatcher) {
+            final SpecificChangeBuilderFunction<T> changeBuilderFunction) {
 
         // only select everything after /things/{thingId}:
         final JsonPointer thingRelativePointer = combinedPath.getSubPointer(2).orElse(JsonPointer.empty());
@@ -308,7 +357,7 @@ public final class SelectorUtil {
         final JsonPointer parsedPath = pathRelativePointer;
         if (!diff.isEmpty() && !diff.toString().startsWith(parsedPath.toString())) {
             // this change is not propagated as it was not subscribed for
-            return;
+            return null;
         }
 
         final JsonValue jsonValue = rootChange.getValue()
@@ -328,10 +377,7 @@ public final class SelectorUtil {
                     }
                 }).orElse(null);
 
-        final T desiredChange =
-                changeBuilderFunction.buildSpecificChange(rootChange, jsonValue, pathRelativePointer, templateParams);
-        // use the configured Dispatcher of the Thing Client for responding to the handlers:
-        busDispatcher.execute(() -> handler.accept(desiredChange));
+        return changeBuilderFunction.buildSpecificChange(rootChange, jsonValue, pathRelativePointer, templateParams);
     }
 
     /**
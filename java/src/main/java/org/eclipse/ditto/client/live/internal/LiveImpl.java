@@ -89,7 +89,7 @@ public final class LiveImpl extends CommonManagementImpl<LiveThingHandle, LiveFe
         super(TopicPath.Channel.LIVE,
                 messagingProvider,
                 outgoingMessageFactory,
-                new HandlerRegistry<>(bus),
+                new HandlerRegistry<>(bus, messagingProvider.getMessagingConfiguration().getHandleCacheSize()),
                 bus);
 
         this.schemaVersion = schemaVersion;
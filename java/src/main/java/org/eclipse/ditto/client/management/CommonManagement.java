@@ -15,6 +15,7 @@ package org.eclipse.ditto.client.management;
 import java.util.List;
 import java.util.Optional;
 import java.util.concurrent.CompletionStage;
+import java.util.stream.Stream;
 
 import org.eclipse.ditto.client.changes.Change;
 import org.eclipse.ditto.client.changes.ThingChange;
@@ -28,6 +29,7 @@ import org.eclipse.ditto.json.JsonObject;
 import org.eclipse.ditto.policies.model.Policy;
 import org.eclipse.ditto.things.model.Thing;
 import org.eclipse.ditto.things.model.ThingId;
+import org.reactivestreams.Publisher;
 
 /**
  * A {@code CommonManagement} provides the basic functionality, which can be used to manage (i.e., create and delete)
@@ -589,7 +591,9 @@ public interface CommonManagement<T extends ThingHandle<F>, F extends FeatureHan
 
     /**
      * Gets a list of {@link Thing}s specified by the given identifiers. The result contains only existing and readable
-     * Things.
+     * Things. More identifiers than
+     * {@link org.eclipse.ditto.client.configuration.MessagingConfiguration#getRetrieveThingsBatchSize()} are
+     * retrieved in batches whose results are concatenated in the order of the identifiers.
      *
      * @param thingIds the identifiers of the Things to be retrieved.
      * @return CompletionStage providing the requested Things, an empty list or a specific
@@ -602,7 +606,9 @@ public interface CommonManagement<T extends ThingHandle<F>, F extends FeatureHan
 
     /**
      * Gets a list of {@link Thing}s specified by the given identifiers. The result contains only existing and readable
-     * Things.
+     * Things. More identifiers than
+     * {@link org.eclipse.ditto.client.configuration.MessagingConfiguration#getRetrieveThingsBatchSize()} are
+     * retrieved in batches whose results are concatenated in the order of the identifiers.
      *
      * @param fieldSelector a field selector allowing to select a subset of fields on the Things to be retrieved.
      * @param thingIds the identifiers of the Things to be retrieved.
@@ -614,4 +620,56 @@ public interface CommonManagement<T extends ThingHandle<F>, F extends FeatureHan
      */
     CompletionStage<List<Thing>> retrieve(JsonFieldSelector fieldSelector, Iterable<ThingId> thingIds);
 
+    /**
+     * Publishes the {@link Thing}s specified by the given identifiers. The identifiers are split into batches of at
+     * most {@link org.eclipse.ditto.client.configuration.MessagingConfiguration#getRetrieveThingsBatchSize()} IDs of
+     * which at most {@link org.eclipse.ditto.client.configuration.MessagingConfiguration#getRetrieveThingsParallelism()}
+     * are retrieved or buffered at the same time. Things are published in the order in which their batches arrive.
+     * Only existing and readable Things are published.
+     *
+     * @param thingIds the identifiers of the Things to be retrieved.
+     * @return a single-use publisher of the requested Things. It fails with the first failure of a batch, e.g. a
+     * specific {@link org.eclipse.ditto.base.model.exceptions.DittoRuntimeException} or a
+     * {@link org.eclipse.ditto.client.management.ClientReconnectingException}.
+     * @throws IllegalArgumentException if {@code thingIds} is {@code null}.
+     * @since 3.6.0
+     */
+    Publisher<Thing> retrieveAsPublisher(Iterable<ThingId> thingIds);
+
+    /**
+     * Publishes the {@link Thing}s specified by the given identifiers in batches.
+     *
+     * @param fieldSelector a field selector allowing to select a subset of fields on the Things to be retrieved.
+     * @param thingIds the identifiers of the Things to be retrieved.
+     * @return a single-use publisher of the requested Things.
+     * @throws IllegalArgumentException if any argument is {@code null}.
+     * @see #retrieveAsPublisher(Iterable)
+     * @since 3.6.0
+     */
+    Publisher<Thing> retrieveAsPublisher(JsonFieldSelector fieldSelector, Iterable<ThingId> thingIds);
+
+    /**
+     * Streams the {@link Thing}s specified by the given identifiers in batches. This method is a wrapper of
+     * {@link #retrieveAsPublisher(Iterable)} for ease-of-use. The memory used by the stream is bounded by the
+     * batches in flight rather than by the number of identifiers.
+     *
+     * @param thingIds the identifiers of the Things to be retrieved.
+     * @return a stream of the requested Things.
+     * @throws IllegalArgumentException if {@code thingIds} is {@code null}.
+     * @since 3.6.0
+     */
+    Stream<Thing> retrieveAsStream(Iterable<ThingId> thingIds);
+
+    /**
+     * Streams the {@link Thing}s specified by the given identifiers in batches.
+     *
+     * @param fieldSelector a field selector allowing to select a subset of fields on the Things to be retrieved.
+     * @param thingIds the identifiers of the Things to be retrieved.
+     * @return a stream of the requested Things.
+     * @throws IllegalArgumentException if any argument is {@code null}.
+     * @see #retrieveAsStream(Iterable)
+     * @since 3.6.0
+     */
+    Stream<Thing> retrieveAsStream(JsonFieldSelector fieldSelector, Iterable<ThingId> thingIds);
+
 }
@@ -12,11 +12,14 @@
  */
 package org.eclipse.ditto.client.management;
 
+import java.util.Collections;
+import java.util.Map;
 import java.util.concurrent.CompletionStage;
 
 import org.eclipse.ditto.client.options.Option;
 import org.eclipse.ditto.client.registration.FeaturePropertiesChangeRegistration;
 import org.eclipse.ditto.json.JsonFieldSelector;
+import org.eclipse.ditto.json.JsonPointer;
 import org.eclipse.ditto.things.model.Feature;
 import org.eclipse.ditto.base.model.signals.WithFeatureId;
 
@@ -117,4 +120,32 @@ public interface FeatureHandle extends WithFeatureId, FeaturePropertiesManagemen
      */
     CompletionStage<Feature> retrieve(JsonFieldSelector fieldSelector, Option<?>... options);
 
+    /**
+     * Creates a new {@link FeaturePropertyReporter} which applies the given policy to all properties of the Feature.
+     * The reporter keeps the last sent value of each property, so it should be created once and reused for all
+     * reports.
+     *
+     * @param policy the reporting policy.
+     * @return the property reporter.
+     * @throws NullPointerException if {@code policy} is {@code null}.
+     * @since 3.6.0
+     */
+    default FeaturePropertyReporter propertyReporter(final ReportingPolicy policy) {
+        return propertyReporter(policy, Collections.emptyMap());
+    }
+
+    /**
+     * Creates a new {@link FeaturePropertyReporter} which applies the given policies to the properties of the Feature.
+     * The reporter keeps the last sent value of each property, so it should be created once and reused for all
+     * reports.
+     *
+     * @param defaultPolicy the reporting policy of properties without a policy of their own.
+     * @param propertyPolicies the reporting policies of individual properties by their path.
+     * @return the property reporter.
+     * @throws NullPointerException if any argument is {@code null}.
+     * @since 3.6.0
+     */
+    FeaturePropertyReporter propertyReporter(ReportingPolicy defaultPolicy,
+            Map<JsonPointer, ReportingPolicy> propertyPolicies);
+
 }
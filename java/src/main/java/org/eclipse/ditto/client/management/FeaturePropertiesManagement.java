@@ -362,6 +362,82 @@ public interface FeaturePropertiesManagement {
      */
     CompletionStage<Void> mergeProperty(JsonPointer path, JsonValue value, Option<?>... options);
 
+    /**
+     * Sets the given property of the Feature without waiting for a response. The command is sent with
+     * {@code response-required=false}; no correlation or timeout bookkeeping is done for it. Failures of the
+     * operation are therefore not reported back.
+     *
+     * @param path the hierarchical path to the property - may contain {@code "/"} for addressing nested paths
+     * in a hierarchy.
+     * @param value the value to be set.
+     * @param options options to be applied configuring behaviour of this method,
+     * see {@link org.eclipse.ditto.client.options.Options}.
+     * @return a CompletionStage which completes as soon as the command was sent.
+     * @throws IllegalArgumentException if {@code path} is {@code null} or empty or if {@code options} contains
+     * an option that is not allowed for this operation, e.g. requested acknowledgements.
+     * @since 3.6.0
+     */
+    default CompletionStage<Void> putPropertyOneWay(final CharSequence path,
+            final JsonValue value,
+            final Option<?>... options) {
+
+        return putPropertyOneWay(JsonFactory.newPointer(argumentNotNull(path)), value, options);
+    }
+
+    /**
+     * Sets the given property of the Feature without waiting for a response. The command is sent with
+     * {@code response-required=false}; no correlation or timeout bookkeeping is done for it. Failures of the
+     * operation are therefore not reported back.
+     *
+     * @param path the hierarchical path to the property.
+     * @param value the value to be set.
+     * @param options options to be applied configuring behaviour of this method,
+     * see {@link org.eclipse.ditto.client.options.Options}.
+     * @return a CompletionStage which completes as soon as the command was sent.
+     * @throws IllegalArgumentException if {@code path} is {@code null} or empty or if {@code options} contains
+     * an option that is not allowed for this operation, e.g. requested acknowledgements.
+     * @since 3.6.0
+     */
+    CompletionStage<Void> putPropertyOneWay(JsonPointer path, JsonValue value, Option<?>... options);
+
+    /**
+     * Merges the given property of the Feature without waiting for a response. The command is sent with
+     * {@code response-required=false}; no correlation or timeout bookkeeping is done for it. Failures of the
+     * operation are therefore not reported back.
+     *
+     * @param path the hierarchical path to the property - may contain {@code "/"} for addressing nested paths
+     * in a hierarchy.
+     * @param value the value to be merged.
+     * @param options options to be applied configuring behaviour of this method,
+     * see {@link org.eclipse.ditto.client.options.Options}.
+     * @return a CompletionStage which completes as soon as the command was sent.
+     * @throws IllegalArgumentException if {@code path} is {@code null} or empty or if {@code options} contains
+     * an option that is not allowed for this operation, e.g. requested acknowledgements.
+     * @since 3.6.0
+     */
+    default CompletionStage<Void> mergePropertyOneWay(final CharSequence path,
+            final JsonValue value,
+            final Option<?>... options) {
+
+        return mergePropertyOneWay(JsonFactory.newPointer(argumentNotNull(path)), value, options);
+    }
+
+    /**
+     * Merges the given property of the Feature without waiting for a response. The command is sent with
+     * {@code response-required=false}; no correlation or timeout bookkeeping is done for it. Failures of the
+     * operation are therefore not reported back.
+     *
+     * @param path the hierarchical path to the property.
+     * @param value the value to be merged.
+     * @param options options to be applied configuring behaviour of this method,
+     * see {@link org.eclipse.ditto.client.options.Options}.
+     * @return a CompletionStage which completes as soon as the command was sent.
+     * @throws IllegalArgumentException if {@code path} is {@code null} or empty or if {@code options} contains
+     * an option that is not allowed for this operation, e.g. requested acknowledgements.
+     * @since 3.6.0
+     */
+    CompletionStage<Void> mergePropertyOneWay(JsonPointer path, JsonValue value, Option<?>... options);
+
     /**
      * Sets the given properties of the Feature.
      *
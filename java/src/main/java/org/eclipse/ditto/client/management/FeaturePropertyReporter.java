@@ -0,0 +1,77 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.ditto.client.management;
+
+import static org.eclipse.ditto.base.model.common.ConditionChecker.argumentNotNull;
+
+import java.util.concurrent.CompletionStage;
+
+import org.eclipse.ditto.client.options.Option;
+import org.eclipse.ditto.json.JsonFactory;
+import org.eclipse.ditto.json.JsonPointer;
+import org.eclipse.ditto.json.JsonValue;
+
+/**
+ * A {@code FeaturePropertyReporter} sets properties of one Feature like
+ * {@link FeaturePropertiesManagement#putProperty(JsonPointer, JsonValue, Option[])} but suppresses values which are
+ * redundant according to the {@link ReportingPolicy} of the property. Suppressed values never reach the messaging
+ * provider.
+ *
+ * @since 3.6.0
+ */
+public interface FeaturePropertyReporter {
+
+    /**
+     * Reports the given value of a property of the Feature.
+     *
+     * @param path the hierarchical path to the property - may contain {@code "/"} for addressing nested paths
+     * in a hierarchy.
+     * @param value the reported value.
+     * @param options options to be applied configuring behaviour of this method if the value is sent,
+     * see {@link org.eclipse.ditto.client.options.Options}.
+     * @return a CompletionStage providing the result of the put operation or a specific
+     * {@link org.eclipse.ditto.base.model.exceptions.DittoRuntimeException} if it failed. It is already completed if
+     * the value was suppressed.
+     * @throws IllegalArgumentException if {@code path} is {@code null} or empty or if {@code options} contains
+     * an option that is not allowed for putting a feature property.
+     */
+    default CompletionStage<Void> report(final CharSequence path, final JsonValue value, final Option<?>... options) {
+        return report(JsonFactory.newPointer(argumentNotNull(path)), value, options);
+    }
+
+    /**
+     * Reports the given value of a property of the Feature.
+     *
+     * @param path the hierarchical path to the property.
+     * @param value the reported value.
+     * @param options options to be applied configuring behaviour of this method if the value is sent,
+     * see {@link org.eclipse.ditto.client.options.Options}.
+     * @return a CompletionStage providing the result of the put operation or a specific
+     * {@link org.eclipse.ditto.base.model.exceptions.DittoRuntimeException} if it failed. It is already completed if
+     * the value was suppressed.
+     * @throws IllegalArgumentException if {@code path} is {@code null} or empty or if {@code options} contains
+     * an option that is not allowed for putting a feature property.
+     */
+    CompletionStage<Void> report(JsonPointer path, JsonValue value, Option<?>... options);
+
+    /**
+     * @return the number of reported values which were sent.
+     */
+    long getSentCount();
+
+    /**
+     * @return the number of reported values which were suppressed.
+     */
+    long getSuppressedCount();
+
+}
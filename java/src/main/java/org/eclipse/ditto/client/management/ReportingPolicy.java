@@ -0,0 +1,188 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.ditto.client.management;
+
+import static org.eclipse.ditto.base.model.common.ConditionChecker.checkArgument;
+
+import java.time.Duration;
+import java.util.Optional;
+
+import javax.annotation.Nullable;
+
+/**
+ * Decides which property values reported via a {@link FeaturePropertyReporter} are actually sent. A value is
+ * suppressed if it equals the last sent value of the property or, for numbers, lies within the absolute or relative
+ * deadband around it. A value is also suppressed if the last value was sent less than the minimum interval ago. A
+ * value is always sent if the last value was sent at least the maximum staleness ago.
+ *
+ * @since 3.6.0
+ */
+public final class ReportingPolicy {
+
+    private static final ReportingPolicy ON_CHANGE = newBuilder().build();
+
+    private final double absoluteDeadband;
+    private final double relativeDeadband;
+    @Nullable private final Duration minInterval;
+    @Nullable private final Duration maxStaleness;
+
+    private ReportingPolicy(final Builder builder) {
+        absoluteDeadband = builder.absoluteDeadband;
+        relativeDeadband = builder.relativeDeadband;
+        minInterval = builder.minInterval;
+        maxStaleness = builder.maxStaleness;
+    }
+
+    /**
+     * Returns a policy which only suppresses values equal to the last sent value.
+     *
+     * @return the policy.
+     */
+    public static ReportingPolicy onChange() {
+        return ON_CHANGE;
+    }
+
+    /**
+     * @return a new builder used to create a ReportingPolicy object.
+     */
+    public static Builder newBuilder() {
+        return new Builder();
+    }
+
+    /**
+     * @return the maximum absolute difference of a number to the last sent number for which it is suppressed.
+     */
+    public double getAbsoluteDeadband() {
+        return absoluteDeadband;
+    }
+
+    /**
+     * @return the maximum difference of a number to the last sent number, relative to the absolute value of the last
+     * sent number, for which it is suppressed.
+     */
+    public double getRelativeDeadband() {
+        return relativeDeadband;
+    }
+
+    /**
+     * @return the minimum time between two sent values of a property, or an empty optional if not limited.
+     */
+    public Optional<Duration> getMinInterval() {
+        return Optional.ofNullable(minInterval);
+    }
+
+    /**
+     * @return the time after which a value is sent even if it would be suppressed otherwise, or an empty optional if
+     * values are suppressed regardless of their age.
+     */
+    public Optional<Duration> getMaxStaleness() {
+        return Optional.ofNullable(maxStaleness);
+    }
+
+    @Override
+    public String toString() {
+        return getClass().getSimpleName() + " [" +
+                "absoluteDeadband=" + absoluteDeadband +
+                ", relativeDeadband=" + relativeDeadband +
+                ", minInterval=" + minInterval +
+                ", maxStaleness=" + maxStaleness +
+                "]";
+    }
+
+    /**
+     * Builder for creating an instance of {@code ReportingPolicy}. By default, only values equal to the last sent
+     * value are suppressed.
+     */
+    public static final class Builder {
+
+        private double absoluteDeadband = 0.0;
+        private double relativeDeadband = 0.0;
+        @Nullable private Duration minInterval = null;
+        @Nullable private Duration maxStaleness = null;
+
+        private Builder() {
+            super();
+        }
+
+        /**
+         * Sets the maximum absolute difference of a number to the last sent number for which it is suppressed.
+         *
+         * @param absoluteDeadband the absolute deadband.
+         * @return this builder to allow method chaining.
+         * @throws IllegalArgumentException if {@code absoluteDeadband} is negative or not a number.
+         */
+        public Builder absoluteDeadband(final double absoluteDeadband) {
+            checkArgument(absoluteDeadband, deadband -> deadband >= 0.0,
+                    () -> "The absoluteDeadband must not be negative!");
+            this.absoluteDeadband = absoluteDeadband;
+            return this;
+        }
+
+        /**
+         * Sets the maximum difference of a number to the last sent number, relative to the absolute value of the
+         * last sent number, for which it is suppressed. E.g. {@code 0.01} suppresses changes of up to one percent.
+         *
+         * @param relativeDeadband the relative deadband.
+         * @return this builder to allow method chaining.
+         * @throws IllegalArgumentException if {@code relativeDeadband} is negative or not a number.
+         */
+        public Builder relativeDeadband(final double relativeDeadband) {
+            checkArgument(relativeDeadband, deadband -> deadband >= 0.0,
+                    () -> "The relativeDeadband must not be negative!");
+            this.relativeDeadband = relativeDeadband;
+            return this;
+        }
+
+        /**
+         * Sets the minimum time between two sent values of a property. Values reported in between are suppressed.
+         *
+         * @param minInterval the minimum interval or {@code null} to not limit it.
+         * @return this builder to allow method chaining.
+         * @throws IllegalArgumentException if {@code minInterval} is not positive.
+         */
+        public Builder minInterval(@Nullable final Duration minInterval) {
+            if (null != minInterval) {
+                checkArgument(minInterval, interval -> !interval.isNegative() && !interval.isZero(),
+                        () -> "The minInterval must be positive!");
+            }
+            this.minInterval = minInterval;
+            return this;
+        }
+
+        /**
+         * Sets the time after which a reported value is sent even if it would be suppressed otherwise. This acts as a
+         * heartbeat for properties whose value does not change.
+         *
+         * @param maxStaleness the maximum staleness or {@code null} to suppress values regardless of their age.
+         * @return this builder to allow method chaining.
+         * @throws IllegalArgumentException if {@code maxStaleness} is not positive.
+         */
+        public Builder maxStaleness(@Nullable final Duration maxStaleness) {
+            if (null != maxStaleness) {
+                checkArgument(maxStaleness, staleness -> !staleness.isNegative() && !staleness.isZero(),
+                        () -> "The maxStaleness must be positive!");
+            }
+            this.maxStaleness = maxStaleness;
+            return this;
+        }
+
+        /**
+         * @return the built ReportingPolicy.
+         */
+        public ReportingPolicy build() {
+            return new ReportingPolicy(this);
+        }
+
+    }
+
+}
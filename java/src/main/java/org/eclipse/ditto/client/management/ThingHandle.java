@@ -12,6 +12,7 @@
  */
 package org.eclipse.ditto.client.management;
 
+import java.time.Duration;
 import java.util.concurrent.CompletionStage;
 
 import org.eclipse.ditto.client.options.Option;
@@ -261,4 +262,20 @@ public interface ThingHandle<F extends FeatureHandle>
      */
     CompletionStage<Void> deleteFeatures(Option<?>... options);
 
+    /**
+     * Creates a new {@link ThingWriteCoalescer} which gathers attribute and feature property modifications of this
+     * Thing and sends them as single merge commands. A batch is sent at the latest when {@code window} elapsed after
+     * its first write or as soon as it contains {@code maxWrites} writes.
+     *
+     * @param window the maximum time a write is held back.
+     * @param maxWrites the maximum number of writes sent with one merge command.
+     * @param options options to be applied to each merge command, see
+     * {@link org.eclipse.ditto.client.options.Options}.
+     * @return the write coalescer.
+     * @throws IllegalArgumentException if {@code window} is {@code null} or not positive, if {@code maxWrites} is
+     * not positive or if {@code options} contains an option that is not allowed for merging a thing.
+     * @since 3.6.0
+     */
+    ThingWriteCoalescer coalesceWrites(Duration window, int maxWrites, Option<?>... options);
+
 }
@@ -0,0 +1,104 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.ditto.client.management;
+
+import static org.eclipse.ditto.base.model.common.ConditionChecker.argumentNotNull;
+
+import java.util.concurrent.CompletionStage;
+
+import org.eclipse.ditto.json.JsonFactory;
+import org.eclipse.ditto.json.JsonPointer;
+import org.eclipse.ditto.json.JsonValue;
+
+/**
+ * A {@code ThingWriteCoalescer} gathers attribute and feature property modifications of one {@code Thing} and sends
+ * them as a single {@link org.eclipse.ditto.things.model.signals.commands.modify.MergeThing} command. A batch is sent
+ * as soon as its window elapsed, it contains the maximum number of writes or {@link #flush()} is called.
+ * <p>
+ * Writes are folded into one JSON merge patch (RFC 7396) with the same result as sending them one after another. A
+ * write which can not be folded into the pending patch without changing that result, e.g. a nested value below an
+ * attribute which was just set to a non-object value, causes the pending batch to be sent first.
+ * </p>
+ * <p>
+ * All CompletionStages of the writes of one batch are completed from the response to the single merge command.
+ * </p>
+ *
+ * @since 3.6.0
+ */
+public interface ThingWriteCoalescer {
+
+    /**
+     * Merges the given attribute of the Thing with the next batch.
+     *
+     * @param path the hierarchical path to the attribute - may contain {@code "/"} for addressing nested paths
+     * in a hierarchy.
+     * @param value the value to be merged.
+     * @return a CompletionStage providing the result of the batch this write was sent with or a specific
+     * {@link org.eclipse.ditto.base.model.exceptions.DittoRuntimeException} if the batch failed.
+     * @throws IllegalArgumentException if {@code path} is {@code null} or empty.
+     */
+    default CompletionStage<Void> mergeAttribute(final CharSequence path, final JsonValue value) {
+        return mergeAttribute(JsonFactory.newPointer(argumentNotNull(path)), value);
+    }
+
+    /**
+     * Merges the given attribute of the Thing with the next batch.
+     *
+     * @param path the hierarchical path to the attribute.
+     * @param value the value to be merged.
+     * @return a CompletionStage providing the result of the batch this write was sent with or a specific
+     * {@link org.eclipse.ditto.base.model.exceptions.DittoRuntimeException} if the batch failed.
+     * @throws IllegalArgumentException if {@code path} is {@code null} or empty.
+     */
+    CompletionStage<Void> mergeAttribute(JsonPointer path, JsonValue value);
+
+    /**
+     * Merges the given property of a Feature of the Thing with the next batch.
+     *
+     * @param featureId the identifier of the Feature.
+     * @param path the hierarchical path to the property - may contain {@code "/"} for addressing nested paths
+     * in a hierarchy.
+     * @param value the value to be merged.
+     * @return a CompletionStage providing the result of the batch this write was sent with or a specific
+     * {@link org.eclipse.ditto.base.model.exceptions.DittoRuntimeException} if the batch failed.
+     * @throws IllegalArgumentException if {@code featureId} is {@code null} or if {@code path} is {@code null} or
+     * empty.
+     */
+    default CompletionStage<Void> mergeProperty(final String featureId, final CharSequence path,
+            final JsonValue value) {
+
+        return mergeProperty(featureId, JsonFactory.newPointer(argumentNotNull(path)), value);
+    }
+
+    /**
+     * Merges the given property of a Feature of the Thing with the next batch.
+     *
+     * @param featureId the identifier of the Feature.
+     * @param path the hierarchical path to the property.
+     * @param value the value to be merged.
+     * @return a CompletionStage providing the result of the batch this write was sent with or a specific
+     * {@link org.eclipse.ditto.base.model.exceptions.DittoRuntimeException} if the batch failed.
+     * @throws IllegalArgumentException if {@code featureId} is {@code null} or if {@code path} is {@code null} or
+     * empty.
+     */
+    CompletionStage<Void> mergeProperty(String featureId, JsonPointer path, JsonValue value);
+
+    /**
+     * Sends the pending batch right away.
+     *
+     * @return a CompletionStage providing the result of the sent batch. It is already completed if no write was
+     * pending.
+     */
+    CompletionStage<Void> flush();
+
+}
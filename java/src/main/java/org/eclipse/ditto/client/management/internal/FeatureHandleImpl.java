@@ -15,6 +15,7 @@ package org.eclipse.ditto.client.management.internal;
 import static org.eclipse.ditto.base.model.common.ConditionChecker.argumentNotNull;
 import static org.eclipse.ditto.base.model.common.ConditionChecker.checkArgument;
 
+import java.util.Map;
 import java.util.concurrent.CompletionStage;
 import java.util.function.Consumer;
 
@@ -24,11 +25,16 @@ import org.eclipse.ditto.client.changes.Change;
 import org.eclipse.ditto.client.internal.AbstractHandle;
 import org.eclipse.ditto.client.internal.HandlerRegistry;
 import org.eclipse.ditto.client.internal.OutgoingMessageFactory;
+import org.eclipse.ditto.client.internal.bus.JsonPointerSelector;
 import org.eclipse.ditto.client.internal.bus.SelectorUtil;
 import org.eclipse.ditto.client.management.FeatureHandle;
+import org.eclipse.ditto.client.management.FeaturePropertyReporter;
+import org.eclipse.ditto.client.management.ReportingPolicy;
 import org.eclipse.ditto.client.management.ThingHandle;
 import org.eclipse.ditto.client.messaging.MessagingProvider;
 import org.eclipse.ditto.client.options.Option;
+import org.eclipse.ditto.client.registration.DoublePropertyConsumer;
+import org.eclipse.ditto.client.registration.LongPropertyConsumer;
 import org.eclipse.ditto.json.JsonFactory;
 import org.eclipse.ditto.json.JsonFieldSelector;
 import org.eclipse.ditto.json.JsonObject;
@@ -152,6 +158,14 @@ public abstract class FeatureHandleImpl<T extends ThingHandle<F>, F extends Feat
         return askThingCommand(command, RetrieveFeatureResponse.class, RetrieveFeatureResponse::getFeature);
     }
 
+    @Override
+    public FeaturePropertyReporter propertyReporter(final ReportingPolicy defaultPolicy,
+            final Map<JsonPointer, ReportingPolicy> propertyPolicies) {
+        ConditionChecker.checkNotNull(defaultPolicy, "defaultPolicy");
+        ConditionChecker.checkNotNull(propertyPolicies, "propertyPolicies");
+        return new FeaturePropertyReporterImpl(this, defaultPolicy, propertyPolicies, System::nanoTime);
+    }
+
     @Override
     public CompletionStage<Void> setDefinition(final FeatureDefinition featureDefinition,
             final Option<?>... options) {
@@ -229,6 +243,34 @@ public abstract class FeatureHandleImpl<T extends ThingHandle<F>, F extends Feat
         return askThingCommand(command, CommandResponse.class, this::toVoid);
     }
 
+    @Override
+    public CompletionStage<Void> putPropertyOneWay(final JsonPointer path, final JsonValue value,
+            final Option<?>... options) {
+
+        argumentNotNull(path, "Path");
+        argumentNotNull(value, "Value");
+        checkArgument(path, p -> !p.isEmpty(), () -> "The path is not allowed to be empty! " +
+                "If you want to update the whole properties object, please use the setProperties(JsonObject) method.");
+
+        final ModifyFeatureProperty command =
+                outgoingMessageFactory.setFeatureProperty(thingId, featureId, path, value, options);
+        return tellThingCommand(command);
+    }
+
+    @Override
+    public CompletionStage<Void> mergePropertyOneWay(final JsonPointer path, final JsonValue value,
+            final Option<?>... options) {
+
+        argumentNotNull(path, "Path");
+        argumentNotNull(value, "Value");
+        checkArgument(path, p -> !p.isEmpty(), () -> "The path is not allowed to be empty! " +
+                "If you want to update the whole properties object, please use the FeatureHandleImpl.mergeProperties method.");
+
+        final MergeThing command =
+                outgoingMessageFactory.mergeFeatureProperty(thingId, featureId, path, value, options);
+        return tellThingCommand(command);
+    }
+
     @Override
     public CompletionStage<Void> setProperties(final JsonObject value, final Option<?>... options) {
         final ModifyFeatureProperties
@@ -277,6 +319,38 @@ public abstract class FeatureHandleImpl<T extends ThingHandle<F>, F extends Feat
         );
     }
 
+    @Override
+    public void registerForDoublePropertyChanges(final String registrationId, final JsonPointer propertyPath,
+            final DoublePropertyConsumer handler) {
+
+        argumentNotNull(handler);
+        SelectorUtil.registerForValueChanges(handlerRegistry, registrationId, getPropertySelector(propertyPath),
+                (change, value) -> {
+                    if (value.isNumber()) {
+                        handler.accept(thingId, featureId, change.getRevision(), value.asDouble());
+                    }
+                });
+    }
+
+    @Override
+    public void registerForLongPropertyChanges(final String registrationId, final JsonPointer propertyPath,
+            final LongPropertyConsumer handler) {
+
+        argumentNotNull(handler);
+        SelectorUtil.registerForValueChanges(handlerRegistry, registrationId, getPropertySelector(propertyPath),
+                (change, value) -> {
+                    if (value.isLong()) {
+                        handler.accept(thingId, featureId, change.getRevision(), value.asLong());
+                    }
+                });
+    }
+
+    private JsonPointerSelector getPropertySelector(final JsonPointer propertyPath) {
+        argumentNotNull(propertyPath);
+        return SelectorUtil.formatJsonPointer(LOGGER, "/things/{0}/features/{1}/properties{2}", thingId, featureId,
+                propertyPath);
+    }
+
     @Override
     public boolean deregister(final String registrationId) {
         return handlerRegistry.deregister(registrationId);
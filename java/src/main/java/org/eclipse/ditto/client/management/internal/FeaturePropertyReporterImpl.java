@@ -0,0 +1,151 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.ditto.client.management.internal;
+
+import static org.eclipse.ditto.base.model.common.ConditionChecker.argumentNotNull;
+import static org.eclipse.ditto.base.model.common.ConditionChecker.checkArgument;
+
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.LongSupplier;
+
+import org.eclipse.ditto.client.management.FeaturePropertiesManagement;
+import org.eclipse.ditto.client.management.FeaturePropertyReporter;
+import org.eclipse.ditto.client.management.ReportingPolicy;
+import org.eclipse.ditto.client.options.Option;
+import org.eclipse.ditto.json.JsonPointer;
+import org.eclipse.ditto.json.JsonValue;
+
+/**
+ * Default implementation of {@link FeaturePropertyReporter}. Only the last sent value and its send time are kept per
+ * property. If sending a value fails, it is forgotten again so that the next report of the property is sent.
+ *
+ * @since 3.6.0
+ */
+final class FeaturePropertyReporterImpl implements FeaturePropertyReporter {
+
+    private final FeaturePropertiesManagement feature;
+    private final ReportingPolicy defaultPolicy;
+    private final Map<JsonPointer, ReportingPolicy> propertyPolicies;
+    private final LongSupplier nanoClock;
+    private final ConcurrentMap<JsonPointer, SentValue> lastSentValues;
+    private final LongAdder sentCount;
+    private final LongAdder suppressedCount;
+
+    /**
+     * Constructs a new {@code FeaturePropertyReporterImpl}.
+     *
+     * @param feature the feature to put the sent values to.
+     * @param defaultPolicy the policy of properties without a policy of their own.
+     * @param propertyPolicies the policies of individual properties.
+     * @param nanoClock the source of the current time in nanoseconds.
+     */
+    FeaturePropertyReporterImpl(final FeaturePropertiesManagement feature,
+            final ReportingPolicy defaultPolicy,
+            final Map<JsonPointer, ReportingPolicy> propertyPolicies,
+            final LongSupplier nanoClock) {
+
+        this.feature = feature;
+        this.defaultPolicy = defaultPolicy;
+        this.propertyPolicies = Collections.unmodifiableMap(new HashMap<>(propertyPolicies));
+        this.nanoClock = nanoClock;
+        lastSentValues = new ConcurrentHashMap<>();
+        sentCount = new LongAdder();
+        suppressedCount = new LongAdder();
+    }
+
+    @Override
+    public CompletionStage<Void> report(final JsonPointer path, final JsonValue value, final Option<?>... options) {
+        argumentNotNull(path, "Path");
+        argumentNotNull(value, "value");
+        checkArgument(path, p -> !p.isEmpty(), () -> "The path is not allowed to be empty!");
+
+        final ReportingPolicy policy = propertyPolicies.getOrDefault(path, defaultPolicy);
+        final long now = nanoClock.getAsLong();
+        final SentValue candidate = new SentValue(value, now);
+        final SentValue lastSentValue = lastSentValues.compute(path,
+                (key, previous) -> null == previous || isToBeSent(policy, previous, value, now) ? candidate : previous);
+        if (lastSentValue != candidate) {
+            suppressedCount.increment();
+            return CompletableFuture.completedFuture(null);
+        }
+
+        final CompletionStage<Void> result;
+        try {
+            result = feature.putProperty(path, value, options);
+        } catch (final RuntimeException e) {
+            lastSentValues.remove(path, candidate);
+            throw e;
+        }
+        sentCount.increment();
+        return result.whenComplete((aVoid, error) -> {
+            if (null != error) {
+                lastSentValues.remove(path, candidate);
+            }
+        });
+    }
+
+    @Override
+    public long getSentCount() {
+        return sentCount.sum();
+    }
+
+    @Override
+    public long getSuppressedCount() {
+        return suppressedCount.sum();
+    }
+
+    private static boolean isToBeSent(final ReportingPolicy policy, final SentValue previous, final JsonValue value,
+            final long now) {
+
+        final long nanosSinceSent = now - previous.sentAtNanos;
+        if (policy.getMaxStaleness().filter(staleness -> nanosSinceSent >= staleness.toNanos()).isPresent()) {
+            return true;
+        }
+        if (policy.getMinInterval().filter(interval -> nanosSinceSent < interval.toNanos()).isPresent()) {
+            return false;
+        }
+        return !isWithinDeadband(policy, previous.value, value);
+    }
+
+    private static boolean isWithinDeadband(final ReportingPolicy policy, final JsonValue previousValue,
+            final JsonValue value) {
+
+        if (previousValue.isNumber() && value.isNumber()) {
+            final double previousNumber = previousValue.asDouble();
+            final double difference = Math.abs(value.asDouble() - previousNumber);
+            return difference <= policy.getAbsoluteDeadband() ||
+                    difference <= policy.getRelativeDeadband() * Math.abs(previousNumber);
+        }
+        return previousValue.equals(value);
+    }
+
+    private static final class SentValue {
+
+        private final JsonValue value;
+        private final long sentAtNanos;
+
+        private SentValue(final JsonValue value, final long sentAtNanos) {
+            this.value = value;
+            this.sentAtNanos = sentAtNanos;
+        }
+
+    }
+
+}
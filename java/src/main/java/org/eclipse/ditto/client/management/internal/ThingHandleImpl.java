@@ -15,7 +15,10 @@ package org.eclipse.ditto.client.management.internal;
 import static org.eclipse.ditto.base.model.common.ConditionChecker.argumentNotNull;
 import static org.eclipse.ditto.base.model.common.ConditionChecker.checkArgument;
 
+import java.time.Duration;
+import java.util.Arrays;
 import java.util.concurrent.CompletionStage;
+import java.util.concurrent.ScheduledExecutorService;
 import java.util.function.Consumer;
 
 import org.eclipse.ditto.base.model.common.ConditionChecker;
@@ -33,6 +36,7 @@ import org.eclipse.ditto.client.internal.OutgoingMessageFactory;
 import org.eclipse.ditto.client.internal.bus.SelectorUtil;
 import org.eclipse.ditto.client.management.FeatureHandle;
 import org.eclipse.ditto.client.management.ThingHandle;
+import org.eclipse.ditto.client.management.ThingWriteCoalescer;
 import org.eclipse.ditto.client.messaging.MessagingProvider;
 import org.eclipse.ditto.client.options.Option;
 import org.eclipse.ditto.json.JsonFactory;
@@ -195,6 +199,31 @@ public abstract class ThingHandleImpl<T extends ThingHandle<F>, F extends Featur
         return askThingCommand(command, CommandResponse.class, this::toVoid);
     }
 
+    @Override
+    public CompletionStage<Void> putAttributeOneWay(final JsonPointer path, final JsonValue value,
+            final Option<?>... options) {
+        argumentNotNull(path);
+        argumentNotNull(value);
+        checkArgument(path, p -> !p.isEmpty(), () -> "The path is not allowed to be empty! " +
+                "If you want to update the whole attributes object, please use the setAttributes(JsonObject) method.");
+
+        final ModifyAttribute command = outgoingMessageFactory.setAttribute(thingId, path, value, options);
+        return tellThingCommand(command);
+    }
+
+    @Override
+    public CompletionStage<Void> mergeAttributeOneWay(final JsonPointer path, final JsonValue value,
+            final Option<?>... options) {
+        argumentNotNull(path);
+        argumentNotNull(value);
+        checkArgument(path, p -> !p.isEmpty(), () -> "The path is not allowed to be empty! " +
+                "If you want to merge the whole attributes object, please use the ThingHandleImpl.mergeAttributes() " +
+                "method.");
+
+        final MergeThing command = outgoingMessageFactory.mergeAttribute(thingId, path, value, options);
+        return tellThingCommand(command);
+    }
+
     @Override
     public CompletionStage<Void> setAttributes(final JsonObject attributes, final Option<?>... options) {
         argumentNotNull(attributes);
@@ -277,6 +306,20 @@ public abstract class ThingHandleImpl<T extends ThingHandle<F>, F extends Featur
         return askThingCommand(command, CommandResponse.class, this::toVoid);
     }
 
+    @Override
+    public ThingWriteCoalescer coalesceWrites(final Duration window, final int maxWrites,
+            final Option<?>... options) {
+        argumentNotNull(window, "window");
+        checkArgument(window, w -> !w.isNegative() && !w.isZero(), () -> "The window must be positive!");
+        checkArgument(maxWrites, m -> m > 0, () -> "The maxWrites must be positive!");
+
+        final ScheduledExecutorService scheduler = messagingProvider.getAdaptableBus().getScheduledExecutor();
+        return new ThingWriteCoalescerImpl(window, maxWrites, scheduler, patch -> {
+            final MergeThing command = outgoingMessageFactory.mergeThing(thingId, patch, options);
+            return askThingCommand(command, CommandResponse.class, this::toVoid);
+        });
+    }
+
     @Override
     public CompletionStage<Void> putAttribute(final JsonPointer path, final String value, final Option<?>... options) {
         return putAttribute(path, JsonFactory.newValue(value), options);
@@ -381,8 +424,11 @@ public abstract class ThingHandleImpl<T extends ThingHandle<F>, F extends Featur
     @Override
     public CompletionStage<Thing> retrieve(final Option<?>... options) {
         ConditionChecker.checkNotNull(options, "options");
-        final RetrieveThing command = outgoingMessageFactory.retrieveThing(thingId, options);
-        return askThingCommand(command, RetrieveThingResponse.class, RetrieveThingResponse::getThing);
+        return messagingProvider.getRequestCoalescer()
+                .coalesce(Arrays.asList(channel, thingId, null, Arrays.asList(options)), () -> {
+                    final RetrieveThing command = outgoingMessageFactory.retrieveThing(thingId, options);
+                    return askThingCommand(command, RetrieveThingResponse.class, RetrieveThingResponse::getThing);
+                });
     }
 
     @Override
@@ -395,9 +441,12 @@ public abstract class ThingHandleImpl<T extends ThingHandle<F>, F extends Featur
         ConditionChecker.checkNotNull(fieldSelector, "fieldSelector");
         ConditionChecker.checkNotNull(options, "options");
 
-        final RetrieveThing command =
-                outgoingMessageFactory.retrieveThing(thingId, fieldSelector.getPointers(), options);
-        return askThingCommand(command, RetrieveThingResponse.class, RetrieveThingResponse::getThing);
+        return messagingProvider.getRequestCoalescer()
+                .coalesce(Arrays.asList(channel, thingId, fieldSelector, Arrays.asList(options)), () -> {
+                    final RetrieveThing command =
+                            outgoingMessageFactory.retrieveThing(thingId, fieldSelector.getPointers(), options);
+                    return askThingCommand(command, RetrieveThingResponse.class, RetrieveThingResponse::getThing);
+                });
     }
 
 }
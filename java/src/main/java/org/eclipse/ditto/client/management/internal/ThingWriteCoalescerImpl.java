@@ -0,0 +1,234 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.ditto.client.management.internal;
+
+import static org.eclipse.ditto.base.model.common.ConditionChecker.argumentNotNull;
+import static org.eclipse.ditto.base.model.common.ConditionChecker.checkArgument;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+
+import javax.annotation.Nullable;
+
+import org.eclipse.ditto.client.management.ThingWriteCoalescer;
+import org.eclipse.ditto.json.JsonField;
+import org.eclipse.ditto.json.JsonKey;
+import org.eclipse.ditto.json.JsonObject;
+import org.eclipse.ditto.json.JsonPointer;
+import org.eclipse.ditto.json.JsonValue;
+import org.eclipse.ditto.things.model.Feature;
+import org.eclipse.ditto.things.model.Thing;
+
+/**
+ * Default implementation of {@link ThingWriteCoalescer}. The pending batch is guarded by this object's monitor;
+ * batches are handed to the sender while holding it so that they are sent in the order they were gathered.
+ *
+ * @since 3.6.0
+ */
+final class ThingWriteCoalescerImpl implements ThingWriteCoalescer {
+
+    private final Duration window;
+    private final int maxWrites;
+    private final ScheduledExecutorService scheduler;
+    private final Function<JsonObject, CompletionStage<Void>> sender;
+
+    @Nullable private Batch pendingBatch;
+
+    /**
+     * Constructs a new {@code ThingWriteCoalescerImpl}.
+     *
+     * @param window the maximum time a write is held back.
+     * @param maxWrites the maximum number of writes of one batch.
+     * @param scheduler the scheduler for sending batches whose window elapsed.
+     * @param sender sends the merge patch of a batch and provides its result.
+     */
+    ThingWriteCoalescerImpl(final Duration window,
+            final int maxWrites,
+            final ScheduledExecutorService scheduler,
+            final Function<JsonObject, CompletionStage<Void>> sender) {
+
+        this.window = window;
+        this.maxWrites = maxWrites;
+        this.scheduler = scheduler;
+        this.sender = sender;
+        pendingBatch = null;
+    }
+
+    @Override
+    public CompletionStage<Void> mergeAttribute(final JsonPointer path, final JsonValue value) {
+        argumentNotNull(path, "path");
+        argumentNotNull(value, "value");
+        checkArgument(path, p -> !p.isEmpty(), () -> "The path is not allowed to be empty!");
+
+        return write(Thing.JsonFields.ATTRIBUTES.getPointer().append(path), value);
+    }
+
+    @Override
+    public CompletionStage<Void> mergeProperty(final String featureId, final JsonPointer path,
+            final JsonValue value) {
+
+        argumentNotNull(featureId, "featureId");
+        argumentNotNull(path, "path");
+        argumentNotNull(value, "value");
+        checkArgument(path, p -> !p.isEmpty(), () -> "The path is not allowed to be empty!");
+
+        return write(Thing.JsonFields.FEATURES.getPointer()
+                .append(JsonPointer.of(featureId))
+                .append(Feature.JsonFields.PROPERTIES.getPointer())
+                .append(path), value);
+    }
+
+    @Override
+    public CompletionStage<Void> flush() {
+        final Batch batch;
+        synchronized (this) {
+            batch = pendingBatch;
+            if (null != batch) {
+                sendPendingBatch();
+            }
+        }
+        if (null == batch) {
+            return CompletableFuture.completedFuture(null);
+        }
+        batch.completeFromResponse();
+        return batch.result.thenApply(Function.identity());
+    }
+
+    private CompletionStage<Void> write(final JsonPointer pointer, final JsonValue value) {
+        final JsonObject patch = JsonObject.empty().setValue(pointer, value);
+        final List<Batch> sentBatches = new ArrayList<>(2);
+        final CompletionStage<Void> result;
+        synchronized (this) {
+            if (null != pendingBatch && !pendingBatch.fold(patch)) {
+                sentBatches.add(sendPendingBatch());
+            }
+            if (null == pendingBatch) {
+                final Batch batch = new Batch(patch);
+                batch.timer = scheduler.schedule(() -> flushOnTimeout(batch), window.toMillis(),
+                        TimeUnit.MILLISECONDS);
+                pendingBatch = batch;
+            }
+            result = pendingBatch.result.thenApply(Function.identity());
+            if (pendingBatch.writes >= maxWrites) {
+                sentBatches.add(sendPendingBatch());
+            }
+        }
+        sentBatches.forEach(Batch::completeFromResponse);
+        return result;
+    }
+
+    private void flushOnTimeout(final Batch batch) {
+        synchronized (this) {
+            if (pendingBatch != batch) {
+                return;
+            }
+            sendPendingBatch();
+        }
+        batch.completeFromResponse();
+    }
+
+    private Batch sendPendingBatch() {
+        final Batch batch = pendingBatch;
+        pendingBatch = null;
+        if (null != batch.timer) {
+            batch.timer.cancel(false);
+        }
+        try {
+            batch.response = sender.apply(batch.patch);
+        } catch (final RuntimeException e) {
+            final CompletableFuture<Void> failedResponse = new CompletableFuture<>();
+            failedResponse.completeExceptionally(e);
+            batch.response = failedResponse;
+        }
+        return batch;
+    }
+
+    /**
+     * Folds the JSON merge patch {@code addition} into {@code patch} so that applying the result is equal to applying
+     * both patches one after another.
+     *
+     * @return the folded patch or an empty Optional if the result can not be expressed as a single merge patch,
+     * i.e. if {@code addition} merges an object into a non-object value of {@code patch}.
+     */
+    static Optional<JsonObject> foldPatches(final JsonObject patch, final JsonObject addition) {
+        JsonObject result = patch;
+        for (final JsonField field : addition) {
+            final JsonKey key = field.getKey();
+            final JsonValue value = field.getValue();
+            final Optional<JsonValue> existingValue = result.getValue(key);
+            if (existingValue.isPresent() && isObject(value)) {
+                if (!isObject(existingValue.get())) {
+                    return Optional.empty();
+                }
+                final Optional<JsonObject> folded = foldPatches(existingValue.get().asObject(), value.asObject());
+                if (!folded.isPresent()) {
+                    return Optional.empty();
+                }
+                result = result.setValue(key, folded.get());
+            } else {
+                result = result.setValue(key, value);
+            }
+        }
+        return Optional.of(result);
+    }
+
+    private static boolean isObject(final JsonValue value) {
+        return value.isObject() && !value.isNull();
+    }
+
+    private static final class Batch {
+
+        private final CompletableFuture<Void> result;
+        private JsonObject patch;
+        private int writes;
+        @Nullable private ScheduledFuture<?> timer;
+        @Nullable private CompletionStage<Void> response;
+
+        private Batch(final JsonObject patch) {
+            result = new CompletableFuture<>();
+            this.patch = patch;
+            writes = 1;
+            timer = null;
+            response = null;
+        }
+
+        private boolean fold(final JsonObject addition) {
+            final Optional<JsonObject> folded = foldPatches(patch, addition);
+            folded.ifPresent(foldedPatch -> {
+                patch = foldedPatch;
+                writes++;
+            });
+            return folded.isPresent();
+        }
+
+        private void completeFromResponse() {
+            response.whenComplete((aVoid, error) -> {
+                if (null != error) {
+                    result.completeExceptionally(error);
+                } else {
+                    result.complete(null);
+                }
+            });
+        }
+
+    }
+
+}
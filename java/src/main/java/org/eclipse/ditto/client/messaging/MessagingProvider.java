@@ -20,11 +20,14 @@ import java.util.concurrent.ExecutorService;
 
 import org.eclipse.ditto.client.configuration.AuthenticationConfiguration;
 import org.eclipse.ditto.client.configuration.MessagingConfiguration;
+import org.eclipse.ditto.client.internal.AdaptableJsonWriter;
+import org.eclipse.ditto.client.internal.RequestAdmissionController;
+import org.eclipse.ditto.client.internal.RequestCoalescer;
+import org.eclipse.ditto.client.internal.SearchResultCache;
 import org.eclipse.ditto.client.internal.bus.AdaptableBus;
 import org.eclipse.ditto.client.internal.bus.Classification;
 import org.eclipse.ditto.client.management.ClientReconnectingException;
 import org.eclipse.ditto.protocol.Adaptable;
-import org.eclipse.ditto.protocol.ProtocolFactory;
 
 /**
  * Interface to be used when implementing a messaging provider for the Things client.
@@ -70,6 +73,36 @@ public interface MessagingProvider {
      */
     AdaptableBus getAdaptableBus();
 
+    /**
+     * Returns the {@code RequestAdmissionController} admitting requests which expect a response.
+     *
+     * @return the request admission controller.
+     * @since 3.6.0
+     */
+    default RequestAdmissionController getRequestAdmissionController() {
+        return RequestAdmissionController.unlimited();
+    }
+
+    /**
+     * Returns the {@code RequestCoalescer} joining identical concurrent retrieve requests.
+     *
+     * @return the request coalescer.
+     * @since 3.6.0
+     */
+    default RequestCoalescer getRequestCoalescer() {
+        return RequestCoalescer.disabled();
+    }
+
+    /**
+     * Returns the {@code SearchResultCache} shared by identical search queries.
+     *
+     * @return the search result cache.
+     * @since 3.6.0
+     */
+    default SearchResultCache getSearchResultCache() {
+        return SearchResultCache.disabled();
+    }
+
     /**
      * Register a subscription message by key to send on reconnect.
      * Replace previously registered subscription messages with the same key.
@@ -111,7 +144,7 @@ public interface MessagingProvider {
      * @since 1.1.0
      */
     default void emitAdaptable(Adaptable message) {
-        emit(ProtocolFactory.wrapAsJsonifiableAdaptable(message).toJsonString());
+        emit(AdaptableJsonWriter.toJsonString(message));
     }
 
     /**
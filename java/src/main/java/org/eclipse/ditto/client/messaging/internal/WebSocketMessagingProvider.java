@@ -47,6 +47,9 @@ import org.eclipse.ditto.client.configuration.AuthenticationConfiguration;
 import org.eclipse.ditto.client.configuration.DisconnectedContext;
 import org.eclipse.ditto.client.configuration.MessagingConfiguration;
 import org.eclipse.ditto.client.internal.DefaultThreadFactory;
+import org.eclipse.ditto.client.internal.RequestAdmissionController;
+import org.eclipse.ditto.client.internal.RequestCoalescer;
+import org.eclipse.ditto.client.internal.SearchResultCache;
 import org.eclipse.ditto.client.internal.VersionReader;
 import org.eclipse.ditto.client.internal.bus.AdaptableBus;
 import org.eclipse.ditto.client.internal.bus.BusFactory;
@@ -85,6 +88,9 @@ public final class WebSocketMessagingProvider extends WebSocketAdapter implement
     private static final int RECONNECTION_TIMEOUT_SECONDS = 5;
 
     private final AdaptableBus adaptableBus;
+    private final RequestAdmissionController requestAdmissionController;
+    private final RequestCoalescer requestCoalescer;
+    private final SearchResultCache searchResultCache;
     private final MessagingConfiguration messagingConfiguration;
     private final AuthenticationProvider<WebSocket> authenticationProvider;
     private final ExecutorService callbackExecutor;
@@ -121,6 +127,15 @@ public final class WebSocketMessagingProvider extends WebSocketAdapter implement
             final ExecutorService callbackExecutor) {
         this.adaptableBus = adaptableBus;
         this.messagingConfiguration = messagingConfiguration;
+        requestAdmissionController = messagingConfiguration.getRequestAdmissionConfiguration()
+                .map(config -> RequestAdmissionController.of(config, adaptableBus.getScheduledExecutor()))
+                .orElseGet(RequestAdmissionController::unlimited);
+        requestCoalescer = messagingConfiguration.isRetrieveCoalescingEnabled()
+                ? RequestCoalescer.newInstance()
+                : RequestCoalescer.disabled();
+        searchResultCache = messagingConfiguration.getSearchResultCacheConfiguration()
+                .map(config -> SearchResultCache.of(config, adaptableBus))
+                .orElseGet(SearchResultCache::disabled);
         this.authenticationProvider = authenticationProvider;
         this.callbackExecutor = callbackExecutor;
 
@@ -218,6 +233,21 @@ public final class WebSocketMessagingProvider extends WebSocketAdapter implement
         return adaptableBus;
     }
 
+    @Override
+    public RequestAdmissionController getRequestAdmissionController() {
+        return requestAdmissionController;
+    }
+
+    @Override
+    public RequestCoalescer getRequestCoalescer() {
+        return requestCoalescer;
+    }
+
+    @Override
+    public SearchResultCache getSearchResultCache() {
+        return searchResultCache;
+    }
+
     @Override
     public MessagingProvider registerSubscriptionMessage(final Object key, final String message) {
         subscriptionMessages.put(key, message);
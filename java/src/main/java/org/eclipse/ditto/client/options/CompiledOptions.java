@@ -0,0 +1,167 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.ditto.client.options;
+
+import static org.eclipse.ditto.base.model.common.ConditionChecker.checkNotNull;
+
+import java.text.MessageFormat;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Objects;
+import java.util.Set;
+
+import org.eclipse.ditto.base.model.headers.DittoHeaders;
+import org.eclipse.ditto.base.model.headers.DittoHeadersBuilder;
+import org.eclipse.ditto.base.model.headers.entitytag.EntityTagMatcher;
+import org.eclipse.ditto.base.model.headers.entitytag.EntityTagMatchers;
+import org.eclipse.ditto.client.options.internal.OptionsEvaluator;
+
+/**
+ * A bundle of options which were validated and turned into the headers they contribute once, see
+ * {@link Options#compile(Option[])}. Passing the same {@code CompiledOptions} to many operations avoids evaluating the
+ * options again for each of them; only the correlation ID and the schema version are added per operation.
+ * <p>
+ * A {@code CompiledOptions} can be passed wherever options are accepted. If it is combined with further options, it
+ * behaves like the options it was compiled from.
+ * </p>
+ *
+ * @since 3.6.0
+ */
+public final class CompiledOptions implements Option<DittoHeaders> {
+
+    private static final Set<OptionName> COMPILABLE_OPTION_NAMES = Collections.unmodifiableSet(new HashSet<>(
+            Arrays.asList(OptionName.Global.DITTO_HEADERS, OptionName.Global.CONDITION,
+                    OptionName.Global.LIVE_CHANNEL_CONDITION, OptionName.Modify.RESPONSE_REQUIRED,
+                    OptionName.Modify.EXISTS)));
+
+    private static final EntityTagMatchers ASTERISK_ENTITY_TAG_MATCHER =
+            EntityTagMatchers.fromList(Collections.singletonList(EntityTagMatcher.asterisk()));
+
+    private final List<Option<?>> options;
+    private final Set<OptionName> optionNames;
+    private final DittoHeaders headers;
+
+    private CompiledOptions(final List<Option<?>> options, final Set<OptionName> optionNames,
+            final DittoHeaders headers) {
+
+        this.options = options;
+        this.optionNames = optionNames;
+        this.headers = headers;
+    }
+
+    /**
+     * Returns a new instance of {@code CompiledOptions}.
+     *
+     * @param options the options to compile.
+     * @return the compiled options.
+     * @throws NullPointerException if {@code options} is {@code null}.
+     * @throws IllegalArgumentException if {@code options} contains an option which does not only contribute headers
+     * or if two options have the same name but different values.
+     */
+    static CompiledOptions of(final Option<?>[] options) {
+        checkNotNull(options, "options");
+
+        final Set<OptionName> optionNames = new HashSet<>();
+        for (final Option<?> option : options) {
+            final OptionName optionName = checkNotNull(option, "option").getName();
+            if (!COMPILABLE_OPTION_NAMES.contains(optionName)) {
+                final String pattern = "Option ''{0}'' can not be compiled. Only {1} can be compiled.";
+                throw new IllegalArgumentException(MessageFormat.format(pattern, optionName, COMPILABLE_OPTION_NAMES));
+            }
+            optionNames.add(optionName);
+        }
+
+        final OptionsEvaluator.Global globalOptionsEvaluator = OptionsEvaluator.forGlobalOptions(options);
+        final OptionsEvaluator.Modify modifyOptionsEvaluator = OptionsEvaluator.forModifyOptions(options);
+        final DittoHeadersBuilder<?, ?> headersBuilder = DittoHeaders.newBuilder();
+        globalOptionsEvaluator.getDittoHeaders().ifPresent(headersBuilder::putHeaders);
+        headersBuilder.responseRequired(modifyOptionsEvaluator.isResponseRequired().orElse(true));
+        modifyOptionsEvaluator.exists().ifPresent(exists -> {
+            if (exists) {
+                headersBuilder.ifMatch(ASTERISK_ENTITY_TAG_MATCHER);
+            } else {
+                headersBuilder.ifNoneMatch(ASTERISK_ENTITY_TAG_MATCHER);
+            }
+        });
+        globalOptionsEvaluator.condition().ifPresent(headersBuilder::condition);
+        globalOptionsEvaluator.getLiveChannelCondition().ifPresent(headersBuilder::liveChannelCondition);
+
+        return new CompiledOptions(Collections.unmodifiableList(Arrays.asList(options.clone())),
+                Collections.unmodifiableSet(optionNames), headersBuilder.build());
+    }
+
+    @Override
+    public OptionName getName() {
+        return OptionName.Global.COMPILED_OPTIONS;
+    }
+
+    /**
+     * Returns the headers which the compiled options contribute to an operation, without correlation ID unless one
+     * was provided via {@link Options#headers(DittoHeaders)}.
+     *
+     * @return the headers.
+     */
+    @Override
+    public DittoHeaders getValue() {
+        return headers;
+    }
+
+    @Override
+    public <E> E getValueAs(final Class<E> type) {
+        checkNotNull(type, "target type to cast the value of this option to");
+        return type.cast(headers);
+    }
+
+    /**
+     * Returns the options these compiled options were compiled from.
+     *
+     * @return the unmodifiable list of options.
+     */
+    public List<Option<?>> getOptions() {
+        return options;
+    }
+
+    /**
+     * Returns the names of the options these compiled options were compiled from.
+     *
+     * @return the unmodifiable set of option names.
+     */
+    public Set<OptionName> getOptionNames() {
+        return optionNames;
+    }
+
+    @Override
+    public boolean equals(final Object o) {
+        if (this == o) {
+            return true;
+        }
+        if (o == null || getClass() != o.getClass()) {
+            return false;
+        }
+        final CompiledOptions that = (CompiledOptions) o;
+        return Objects.equals(options, that.options);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(options);
+    }
+
+    @Override
+    public String toString() {
+        return getClass().getSimpleName() + " [" + "options=" + options + ", headers=" + headers + "]";
+    }
+
+}
@@ -62,6 +62,13 @@ public interface OptionName extends Predicate<Object> {
          */
         LIVE_CHANNEL_CONDITION,
 
+        /**
+         * Name of the option which bundles other options compiled via {@link Options#compile(Option[])}.
+         *
+         * @since 3.6.0
+         */
+        COMPILED_OPTIONS,
+
     }
 
     /**
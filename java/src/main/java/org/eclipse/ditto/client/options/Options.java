@@ -90,6 +90,28 @@ public final class Options {
                 liveChannelConditionExpression.toString());
     }
 
+    /**
+     * Compiles the given options into a reusable bundle. The options are validated and turned into the headers they
+     * contribute once, so that passing the returned bundle to many operations only adds a correlation ID and the
+     * schema version per operation.
+     * <p>
+     * Only options which solely contribute headers can be compiled, i.e. {@link #headers(DittoHeaders)},
+     * {@link #condition(CharSequence)}, {@link #liveChannelCondition(CharSequence)},
+     * {@link Modify#responseRequired(boolean)} and {@link Modify#exists(boolean)}. An operation which does not allow
+     * one of the compiled options rejects the bundle like it rejects the option itself.
+     * </p>
+     *
+     * @param options the options to compile.
+     * @return the compiled options.
+     * @throws NullPointerException if {@code options} is {@code null}.
+     * @throws IllegalArgumentException if {@code options} contains an option which can not be compiled or if two
+     * options have the same name but different values.
+     * @since 3.6.0
+     */
+    public static CompiledOptions compile(final Option<?>... options) {
+        return CompiledOptions.of(options);
+    }
+
     /**
      * The {@code Modify} class provides static factory methods for creating Options which are related to modifying
      * operations.
@@ -14,7 +14,6 @@ package org.eclipse.ditto.client.options.internal;
 
 import static org.eclipse.ditto.base.model.common.ConditionChecker.checkNotNull;
 
-import java.util.Collections;
 import java.util.Iterator;
 import java.util.LinkedHashSet;
 import java.util.Set;
@@ -22,6 +21,7 @@ import java.util.function.Consumer;
 
 import javax.annotation.concurrent.Immutable;
 
+import org.eclipse.ditto.client.options.CompiledOptions;
 import org.eclipse.ditto.client.options.Option;
 
 /**
@@ -31,6 +31,8 @@ import org.eclipse.ditto.client.options.Option;
  * <p>
  * Furthermore this class validates the integrity of user provided options, for example if an option name was given more
  * than once or if mutually exclusive options were provided.
+ * <p>
+ * {@link CompiledOptions} are expanded into the options they were compiled from.
  *
  * @since 1.0.0
  */
@@ -55,7 +57,13 @@ final class UserProvidedOptions {
         checkNotNull(options, "options");
 
         final Set<Option<?>> optionsAsSet = new LinkedHashSet<>(options.length);
-        Collections.addAll(optionsAsSet, options);
+        for (final Option<?> option : options) {
+            if (option instanceof CompiledOptions) {
+                optionsAsSet.addAll(((CompiledOptions) option).getOptions());
+            } else {
+                optionsAsSet.add(option);
+            }
+        }
 
         final Consumer<Option<?>[]> optionsValidator = new OptionsValidator();
         optionsValidator.accept(optionsAsSet.toArray(new Option<?>[0]));
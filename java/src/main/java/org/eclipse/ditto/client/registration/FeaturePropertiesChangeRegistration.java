@@ -108,4 +108,104 @@ public interface FeaturePropertiesChangeRegistration extends WithThingId, Handle
      */
     void registerForPropertyChanges(String registrationId, JsonPointer path, Consumer<Change> handler);
 
+    /**
+     * Registers a {@link DoublePropertyConsumer} which is notified about changes of the {@code double} value of a
+     * <em>specific</em> {@code property} of the Feature.
+     * <p>
+     * The consumer gets the new value as primitive {@code double} instead of a {@link Change}, which avoids the per
+     * handler Change for high frequency telemetry. It is only notified if the property is created or modified with a
+     * value which is one of the JSON numbers; deletions and values of other types are not delivered.
+     * </p>
+     * Example:
+     * <pre>
+     * DittoClient client = ...
+     * FeatureHandle myFeature = client.twin().forId("org.eclipse.ditto:myThing").forFeature("sensor");
+     *
+     * myFeature.registerForDoublePropertyChanges(HANDLER_ID, JsonFactory.newPointer("temperature"),
+     *    (thingId, featureId, revision, value) -&gt; LOGGER.info("temperature is now: {}", value));
+     * </pre>
+     *
+     * @param registrationId an arbitrary ID provided by the user which can be used to cancel the registration later on.
+     * It is required to be unique per {@link DittoClient} instance.
+     * @param path the path to the {@code property} of interest.
+     * @param handler the {@code DoublePropertyConsumer} to handle the changed values.
+     * @throws IllegalArgumentException if {@code path} or {@code handler} is {@code null}.
+     * @throws DuplicateRegistrationIdException if a handler is already registered for the given {@code
+     * registrationId}.
+     * @since 3.6.0
+     */
+    void registerForDoublePropertyChanges(String registrationId, JsonPointer path, DoublePropertyConsumer handler);
+
+    /**
+     * Registers a {@link DoublePropertyConsumer} which is notified about changes of the {@code double} value of a
+     * <em>specific</em> {@code property} of the Feature.
+     *
+     * @param registrationId an arbitrary ID provided by the user which can be used to cancel the registration later on.
+     * It is required to be unique per {@link DittoClient} instance.
+     * @param path the path to the {@code property} of interest - may contain {@code "/"} for addressing nested paths in
+     * a hierarchy.
+     * @param handler the {@code DoublePropertyConsumer} to handle the changed values.
+     * @throws IllegalArgumentException if {@code path} or {@code handler} is {@code null}.
+     * @throws DuplicateRegistrationIdException if a handler is already registered for the given {@code
+     * registrationId}.
+     * @see #registerForDoublePropertyChanges(String, JsonPointer, DoublePropertyConsumer)
+     * @since 3.6.0
+     */
+    default void registerForDoublePropertyChanges(final String registrationId, final CharSequence path,
+            final DoublePropertyConsumer handler) {
+
+        argumentNotNull(path);
+        registerForDoublePropertyChanges(registrationId, JsonFactory.newPointer(path), handler);
+    }
+
+    /**
+     * Registers a {@link LongPropertyConsumer} which is notified about changes of the {@code long} value of a
+     * <em>specific</em> {@code property} of the Feature.
+     * <p>
+     * The consumer gets the new value as primitive {@code long} instead of a {@link Change}, which avoids the per
+     * handler Change for high frequency telemetry. It is only notified if the property is created or modified with a
+     * value which is one of the JSON integral numbers; deletions and values of other types are not delivered.
+     * </p>
+     * Example:
+     * <pre>
+     * DittoClient client = ...
+     * FeatureHandle myFeature = client.twin().forId("org.eclipse.ditto:myThing").forFeature("sensor");
+     *
+     * myFeature.registerForLongPropertyChanges(HANDLER_ID, JsonFactory.newPointer("counter"),
+     *    (thingId, featureId, revision, value) -&gt; LOGGER.info("counter is now: {}", value));
+     * </pre>
+     *
+     * @param registrationId an arbitrary ID provided by the user which can be used to cancel the registration later on.
+     * It is required to be unique per {@link DittoClient} instance.
+     * @param path the path to the {@code property} of interest.
+     * @param handler the {@code LongPropertyConsumer} to handle the changed values.
+     * @throws IllegalArgumentException if {@code path} or {@code handler} is {@code null}.
+     * @throws DuplicateRegistrationIdException if a handler is already registered for the given {@code
+     * registrationId}.
+     * @since 3.6.0
+     */
+    void registerForLongPropertyChanges(String registrationId, JsonPointer path, LongPropertyConsumer handler);
+
+    /**
+     * Registers a {@link LongPropertyConsumer} which is notified about changes of the {@code long} value of a
+     * <em>specific</em> {@code property} of the Feature.
+     *
+     * @param registrationId an arbitrary ID provided by the user which can be used to cancel the registration later on.
+     * It is required to be unique per {@link DittoClient} instance.
+     * @param path the path to the {@code property} of interest - may contain {@code "/"} for addressing nested paths in
+     * a hierarchy.
+     * @param handler the {@code LongPropertyConsumer} to handle the changed values.
+     * @throws IllegalArgumentException if {@code path} or {@code handler} is {@code null}.
+     * @throws DuplicateRegistrationIdException if a handler is already registered for the given {@code
+     * registrationId}.
+     * @see #registerForLongPropertyChanges(String, JsonPointer, LongPropertyConsumer)
+     * @since 3.6.0
+     */
+    default void registerForLongPropertyChanges(final String registrationId, final CharSequence path,
+            final LongPropertyConsumer handler) {
+
+        argumentNotNull(path);
+        registerForLongPropertyChanges(registrationId, JsonFactory.newPointer(path), handler);
+    }
+
 }
@@ -0,0 +1,36 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.ditto.client.registration;
+
+import org.eclipse.ditto.things.model.ThingId;
+
+/**
+ * Handles changes of a feature property with a {@code long} value without wrapping the value in a
+ * {@link org.eclipse.ditto.client.changes.Change}.
+ *
+ * @since 3.6.0
+ */
+@FunctionalInterface
+public interface LongPropertyConsumer {
+
+    /**
+     * Handles the changed value of a feature property.
+     *
+     * @param thingId the ID of the Thing whose feature property changed.
+     * @param featureId the ID of the Feature whose property changed.
+     * @param revision the revision (change counter) of the change.
+     * @param value the new value of the property.
+     */
+    void accept(ThingId thingId, String featureId, long revision, long value);
+
+}
@@ -0,0 +1,210 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.ditto.client.streaming;
+
+import java.time.Duration;
+import java.util.ArrayDeque;
+import java.util.Optional;
+import java.util.function.LongSupplier;
+
+import javax.annotation.concurrent.GuardedBy;
+import javax.annotation.concurrent.ThreadSafe;
+
+/**
+ * Decides how many elements a {@link SpliteratorSubscriber} requests so that enough elements are buffered to bridge the
+ * round trip of a request without buffering more than the consumer needs. The controller measures the time from
+ * requesting an element until its arrival and the time the consumer spends processing an element, and targets
+ * {@code roundTrip / processingTime + 1} elements buffered or requested, bounded by the minimum and maximum demand.
+ * <p>
+ * A controller may only be used by one subscriber. Its metrics may be read at any time.
+ * </p>
+ *
+ * @since 3.6.0
+ */
+@ThreadSafe
+public final class AdaptiveDemandController {
+
+    private static final double SMOOTHING = 0.2;
+
+    private final int minDemand;
+    private final int maxDemand;
+    private final LongSupplier nanoClock;
+
+    @GuardedBy("this") private final ArrayDeque<long[]> requestTimestamps = new ArrayDeque<>();
+    @GuardedBy("this") private int bufferedElements = 0;
+    @GuardedBy("this") private int peakBufferedElements = 0;
+    @GuardedBy("this") private int outstandingDemand = 0;
+    @GuardedBy("this") private double roundTripNanos = -1.0;
+    @GuardedBy("this") private double processingNanos = -1.0;
+
+    AdaptiveDemandController(final int minDemand, final int maxDemand, final LongSupplier nanoClock) {
+        this.minDemand = minDemand;
+        this.maxDemand = maxDemand;
+        this.nanoClock = nanoClock;
+    }
+
+    /**
+     * Create a controller keeping between {@code minDemand} and {@code maxDemand} elements buffered or requested.
+     *
+     * @param minDemand the minimum number of elements buffered or requested.
+     * @param maxDemand the maximum number of elements buffered or requested.
+     * @return the controller.
+     * @throws IllegalArgumentException if {@code minDemand} is not positive or greater than {@code maxDemand}.
+     */
+    public static AdaptiveDemandController of(final int minDemand, final int maxDemand) {
+        if (minDemand <= 0) {
+            throw new IllegalArgumentException("Expect positive minDemand, got: " + minDemand);
+        }
+        if (maxDemand < minDemand) {
+            throw new IllegalArgumentException("Expect maxDemand to be at least minDemand=" + minDemand +
+                    ", got: " + maxDemand);
+        }
+        return new AdaptiveDemandController(minDemand, maxDemand, System::nanoTime);
+    }
+
+    /**
+     * @return the minimum number of elements buffered or requested.
+     */
+    public int getMinDemand() {
+        return minDemand;
+    }
+
+    /**
+     * @return the maximum number of elements buffered or requested.
+     */
+    public int getMaxDemand() {
+        return maxDemand;
+    }
+
+    /**
+     * @return the number of elements which arrived but were not consumed yet.
+     */
+    public synchronized int getBufferedElements() {
+        return bufferedElements;
+    }
+
+    /**
+     * @return the highest number of elements which were buffered at the same time.
+     */
+    public synchronized int getPeakBufferedElements() {
+        return peakBufferedElements;
+    }
+
+    /**
+     * @return the number of elements which were requested but did not arrive yet.
+     */
+    public synchronized int getOutstandingDemand() {
+        return outstandingDemand;
+    }
+
+    /**
+     * @return the number of elements currently targeted to be buffered or requested.
+     */
+    public synchronized int getTargetDemand() {
+        return targetDemand();
+    }
+
+    /**
+     * @return the smoothed time from requesting an element until its arrival, if any element arrived yet.
+     */
+    public synchronized Optional<Duration> getRoundTripTime() {
+        return toDuration(roundTripNanos);
+    }
+
+    /**
+     * @return the smoothed time the consumer spent processing an element, if any element was consumed yet.
+     */
+    public synchronized Optional<Duration> getProcessingTime() {
+        return toDuration(processingNanos);
+    }
+
+    /**
+     * Called when the subscriber is subscribed.
+     *
+     * @return the number of elements to request initially.
+     */
+    synchronized int onSubscribe() {
+        return request(minDemand);
+    }
+
+    /**
+     * Called when an element arrives.
+     */
+    synchronized void onElement() {
+        final long[] oldestRequest = requestTimestamps.peekFirst();
+        if (null != oldestRequest) {
+            roundTripNanos = smooth(roundTripNanos, nanoClock.getAsLong() - oldestRequest[0]);
+            if (--oldestRequest[1] == 0) {
+                requestTimestamps.pollFirst();
+            }
+        }
+        outstandingDemand = Math.max(0, outstandingDemand - 1);
+        bufferedElements++;
+        peakBufferedElements = Math.max(peakBufferedElements, bufferedElements);
+    }
+
+    /**
+     * Called when the consumer finished processing an element.
+     *
+     * @param elementProcessingNanos the time the consumer spent processing the element.
+     * @return the number of elements to request now, possibly 0.
+     */
+    synchronized int onConsumed(final long elementProcessingNanos) {
+        bufferedElements = Math.max(0, bufferedElements - 1);
+        processingNanos = smooth(processingNanos, Math.max(1L, elementProcessingNanos));
+        final int target = targetDemand();
+        final int deficit = target - bufferedElements - outstandingDemand;
+        // request in batches of a quarter of the target to save round trips while keeping most of the target
+        if (deficit > 0 && deficit >= Math.max(1, target / 4)) {
+            return request(deficit);
+        } else {
+            return 0;
+        }
+    }
+
+    @GuardedBy("this")
+    private int request(final int n) {
+        requestTimestamps.addLast(new long[]{nanoClock.getAsLong(), n});
+        outstandingDemand += n;
+        return n;
+    }
+
+    @GuardedBy("this")
+    private int targetDemand() {
+        if (roundTripNanos < 0 || processingNanos < 0) {
+            return minDemand;
+        }
+        final double elementsPerRoundTrip = Math.ceil(roundTripNanos / processingNanos) + 1;
+        return (int) Math.max(minDemand, Math.min(maxDemand, elementsPerRoundTrip));
+    }
+
+    private static double smooth(final double average, final long sample) {
+        return average < 0 ? sample : average + SMOOTHING * (sample - average);
+    }
+
+    private static Optional<Duration> toDuration(final double nanos) {
+        return nanos < 0 ? Optional.empty() : Optional.of(Duration.ofNanos((long) nanos));
+    }
+
+    @Override
+    public synchronized String toString() {
+        return getClass().getSimpleName() + " [" +
+                "minDemand=" + minDemand +
+                ", maxDemand=" + maxDemand +
+                ", bufferedElements=" + bufferedElements +
+                ", outstandingDemand=" + outstandingDemand +
+                ", targetDemand=" + targetDemand() +
+                "]";
+    }
+
+}
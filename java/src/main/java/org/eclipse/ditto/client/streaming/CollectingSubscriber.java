@@ -0,0 +1,177 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.ditto.client.streaming;
+
+import static org.eclipse.ditto.base.model.common.ConditionChecker.checkNotNull;
+
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.BiConsumer;
+import java.util.stream.Collector;
+
+import javax.annotation.Nullable;
+
+import org.reactivestreams.Subscriber;
+import org.reactivestreams.Subscription;
+
+/**
+ * Subscriber which reduces pages of elements with a {@link Collector} as they arrive. Pages are not retained, so
+ * that the memory needed is that of the accumulation of the collector, e.g. proportional to the number of groups of
+ * a grouping collector, plus at most {@code prefetch} pages in flight.
+ * <p>
+ * Cancelling the future of the result cancels the subscription.
+ * </p>
+ *
+ * @param <T> the type of elements.
+ * @param <A> the type of the accumulation of the collector.
+ * @param <R> the type of the result.
+ * @since 3.6.0
+ */
+public final class CollectingSubscriber<T, A, R> implements Subscriber<List<T>> {
+
+    private final Collector<? super T, A, R> collector;
+    private final BiConsumer<A, ? super T> accumulatorFunction;
+    private final int prefetch;
+    private final int batchSize;
+    private final CompletableFuture<R> result;
+    private final AtomicReference<Subscription> subscription;
+
+    // only accessed by signals, which happen one after another
+    @Nullable private A accumulation;
+    private int receivedSinceLastRequest;
+
+    private CollectingSubscriber(final Collector<? super T, A, R> collector, final int prefetch,
+            final int batchSize) {
+
+        this.collector = collector;
+        accumulatorFunction = collector.accumulator();
+        this.prefetch = prefetch;
+        this.batchSize = batchSize;
+        result = new CompletableFuture<>();
+        subscription = new AtomicReference<>();
+        accumulation = null;
+        receivedSinceLastRequest = 0;
+        result.whenComplete((r, error) -> {
+            if (result.isCancelled()) {
+                cancelSubscription();
+            }
+        });
+    }
+
+    /**
+     * Create a subscriber reducing pages of elements with the passed collector.
+     *
+     * @param collector the collector.
+     * @param prefetch the number of pages to request initially.
+     * @param batchSize the number of pages to request each time as many pages were reduced.
+     * @param <T> the type of elements.
+     * @param <A> the type of the accumulation of the collector.
+     * @param <R> the type of the result.
+     * @return the subscriber.
+     * @throws NullPointerException if {@code collector} is {@code null}.
+     * @throws IllegalArgumentException if {@code prefetch} or {@code batchSize} is not positive or if
+     * {@code batchSize} is greater than {@code prefetch}.
+     */
+    public static <T, A, R> CollectingSubscriber<T, A, R> of(final Collector<? super T, A, R> collector,
+            final int prefetch, final int batchSize) {
+
+        checkNotNull(collector, "collector");
+        if (batchSize <= 0) {
+            throw new IllegalArgumentException("Expect positive batchSize, got: " + batchSize);
+        }
+        if (batchSize > prefetch) {
+            throw new IllegalArgumentException("Expect prefetch to be at least batchSize=" + batchSize +
+                    ", got: " + prefetch);
+        }
+        return new CollectingSubscriber<>(collector, prefetch, batchSize);
+    }
+
+    /**
+     * @return the future result, completed when the publisher completes or failed when the publisher or the
+     * collector fails.
+     */
+    public CompletableFuture<R> getResult() {
+        return result;
+    }
+
+    @Override
+    public void onSubscribe(final Subscription s) {
+        checkNotNull(s, "subscription");
+        if (!subscription.compareAndSet(null, s)) {
+            s.cancel();
+        } else if (result.isDone()) {
+            cancelSubscription();
+        } else {
+            try {
+                accumulation = collector.supplier().get();
+            } catch (final RuntimeException e) {
+                cancelSubscription();
+                result.completeExceptionally(e);
+                return;
+            }
+            s.request(prefetch);
+        }
+    }
+
+    @Override
+    public void onNext(final List<T> page) {
+        checkNotNull(page, "page");
+        if (result.isDone()) {
+            return;
+        }
+        try {
+            for (final T element : page) {
+                accumulatorFunction.accept(accumulation, element);
+            }
+        } catch (final RuntimeException e) {
+            cancelSubscription();
+            result.completeExceptionally(e);
+            return;
+        }
+        receivedSinceLastRequest++;
+        if (receivedSinceLastRequest >= batchSize) {
+            receivedSinceLastRequest -= batchSize;
+            subscription.get().request(batchSize);
+        }
+    }
+
+    @Override
+    public void onError(final Throwable t) {
+        checkNotNull(t, "throwable");
+        ThingSearchSubscription.terminate(subscription.get());
+        result.completeExceptionally(t);
+    }
+
+    @Override
+    public void onComplete() {
+        ThingSearchSubscription.terminate(subscription.get());
+        if (!result.isDone()) {
+            try {
+                result.complete(collector.finisher().apply(accumulation));
+            } catch (final RuntimeException e) {
+                result.completeExceptionally(e);
+            }
+        }
+    }
+
+    private void cancelSubscription() {
+        final Subscription s = subscription.get();
+        if (null != s) {
+            s.cancel();
+            ThingSearchSubscription.terminate(s);
+        }
+    }
+
+}
@@ -0,0 +1,123 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.ditto.client.streaming;
+
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Package-private: runs tasks one after another in the order of their submission on a shared executor, like the
+ * mailbox of an actor. Many mailboxes can share a bounded executor without occupying a thread while they are idle.
+ * Each task happens-before the next one.
+ * <p>
+ * After {@link #shutdown()}, queued tasks still run but new tasks are rejected; {@link #shutdownNow()} also drops the
+ * queued tasks.
+ * </p>
+ */
+final class Mailbox implements Executor {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(Mailbox.class);
+
+    /**
+     * The maximum number of tasks to run before giving other mailboxes a chance to use the thread.
+     */
+    private static final int THROUGHPUT = 16;
+
+    private final Executor executor;
+    private final Queue<Runnable> tasks;
+    private final AtomicBoolean scheduled;
+    private volatile boolean shutdown;
+
+    private Mailbox(final Executor executor) {
+        this.executor = executor;
+        tasks = new ConcurrentLinkedQueue<>();
+        scheduled = new AtomicBoolean(false);
+        shutdown = false;
+    }
+
+    /**
+     * Create a mailbox running its tasks on the given executor.
+     *
+     * @param executor the shared executor.
+     * @return the mailbox.
+     */
+    static Mailbox of(final Executor executor) {
+        return new Mailbox(executor);
+    }
+
+    /**
+     * Enqueue a task to run after all previously enqueued tasks.
+     *
+     * @param task the task.
+     * @throws RejectedExecutionException if the mailbox was shut down.
+     */
+    @Override
+    public void execute(final Runnable task) {
+        if (shutdown) {
+            throw new RejectedExecutionException("Mailbox is shut down.");
+        }
+        tasks.add(task);
+        schedule();
+    }
+
+    /**
+     * Reject new tasks but run the queued ones.
+     */
+    void shutdown() {
+        shutdown = true;
+    }
+
+    /**
+     * Reject new tasks and drop the queued ones. A task which is currently running is not interrupted.
+     */
+    void shutdownNow() {
+        shutdown = true;
+        tasks.clear();
+    }
+
+    private void schedule() {
+        if (!tasks.isEmpty() && scheduled.compareAndSet(false, true)) {
+            try {
+                executor.execute(this::run);
+            } catch (final RejectedExecutionException e) {
+                scheduled.set(false);
+                shutdownNow();
+                throw e;
+            }
+        }
+    }
+
+    private void run() {
+        for (int i = 0; i < THROUGHPUT; i++) {
+            final Runnable task = tasks.poll();
+            if (null == task) {
+                break;
+            }
+            try {
+                task.run();
+            } catch (final RuntimeException e) {
+                LOGGER.warn("Task of mailbox failed.", e);
+            }
+        }
+        scheduled.set(false);
+        // tasks may have been enqueued after the last poll but before the flag was reset
+        schedule();
+    }
+
+}
@@ -0,0 +1,310 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.ditto.client.streaming;
+
+import static org.eclipse.ditto.base.model.common.ConditionChecker.checkNotNull;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicReference;
+
+import javax.annotation.Nullable;
+import javax.annotation.concurrent.GuardedBy;
+
+import org.reactivestreams.Publisher;
+import org.reactivestreams.Subscriber;
+import org.reactivestreams.Subscription;
+
+/**
+ * Publisher merging the elements of several publishers which are subscribed to at the same time. Each of them has at
+ * most {@code prefetch} elements requested or buffered; after {@code batchSize} of its elements were published, the
+ * next {@code batchSize} elements are requested from it. Elements are published in the order of their arrival. The
+ * merged publisher completes when all publishers completed and fails as soon as one of them failed, cancelling the
+ * others. Search subscriptions of {@link ThingSearchPublisher}s are terminated like by {@link SpliteratorSubscriber}.
+ *
+ * @param <T> the type of elements.
+ * @since 3.6.0
+ */
+public final class MergePublisher<T> implements Publisher<T> {
+
+    private final List<Publisher<T>> publishers;
+    private final int prefetch;
+    private final int batchSize;
+    private final AtomicBoolean subscribed;
+
+    private MergePublisher(final List<Publisher<T>> publishers, final int prefetch, final int batchSize) {
+        this.publishers = publishers;
+        this.prefetch = prefetch;
+        this.batchSize = batchSize;
+        subscribed = new AtomicBoolean(false);
+    }
+
+    /**
+     * Create a single-use publisher merging the elements of the given publishers.
+     *
+     * @param publishers the publishers to merge.
+     * @param prefetch the maximum number of elements requested or buffered per publisher.
+     * @param batchSize the number of elements to request from a publisher at once after the initial request.
+     * @param <T> the type of elements.
+     * @return the single-use publisher.
+     * @throws NullPointerException if {@code publishers} is {@code null} or contains {@code null}.
+     * @throws IllegalArgumentException if {@code prefetch} or {@code batchSize} is not positive or if
+     * {@code batchSize} is greater than {@code prefetch}.
+     */
+    public static <T> Publisher<T> of(final List<? extends Publisher<T>> publishers,
+            final int prefetch,
+            final int batchSize) {
+
+        checkNotNull(publishers, "publishers");
+        if (batchSize <= 0) {
+            throw new IllegalArgumentException("Expect positive batchSize, got: " + batchSize);
+        }
+        if (batchSize > prefetch) {
+            throw new IllegalArgumentException("Expect prefetch to be at least batchSize=" + batchSize +
+                    ", got: " + prefetch);
+        }
+        final List<Publisher<T>> publishersCopy = new ArrayList<>(publishers.size());
+        for (final Publisher<T> publisher : publishers) {
+            publishersCopy.add(checkNotNull(publisher, "publisher"));
+        }
+        return new MergePublisher<>(publishersCopy, prefetch, batchSize);
+    }
+
+    @Override
+    public void subscribe(final Subscriber<? super T> subscriber) {
+        checkNotNull(subscriber, "subscriber");
+        if (subscribed.getAndSet(true)) {
+            // Subscribed more than once. Deliver dummy subscription per
+            // https://github.com/reactive-streams/reactive-streams-jvm/issues/364
+            subscriber.onSubscribe(FailedSubscription.of());
+            subscriber.onError(new IllegalStateException("MergePublisher supports at most 1 subscriber."));
+        } else {
+            final MergeSubscription mergeSubscription = new MergeSubscription(subscriber);
+            subscriber.onSubscribe(mergeSubscription);
+            mergeSubscription.start();
+        }
+    }
+
+    /**
+     * Subscription merging the elements of all publishers on demand. All signals to the subscriber are sent by the
+     * single thread currently draining the subscription, so that they are never concurrent.
+     */
+    private final class MergeSubscription implements Subscription {
+
+        private final Subscriber<? super T> subscriber;
+        private final List<SourceSubscriber> sources;
+
+        @GuardedBy("this") private final ArrayDeque<Element> arrivedElements = new ArrayDeque<>();
+        @GuardedBy("this") private int activeSources;
+        @GuardedBy("this") private long demand = 0L;
+        @GuardedBy("this") @Nullable private Throwable error = null;
+        @GuardedBy("this") private boolean terminated = false;
+        @GuardedBy("this") private boolean draining = false;
+        @GuardedBy("this") private boolean drainRequested = false;
+
+        private MergeSubscription(final Subscriber<? super T> subscriber) {
+            this.subscriber = subscriber;
+            sources = new ArrayList<>(publishers.size());
+            for (int i = 0; i < publishers.size(); i++) {
+                sources.add(new SourceSubscriber(this));
+            }
+            activeSources = publishers.size();
+        }
+
+        private void start() {
+            for (int i = 0; i < publishers.size(); i++) {
+                try {
+                    publishers.get(i).subscribe(sources.get(i));
+                } catch (final RuntimeException e) {
+                    synchronized (this) {
+                        setError(e);
+                    }
+                    break;
+                }
+            }
+            drain();
+        }
+
+        @Override
+        public void request(final long n) {
+            synchronized (this) {
+                if (n <= 0) {
+                    setError(new IllegalArgumentException("Expect positive demand, got: " + n));
+                } else {
+                    demand = demand + n < 0 ? Long.MAX_VALUE : demand + n;
+                }
+            }
+            drain();
+        }
+
+        @Override
+        public void cancel() {
+            synchronized (this) {
+                terminated = true;
+                arrivedElements.clear();
+            }
+            cancelSources();
+        }
+
+        private void drain() {
+            synchronized (this) {
+                if (draining) {
+                    drainRequested = true;
+                    return;
+                }
+                draining = true;
+            }
+            while (true) {
+                Element nextElement = null;
+                Throwable failure = null;
+                boolean complete = false;
+                synchronized (this) {
+                    if (terminated) {
+                        return;
+                    } else if (null != error) {
+                        terminated = true;
+                        failure = error;
+                        arrivedElements.clear();
+                    } else if (demand > 0 && !arrivedElements.isEmpty()) {
+                        nextElement = arrivedElements.pollFirst();
+                        demand--;
+                    } else if (arrivedElements.isEmpty() && activeSources == 0) {
+                        terminated = true;
+                        complete = true;
+                    } else if (drainRequested) {
+                        drainRequested = false;
+                        continue;
+                    } else {
+                        draining = false;
+                        return;
+                    }
+                }
+                if (null != failure) {
+                    cancelSources();
+                    subscriber.onError(failure);
+                    return;
+                } else if (complete) {
+                    subscriber.onComplete();
+                    return;
+                }
+                subscriber.onNext(nextElement.value);
+                nextElement.source.onPublished();
+            }
+        }
+
+        private void cancelSources() {
+            sources.forEach(SourceSubscriber::cancel);
+        }
+
+        private synchronized boolean isTerminated() {
+            return terminated;
+        }
+
+        @GuardedBy("this")
+        private void setError(final Throwable newError) {
+            if (null == error) {
+                error = newError;
+            }
+        }
+
+    }
+
+    /**
+     * Subscriber of one of the merged publishers.
+     */
+    private final class SourceSubscriber implements Subscriber<T> {
+
+        private final MergeSubscription merge;
+        private final AtomicReference<Subscription> subscription;
+
+        // only accessed by the thread currently draining the merge subscription
+        private int publishedSinceLastRequest = 0;
+
+        private SourceSubscriber(final MergeSubscription merge) {
+            this.merge = merge;
+            subscription = new AtomicReference<>();
+        }
+
+        @Override
+        public void onSubscribe(final Subscription s) {
+            checkNotNull(s, "subscription");
+            if (!subscription.compareAndSet(null, s)) {
+                s.cancel();
+            } else if (merge.isTerminated()) {
+                s.cancel();
+            } else {
+                s.request(prefetch);
+            }
+        }
+
+        @Override
+        public void onNext(final T element) {
+            checkNotNull(element, "element");
+            synchronized (merge) {
+                if (!merge.terminated) {
+                    merge.arrivedElements.addLast(new Element(this, element));
+                }
+            }
+            merge.drain();
+        }
+
+        @Override
+        public void onError(final Throwable t) {
+            ThingSearchSubscription.terminate(subscription.get());
+            synchronized (merge) {
+                merge.setError(checkNotNull(t, "throwable"));
+            }
+            merge.drain();
+        }
+
+        @Override
+        public void onComplete() {
+            ThingSearchSubscription.terminate(subscription.get());
+            synchronized (merge) {
+                merge.activeSources--;
+            }
+            merge.drain();
+        }
+
+        private void onPublished() {
+            publishedSinceLastRequest++;
+            if (publishedSinceLastRequest >= batchSize) {
+                publishedSinceLastRequest -= batchSize;
+                subscription.get().request(batchSize);
+            }
+        }
+
+        private void cancel() {
+            final Subscription s = subscription.get();
+            if (null != s) {
+                s.cancel();
+            }
+        }
+
+    }
+
+    private final class Element {
+
+        private final SourceSubscriber source;
+        private final T value;
+
+        private Element(final SourceSubscriber source, final T value) {
+            this.source = source;
+            this.value = value;
+        }
+
+    }
+
+}
@@ -0,0 +1,210 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.ditto.client.streaming;
+
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import java.util.concurrent.locks.LockSupport;
+
+import javax.annotation.Nullable;
+
+/**
+ * Package-private: bounded ring buffer handing over elements, e.g. whole pages of search results, from a single
+ * producer to waiting consumers without wrapping or copying them. Consumers waiting for an element are parked and
+ * unparked by the producer.
+ * <p>
+ * The end of the stream is not stored in a slot but in a separate field, so that every consumer sees it once all
+ * elements were taken and no capacity is reserved for it. Consumers may poll concurrently, as is the case after a
+ * {@link java.util.Spliterator#trySplit()} returning the same spliterator.
+ * </p>
+ *
+ * @param <T> type of elements.
+ */
+final class PageRingBuffer<T> {
+
+    private static final Object COMPLETED = new Object();
+
+    private final int capacity;
+    private final int mask;
+    private final AtomicReferenceArray<T> slots;
+    // index of the next slot to take, advanced by consumers
+    private final AtomicLong head;
+    // index of the next slot to fill, advanced by the single producer only
+    private final AtomicLong tail;
+    // COMPLETED or the error which terminated the stream
+    private final AtomicReference<Object> termination;
+    private final Queue<Thread> parkedConsumers;
+
+    private PageRingBuffer(final int capacity) {
+        this.capacity = capacity;
+        final int slotCount = Integer.highestOneBit(Math.max(1, capacity - 1)) << 1;
+        mask = slotCount - 1;
+        slots = new AtomicReferenceArray<>(slotCount);
+        head = new AtomicLong(0L);
+        tail = new AtomicLong(0L);
+        termination = new AtomicReference<>();
+        parkedConsumers = new ConcurrentLinkedQueue<>();
+    }
+
+    /**
+     * Create a ring buffer.
+     *
+     * @param capacity the maximum number of buffered elements.
+     * @param <T> type of elements.
+     * @return the ring buffer.
+     * @throws IllegalArgumentException if {@code capacity} is not positive.
+     */
+    static <T> PageRingBuffer<T> of(final int capacity) {
+        if (capacity <= 0) {
+            throw new IllegalArgumentException("Expect positive capacity, got: " + capacity);
+        }
+        return new PageRingBuffer<>(capacity);
+    }
+
+    /**
+     * Add an element and wake up parked consumers. Must not be called concurrently.
+     *
+     * @param element the element.
+     * @throws IllegalStateException if the buffer is full, i.e. the producer did not respect the demand.
+     */
+    void offer(final T element) {
+        final long currentTail = tail.get();
+        if (currentTail - head.get() >= capacity) {
+            throw new IllegalStateException("Buffer full: received more than " + capacity + " elements on demand");
+        }
+        slots.lazySet(index(currentTail), element);
+        // volatile write: either a consumer about to park sees the element or the producer sees the parked consumer
+        tail.set(currentTail + 1);
+        unparkConsumers();
+    }
+
+    /**
+     * Mark the end of the stream after the elements offered so far, unless the stream was already terminated.
+     */
+    void complete() {
+        terminate(COMPLETED);
+    }
+
+    /**
+     * Mark the failure of the stream after the elements offered so far, unless the stream was already terminated.
+     *
+     * @param error the error.
+     */
+    void fail(final Throwable error) {
+        terminate(error);
+    }
+
+    /**
+     * Take the next element, waiting for it if the buffer is empty.
+     *
+     * @param timeoutNanos how long to wait for the next element.
+     * @return the element, or {@code null} if the stream terminated and all elements were taken.
+     * @throws InterruptedException if the consumer was interrupted while waiting.
+     * @throws TimeoutException if no element arrived in time.
+     */
+    @Nullable
+    T poll(final long timeoutNanos) throws InterruptedException, TimeoutException {
+        final long deadline = System.nanoTime() + timeoutNanos;
+        while (true) {
+            // read the termination first: all elements were offered before it
+            final boolean terminated = null != termination.get();
+            final T element = tryPoll();
+            if (null != element || terminated) {
+                return element;
+            }
+            final long remainingNanos = deadline - System.nanoTime();
+            if (remainingNanos <= 0L) {
+                throw new TimeoutException();
+            }
+            final Thread consumer = Thread.currentThread();
+            parkedConsumers.add(consumer);
+            try {
+                if (isEmpty() && null == termination.get()) {
+                    LockSupport.parkNanos(this, remainingNanos);
+                }
+            } finally {
+                parkedConsumers.remove(consumer);
+            }
+            if (Thread.interrupted()) {
+                throw new InterruptedException();
+            }
+        }
+    }
+
+    /**
+     * @return the error which terminated the stream, or {@code null} if the stream did not fail.
+     */
+    @Nullable
+    Throwable getError() {
+        final Object terminal = termination.get();
+        return terminal instanceof Throwable ? (Throwable) terminal : null;
+    }
+
+    /**
+     * @return whether the stream terminated; elements may still be buffered.
+     */
+    boolean isTerminated() {
+        return null != termination.get();
+    }
+
+    /**
+     * @return the number of buffered elements.
+     */
+    int size() {
+        final long currentHead = head.get();
+        return (int) Math.max(0L, tail.get() - currentHead);
+    }
+
+    @Nullable
+    private T tryPoll() {
+        while (true) {
+            final long currentHead = head.get();
+            if (currentHead >= tail.get()) {
+                return null;
+            }
+            // the slot is not refilled before head moves past it, so the element is valid if the CAS succeeds
+            final T element = slots.get(index(currentHead));
+            if (head.compareAndSet(currentHead, currentHead + 1)) {
+                // release the taken page; CAS because the producer may already be refilling the slot
+                slots.compareAndSet(index(currentHead), element, null);
+                return element;
+            }
+        }
+    }
+
+    private boolean isEmpty() {
+        return head.get() >= tail.get();
+    }
+
+    private void terminate(final Object terminal) {
+        termination.compareAndSet(null, terminal);
+        unparkConsumers();
+    }
+
+    private void unparkConsumers() {
+        if (!parkedConsumers.isEmpty()) {
+            for (final Thread consumer : parkedConsumers) {
+                LockSupport.unpark(consumer);
+            }
+        }
+    }
+
+    private int index(final long sequence) {
+        return (int) sequence & mask;
+    }
+
+}
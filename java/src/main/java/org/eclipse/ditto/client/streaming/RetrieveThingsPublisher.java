@@ -0,0 +1,274 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.ditto.client.streaming;
+
+import static org.eclipse.ditto.base.model.common.ConditionChecker.checkNotNull;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.List;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.Function;
+
+import javax.annotation.Nullable;
+import javax.annotation.concurrent.GuardedBy;
+
+import org.eclipse.ditto.things.model.Thing;
+import org.eclipse.ditto.things.model.ThingId;
+import org.reactivestreams.Publisher;
+import org.reactivestreams.Subscriber;
+import org.reactivestreams.Subscription;
+
+/**
+ * Publisher of things retrieved in batches. The thing IDs are split into batches of at most {@code batchSize} IDs and
+ * at most {@code parallelism} batches are retrieved or buffered at the same time. Things are published in the order
+ * in which their batches arrive; within a batch, in the order of the response.
+ *
+ * @since 3.6.0
+ */
+public final class RetrieveThingsPublisher implements Publisher<Thing> {
+
+    private final Iterable<ThingId> thingIds;
+    private final int batchSize;
+    private final int parallelism;
+    private final Function<List<ThingId>, CompletionStage<List<Thing>>> retrieveBatch;
+    private final AtomicBoolean subscribed;
+
+    private RetrieveThingsPublisher(final Iterable<ThingId> thingIds,
+            final int batchSize,
+            final int parallelism,
+            final Function<List<ThingId>, CompletionStage<List<Thing>>> retrieveBatch) {
+
+        this.thingIds = thingIds;
+        this.batchSize = batchSize;
+        this.parallelism = parallelism;
+        this.retrieveBatch = retrieveBatch;
+        subscribed = new AtomicBoolean(false);
+    }
+
+    /**
+     * Create a single-use publisher of retrieved things.
+     *
+     * @param thingIds the IDs of the things to retrieve.
+     * @param batchSize the maximum number of IDs per retrieved batch.
+     * @param parallelism the maximum number of batches retrieved or buffered at the same time.
+     * @param retrieveBatch retrieves the things of a batch of IDs.
+     * @return the single-use publisher.
+     * @throws NullPointerException if any argument is {@code null}.
+     * @throws IllegalArgumentException if {@code batchSize} or {@code parallelism} is not positive.
+     */
+    public static Publisher<Thing> of(final Iterable<ThingId> thingIds,
+            final int batchSize,
+            final int parallelism,
+            final Function<List<ThingId>, CompletionStage<List<Thing>>> retrieveBatch) {
+
+        checkNotNull(thingIds, "thingIds");
+        checkNotNull(retrieveBatch, "retrieveBatch");
+        if (batchSize <= 0) {
+            throw new IllegalArgumentException("Expect positive batchSize, got: " + batchSize);
+        }
+        if (parallelism <= 0) {
+            throw new IllegalArgumentException("Expect positive parallelism, got: " + parallelism);
+        }
+        return new RetrieveThingsPublisher(thingIds, batchSize, parallelism, retrieveBatch);
+    }
+
+    @Override
+    public void subscribe(final Subscriber<? super Thing> subscriber) {
+        checkNotNull(subscriber, "subscriber");
+        if (subscribed.getAndSet(true)) {
+            // Subscribed more than once. Deliver dummy subscription per
+            // https://github.com/reactive-streams/reactive-streams-jvm/issues/364
+            subscriber.onSubscribe(FailedSubscription.of());
+            subscriber.onError(new IllegalStateException("RetrieveThingsPublisher supports at most 1 subscriber."));
+        } else {
+            subscriber.onSubscribe(new BatchSubscription(subscriber));
+        }
+    }
+
+    /**
+     * Subscription retrieving batches on demand. All signals to the subscriber are sent by the single thread
+     * currently draining the subscription, so that they are never concurrent.
+     */
+    private final class BatchSubscription implements Subscription {
+
+        private final Subscriber<? super Thing> subscriber;
+
+        @GuardedBy("this") @Nullable private Iterator<ThingId> remainingThingIds = null;
+        @GuardedBy("this") private final ArrayDeque<Iterator<Thing>> arrivedBatches = new ArrayDeque<>();
+        @GuardedBy("this") private boolean thingIdsExhausted = false;
+        @GuardedBy("this") private int activeBatches = 0;
+        @GuardedBy("this") private long demand = 0L;
+        @GuardedBy("this") @Nullable private Throwable error = null;
+        @GuardedBy("this") private boolean terminated = false;
+        @GuardedBy("this") private boolean draining = false;
+        @GuardedBy("this") private boolean drainRequested = false;
+
+        private BatchSubscription(final Subscriber<? super Thing> subscriber) {
+            this.subscriber = subscriber;
+        }
+
+        @Override
+        public void request(final long n) {
+            synchronized (this) {
+                if (n <= 0) {
+                    setError(new IllegalArgumentException("Expect positive demand, got: " + n));
+                } else {
+                    demand = demand + n < 0 ? Long.MAX_VALUE : demand + n;
+                }
+            }
+            drain();
+        }
+
+        @Override
+        public void cancel() {
+            synchronized (this) {
+                terminated = true;
+                arrivedBatches.clear();
+            }
+        }
+
+        private void drain() {
+            synchronized (this) {
+                if (draining) {
+                    drainRequested = true;
+                    return;
+                }
+                draining = true;
+            }
+            while (true) {
+                Thing nextThing = null;
+                List<List<ThingId>> batchesToRetrieve = Collections.emptyList();
+                Throwable failure = null;
+                boolean complete = false;
+                synchronized (this) {
+                    if (terminated) {
+                        return;
+                    } else if (null != error) {
+                        terminated = true;
+                        failure = error;
+                    } else {
+                        nextThing = pollArrivedThing();
+                        try {
+                            batchesToRetrieve = startBatches();
+                        } catch (final RuntimeException e) {
+                            setError(e);
+                            continue;
+                        }
+                        if (null == nextThing && batchesToRetrieve.isEmpty()) {
+                            if (activeBatches == 0 && thingIdsExhausted) {
+                                terminated = true;
+                                complete = true;
+                            } else if (drainRequested) {
+                                drainRequested = false;
+                                continue;
+                            } else {
+                                draining = false;
+                                return;
+                            }
+                        }
+                    }
+                }
+                if (null != failure) {
+                    subscriber.onError(failure);
+                    return;
+                } else if (complete) {
+                    subscriber.onComplete();
+                    return;
+                }
+                batchesToRetrieve.forEach(this::retrieve);
+                if (null != nextThing) {
+                    subscriber.onNext(nextThing);
+                }
+            }
+        }
+
+        @GuardedBy("this")
+        @Nullable
+        private Thing pollArrivedThing() {
+            Thing thing = null;
+            while (demand > 0 && null == thing && !arrivedBatches.isEmpty()) {
+                final Iterator<Thing> batch = arrivedBatches.peekFirst();
+                if (batch.hasNext()) {
+                    thing = batch.next();
+                    demand--;
+                }
+                if (!batch.hasNext()) {
+                    arrivedBatches.pollFirst();
+                    activeBatches--;
+                }
+            }
+            return thing;
+        }
+
+        @GuardedBy("this")
+        private List<List<ThingId>> startBatches() {
+            final Iterator<ThingId> ids = getRemainingThingIds();
+            List<List<ThingId>> batches = Collections.emptyList();
+            while (demand > 0 && activeBatches < parallelism && ids.hasNext()) {
+                final List<ThingId> batch = new ArrayList<>(batchSize);
+                while (batch.size() < batchSize && ids.hasNext()) {
+                    batch.add(ids.next());
+                }
+                if (batches.isEmpty()) {
+                    batches = new ArrayList<>();
+                }
+                batches.add(batch);
+                activeBatches++;
+            }
+            thingIdsExhausted = !ids.hasNext();
+            return batches;
+        }
+
+        @GuardedBy("this")
+        private Iterator<ThingId> getRemainingThingIds() {
+            if (null == remainingThingIds) {
+                remainingThingIds = thingIds.iterator();
+            }
+            return remainingThingIds;
+        }
+
+        private void retrieve(final List<ThingId> batch) {
+            try {
+                retrieveBatch.apply(batch).whenComplete(this::onBatch);
+            } catch (final RuntimeException e) {
+                onBatch(null, e);
+            }
+        }
+
+        private void onBatch(@Nullable final List<Thing> things, @Nullable final Throwable batchError) {
+            synchronized (this) {
+                if (null != batchError) {
+                    setError(batchError);
+                } else if (null == things || things.isEmpty()) {
+                    activeBatches--;
+                } else {
+                    arrivedBatches.addLast(things.iterator());
+                }
+            }
+            drain();
+        }
+
+        @GuardedBy("this")
+        private void setError(final Throwable newError) {
+            if (null == error) {
+                error = newError;
+            }
+        }
+
+    }
+
+}
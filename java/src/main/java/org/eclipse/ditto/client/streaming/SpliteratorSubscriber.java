@@ -15,21 +15,19 @@ package org.eclipse.ditto.client.streaming;
 import static org.eclipse.ditto.base.model.common.ConditionChecker.checkNotNull;
 
 import java.time.Duration;
-import java.util.Collections;
 import java.util.Spliterator;
-import java.util.concurrent.ArrayBlockingQueue;
-import java.util.concurrent.BlockingQueue;
 import java.util.concurrent.CompletionException;
 import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
 import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.concurrent.atomic.AtomicInteger;
 import java.util.concurrent.atomic.AtomicReference;
 import java.util.function.Consumer;
-import java.util.function.Function;
-import java.util.function.Supplier;
 import java.util.stream.Stream;
 import java.util.stream.StreamSupport;
 
+import javax.annotation.Nullable;
+
 import org.reactivestreams.Subscriber;
 import org.reactivestreams.Subscription;
 import org.slf4j.Logger;
@@ -37,7 +35,7 @@ import org.slf4j.LoggerFactory;
 
 /**
  * Lightweight glue-code between {@code org.reactivestreams} and {@code java.util.stream} with buffering to minimize
- * probability of blocking.
+ * probability of blocking. Elements are handed over to the consuming thread as they are, without wrapping.
  *
  * @param <T> the type of elements.
  * @since 1.1.0
@@ -46,7 +44,7 @@ public final class SpliteratorSubscriber<T> implements Subscriber<T>, Spliterato
 
     private static final Logger LOGGER = LoggerFactory.getLogger(SpliteratorSubscriber.class);
 
-    private final BlockingQueue<Element<T>> buffer;
+    private final PageRingBuffer<T> buffer;
     private final long timeoutMillis;
     private final int capacity;
     private final int batchSize;
@@ -54,11 +52,11 @@ public final class SpliteratorSubscriber<T> implements Subscriber<T>, Spliterato
     private final AtomicInteger splits;
     private final AtomicInteger quota;
     private final AtomicBoolean cancelled;
+    @Nullable private final AdaptiveDemandController demandController;
 
-    private SpliteratorSubscriber(final long timeoutMillis, final int bufferSize, final int batchSize) {
-        // reserve 2*bufferSize+1 space in buffer for <=bufferSize elements and bufferSize+1 EOS markers
-        final int actualBufferSize = bufferSize * 2 + 1;
-        this.buffer = new ArrayBlockingQueue<>(actualBufferSize);
+    private SpliteratorSubscriber(final long timeoutMillis, final int bufferSize, final int batchSize,
+            @Nullable final AdaptiveDemandController demandController) {
+        buffer = PageRingBuffer.of(bufferSize);
         this.timeoutMillis = timeoutMillis;
         this.batchSize = Math.min(batchSize, bufferSize);
         capacity = bufferSize;
@@ -66,6 +64,7 @@ public final class SpliteratorSubscriber<T> implements Subscriber<T>, Spliterato
         splits = new AtomicInteger(1);
         quota = new AtomicInteger(0);
         cancelled = new AtomicBoolean(false);
+        this.demandController = demandController;
     }
 
     /**
@@ -75,7 +74,7 @@ public final class SpliteratorSubscriber<T> implements Subscriber<T>, Spliterato
      * @return the spliterator-subscriber.
      */
     public static <T> SpliteratorSubscriber<T> of() {
-        return new SpliteratorSubscriber<>(10000L, 2, 1);
+        return new SpliteratorSubscriber<>(10000L, 2, 1, null);
     }
 
     public static <T> SpliteratorSubscriber<T> of(final Duration timeout, final int bufferSize, final int batchSize) {
@@ -89,7 +88,31 @@ public final class SpliteratorSubscriber<T> implements Subscriber<T>, Spliterato
             throw new IllegalArgumentException("Expect bufferSize to be at least batchSize=" + batchSize +
                     ", got: " + bufferSize);
         }
-        return new SpliteratorSubscriber<>(Math.max(1L, timeout.toMillis()), bufferSize, batchSize);
+        return new SpliteratorSubscriber<>(Math.max(1L, timeout.toMillis()), bufferSize, batchSize, null);
+    }
+
+    /**
+     * Create a spliterator-subscriber whose demand is decided by an adaptive demand controller. It buffers at most
+     * {@link AdaptiveDemandController#getMaxDemand()} elements.
+     *
+     * @param timeout how long to wait for the next element.
+     * @param demandController the controller deciding how many elements to request, not shared with other
+     * subscribers.
+     * @param <T> type of elements.
+     * @return the spliterator-subscriber.
+     * @throws NullPointerException if {@code demandController} is {@code null}.
+     * @throws IllegalArgumentException if {@code timeout} is negative.
+     * @since 3.6.0
+     */
+    public static <T> SpliteratorSubscriber<T> of(final Duration timeout,
+            final AdaptiveDemandController demandController) {
+
+        checkNotNull(demandController, "demandController");
+        if (timeout.isNegative()) {
+            throw new IllegalArgumentException("Expect positive timeout, got: " + timeout);
+        }
+        final int bufferSize = demandController.getMaxDemand();
+        return new SpliteratorSubscriber<>(Math.max(1L, timeout.toMillis()), bufferSize, 1, demandController);
     }
 
     /**
@@ -113,8 +136,9 @@ public final class SpliteratorSubscriber<T> implements Subscriber<T>, Spliterato
             }
         }
         if (previousSubscription == null) {
-            LOGGER.trace("Initial request: <{}>", capacity);
-            s.request(capacity);
+            final int initialRequest = null != demandController ? demandController.onSubscribe() : capacity;
+            LOGGER.trace("Initial request: <{}>", initialRequest);
+            s.request(initialRequest);
         } else {
             LOGGER.warn("onSubscribe() called a second time; cancelling subscription <{}>.", s);
             cancelSubscription(s);
@@ -124,21 +148,24 @@ public final class SpliteratorSubscriber<T> implements Subscriber<T>, Spliterato
     @Override
     public void onNext(final T t) {
         LOGGER.trace("onNext <{}>", t);
-        buffer.add(new HasElement<>(checkNotNull(t)));
+        if (null != demandController) {
+            demandController.onElement();
+        }
+        buffer.offer(checkNotNull(t));
     }
 
     @Override
     public void onError(final Throwable t) {
         LOGGER.trace("onError", t);
         goToCancelledState();
-        addErrors(t);
+        buffer.fail(t);
     }
 
     @Override
     public void onComplete() {
         LOGGER.trace("onComplete");
         goToCancelledState();
-        addEos();
+        buffer.complete();
     }
 
     private void goToCancelledState() {
@@ -164,26 +191,19 @@ public final class SpliteratorSubscriber<T> implements Subscriber<T>, Spliterato
                 s.cancel();
             }
             goToCancelledState();
-            addErrors(e);
+            buffer.fail(e);
             throw e;
         }
     }
 
-    private void addEos() {
-        // overfill buffer with EOS to prevent concurrent pulling in order to support infinite splitting of this.
-        addNCopies(new Completed<>());
-    }
-
-    private void addErrors(final Throwable error) {
-        addNCopies(new Failed<>(error));
-    }
-
-    private void addNCopies(final Element<T> element) {
-        buffer.addAll(Collections.nCopies(capacity + 1, element));
-    }
-
-    private void request() {
-        if (!cancelled.get()) {
+    private void request(final long processingNanos) {
+        if (null != demandController) {
+            final int n = demandController.onConsumed(processingNanos);
+            if (n > 0 && !cancelled.get()) {
+                LOGGER.trace("Request <{}> from demand controller", n);
+                subscription.get().request(n);
+            }
+        } else if (!cancelled.get()) {
             final int previousQuota = quota.getAndUpdate(i -> i >= batchSize ? i - batchSize : i);
             if (previousQuota >= batchSize) {
                 LOGGER.trace("Request <{}>", batchSize);
@@ -196,31 +216,27 @@ public final class SpliteratorSubscriber<T> implements Subscriber<T>, Spliterato
 
     @Override
     public boolean tryAdvance(final Consumer<? super T> consumer) {
-        final Element<T> next;
+        final T next;
         try {
-            next = buffer.poll(timeoutMillis, TimeUnit.MILLISECONDS);
-        } catch (final Exception e) {
+            // the end of the stream stays in the buffer, so that every split sees it
+            next = buffer.poll(TimeUnit.MILLISECONDS.toNanos(timeoutMillis));
+        } catch (final TimeoutException e) {
+            throw new IllegalStateException("timed out after " + timeoutMillis + " ms");
+        } catch (final InterruptedException e) {
             throw new CompletionException(e);
         }
         if (next == null) {
-            throw new IllegalStateException("timed out after " + timeoutMillis + " ms");
+            final Throwable error = buffer.getError();
+            if (null != error) {
+                throw wrapAsRuntimeException(error);
+            }
+            return false;
         } else {
             quota.getAndUpdate(i -> Math.min(capacity, i + 1));
-            return next.eval(
-                    e -> {
-                        cancelOnError(consumer, e);
-                        request();
-                        return true;
-                    },
-                    () -> {
-                        buffer.add(next);
-                        return false;
-                    },
-                    error -> {
-                        buffer.add(next);
-                        throw wrapAsRuntimeException(error);
-                    }
-            );
+            final long startNanos = System.nanoTime();
+            cancelOnError(consumer, next);
+            request(System.nanoTime() - startNanos);
+            return true;
         }
     }
 
@@ -232,17 +248,18 @@ public final class SpliteratorSubscriber<T> implements Subscriber<T>, Spliterato
             // no need to check subscription != null because return type does not expose subscriber methods
             return this;
         } else {
-            // cannot split any more: buffer size cannot support safety of tryAdvance() with this many splits
+            // do not split any more: splits beyond the buffer size would only wait for elements
             return null;
         }
     }
 
     @Override
     public long estimateSize() {
+        final boolean terminated = buffer.isTerminated();
         final int occupation = buffer.size();
-        if (occupation > capacity) {
-            /// terminated
-            return 0L;
+        if (terminated) {
+            // no more elements arrive
+            return occupation;
         } else if (0 < occupation && occupation < capacity) {
             // buffer not full and not empty
             return occupation;
@@ -275,48 +292,4 @@ public final class SpliteratorSubscriber<T> implements Subscriber<T>, Spliterato
                     " while reading from its publisher", error);
         }
     }
-
-    private interface Element<T> {
-
-        <S> S eval(Function<T, S> onElement, Supplier<S> onComplete, Function<Throwable, S> onError);
-    }
-
-    private static final class HasElement<T> implements Element<T> {
-
-        private final T element;
-
-        private HasElement(final T element) {
-            this.element = element;
-        }
-
-        @Override
-        public <S> S eval(final Function<T, S> onElement, final Supplier<S> onComplete,
-                final Function<Throwable, S> onError) {
-            return onElement.apply(element);
-        }
-    }
-
-    private static final class Completed<T> implements Element<T> {
-
-        @Override
-        public <S> S eval(final Function<T, S> onElement, final Supplier<S> onComplete,
-                final Function<Throwable, S> onError) {
-            return onComplete.get();
-        }
-    }
-
-    private static final class Failed<T> implements Element<T> {
-
-        private final Throwable error;
-
-        private Failed(final Throwable error) {
-            this.error = error;
-        }
-
-        @Override
-        public <S> S eval(final Function<T, S> onElement, final Supplier<S> onComplete,
-                final Function<Throwable, S> onError) {
-            return onError.apply(error);
-        }
-    }
 }
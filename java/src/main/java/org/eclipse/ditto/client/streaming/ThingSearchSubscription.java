@@ -13,9 +13,6 @@
 package org.eclipse.ditto.client.streaming;
 
 import java.time.Duration;
-import java.util.concurrent.CompletableFuture;
-import java.util.concurrent.ExecutorService;
-import java.util.concurrent.Executors;
 import java.util.concurrent.RejectedExecutionException;
 import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.concurrent.atomic.AtomicReference;
@@ -56,7 +53,7 @@ public final class ThingSearchSubscription implements Subscription {
     private final Subscriber<? super SubscriptionHasNextPage> subscriber;
     private final AtomicBoolean cancelled;
     private final AtomicReference<AdaptableBus.SubscriptionId> busSubscription;
-    private final ExecutorService singleThreadedExecutorService;
+    private final Mailbox mailbox;
 
     private ThingSearchSubscription(final String subscriptionId,
             final ProtocolAdapter protocolAdapter,
@@ -69,7 +66,8 @@ public final class ThingSearchSubscription implements Subscription {
         cancelled = new AtomicBoolean(false);
         busSubscription = new AtomicReference<>();
 
-        singleThreadedExecutorService = Executors.newSingleThreadExecutor();
+        // signals of the subscription are processed one after another on the shared executor of the client
+        mailbox = Mailbox.of(messagingProvider.getExecutorService());
     }
 
     /**
@@ -94,9 +92,8 @@ public final class ThingSearchSubscription implements Subscription {
     }
 
     /**
-     * Terminate the executor of any {@code ThingSearchSubscription}, or do nothing if the subscription is not a
-     * {@code ThingSearchSubscription}.
-     * After upgrading to Java 9, it is better to replace this method by the {@code Cleaner} interface.
+     * Terminate the mailbox of any {@code ThingSearchSubscription} after its queued signals were processed, or do
+     * nothing if the subscription is not a {@code ThingSearchSubscription}.
      *
      * @param subscription the subscription.
      * @since 3.0.0
@@ -105,9 +102,9 @@ public final class ThingSearchSubscription implements Subscription {
         if (subscription instanceof ThingSearchSubscription) {
             final ThingSearchSubscription s = (ThingSearchSubscription) subscription;
             try {
-                s.singleThreadedExecutorService.submit(s.singleThreadedExecutorService::shutdown);
+                s.mailbox.execute(s.mailbox::shutdown);
             } catch (final RejectedExecutionException e) {
-                // executor already shut down
+                // mailbox already shut down
             }
         }
     }
@@ -115,27 +112,38 @@ public final class ThingSearchSubscription implements Subscription {
     // called by subscriber
     @Override
     public void request(final long n) {
-        singleThreadedExecutorService.submit(() -> {
-            if (n <= 0) {
-                doCancel();
-                subscriber.onError(new IllegalArgumentException("Expect positive demand, got: " + n));
-            } else if (!cancelled.get()) {
-                ensureBusSubscription();
-                final Signal<?> requestSubscription =
-                        RequestFromSubscription.of(subscriptionId, n, DittoHeaders.newBuilder()
-                                .randomCorrelationId()
-                                .build());
-                messagingProvider.emitAdaptable(protocolAdapter.toAdaptable(requestSubscription));
-            }
-        });
+        try {
+            mailbox.execute(() -> {
+                if (n <= 0) {
+                    doCancel();
+                    subscriber.onError(new IllegalArgumentException("Expect positive demand, got: " + n));
+                } else if (!cancelled.get()) {
+                    ensureBusSubscription();
+                    final Signal<?> requestSubscription =
+                            RequestFromSubscription.of(subscriptionId, n, DittoHeaders.newBuilder()
+                                    .randomCorrelationId()
+                                    .build());
+                    messagingProvider.emitAdaptable(protocolAdapter.toAdaptable(requestSubscription));
+                }
+            });
+        } catch (final RejectedExecutionException e) {
+            // mailbox already shut down: requests after termination are no-ops (reactive-streams rule 3.6)
+        }
     }
 
     // called by subscriber
     @Override
     public void cancel() {
-        if (!singleThreadedExecutorService.isShutdown() && !singleThreadedExecutorService.isTerminated()) {
-            CompletableFuture.runAsync(this::doCancel, singleThreadedExecutorService)
-                    .whenComplete((result, error) -> singleThreadedExecutorService.shutdownNow());
+        try {
+            mailbox.execute(() -> {
+                try {
+                    doCancel();
+                } finally {
+                    mailbox.shutdownNow();
+                }
+            });
+        } catch (final RejectedExecutionException e) {
+            // mailbox already shut down
         }
     }
 
@@ -148,19 +156,19 @@ public final class ThingSearchSubscription implements Subscription {
 
     // called by bus
     private void onTimeout(final Throwable timeoutError) {
-        singleThreadedExecutorService.submit(() -> {
+        mailbox.execute(() -> {
             if (!cancelled.getAndSet(true)) {
                 // bus subscription already cancelled
                 // trust back-end to free resources on its own
                 subscriber.onError(timeoutError);
             }
         });
-        singleThreadedExecutorService.shutdown();
+        mailbox.shutdown();
     }
 
     // called by bus
     private void onNext(final Adaptable adaptable) {
-        singleThreadedExecutorService.submit(() -> {
+        mailbox.execute(() -> {
             LOGGER.trace("Received from bus: <{}>", adaptable);
             handleAdaptable(adaptable);
         });
@@ -0,0 +1,103 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.ditto.client.twin;
+
+import java.util.Objects;
+
+import javax.annotation.concurrent.Immutable;
+
+/**
+ * Progress of a bulk write started via {@link TwinBulkHandle}.
+ *
+ * @since 3.6.0
+ */
+@Immutable
+public final class BulkWriteProgress {
+
+    private final long submitted;
+    private final long succeeded;
+    private final long failed;
+
+    private BulkWriteProgress(final long submitted, final long succeeded, final long failed) {
+        this.submitted = submitted;
+        this.succeeded = succeeded;
+        this.failed = failed;
+    }
+
+    /**
+     * Returns a new {@code BulkWriteProgress}.
+     *
+     * @param submitted the number of sent commands.
+     * @param succeeded the number of commands which succeeded.
+     * @param failed the number of commands which failed.
+     * @return the progress.
+     */
+    public static BulkWriteProgress of(final long submitted, final long succeeded, final long failed) {
+        return new BulkWriteProgress(submitted, succeeded, failed);
+    }
+
+    /**
+     * @return the number of sent commands.
+     */
+    public long getSubmitted() {
+        return submitted;
+    }
+
+    /**
+     * @return the number of commands which succeeded.
+     */
+    public long getSucceeded() {
+        return succeeded;
+    }
+
+    /**
+     * @return the number of commands which failed.
+     */
+    public long getFailed() {
+        return failed;
+    }
+
+    /**
+     * @return the number of commands which completed, either successfully or not.
+     */
+    public long getCompleted() {
+        return succeeded + failed;
+    }
+
+    @Override
+    public boolean equals(final Object o) {
+        if (this == o) {
+            return true;
+        }
+        if (o == null || getClass() != o.getClass()) {
+            return false;
+        }
+        final BulkWriteProgress that = (BulkWriteProgress) o;
+        return submitted == that.submitted && succeeded == that.succeeded && failed == that.failed;
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(submitted, succeeded, failed);
+    }
+
+    @Override
+    public String toString() {
+        return getClass().getSimpleName() + " [" +
+                "submitted=" + submitted +
+                ", succeeded=" + succeeded +
+                ", failed=" + failed +
+                "]";
+    }
+
+}
@@ -0,0 +1,129 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.ditto.client.twin;
+
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Objects;
+
+import javax.annotation.concurrent.Immutable;
+
+import org.eclipse.ditto.base.model.exceptions.DittoRuntimeException;
+import org.eclipse.ditto.things.model.ThingId;
+
+/**
+ * Aggregate result of a bulk write started via {@link TwinBulkHandle}.
+ *
+ * @since 3.6.0
+ */
+@Immutable
+public final class BulkWriteResult {
+
+    private final long succeeded;
+    private final long failed;
+    private final Map<ThingId, DittoRuntimeException> failures;
+
+    private BulkWriteResult(final long succeeded, final long failed,
+            final Map<ThingId, DittoRuntimeException> failures) {
+
+        this.succeeded = succeeded;
+        this.failed = failed;
+        this.failures = failures;
+    }
+
+    /**
+     * Returns a new {@code BulkWriteResult}.
+     *
+     * @param succeeded the number of writes which succeeded.
+     * @param failed the number of writes which failed. It is larger than the number of {@code failures} if writes
+     * of the same thing failed several times.
+     * @param failures the last failed write of each thing by the ID of the thing.
+     * @return the result.
+     * @throws NullPointerException if {@code failures} is {@code null}.
+     * @throws IllegalArgumentException if {@code failed} is less than the number of {@code failures}.
+     */
+    public static BulkWriteResult of(final long succeeded, final long failed,
+            final Map<ThingId, DittoRuntimeException> failures) {
+
+        Objects.requireNonNull(failures, "failures");
+        if (failed < failures.size()) {
+            throw new IllegalArgumentException("The number of failed writes <" + failed +
+                    "> is less than the number of failed things <" + failures.size() + ">!");
+        }
+        return new BulkWriteResult(succeeded, failed, Collections.unmodifiableMap(new LinkedHashMap<>(failures)));
+    }
+
+    /**
+     * @return the number of writes which succeeded.
+     */
+    public long getSucceeded() {
+        return succeeded;
+    }
+
+    /**
+     * Returns the number of writes which failed. Together with {@link #getSucceeded()} it is the number of written
+     * elements, even if the same thing was written several times.
+     *
+     * @return the number of writes which failed.
+     */
+    public long getFailed() {
+        return failed;
+    }
+
+    /**
+     * Returns the failed writes in the order of their completion. Errors which are no {@code DittoRuntimeException},
+     * e.g. a timeout while waiting for the response, are wrapped in a
+     * {@link org.eclipse.ditto.base.model.exceptions.DittoInternalErrorException}. If writes of the same thing failed
+     * several times, only the last failure is kept.
+     *
+     * @return an unmodifiable map of the failed writes by the IDs of their things.
+     */
+    public Map<ThingId, DittoRuntimeException> getFailures() {
+        return failures;
+    }
+
+    /**
+     * @return {@code true} if no write failed.
+     */
+    public boolean isSuccessful() {
+        return 0 == failed;
+    }
+
+    @Override
+    public boolean equals(final Object o) {
+        if (this == o) {
+            return true;
+        }
+        if (o == null || getClass() != o.getClass()) {
+            return false;
+        }
+        final BulkWriteResult that = (BulkWriteResult) o;
+        return succeeded == that.succeeded && failed == that.failed && failures.equals(that.failures);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(succeeded, failed, failures);
+    }
+
+    @Override
+    public String toString() {
+        return getClass().getSimpleName() + " [" +
+                "succeeded=" + succeeded +
+                ", failed=" + failed +
+                ", failures=" + failures +
+                "]";
+    }
+
+}
@@ -0,0 +1,169 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.ditto.client.twin;
+
+import static org.eclipse.ditto.base.model.common.ConditionChecker.checkNotNull;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.DoubleSummaryStatistics;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.PriorityQueue;
+import java.util.function.Function;
+import java.util.stream.Collector;
+import java.util.stream.Collectors;
+
+import org.eclipse.ditto.json.JsonObject;
+import org.eclipse.ditto.json.JsonPointer;
+import org.eclipse.ditto.json.JsonValue;
+import org.eclipse.ditto.things.model.Thing;
+
+/**
+ * Built-in aggregations of search results for
+ * {@link TwinSearchHandle#aggregate(java.util.function.Consumer, java.util.stream.Collector)}. Each of them
+ * accumulates search results one by one and needs memory proportional to the number of groups or of retained
+ * results only.
+ *
+ * @since 3.6.0
+ */
+public final class SearchAggregators {
+
+    private SearchAggregators() {
+        throw new AssertionError();
+    }
+
+    /**
+     * Returns an aggregation counting the search results.
+     *
+     * @return the aggregation.
+     */
+    public static Collector<JsonObject, ?, Long> count() {
+        return Collectors.counting();
+    }
+
+    /**
+     * Returns an aggregation counting the search results by the key extracted from each of them.
+     *
+     * @param keyExtractor extracts the key of the group of a search result.
+     * @param <K> the type of the keys.
+     * @return the aggregation yielding the number of search results by key.
+     * @throws NullPointerException if {@code keyExtractor} is {@code null}.
+     */
+    public static <K> Collector<JsonObject, ?, Map<K, Long>> countBy(final SearchResultExtractor<K> keyExtractor) {
+        checkNotNull(keyExtractor, "keyExtractor");
+        return Collectors.groupingBy(keyExtractor::extract, HashMap::new, Collectors.counting());
+    }
+
+    /**
+     * Returns an aggregation counting the search results by the namespaces of their thing IDs. The field
+     * {@code thingId} has to be selected.
+     *
+     * @return the aggregation yielding the number of search results by namespace.
+     */
+    public static Collector<JsonObject, ?, Map<String, Long>> countByNamespace() {
+        return countBy(searchResult -> {
+            final String thingId = searchResult.getValueOrThrow(Thing.JsonFields.ID);
+            return thingId.substring(0, Math.max(0, thingId.indexOf(':')));
+        });
+    }
+
+    /**
+     * Returns an aggregation counting the search results by the value at the passed pointer, e.g. an attribute.
+     * Search results without a value at the pointer are not counted.
+     *
+     * @param pointer the pointer to the value.
+     * @return the aggregation yielding the number of search results by value.
+     * @throws NullPointerException if {@code pointer} is {@code null}.
+     */
+    public static Collector<JsonObject, ?, Map<JsonValue, Long>> countByValue(final JsonPointer pointer) {
+        checkNotNull(pointer, "pointer");
+        return Collector.of(HashMap::new,
+                (Map<JsonValue, Long> counts, JsonObject searchResult) -> searchResult.getValue(pointer)
+                        .ifPresent(value -> counts.merge(value, 1L, Long::sum)),
+                (left, right) -> {
+                    right.forEach((value, count) -> left.merge(value, count, Long::sum));
+                    return left;
+                });
+    }
+
+    /**
+     * Returns an aggregation computing count, sum, minimum, average and maximum of the numbers at the passed pointer,
+     * e.g. a feature property. Search results without a number at the pointer are skipped.
+     *
+     * @param pointer the pointer to the number.
+     * @return the aggregation yielding the statistics of the numbers.
+     * @throws NullPointerException if {@code pointer} is {@code null}.
+     */
+    public static Collector<JsonObject, ?, DoubleSummaryStatistics> statistics(final JsonPointer pointer) {
+        checkNotNull(pointer, "pointer");
+        return Collector.of(DoubleSummaryStatistics::new,
+                (DoubleSummaryStatistics statistics, JsonObject searchResult) -> searchResult.getValue(pointer)
+                        .filter(JsonValue::isNumber)
+                        .ifPresent(value -> statistics.accept(value.asDouble())),
+                (left, right) -> {
+                    left.combine(right);
+                    return left;
+                });
+    }
+
+    /**
+     * Returns an aggregation retaining the {@code k} greatest elements extracted from the search results. At most
+     * {@code k} elements are retained at any time.
+     *
+     * @param k the maximum number of elements to retain.
+     * @param extractor extracts the element of a search result.
+     * @param comparator the order of the elements.
+     * @param <T> the type of the elements.
+     * @return the aggregation yielding the at most {@code k} greatest elements, greatest first.
+     * @throws NullPointerException if any argument is {@code null}.
+     * @throws IllegalArgumentException if {@code k} is not positive.
+     */
+    public static <T> Collector<JsonObject, ?, List<T>> topK(final int k, final SearchResultExtractor<T> extractor,
+            final Comparator<? super T> comparator) {
+
+        checkNotNull(extractor, "extractor");
+        checkNotNull(comparator, "comparator");
+        if (k <= 0) {
+            throw new IllegalArgumentException("Expect positive k, got: " + k);
+        }
+        final Function<PriorityQueue<T>, List<T>> finisher = heap -> {
+            final List<T> result = new ArrayList<>(heap);
+            result.sort(Collections.reverseOrder(comparator));
+            return result;
+        };
+        return Collector.of(() -> new PriorityQueue<>(k, comparator),
+                (PriorityQueue<T> heap, JsonObject searchResult) -> offer(heap, k, extractor.extract(searchResult),
+                        comparator),
+                (left, right) -> {
+                    right.forEach(element -> offer(left, k, element, comparator));
+                    return left;
+                },
+                finisher);
+    }
+
+    private static <T> void offer(final PriorityQueue<T> heap, final int k, final T element,
+            final Comparator<? super T> comparator) {
+
+        if (heap.size() < k) {
+            heap.add(element);
+        } else if (comparator.compare(element, heap.peek()) > 0) {
+            // replace the least retained element
+            heap.poll();
+            heap.add(element);
+        }
+    }
+
+}
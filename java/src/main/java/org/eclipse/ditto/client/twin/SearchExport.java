@@ -0,0 +1,195 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.ditto.client.twin;
+
+import static org.eclipse.ditto.base.model.common.ConditionChecker.checkNotNull;
+
+import java.nio.file.Path;
+import java.util.Objects;
+
+import javax.annotation.concurrent.Immutable;
+
+/**
+ * Settings of an export of search results to a file of newline-delimited JSON, started via
+ * {@link TwinSearchHandle#export(java.util.function.Consumer, SearchExport)}.
+ * <p>
+ * The export periodically records the ID of the last exported thing and the size of the written file in a
+ * checkpoint file. If a checkpoint file exists when the export starts, the file is truncated to the recorded size
+ * and the export resumes with the things whose IDs are greater than the recorded one. The checkpoint file is deleted
+ * once the export completed.
+ * </p>
+ *
+ * @since 3.6.0
+ */
+@Immutable
+public final class SearchExport {
+
+    /**
+     * The default number of exported things between two checkpoints.
+     */
+    public static final int DEFAULT_CHECKPOINT_INTERVAL = 1000;
+
+    /**
+     * The default size in bytes of the buffer of the export file.
+     */
+    public static final int DEFAULT_BUFFER_SIZE = 64 * 1024;
+
+    private final Path target;
+    private final Path checkpoint;
+    private final boolean gzip;
+    private final int checkpointInterval;
+    private final int bufferSize;
+
+    private SearchExport(final Path target, final Path checkpoint, final boolean gzip, final int checkpointInterval,
+            final int bufferSize) {
+
+        this.target = target;
+        this.checkpoint = checkpoint;
+        this.gzip = gzip;
+        this.checkpointInterval = checkpointInterval;
+        this.bufferSize = bufferSize;
+    }
+
+    /**
+     * Returns the settings of an uncompressed export to the passed file with the checkpoint file
+     * {@code <target>.checkpoint}.
+     *
+     * @param target the file to write the search results to.
+     * @return the settings.
+     * @throws NullPointerException if {@code target} is {@code null}.
+     */
+    public static SearchExport to(final Path target) {
+        checkNotNull(target, "target");
+        return new SearchExport(target, target.resolveSibling(target.getFileName() + ".checkpoint"), false,
+                DEFAULT_CHECKPOINT_INTERVAL, DEFAULT_BUFFER_SIZE);
+    }
+
+    /**
+     * Returns settings with the passed checkpoint file.
+     *
+     * @param checkpoint the file to record the progress of the export in.
+     * @return the new settings.
+     * @throws NullPointerException if {@code checkpoint} is {@code null}.
+     */
+    public SearchExport checkpoint(final Path checkpoint) {
+        checkNotNull(checkpoint, "checkpoint");
+        return new SearchExport(target, checkpoint, gzip, checkpointInterval, bufferSize);
+    }
+
+    /**
+     * Returns settings which compress the export file with gzip. Each checkpoint completes a gzip member, so that the
+     * file consists of concatenated gzip members which can be read as one stream.
+     *
+     * @param gzip whether to compress the export file.
+     * @return the new settings.
+     */
+    public SearchExport gzip(final boolean gzip) {
+        return new SearchExport(target, checkpoint, gzip, checkpointInterval, bufferSize);
+    }
+
+    /**
+     * Returns settings which record a checkpoint each time the passed number of things were exported.
+     *
+     * @param checkpointInterval the number of things between two checkpoints, must be positive.
+     * @return the new settings.
+     * @throws IllegalArgumentException if {@code checkpointInterval} is not positive.
+     */
+    public SearchExport checkpointInterval(final int checkpointInterval) {
+        if (checkpointInterval <= 0) {
+            throw new IllegalArgumentException("Expect positive checkpointInterval, got: " + checkpointInterval);
+        }
+        return new SearchExport(target, checkpoint, gzip, checkpointInterval, bufferSize);
+    }
+
+    /**
+     * Returns settings which buffer at most the passed number of bytes before writing them to the export file.
+     *
+     * @param bufferSize the size of the buffer in bytes, must be positive.
+     * @return the new settings.
+     * @throws IllegalArgumentException if {@code bufferSize} is not positive.
+     */
+    public SearchExport bufferSize(final int bufferSize) {
+        if (bufferSize <= 0) {
+            throw new IllegalArgumentException("Expect positive bufferSize, got: " + bufferSize);
+        }
+        return new SearchExport(target, checkpoint, gzip, checkpointInterval, bufferSize);
+    }
+
+    /**
+     * @return the file to write the search results to.
+     */
+    public Path getTarget() {
+        return target;
+    }
+
+    /**
+     * @return the file to record the progress of the export in.
+     */
+    public Path getCheckpoint() {
+        return checkpoint;
+    }
+
+    /**
+     * @return whether the export file is compressed with gzip.
+     */
+    public boolean isGzip() {
+        return gzip;
+    }
+
+    /**
+     * @return the number of things between two checkpoints.
+     */
+    public int getCheckpointInterval() {
+        return checkpointInterval;
+    }
+
+    /**
+     * @return the size of the buffer in bytes.
+     */
+    public int getBufferSize() {
+        return bufferSize;
+    }
+
+    @Override
+    public boolean equals(final Object o) {
+        if (this == o) {
+            return true;
+        }
+        if (o == null || getClass() != o.getClass()) {
+            return false;
+        }
+        final SearchExport that = (SearchExport) o;
+        return gzip == that.gzip &&
+                checkpointInterval == that.checkpointInterval &&
+                bufferSize == that.bufferSize &&
+                target.equals(that.target) &&
+                checkpoint.equals(that.checkpoint);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(target, checkpoint, gzip, checkpointInterval, bufferSize);
+    }
+
+    @Override
+    public String toString() {
+        return getClass().getSimpleName() + " [" +
+                "target=" + target +
+                ", checkpoint=" + checkpoint +
+                ", gzip=" + gzip +
+                ", checkpointInterval=" + checkpointInterval +
+                ", bufferSize=" + bufferSize +
+                "]";
+    }
+
+}
@@ -17,6 +17,8 @@ import java.util.function.Consumer;
 
 import javax.annotation.Nullable;
 
+import org.eclipse.ditto.client.streaming.AdaptiveDemandController;
+
 /**
  * Builder of thing-search queries.
  *
@@ -95,4 +97,17 @@ public interface SearchQueryBuilder {
      * @return this builder.
      */
     SearchQueryBuilder demand(int n);
+
+    /**
+     * Let an adaptive demand controller decide how many pages to demand when iterating over results with
+     * {@link TwinSearchHandle#stream(java.util.function.Consumer)}, instead of the fixed initial demand and demand.
+     * The controller keeps enough pages buffered to bridge the round trip of a request at the measured rate at which
+     * the stream consumes pages, and exposes the buffer occupancy. It has no effect on publishers, whose demand is
+     * decided by their subscriber.
+     *
+     * @param demandController the controller for this search only, or null to use the fixed demand.
+     * @return this builder.
+     * @since 3.6.0
+     */
+    SearchQueryBuilder adaptiveDemand(@Nullable AdaptiveDemandController demandController);
 }
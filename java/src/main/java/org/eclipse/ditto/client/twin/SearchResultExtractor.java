@@ -0,0 +1,86 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.ditto.client.twin;
+
+import static org.eclipse.ditto.base.model.common.ConditionChecker.checkNotNull;
+
+import java.util.Optional;
+
+import org.eclipse.ditto.json.JsonFieldDefinition;
+import org.eclipse.ditto.json.JsonObject;
+import org.eclipse.ditto.things.model.Thing;
+import org.eclipse.ditto.things.model.ThingId;
+import org.eclipse.ditto.things.model.ThingsModelFactory;
+
+/**
+ * Maps a search result, the JSON object of a thing restricted to the selected fields, to the element delivered by
+ * {@link TwinSearchHandle#stream(java.util.function.Consumer, SearchResultExtractor)} or
+ * {@link TwinSearchHandle#publisher(java.util.function.Consumer, SearchResultExtractor)}.
+ * Extractors which read only the fields they need avoid building a {@link Thing} for every search result.
+ *
+ * @param <T> the type of the extracted elements.
+ * @since 3.6.0
+ */
+@FunctionalInterface
+public interface SearchResultExtractor<T> {
+
+    /**
+     * Extracts the element of a search result.
+     *
+     * @param searchResult the JSON object of a thing containing the selected fields.
+     * @return the extracted element, never {@code null}.
+     */
+    T extract(JsonObject searchResult);
+
+    /**
+     * Returns an extractor delivering the search results as they were received.
+     *
+     * @return the extractor.
+     */
+    static SearchResultExtractor<JsonObject> json() {
+        return searchResult -> searchResult;
+    }
+
+    /**
+     * Returns an extractor building a {@link Thing} of each search result.
+     *
+     * @return the extractor.
+     */
+    static SearchResultExtractor<Thing> thing() {
+        return ThingsModelFactory::newThing;
+    }
+
+    /**
+     * Returns an extractor reading the thing ID of each search result. The field {@code thingId} has to be selected.
+     *
+     * @return the extractor.
+     */
+    static SearchResultExtractor<ThingId> thingId() {
+        return searchResult -> ThingId.of(searchResult.getValueOrThrow(Thing.JsonFields.ID));
+    }
+
+    /**
+     * Returns an extractor reading one field of each search result.
+     *
+     * @param fieldDefinition the definition of the field.
+     * @param <T> the type of the field value.
+     * @return the extractor delivering the field value or an empty optional if a search result does not contain the
+     * field.
+     * @throws NullPointerException if {@code fieldDefinition} is {@code null}.
+     */
+    static <T> SearchResultExtractor<Optional<T>> field(final JsonFieldDefinition<T> fieldDefinition) {
+        checkNotNull(fieldDefinition, "fieldDefinition");
+        return searchResult -> searchResult.getValue(fieldDefinition);
+    }
+
+}
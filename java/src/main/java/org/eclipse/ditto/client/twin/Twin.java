@@ -12,7 +12,9 @@
  */
 package org.eclipse.ditto.client.twin;
 
+import java.nio.file.Path;
 import java.util.concurrent.CompletionStage;
+import java.util.function.Consumer;
 
 import org.eclipse.ditto.client.management.CommonManagement;
 import org.eclipse.ditto.client.options.Option;
@@ -60,4 +62,39 @@ public interface Twin extends CommonManagement<TwinThingHandle, TwinFeatureHandl
      */
     TwinSearchHandle search();
 
+    /**
+     * Retrieve the handle for bulk write operations.
+     *
+     * @return the bulk handle.
+     * @since 3.6.0
+     */
+    TwinBulkHandle bulk();
+
+    /**
+     * Create a local replica of the things matching a search query. The replica is loaded by the query and then kept
+     * current by twin events, which are only received once twin event consumption was started.
+     *
+     * @param querySpecifier the query selecting the things to replicate. The fields selected by the query are
+     * replicated; the thing ID and revision are always selected.
+     * @return the replica, which is loaded in the background.
+     * @throws NullPointerException if {@code querySpecifier} is {@code null}.
+     * @since 3.6.0
+     */
+    TwinReplica replicate(Consumer<SearchQueryBuilder> querySpecifier);
+
+    /**
+     * Create a local replica of the things matching a search query, starting from a snapshot written by
+     * {@link TwinReplica#writeSnapshot(Path)} of a replica of the same query. The things of the snapshot are readable
+     * at once; only the IDs and revisions of the matching things are searched, and only things which changed since
+     * the snapshot was written are retrieved. If the snapshot does not exist or cannot be read, the replica is loaded
+     * as by {@link #replicate(Consumer)}.
+     *
+     * @param querySpecifier the query selecting the things to replicate.
+     * @param snapshot the snapshot file.
+     * @return the replica, which catches up in the background.
+     * @throws NullPointerException if any argument is {@code null}.
+     * @since 3.6.0
+     */
+    TwinReplica replicate(Consumer<SearchQueryBuilder> querySpecifier, Path snapshot);
+
 }
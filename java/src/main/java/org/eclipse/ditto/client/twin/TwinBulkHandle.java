@@ -0,0 +1,133 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.ditto.client.twin;
+
+import java.util.concurrent.CompletionStage;
+import java.util.function.Consumer;
+import java.util.stream.Stream;
+
+import org.eclipse.ditto.client.options.Option;
+import org.eclipse.ditto.things.model.Thing;
+import org.eclipse.ditto.things.model.ThingId;
+
+/**
+ * Bulk write API for <em>Twin Things</em>. Each write is sent as its own command, but at most
+ * {@link #maxInFlight(int) maxInFlight} commands wait for their response at the same time, so that large numbers of
+ * things can be written without creating all requests up front. Things are pulled lazily from the passed
+ * {@code Iterable} or {@code Stream} whenever a response arrives.
+ * <p>
+ * Failures of single writes do not stop the bulk write. They are collected in the {@link BulkWriteResult}.
+ *
+ * @since 3.6.0
+ */
+public interface TwinBulkHandle {
+
+    /**
+     * The default maximum number of commands waiting for their response at the same time.
+     */
+    int DEFAULT_MAX_IN_FLIGHT = 100;
+
+    /**
+     * Returns a bulk handle which keeps at most the passed number of commands waiting for their response.
+     *
+     * @param maxInFlight the maximum number of in-flight commands, must be positive.
+     * @return the new bulk handle.
+     * @throws IllegalArgumentException if {@code maxInFlight} is not positive.
+     */
+    TwinBulkHandle maxInFlight(int maxInFlight);
+
+    /**
+     * Returns a bulk handle which notifies the passed listener each time a single write completes.
+     * The listener is called from the thread completing the write and should return quickly.
+     *
+     * @param progressListener the listener of the bulk write progress.
+     * @return the new bulk handle.
+     * @throws NullPointerException if {@code progressListener} is {@code null}.
+     */
+    TwinBulkHandle onProgress(Consumer<BulkWriteProgress> progressListener);
+
+    /**
+     * Creates or updates each of the passed things.
+     *
+     * @param things the things to put, each of them must have an ID.
+     * @param options options to be applied to each put command.
+     * @return a CompletionStage terminating with the aggregate result once all things are written. It fails with an
+     * {@link IllegalArgumentException} if a thing has no ID; no further things are put in that case.
+     * @throws NullPointerException if {@code things} is {@code null}.
+     * @see org.eclipse.ditto.client.management.CommonManagement#put(Thing, Option[])
+     */
+    CompletionStage<BulkWriteResult> putAll(Iterable<Thing> things, Option<?>... options);
+
+    /**
+     * Creates or updates each thing of the passed stream.
+     *
+     * @param things the things to put, each of them must have an ID.
+     * @param options options to be applied to each put command.
+     * @return a CompletionStage terminating with the aggregate result once all things are written.
+     * @throws NullPointerException if {@code things} is {@code null}.
+     * @see #putAll(Iterable, Option[])
+     */
+    default CompletionStage<BulkWriteResult> putAll(final Stream<Thing> things, final Option<?>... options) {
+        return putAll((Iterable<Thing>) things::iterator, options);
+    }
+
+    /**
+     * Merges each of the passed things into the existing thing with the same ID.
+     *
+     * @param things the things to merge, each of them must have an ID.
+     * @param options options to be applied to each merge command.
+     * @return a CompletionStage terminating with the aggregate result once all things are written. It fails with an
+     * {@link IllegalArgumentException} if a thing has no ID; no further things are merged in that case.
+     * @throws NullPointerException if {@code things} is {@code null}.
+     * @see org.eclipse.ditto.client.management.CommonManagement#merge(ThingId, Thing, Option[])
+     */
+    CompletionStage<BulkWriteResult> mergeAll(Iterable<Thing> things, Option<?>... options);
+
+    /**
+     * Merges each thing of the passed stream into the existing thing with the same ID.
+     *
+     * @param things the things to merge, each of them must have an ID.
+     * @param options options to be applied to each merge command.
+     * @return a CompletionStage terminating with the aggregate result once all things are written.
+     * @throws NullPointerException if {@code things} is {@code null}.
+     * @see #mergeAll(Iterable, Option[])
+     */
+    default CompletionStage<BulkWriteResult> mergeAll(final Stream<Thing> things, final Option<?>... options) {
+        return mergeAll((Iterable<Thing>) things::iterator, options);
+    }
+
+    /**
+     * Deletes each of the things with the passed IDs.
+     *
+     * @param thingIds the IDs of the things to delete.
+     * @param options options to be applied to each delete command.
+     * @return a CompletionStage terminating with the aggregate result once all things are deleted.
+     * @throws NullPointerException if {@code thingIds} is {@code null}.
+     * @see org.eclipse.ditto.client.management.CommonManagement#delete(ThingId, Option[])
+     */
+    CompletionStage<BulkWriteResult> deleteAll(Iterable<ThingId> thingIds, Option<?>... options);
+
+    /**
+     * Deletes each of the things with the IDs of the passed stream.
+     *
+     * @param thingIds the IDs of the things to delete.
+     * @param options options to be applied to each delete command.
+     * @return a CompletionStage terminating with the aggregate result once all things are deleted.
+     * @throws NullPointerException if {@code thingIds} is {@code null}.
+     * @see #deleteAll(Iterable, Option[])
+     */
+    default CompletionStage<BulkWriteResult> deleteAll(final Stream<ThingId> thingIds, final Option<?>... options) {
+        return deleteAll((Iterable<ThingId>) thingIds::iterator, options);
+    }
+
+}
@@ -0,0 +1,109 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.ditto.client.twin;
+
+import java.nio.file.Path;
+import java.util.Optional;
+import java.util.OptionalLong;
+import java.util.Set;
+import java.util.concurrent.CompletionStage;
+
+import org.eclipse.ditto.json.JsonObject;
+import org.eclipse.ditto.json.JsonPointer;
+import org.eclipse.ditto.json.JsonValue;
+import org.eclipse.ditto.things.model.ThingId;
+
+/**
+ * Local copy of the <em>Twin Things</em> matching a search query, created via
+ * {@link Twin#replicate(java.util.function.Consumer)}. Reads are answered from memory without contacting the
+ * backend.
+ * <p>
+ * The replica is loaded by the search query and then kept current by applying the twin events of its things in the
+ * order of their revisions. If a revision is missing, the thing is retrieved again. Twin events are only received
+ * once twin event consumption was started, e.g. via {@link Twin#startConsumption()}.
+ * </p>
+ * <p>
+ * Whether a thing matches the filter of the query is only evaluated by the search. If the query has a filter, things
+ * are neither removed when they stop matching it nor added when they start matching it. Without a filter, things of
+ * the namespaces of the query are added when their events are received.
+ * </p>
+ *
+ * @since 3.6.0
+ */
+public interface TwinReplica extends AutoCloseable {
+
+    /**
+     * Returns the completion of the initial load by the search query. Things are available while they are loaded.
+     *
+     * @return a CompletionStage which completes with this replica when all search results were loaded, or fails if
+     * the search failed.
+     */
+    CompletionStage<TwinReplica> whenLoaded();
+
+    /**
+     * Returns the current JSON representation of a thing, restricted to the fields selected by the query.
+     *
+     * @param thingId the ID of the thing.
+     * @return the thing, or an empty Optional if the thing is not replicated or was deleted.
+     * @throws NullPointerException if {@code thingId} is {@code null}.
+     */
+    Optional<JsonObject> get(ThingId thingId);
+
+    /**
+     * Returns the current value at a pointer into the JSON representation of a thing.
+     *
+     * @param thingId the ID of the thing.
+     * @param pointer the pointer, e.g. {@code /attributes/location}.
+     * @return the value, or an empty Optional if the thing is not replicated or has no value at the pointer.
+     * @throws NullPointerException if any argument is {@code null}.
+     */
+    Optional<JsonValue> get(ThingId thingId, JsonPointer pointer);
+
+    /**
+     * Returns the revision of the replicated state of a thing.
+     *
+     * @param thingId the ID of the thing.
+     * @return the revision, or an empty OptionalLong if the thing is not replicated or was deleted.
+     * @throws NullPointerException if {@code thingId} is {@code null}.
+     */
+    OptionalLong getRevision(ThingId thingId);
+
+    /**
+     * @return the IDs of all replicated things at the time of the call.
+     */
+    Set<ThingId> getThingIds();
+
+    /**
+     * @return the number of replicated things.
+     */
+    int size();
+
+    /**
+     * Write the replicated things with their revisions to a snapshot file, from which a replica of the same query
+     * can be started by {@link Twin#replicate(java.util.function.Consumer, Path)}. The file is replaced atomically.
+     *
+     * @param file the snapshot file.
+     * @return the number of things written.
+     * @throws NullPointerException if {@code file} is {@code null}.
+     * @throws java.io.UncheckedIOException if the snapshot file could not be written.
+     */
+    long writeSnapshot(Path file);
+
+    /**
+     * Stop applying twin events and cancel the initial load if it is still running. The replicated things remain
+     * readable.
+     */
+    @Override
+    void close();
+
+}
@@ -13,9 +13,12 @@
 package org.eclipse.ditto.client.twin;
 
 import java.util.List;
+import java.util.concurrent.CompletionStage;
 import java.util.function.Consumer;
+import java.util.stream.Collector;
 import java.util.stream.Stream;
 
+import org.eclipse.ditto.json.JsonObject;
 import org.eclipse.ditto.things.model.Thing;
 import org.reactivestreams.Publisher;
 
@@ -60,4 +63,121 @@ public interface TwinSearchHandle {
      * @return a stream over things matching the query.
      */
     Stream<Thing> stream(Consumer<SearchQueryBuilder> querySpecifier);
+
+    /**
+     * Search for things and publish each page of search results mapped by an extractor. Unlike
+     * {@link #publisher(java.util.function.Consumer)}, no {@link Thing} is built for a search result unless the
+     * extractor does so.
+     *
+     * @param querySpecifier the consumer to specify the search query.
+     * @param extractor maps each search result to an element.
+     * @param <T> the type of the elements.
+     * @return a publisher of the elements extracted from things matching the query.
+     * @throws NullPointerException if {@code extractor} is {@code null}.
+     * @since 3.6.0
+     */
+    <T> Publisher<List<T>> publisher(Consumer<SearchQueryBuilder> querySpecifier, SearchResultExtractor<T> extractor);
+
+    /**
+     * Search for things and iterate over the search results mapped by an extractor. Unlike
+     * {@link #stream(java.util.function.Consumer)}, no {@link Thing} is built for a search result unless the
+     * extractor does so; an extractor reading only the selected fields saves most of the allocations per search
+     * result. Error handling is the same as for {@link #stream(java.util.function.Consumer)}.
+     *
+     * @param querySpecifier the consumer to specify the search query.
+     * @param extractor maps each search result to an element.
+     * @param <T> the type of the elements.
+     * @return a stream over the elements extracted from things matching the query.
+     * @throws NullPointerException if {@code extractor} is {@code null}.
+     * @since 3.6.0
+     */
+    <T> Stream<T> stream(Consumer<SearchQueryBuilder> querySpecifier, SearchResultExtractor<T> extractor);
+
+    /**
+     * Search for things and iterate over the search results as JSON objects containing the selected fields.
+     * Equivalent to {@code stream(querySpecifier, SearchResultExtractor.json())}.
+     *
+     * @param querySpecifier the consumer to specify the search query.
+     * @return a stream over the JSON objects of things matching the query.
+     * @since 3.6.0
+     */
+    default Stream<JsonObject> streamJson(final Consumer<SearchQueryBuilder> querySpecifier) {
+        return stream(querySpecifier, SearchResultExtractor.json());
+    }
+
+    /**
+     * Search for things and aggregate the search results incrementally while pages arrive, e.g. with one of the
+     * {@link SearchAggregators}. Search results are not retained after they were accumulated, so that memory
+     * proportional to the accumulation of the collector suffices regardless of the number of results. The initial
+     * demand and demand of the query determine how many pages are requested at a time.
+     *
+     * @param querySpecifier the consumer to specify the search query.
+     * @param aggregator the collector accumulating the search results; it is called by one thread at a time.
+     * @param <R> the type of the result.
+     * @return the future result of the aggregation. Cancelling it cancels the search.
+     * @throws NullPointerException if {@code aggregator} is {@code null}.
+     * @since 3.6.0
+     */
+    <R> CompletionStage<R> aggregate(Consumer<SearchQueryBuilder> querySpecifier,
+            Collector<? super JsonObject, ?, R> aggregator);
+
+    /**
+     * Search for things and write the search results to a file of newline-delimited JSON, one thing per line.
+     * The results are sorted by thing ID, replacing any sort option of the query, and the field {@code thingId} is
+     * selected in addition to the fields of the query. The export records checkpoints as configured by the passed
+     * settings; if the export fails, e.g. because the connection was lost, or the process is restarted, calling
+     * this method again with the same query and settings resumes the export after the last checkpoint by adding
+     * {@code gt(thingId,<last exported thing ID>)} to the filter.
+     * <p>
+     * This method blocks until the export completed or failed.
+     * </p>
+     *
+     * @param querySpecifier the consumer to specify the search query.
+     * @param export the settings of the export.
+     * @return the number of things exported by this call, not counting things exported before the checkpoint it
+     * resumed from.
+     * @throws NullPointerException if {@code export} is {@code null}.
+     * @throws java.io.UncheckedIOException if the export file or the checkpoint file could not be read or written.
+     * @since 3.6.0
+     */
+    long export(Consumer<SearchQueryBuilder> querySpecifier, SearchExport export);
+
+    /**
+     * Search for things with up to {@code partitions} concurrent search subscriptions and publish each page of their
+     * merged results. The query is split into disjoint queries: by groups of namespaces if it is restricted to more
+     * than one namespace, otherwise by ranges of thing IDs added to its filter. Pages are published in the order of
+     * their arrival.
+     * <p>
+     * The search options apply to each partition separately, e.g. results are sorted only within a partition and
+     * {@code size} limits the results of each partition. The initial demand and demand of the query apply per
+     * partition as well.
+     * </p>
+     * <p>
+     * Splitting by thing ID ranges assumes thing IDs (or thing names if the query is restricted to one namespace)
+     * which are spread over digits and lower-case letters; skewed thing IDs reduce the speed-up but never the
+     * results.
+     * </p>
+     *
+     * @param querySpecifier the consumer to specify the search query.
+     * @param partitions the maximum number of concurrent search subscriptions.
+     * @return a publisher of things matching the query.
+     * @throws IllegalArgumentException if {@code partitions} is not positive.
+     * @since 3.6.0
+     */
+    Publisher<List<Thing>> parallelPublisher(Consumer<SearchQueryBuilder> querySpecifier, int partitions);
+
+    /**
+     * Search for things with up to {@code partitions} concurrent search subscriptions and iterate over their merged
+     * results with a parallel stream. The query is split like by
+     * {@link #parallelPublisher(java.util.function.Consumer, int)}; the results of all partitions are fetched
+     * concurrently also if the stream is consumed sequentially. Error handling is the same as for
+     * {@link #stream(java.util.function.Consumer)}.
+     *
+     * @param querySpecifier the consumer to specify the search query.
+     * @param partitions the maximum number of concurrent search subscriptions.
+     * @return a parallel stream over things matching the query.
+     * @throws IllegalArgumentException if {@code partitions} is not positive.
+     * @since 3.6.0
+     */
+    Stream<Thing> parallelStream(Consumer<SearchQueryBuilder> querySpecifier, int partitions);
 }
@@ -0,0 +1,209 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.ditto.client.twin.internal;
+
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.CompletionStage;
+import java.util.function.Consumer;
+import java.util.function.Function;
+
+import javax.annotation.Nullable;
+import javax.annotation.concurrent.GuardedBy;
+
+import org.eclipse.ditto.base.model.exceptions.DittoInternalErrorException;
+import org.eclipse.ditto.base.model.exceptions.DittoRuntimeException;
+import org.eclipse.ditto.client.twin.BulkWriteProgress;
+import org.eclipse.ditto.client.twin.BulkWriteResult;
+import org.eclipse.ditto.things.model.ThingId;
+
+/**
+ * A single bulk write which sends one command per element of its source and keeps at most {@code maxInFlight}
+ * commands waiting for their response. Elements are pulled from the source whenever a command completes; commands
+ * completing synchronously are handled in a loop rather than recursively.
+ *
+ * @param <T> type of the source elements.
+ */
+final class BulkWriteOperation<T> {
+
+    private final Iterator<T> source;
+    private final Function<T, ThingId> thingIdExtractor;
+    private final Function<T, CompletionStage<?>> write;
+    private final int maxInFlight;
+    @Nullable private final Consumer<BulkWriteProgress> progressListener;
+    private final CompletableFuture<BulkWriteResult> result = new CompletableFuture<>();
+
+    @GuardedBy("this") private final Map<ThingId, DittoRuntimeException> failures = new LinkedHashMap<>();
+    @GuardedBy("this") private long submitted = 0;
+    @GuardedBy("this") private long succeeded = 0;
+    // counted separately from the failures map which keeps only one failure per thing
+    @GuardedBy("this") private long failed = 0;
+    @GuardedBy("this") private int inFlight = 0;
+    @GuardedBy("this") private boolean sourceExhausted = false;
+    @GuardedBy("this") @Nullable private RuntimeException abortCause = null;
+    @GuardedBy("this") private boolean draining = false;
+    @GuardedBy("this") private boolean drainRequested = false;
+
+    private BulkWriteOperation(final Iterator<T> source,
+            final Function<T, ThingId> thingIdExtractor,
+            final Function<T, CompletionStage<?>> write,
+            final int maxInFlight,
+            @Nullable final Consumer<BulkWriteProgress> progressListener) {
+
+        this.source = source;
+        this.thingIdExtractor = thingIdExtractor;
+        this.write = write;
+        this.maxInFlight = maxInFlight;
+        this.progressListener = progressListener;
+    }
+
+    /**
+     * Starts a bulk write.
+     *
+     * @param source the elements to write.
+     * @param thingIdExtractor extracts the ID of the thing written for an element.
+     * @param write sends the command for an element and returns the future of its response.
+     * @param maxInFlight the maximum number of commands waiting for their response.
+     * @param progressListener the listener to notify whenever a command completes or {@code null}.
+     * @param <T> type of the source elements.
+     * @return the future of the aggregate result.
+     */
+    static <T> CompletionStage<BulkWriteResult> start(final Iterable<T> source,
+            final Function<T, ThingId> thingIdExtractor,
+            final Function<T, CompletionStage<?>> write,
+            final int maxInFlight,
+            @Nullable final Consumer<BulkWriteProgress> progressListener) {
+
+        final BulkWriteOperation<T> operation = new BulkWriteOperation<>(source.iterator(), thingIdExtractor, write,
+                maxInFlight, progressListener);
+        operation.drain();
+        return operation.result;
+    }
+
+    private void drain() {
+        synchronized (this) {
+            if (draining) {
+                drainRequested = true;
+                return;
+            }
+            draining = true;
+        }
+        while (true) {
+            final T element;
+            final ThingId thingId;
+            synchronized (this) {
+                if (canSubmit()) {
+                    try {
+                        element = source.next();
+                        thingId = thingIdExtractor.apply(element);
+                    } catch (final RuntimeException e) {
+                        abortCause = e;
+                        continue;
+                    }
+                    submitted++;
+                    inFlight++;
+                } else if (drainRequested) {
+                    drainRequested = false;
+                    continue;
+                } else {
+                    draining = false;
+                    if (inFlight == 0 && (sourceExhausted || null != abortCause)) {
+                        break;
+                    }
+                    return;
+                }
+            }
+            send(element, thingId);
+        }
+        complete();
+    }
+
+    @GuardedBy("this")
+    private boolean canSubmit() {
+        if (sourceExhausted || null != abortCause || inFlight >= maxInFlight) {
+            return false;
+        }
+        try {
+            sourceExhausted = !source.hasNext();
+        } catch (final RuntimeException e) {
+            abortCause = e;
+        }
+        return !sourceExhausted && null == abortCause;
+    }
+
+    private void send(final T element, final ThingId thingId) {
+        CompletionStage<?> response;
+        try {
+            response = write.apply(element);
+        } catch (final RuntimeException e) {
+            final CompletableFuture<?> failedResponse = new CompletableFuture<>();
+            failedResponse.completeExceptionally(e);
+            response = failedResponse;
+        }
+        response.whenComplete((value, error) -> onResponse(thingId, error));
+    }
+
+    private void onResponse(final ThingId thingId, @Nullable final Throwable error) {
+        final BulkWriteProgress progress;
+        synchronized (this) {
+            inFlight--;
+            if (null == error) {
+                succeeded++;
+            } else {
+                failed++;
+                // remove first so that the map is ordered by the last failure of each thing
+                failures.remove(thingId);
+                failures.put(thingId, toDittoRuntimeException(error));
+            }
+            progress = BulkWriteProgress.of(submitted, succeeded, failed);
+        }
+        try {
+            if (null != progressListener) {
+                progressListener.accept(progress);
+            }
+        } finally {
+            drain();
+        }
+    }
+
+    private void complete() {
+        final RuntimeException error;
+        final BulkWriteResult bulkWriteResult;
+        synchronized (this) {
+            error = abortCause;
+            bulkWriteResult = BulkWriteResult.of(succeeded, failed, failures);
+        }
+        if (null != error) {
+            result.completeExceptionally(error);
+        } else {
+            result.complete(bulkWriteResult);
+        }
+    }
+
+    private static DittoRuntimeException toDittoRuntimeException(final Throwable error) {
+        final Throwable cause = error instanceof CompletionException && null != error.getCause()
+                ? error.getCause()
+                : error;
+        if (cause instanceof DittoRuntimeException) {
+            return (DittoRuntimeException) cause;
+        }
+        return DittoInternalErrorException.newBuilder()
+                .message(cause.getClass().getSimpleName() + ": " + cause.getMessage())
+                .cause(cause)
+                .build();
+    }
+
+}
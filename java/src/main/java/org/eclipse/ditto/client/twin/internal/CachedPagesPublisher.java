@@ -0,0 +1,247 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.ditto.client.twin.internal;
+
+import static org.eclipse.ditto.base.model.common.ConditionChecker.checkNotNull;
+
+import java.util.List;
+import java.util.concurrent.CompletionStage;
+import java.util.function.Supplier;
+
+import javax.annotation.Nullable;
+import javax.annotation.concurrent.GuardedBy;
+
+import org.eclipse.ditto.client.internal.SearchResultCache;
+import org.eclipse.ditto.json.JsonArray;
+import org.reactivestreams.Publisher;
+import org.reactivestreams.Subscriber;
+import org.reactivestreams.Subscription;
+
+/**
+ * Publishes pages of search results from a {@link org.eclipse.ditto.client.internal.SearchResultCache} on demand.
+ * The pages are looked up anew for each subscriber. If the results are too large to be cached, the pages are streamed
+ * from a fallback publisher instead.
+ */
+final class CachedPagesPublisher implements Publisher<JsonArray> {
+
+    private final Supplier<? extends CompletionStage<List<JsonArray>>> pagesSupplier;
+    private final Supplier<? extends Publisher<JsonArray>> fallback;
+
+    private CachedPagesPublisher(final Supplier<? extends CompletionStage<List<JsonArray>>> pagesSupplier,
+            final Supplier<? extends Publisher<JsonArray>> fallback) {
+
+        this.pagesSupplier = pagesSupplier;
+        this.fallback = fallback;
+    }
+
+    /**
+     * Create a publisher of cached pages.
+     *
+     * @param pagesSupplier looks up the pages in the cache or fetches them.
+     * @param fallback creates the publisher of the pages if they fail with a
+     * {@link SearchResultCache.ResultTooLargeException}.
+     * @return the publisher.
+     */
+    static CachedPagesPublisher of(final Supplier<? extends CompletionStage<List<JsonArray>>> pagesSupplier,
+            final Supplier<? extends Publisher<JsonArray>> fallback) {
+
+        return new CachedPagesPublisher(pagesSupplier, fallback);
+    }
+
+    @Override
+    public void subscribe(final Subscriber<? super JsonArray> subscriber) {
+        checkNotNull(subscriber, "subscriber");
+        final ReplaySubscription subscription = new ReplaySubscription(subscriber, fallback);
+        subscriber.onSubscribe(subscription);
+        try {
+            pagesSupplier.get().whenComplete(subscription::onPages);
+        } catch (final RuntimeException e) {
+            subscription.onPages(null, e);
+        }
+    }
+
+    /**
+     * Subscription replaying pages on demand. All signals to the subscriber are sent by the single thread currently
+     * draining the subscription, so that they are never concurrent. Once the subscription delegates to the fallback
+     * publisher, all signals come from that publisher.
+     */
+    private static final class ReplaySubscription implements Subscription {
+
+        private final Subscriber<? super JsonArray> subscriber;
+        private final Supplier<? extends Publisher<JsonArray>> fallback;
+
+        @GuardedBy("this") @Nullable private List<JsonArray> pages = null;
+        @GuardedBy("this") private int nextPage = 0;
+        @GuardedBy("this") private long demand = 0L;
+        @GuardedBy("this") @Nullable private Throwable error = null;
+        @GuardedBy("this") private boolean terminated = false;
+        @GuardedBy("this") private boolean draining = false;
+        @GuardedBy("this") private boolean drainRequested = false;
+        @GuardedBy("this") @Nullable private Subscription delegate = null;
+
+        private ReplaySubscription(final Subscriber<? super JsonArray> subscriber,
+                final Supplier<? extends Publisher<JsonArray>> fallback) {
+
+            this.subscriber = subscriber;
+            this.fallback = fallback;
+        }
+
+        @Override
+        public void request(final long n) {
+            final Subscription currentDelegate;
+            synchronized (this) {
+                currentDelegate = delegate;
+                if (null != currentDelegate) {
+                    // the delegate validates the demand
+                } else if (n <= 0) {
+                    error = new IllegalArgumentException("Expect positive demand, got: " + n);
+                } else {
+                    demand = demand + n < 0 ? Long.MAX_VALUE : demand + n;
+                }
+            }
+            if (null != currentDelegate) {
+                currentDelegate.request(n);
+            } else {
+                drain();
+            }
+        }
+
+        @Override
+        public void cancel() {
+            final Subscription currentDelegate;
+            synchronized (this) {
+                terminated = true;
+                pages = null;
+                currentDelegate = delegate;
+            }
+            if (null != currentDelegate) {
+                currentDelegate.cancel();
+            }
+        }
+
+        private void onPages(@Nullable final List<JsonArray> pages, @Nullable final Throwable error) {
+            if (SearchResultCache.isResultTooLarge(error) && startFallback()) {
+                return;
+            }
+            synchronized (this) {
+                if (null != error) {
+                    if (null == this.error) {
+                        this.error = error;
+                    }
+                } else if (!terminated) {
+                    this.pages = pages;
+                }
+            }
+            drain();
+        }
+
+        private boolean startFallback() {
+            synchronized (this) {
+                if (terminated || null != error) {
+                    return false;
+                }
+            }
+            try {
+                fallback.get().subscribe(new FallbackSubscriber());
+                return true;
+            } catch (final RuntimeException e) {
+                onPages(null, e);
+                return true;
+            }
+        }
+
+        private void drain() {
+            synchronized (this) {
+                if (draining) {
+                    drainRequested = true;
+                    return;
+                }
+                draining = true;
+            }
+            while (true) {
+                JsonArray page = null;
+                Throwable failure = null;
+                boolean complete = false;
+                synchronized (this) {
+                    if (terminated) {
+                        return;
+                    } else if (null != error) {
+                        terminated = true;
+                        failure = error;
+                    } else if (null != pages && nextPage >= pages.size()) {
+                        terminated = true;
+                        complete = true;
+                    } else if (null != pages && demand > 0) {
+                        page = pages.get(nextPage++);
+                        demand--;
+                    } else if (drainRequested) {
+                        drainRequested = false;
+                        continue;
+                    } else {
+                        draining = false;
+                        return;
+                    }
+                }
+                if (null != failure) {
+                    subscriber.onError(failure);
+                    return;
+                } else if (complete) {
+                    subscriber.onComplete();
+                    return;
+                }
+                subscriber.onNext(page);
+            }
+        }
+
+        /**
+         * Forwards the signals of the fallback publisher and hands the pending demand over to it.
+         */
+        private final class FallbackSubscriber implements Subscriber<JsonArray> {
+
+            @Override
+            public void onSubscribe(final Subscription subscription) {
+                final boolean cancelled;
+                final long pendingDemand;
+                synchronized (ReplaySubscription.this) {
+                    cancelled = terminated;
+                    pendingDemand = demand;
+                    if (!cancelled) {
+                        delegate = subscription;
+                        demand = 0L;
+                    }
+                }
+                if (cancelled) {
+                    subscription.cancel();
+                } else if (pendingDemand > 0) {
+                    subscription.request(pendingDemand);
+                }
+            }
+
+            @Override
+            public void onNext(final JsonArray page) {
+                subscriber.onNext(page);
+            }
+
+            @Override
+            public void onError(final Throwable throwable) {
+                subscriber.onError(throwable);
+            }
+
+            @Override
+            public void onComplete() {
+                subscriber.onComplete();
+            }
+        }
+    }
+
+}
@@ -0,0 +1,185 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.ditto.client.twin.internal;
+
+import java.io.BufferedOutputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.Iterator;
+import java.util.function.ObjLongConsumer;
+
+import org.eclipse.ditto.json.JsonObject;
+
+/**
+ * Reads and writes snapshots of a {@link org.eclipse.ditto.client.twin.TwinReplica}: a header followed by one
+ * length-prefixed record per thing.
+ * <pre>
+ * header: magic "DTRS" (4 bytes), format version (int), number of records (long)
+ * record: revision (long), length of the JSON (int), JSON of the thing in UTF-8
+ * </pre>
+ * Snapshots are read through memory-mapped regions of at most {@link #MAX_MAPPED_BYTES} bytes, so that their pages
+ * are loaded by the operating system instead of being copied through a heap buffer.
+ */
+final class ReplicaSnapshot {
+
+    /**
+     * The maximum number of bytes mapped at once: the maximum size of a {@link MappedByteBuffer}.
+     */
+    static final int MAX_MAPPED_BYTES = Integer.MAX_VALUE;
+
+    private static final int MAGIC = 0x44545253;
+    private static final int VERSION = 1;
+    private static final int HEADER_BYTES = 16;
+    private static final int RECORD_HEADER_BYTES = 12;
+    private static final int COUNT_POSITION = 8;
+    private static final int BUFFER_SIZE = 64 * 1024;
+
+    private ReplicaSnapshot() {
+        throw new AssertionError();
+    }
+
+    /**
+     * Write a snapshot atomically: readers of the file see either the previous or the complete new snapshot.
+     *
+     * @param file the snapshot file.
+     * @param things the things to write.
+     * @return the number of written things.
+     * @throws IOException if the file could not be written.
+     */
+    static long write(final Path file, final Iterator<Record> things) throws IOException {
+        final Path tempFile = file.resolveSibling(file.getFileName() + ".tmp");
+        long count = 0L;
+        try (final FileChannel channel = FileChannel.open(tempFile, StandardOpenOption.CREATE,
+                StandardOpenOption.TRUNCATE_EXISTING, StandardOpenOption.WRITE)) {
+            // closed by closing the channel
+            final DataOutputStream output =
+                    new DataOutputStream(new BufferedOutputStream(Channels.newOutputStream(channel), BUFFER_SIZE));
+            output.writeInt(MAGIC);
+            output.writeInt(VERSION);
+            output.writeLong(0L);
+            while (things.hasNext()) {
+                final Record thing = things.next();
+                final byte[] json = thing.getThing().toString().getBytes(StandardCharsets.UTF_8);
+                output.writeLong(thing.getRevision());
+                output.writeInt(json.length);
+                output.write(json);
+                count++;
+            }
+            output.flush();
+            final ByteBuffer countBuffer = ByteBuffer.allocate(Long.BYTES).putLong(0, count);
+            channel.write(countBuffer, COUNT_POSITION);
+            channel.force(false);
+        }
+        try {
+            Files.move(tempFile, file, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        } catch (final AtomicMoveNotSupportedException e) {
+            Files.move(tempFile, file, StandardCopyOption.REPLACE_EXISTING);
+        }
+        return count;
+    }
+
+    /**
+     * Read all things of a snapshot.
+     *
+     * @param file the snapshot file.
+     * @param consumer receives each thing and its revision.
+     * @return the number of read things.
+     * @throws IOException if the file could not be read or is no complete snapshot.
+     */
+    static long read(final Path file, final ObjLongConsumer<JsonObject> consumer) throws IOException {
+        return read(file, consumer, MAX_MAPPED_BYTES);
+    }
+
+    static long read(final Path file, final ObjLongConsumer<JsonObject> consumer, final int maxMappedBytes)
+            throws IOException {
+
+        try (final FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+            final long size = channel.size();
+            if (size < HEADER_BYTES) {
+                throw new IOException("Not a twin replica snapshot: " + file);
+            }
+            final ByteBuffer header = channel.map(FileChannel.MapMode.READ_ONLY, 0L, HEADER_BYTES);
+            if (header.getInt() != MAGIC) {
+                throw new IOException("Not a twin replica snapshot: " + file);
+            }
+            final int version = header.getInt();
+            if (version != VERSION) {
+                throw new IOException("Unsupported twin replica snapshot version <" + version + ">: " + file);
+            }
+            final long expectedCount = header.getLong();
+            long count = 0L;
+            long position = HEADER_BYTES;
+            while (position < size) {
+                final MappedByteBuffer region = channel.map(FileChannel.MapMode.READ_ONLY, position,
+                        Math.min(size - position, maxMappedBytes));
+                // consume the complete records of the region; an incomplete one is read from the next region
+                int consumed = 0;
+                while (region.remaining() >= RECORD_HEADER_BYTES) {
+                    final long revision = region.getLong();
+                    final int length = region.getInt();
+                    if (length < 0 || region.remaining() < length) {
+                        break;
+                    }
+                    final ByteBuffer json = region.slice();
+                    json.limit(length);
+                    consumer.accept(JsonObject.of(StandardCharsets.UTF_8.decode(json).toString()), revision);
+                    region.position(region.position() + length);
+                    consumed = region.position();
+                    count++;
+                }
+                if (consumed == 0) {
+                    throw new IOException("Truncated twin replica snapshot at byte <" + position + ">: " + file);
+                }
+                position += consumed;
+            }
+            if (count != expectedCount) {
+                throw new IOException("Expected <" + expectedCount + "> things in twin replica snapshot, found <" +
+                        count + ">: " + file);
+            }
+            return count;
+        }
+    }
+
+    /**
+     * A thing of a snapshot with its revision.
+     */
+    static final class Record {
+
+        private final JsonObject thing;
+        private final long revision;
+
+        Record(final JsonObject thing, final long revision) {
+            this.thing = thing;
+            this.revision = revision;
+        }
+
+        JsonObject getThing() {
+            return thing;
+        }
+
+        long getRevision() {
+            return revision;
+        }
+    }
+
+}
@@ -0,0 +1,260 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.ditto.client.twin.internal;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.channels.WritableByteChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.Optional;
+import java.util.zip.GZIPOutputStream;
+
+import javax.annotation.Nullable;
+
+import org.eclipse.ditto.client.twin.SearchExport;
+import org.eclipse.ditto.json.JsonFactory;
+import org.eclipse.ditto.json.JsonFieldDefinition;
+import org.eclipse.ditto.json.JsonObject;
+import org.eclipse.ditto.things.model.Thing;
+
+/**
+ * Writes search results as newline-delimited JSON to the file of a {@link SearchExport} and records checkpoints of
+ * the progress. All bytes pass through one buffer of {@link SearchExport#getBufferSize()} bytes before they are
+ * written to the file channel.
+ * <p>
+ * Not thread-safe.
+ * </p>
+ */
+final class SearchExportWriter implements Closeable {
+
+    private static final JsonFieldDefinition<String> LAST_THING_ID =
+            JsonFactory.newStringFieldDefinition("lastThingId");
+    private static final JsonFieldDefinition<Long> EXPORTED = JsonFactory.newLongFieldDefinition("exported");
+    private static final JsonFieldDefinition<Long> POSITION = JsonFactory.newLongFieldDefinition("position");
+
+    private final SearchExport export;
+    private final FileChannel channel;
+    private final ChannelOutputStream channelOutput;
+    @Nullable private GZIPOutputStream gzipOutput;
+    @Nullable private String lastThingId;
+    private long exported;
+    private long exportedInThisRun;
+    private int exportedSinceCheckpoint;
+
+    private SearchExportWriter(final SearchExport export, final FileChannel channel,
+            @Nullable final String lastThingId, final long exported) {
+
+        this.export = export;
+        this.channel = channel;
+        this.lastThingId = lastThingId;
+        this.exported = exported;
+        channelOutput = new ChannelOutputStream(channel, ByteBuffer.allocate(export.getBufferSize()));
+        gzipOutput = null;
+        exportedInThisRun = 0L;
+        exportedSinceCheckpoint = 0;
+    }
+
+    /**
+     * Open the export file and restore the progress recorded in the checkpoint file, if any. Anything written to the
+     * export file after the last checkpoint is discarded.
+     *
+     * @param export the settings of the export.
+     * @return the writer.
+     * @throws IOException if the files could not be read or written, or if the export file is shorter than recorded
+     * in the checkpoint.
+     */
+    static SearchExportWriter open(final SearchExport export) throws IOException {
+        final Optional<JsonObject> checkpoint = readCheckpoint(export.getCheckpoint());
+        final long position = checkpoint.map(c -> c.getValueOrThrow(POSITION)).orElse(0L);
+        final FileChannel channel = FileChannel.open(export.getTarget(), StandardOpenOption.CREATE,
+                StandardOpenOption.WRITE);
+        try {
+            if (channel.size() < position) {
+                throw new IOException("Export file <" + export.getTarget() + "> is shorter than the " + position +
+                        " bytes recorded in checkpoint <" + export.getCheckpoint() + ">.");
+            }
+            channel.truncate(position);
+            channel.position(position);
+        } catch (final IOException | RuntimeException e) {
+            channel.close();
+            throw e;
+        }
+        return new SearchExportWriter(export, channel,
+                checkpoint.map(c -> c.getValueOrThrow(LAST_THING_ID)).orElse(null),
+                checkpoint.map(c -> c.getValueOrThrow(EXPORTED)).orElse(0L));
+    }
+
+    private static Optional<JsonObject> readCheckpoint(final Path checkpoint) throws IOException {
+        if (Files.exists(checkpoint)) {
+            final String json = new String(Files.readAllBytes(checkpoint), StandardCharsets.UTF_8);
+            return Optional.of(JsonFactory.newObject(json));
+        } else {
+            return Optional.empty();
+        }
+    }
+
+    /**
+     * @return the ID of the last exported thing as recorded in the checkpoint or written since, if any.
+     */
+    Optional<String> getLastThingId() {
+        return Optional.ofNullable(lastThingId);
+    }
+
+    /**
+     * @return the number of search results written since this writer was opened.
+     */
+    long getExportedInThisRun() {
+        return exportedInThisRun;
+    }
+
+    /**
+     * Write a search result as one line and record a checkpoint every {@link SearchExport#getCheckpointInterval()}
+     * search results.
+     *
+     * @param searchResult the search result containing the thing ID.
+     * @throws IOException if the search result could not be written.
+     */
+    void write(final JsonObject searchResult) throws IOException {
+        final String thingId = searchResult.getValueOrThrow(Thing.JsonFields.ID);
+        final byte[] line = (searchResult.toString() + "\n").getBytes(StandardCharsets.UTF_8);
+        getOutput().write(line);
+        lastThingId = thingId;
+        exported++;
+        exportedInThisRun++;
+        if (++exportedSinceCheckpoint >= export.getCheckpointInterval()) {
+            checkpoint();
+        }
+    }
+
+    /**
+     * Write all buffered bytes to the export file and record the progress in the checkpoint file.
+     *
+     * @throws IOException if the export file or the checkpoint file could not be written.
+     */
+    void checkpoint() throws IOException {
+        final long position = flush();
+        if (null != lastThingId) {
+            final JsonObject checkpoint = JsonObject.newBuilder()
+                    .set(LAST_THING_ID, lastThingId)
+                    .set(EXPORTED, exported)
+                    .set(POSITION, position)
+                    .build();
+            writeAtomically(export.getCheckpoint(), checkpoint.toString());
+        }
+        exportedSinceCheckpoint = 0;
+    }
+
+    /**
+     * Write all buffered bytes to the export file and delete the checkpoint file.
+     *
+     * @throws IOException if the export file could not be written or the checkpoint file could not be deleted.
+     */
+    void complete() throws IOException {
+        flush();
+        Files.deleteIfExists(export.getCheckpoint());
+    }
+
+    @Override
+    public void close() throws IOException {
+        channel.close();
+    }
+
+    private OutputStream getOutput() throws IOException {
+        if (!export.isGzip()) {
+            return channelOutput;
+        }
+        if (null == gzipOutput) {
+            gzipOutput = new GZIPOutputStream(channelOutput, export.getBufferSize());
+        }
+        return gzipOutput;
+    }
+
+    private long flush() throws IOException {
+        if (null != gzipOutput) {
+            // complete the gzip member so that the file can be truncated to its end when resuming
+            gzipOutput.finish();
+            gzipOutput = null;
+        }
+        channelOutput.flush();
+        channel.force(false);
+        return channel.position();
+    }
+
+    private static void writeAtomically(final Path file, final String content) throws IOException {
+        final Path tempFile = file.resolveSibling(file.getFileName() + ".tmp");
+        Files.write(tempFile, content.getBytes(StandardCharsets.UTF_8));
+        try {
+            Files.move(tempFile, file, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        } catch (final AtomicMoveNotSupportedException e) {
+            Files.move(tempFile, file, StandardCopyOption.REPLACE_EXISTING);
+        }
+    }
+
+    /**
+     * Output stream collecting bytes in a bounded buffer which is written to a channel whenever it is full or
+     * flushed. Closing it does not close the channel.
+     */
+    private static final class ChannelOutputStream extends OutputStream {
+
+        private final WritableByteChannel channel;
+        private final ByteBuffer buffer;
+
+        private ChannelOutputStream(final WritableByteChannel channel, final ByteBuffer buffer) {
+            this.channel = channel;
+            this.buffer = buffer;
+        }
+
+        @Override
+        public void write(final int b) throws IOException {
+            if (!buffer.hasRemaining()) {
+                drain();
+            }
+            buffer.put((byte) b);
+        }
+
+        @Override
+        public void write(final byte[] bytes, final int offset, final int length) throws IOException {
+            int written = 0;
+            while (written < length) {
+                if (!buffer.hasRemaining()) {
+                    drain();
+                }
+                final int n = Math.min(length - written, buffer.remaining());
+                buffer.put(bytes, offset + written, n);
+                written += n;
+            }
+        }
+
+        @Override
+        public void flush() throws IOException {
+            drain();
+        }
+
+        private void drain() throws IOException {
+            buffer.flip();
+            while (buffer.hasRemaining()) {
+                channel.write(buffer);
+            }
+            buffer.clear();
+        }
+    }
+
+}
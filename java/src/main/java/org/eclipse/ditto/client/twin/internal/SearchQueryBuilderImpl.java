@@ -12,27 +12,45 @@
  */
 package org.eclipse.ditto.client.twin.internal;
 
+import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.HashSet;
+import java.util.List;
+import java.util.Optional;
 import java.util.Set;
+import java.util.TreeSet;
 import java.util.function.Consumer;
+import java.util.regex.Pattern;
 
 import javax.annotation.Nullable;
 
+import org.eclipse.ditto.client.streaming.AdaptiveDemandController;
 import org.eclipse.ditto.client.twin.SearchOptionsBuilder;
 import org.eclipse.ditto.client.twin.SearchQueryBuilder;
 import org.eclipse.ditto.json.JsonFactory;
 import org.eclipse.ditto.json.JsonFieldSelector;
+import org.eclipse.ditto.json.JsonPointer;
 import org.eclipse.ditto.base.model.headers.DittoHeaders;
 import org.eclipse.ditto.thingsearch.model.signals.commands.subscription.CreateSubscription;
 
 final class SearchQueryBuilderImpl implements SearchQueryBuilder {
 
+    /**
+     * Characters at which the thing ID ranges of partitioned searches start, in ascending order.
+     */
+    private static final String THING_ID_RANGE_STARTS = "0123456789abcdefghijklmnopqrstuvwxyz";
+
+    private static final Pattern SORT_OPTION = Pattern.compile("sort\\([^)]*\\)");
+    private static final Pattern WHITESPACE = Pattern.compile("\\s+");
+    private static final JsonPointer THING_ID_POINTER = JsonPointer.of("thingId");
+
     @Nullable private String filter;
     @Nullable private String options;
     @Nullable private String fields;
     private final Set<String> namespaces = new HashSet<>();
     private int initialDemand = 2;
     private int demand = 1;
+    @Nullable private AdaptiveDemandController demandController;
 
     SearchQueryBuilderImpl() {}
 
@@ -89,12 +107,150 @@ final class SearchQueryBuilderImpl implements SearchQueryBuilder {
         return this;
     }
 
+    @Override
+    public SearchQueryBuilder adaptiveDemand(@Nullable final AdaptiveDemandController demandController) {
+        this.demandController = demandController;
+        return this;
+    }
+
     CreateSubscription createSubscription() {
         final JsonFieldSelector fieldSelector = JsonFactory.parseJsonFieldSelector(fields);
         final Set<String> namespacesSet = this.namespaces.isEmpty() ? null : this.namespaces;
         return CreateSubscription.of(filter, options, fieldSelector, namespacesSet, DittoHeaders.empty());
     }
 
+    /**
+     * Identify the results of this query: the filter, the options without whitespace, the set of selected fields and
+     * the set of namespaces. Queries with equal keys have the same results.
+     *
+     * @return the key of this query.
+     */
+    Object getCacheKey() {
+        final JsonFieldSelector fieldSelector = JsonFactory.parseJsonFieldSelector(fields);
+        return Arrays.asList(filter,
+                null == options ? null : WHITESPACE.matcher(options).replaceAll(""),
+                null == fieldSelector ? null : new HashSet<>(fieldSelector.getPointers()),
+                new HashSet<>(namespaces));
+    }
+
+    /**
+     * Create the command of a search subscription which yields the results of this query sorted by thing ID and
+     * starting after the passed thing ID. Any sort option of this query is replaced and the thing ID is added to the
+     * selected fields.
+     *
+     * @param lastThingId the thing ID after which to resume the search, or {@code null} to start from the beginning.
+     * @return the command.
+     */
+    CreateSubscription createResumableSubscription(@Nullable final String lastThingId) {
+        final String resumedFilter;
+        if (null == lastThingId) {
+            resumedFilter = filter;
+        } else {
+            final String afterLastThingId = "gt(thingId," + toRqlString(lastThingId) + ")";
+            resumedFilter = null == filter ? afterLastThingId : "and(" + filter + "," + afterLastThingId + ")";
+        }
+        final String otherOptions = null == options ? "" : SORT_OPTION.matcher(options).replaceAll("")
+                .replaceAll(",{2,}", ",")
+                .replaceAll("^,|,$", "");
+        final String sortedOptions = otherOptions.isEmpty() ? "sort(+thingId)" : "sort(+thingId)," + otherOptions;
+        final JsonFieldSelector fieldSelector = JsonFactory.parseJsonFieldSelector(fields);
+        final JsonFieldSelector resumableFieldSelector;
+        if (null == fieldSelector || fieldSelector.getPointers().contains(THING_ID_POINTER)) {
+            resumableFieldSelector = fieldSelector;
+        } else {
+            resumableFieldSelector = JsonFactory.parseJsonFieldSelector(fields + ",thingId");
+        }
+        final Set<String> namespacesSet = this.namespaces.isEmpty() ? null : this.namespaces;
+        return CreateSubscription.of(resumedFilter, sortedOptions, resumableFieldSelector, namespacesSet,
+                DittoHeaders.empty());
+    }
+
+    private static String toRqlString(final String value) {
+        return "\"" + value.replace("\\", "\\\\").replace("\"", "\\\"") + "\"";
+    }
+
+    /**
+     * Create the commands of disjoint search subscriptions which together yield the results of this query.
+     * A query restricted to several namespaces is split into groups of namespaces; any other query is split into
+     * ranges of thing IDs.
+     *
+     * @param partitions the maximum number of subscriptions.
+     * @return the commands, at least one.
+     */
+    List<CreateSubscription> createPartitionedSubscriptions(final int partitions) {
+        if (namespaces.size() > 1) {
+            return partitionByNamespaces(partitions);
+        } else {
+            return partitionByThingIdRanges(partitions);
+        }
+    }
+
+    private List<CreateSubscription> partitionByNamespaces(final int partitions) {
+        final JsonFieldSelector fieldSelector = JsonFactory.parseJsonFieldSelector(fields);
+        final int groupCount = Math.min(partitions, namespaces.size());
+        final List<Set<String>> groups = new ArrayList<>(groupCount);
+        for (int i = 0; i < groupCount; i++) {
+            groups.add(new HashSet<>());
+        }
+        int i = 0;
+        for (final String namespace : new TreeSet<>(namespaces)) {
+            groups.get(i++ % groupCount).add(namespace);
+        }
+        final List<CreateSubscription> result = new ArrayList<>(groupCount);
+        for (final Set<String> group : groups) {
+            result.add(CreateSubscription.of(filter, options, fieldSelector, group, DittoHeaders.empty()));
+        }
+        return result;
+    }
+
+    private List<CreateSubscription> partitionByThingIdRanges(final int partitions) {
+        final JsonFieldSelector fieldSelector = JsonFactory.parseJsonFieldSelector(fields);
+        final Set<String> namespacesSet = this.namespaces.isEmpty() ? null : this.namespaces;
+        // thing IDs of a single namespace share its prefix, so that only the names can be split
+        final String prefix = namespaces.size() == 1 ? namespaces.iterator().next() + ":" : "";
+        final int rangeCount = Math.min(partitions, THING_ID_RANGE_STARTS.length());
+        final List<CreateSubscription> result = new ArrayList<>(rangeCount);
+        for (int i = 0; i < rangeCount; i++) {
+            final List<String> conditions = new ArrayList<>(3);
+            if (null != filter) {
+                conditions.add(filter);
+            }
+            if (i > 0) {
+                conditions.add("ge(thingId,\"" + prefix + rangeStart(i, rangeCount) + "\")");
+            }
+            if (i < rangeCount - 1) {
+                conditions.add("lt(thingId,\"" + prefix + rangeStart(i + 1, rangeCount) + "\")");
+            }
+            final String rangeFilter;
+            if (conditions.isEmpty()) {
+                rangeFilter = null;
+            } else if (conditions.size() == 1) {
+                rangeFilter = conditions.get(0);
+            } else {
+                rangeFilter = "and(" + String.join(",", conditions) + ")";
+            }
+            result.add(CreateSubscription.of(rangeFilter, options, fieldSelector, namespacesSet,
+                    DittoHeaders.empty()));
+        }
+        return result;
+    }
+
+    private static char rangeStart(final int range, final int rangeCount) {
+        return THING_ID_RANGE_STARTS.charAt(range * THING_ID_RANGE_STARTS.length() / rangeCount);
+    }
+
+    Optional<String> getFilter() {
+        return Optional.ofNullable(filter);
+    }
+
+    Optional<String> getFields() {
+        return Optional.ofNullable(fields);
+    }
+
+    Set<String> getNamespaces() {
+        return new HashSet<>(namespaces);
+    }
+
     int getInitialDemand() {
         return initialDemand;
     }
@@ -102,4 +258,8 @@ final class SearchQueryBuilderImpl implements SearchQueryBuilder {
     int getDemand() {
         return demand;
     }
+
+    Optional<AdaptiveDemandController> getAdaptiveDemandController() {
+        return Optional.ofNullable(demandController);
+    }
 }
@@ -0,0 +1,91 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.ditto.client.twin.internal;
+
+import static org.eclipse.ditto.base.model.common.ConditionChecker.checkArgument;
+import static org.eclipse.ditto.base.model.common.ConditionChecker.checkNotNull;
+
+import java.util.concurrent.CompletionStage;
+import java.util.function.Consumer;
+
+import javax.annotation.Nullable;
+
+import org.eclipse.ditto.client.options.Option;
+import org.eclipse.ditto.client.twin.BulkWriteProgress;
+import org.eclipse.ditto.client.twin.BulkWriteResult;
+import org.eclipse.ditto.client.twin.Twin;
+import org.eclipse.ditto.client.twin.TwinBulkHandle;
+import org.eclipse.ditto.things.model.Thing;
+import org.eclipse.ditto.things.model.ThingId;
+
+/**
+ * Default implementation of {@link TwinBulkHandle} sending the single commands via {@link Twin}.
+ *
+ * @since 3.6.0
+ */
+final class TwinBulkHandleImpl implements TwinBulkHandle {
+
+    private final Twin twin;
+    private final int maxInFlight;
+    @Nullable private final Consumer<BulkWriteProgress> progressListener;
+
+    TwinBulkHandleImpl(final Twin twin) {
+        this(twin, DEFAULT_MAX_IN_FLIGHT, null);
+    }
+
+    private TwinBulkHandleImpl(final Twin twin, final int maxInFlight,
+            @Nullable final Consumer<BulkWriteProgress> progressListener) {
+        this.twin = twin;
+        this.maxInFlight = maxInFlight;
+        this.progressListener = progressListener;
+    }
+
+    @Override
+    public TwinBulkHandle maxInFlight(final int maxInFlight) {
+        checkArgument(maxInFlight, max -> max > 0, () -> "The maxInFlight must be positive!");
+        return new TwinBulkHandleImpl(twin, maxInFlight, progressListener);
+    }
+
+    @Override
+    public TwinBulkHandle onProgress(final Consumer<BulkWriteProgress> progressListener) {
+        checkNotNull(progressListener, "progressListener");
+        return new TwinBulkHandleImpl(twin, maxInFlight, progressListener);
+    }
+
+    @Override
+    public CompletionStage<BulkWriteResult> putAll(final Iterable<Thing> things, final Option<?>... options) {
+        checkNotNull(things, "things");
+        return BulkWriteOperation.start(things, TwinBulkHandleImpl::getThingId,
+                thing -> twin.put(thing, options), maxInFlight, progressListener);
+    }
+
+    @Override
+    public CompletionStage<BulkWriteResult> mergeAll(final Iterable<Thing> things, final Option<?>... options) {
+        checkNotNull(things, "things");
+        return BulkWriteOperation.start(things, TwinBulkHandleImpl::getThingId,
+                thing -> twin.merge(getThingId(thing), thing, options), maxInFlight, progressListener);
+    }
+
+    @Override
+    public CompletionStage<BulkWriteResult> deleteAll(final Iterable<ThingId> thingIds, final Option<?>... options) {
+        checkNotNull(thingIds, "thingIds");
+        return BulkWriteOperation.start(thingIds, thingId -> checkNotNull(thingId, "thingId"),
+                thingId -> twin.delete(thingId, options), maxInFlight, progressListener);
+    }
+
+    private static ThingId getThingId(final Thing thing) {
+        return checkNotNull(thing, "thing").getEntityId()
+                .orElseThrow(() -> new IllegalArgumentException("Bulk writes require things with an ID!"));
+    }
+
+}
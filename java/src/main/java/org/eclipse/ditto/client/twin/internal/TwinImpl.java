@@ -12,10 +12,14 @@
  */
 package org.eclipse.ditto.client.twin.internal;
 
+import static org.eclipse.ditto.base.model.common.ConditionChecker.checkNotNull;
+
+import java.nio.file.Path;
 import java.util.Map;
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.CompletionStage;
 import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Consumer;
 
 import javax.annotation.ParametersAreNonnullByDefault;
 
@@ -27,8 +31,11 @@ import org.eclipse.ditto.client.internal.bus.Classification;
 import org.eclipse.ditto.client.internal.bus.PointerBus;
 import org.eclipse.ditto.client.management.ClientReconnectingException;
 import org.eclipse.ditto.client.messaging.MessagingProvider;
+import org.eclipse.ditto.client.twin.SearchQueryBuilder;
 import org.eclipse.ditto.client.twin.Twin;
+import org.eclipse.ditto.client.twin.TwinBulkHandle;
 import org.eclipse.ditto.client.twin.TwinFeatureHandle;
+import org.eclipse.ditto.client.twin.TwinReplica;
 import org.eclipse.ditto.client.twin.TwinSearchHandle;
 import org.eclipse.ditto.client.twin.TwinThingHandle;
 import org.eclipse.ditto.base.model.acks.AcknowledgementLabel;
@@ -46,6 +53,7 @@ public final class TwinImpl extends CommonManagementImpl<TwinThingHandle, TwinFe
 
     private final AtomicReference<AdaptableBus.SubscriptionId> twinEventSubscription = new AtomicReference<>();
     private final TwinSearchHandle search;
+    private final TwinBulkHandle bulk;
 
     private TwinImpl(final MessagingProvider messagingProvider,
             final OutgoingMessageFactory outgoingMessageFactory,
@@ -53,9 +61,10 @@ public final class TwinImpl extends CommonManagementImpl<TwinThingHandle, TwinFe
         super(TopicPath.Channel.TWIN,
                 messagingProvider,
                 outgoingMessageFactory,
-                new HandlerRegistry<>(bus),
+                new HandlerRegistry<>(bus, messagingProvider.getMessagingConfiguration().getHandleCacheSize()),
                 bus);
         search = new TwinSearchHandleImpl(messagingProvider);
+        bulk = new TwinBulkHandleImpl(this);
     }
 
     /**
@@ -141,6 +150,21 @@ public final class TwinImpl extends CommonManagementImpl<TwinThingHandle, TwinFe
         return search;
     }
 
+    @Override
+    public TwinBulkHandle bulk() {
+        return bulk;
+    }
+
+    @Override
+    public TwinReplica replicate(final Consumer<SearchQueryBuilder> querySpecifier) {
+        return TwinReplicaImpl.start(querySpecifier, null, this, messagingProvider);
+    }
+
+    @Override
+    public TwinReplica replicate(final Consumer<SearchQueryBuilder> querySpecifier, final Path snapshot) {
+        return TwinReplicaImpl.start(querySpecifier, checkNotNull(snapshot, "snapshot"), this, messagingProvider);
+    }
+
     @Override
     protected AcknowledgementLabel getThingResponseAcknowledgementLabel() {
         return DittoAcknowledgementLabel.TWIN_PERSISTED;
@@ -0,0 +1,531 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.ditto.client.twin.internal;
+
+import static org.eclipse.ditto.base.model.common.ConditionChecker.checkNotNull;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.Optional;
+import java.util.OptionalLong;
+import java.util.Queue;
+import java.util.Set;
+import java.util.SortedMap;
+import java.util.TreeMap;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.function.Consumer;
+import java.util.function.Function;
+import java.util.function.ToIntFunction;
+import java.util.stream.Collectors;
+
+import javax.annotation.Nullable;
+import javax.annotation.concurrent.GuardedBy;
+
+import org.eclipse.ditto.base.model.headers.translator.HeaderTranslator;
+import org.eclipse.ditto.base.model.json.JsonSchemaVersion;
+import org.eclipse.ditto.base.model.signals.Signal;
+import org.eclipse.ditto.client.configuration.MessagingConfiguration;
+import org.eclipse.ditto.client.internal.bus.AdaptableBus;
+import org.eclipse.ditto.client.internal.bus.Classification;
+import org.eclipse.ditto.client.messaging.MessagingProvider;
+import org.eclipse.ditto.client.streaming.CollectingSubscriber;
+import org.eclipse.ditto.client.twin.SearchQueryBuilder;
+import org.eclipse.ditto.client.twin.SearchResultExtractor;
+import org.eclipse.ditto.client.twin.Twin;
+import org.eclipse.ditto.client.twin.TwinReplica;
+import org.eclipse.ditto.json.JsonFactory;
+import org.eclipse.ditto.json.JsonField;
+import org.eclipse.ditto.json.JsonFieldSelector;
+import org.eclipse.ditto.json.JsonObject;
+import org.eclipse.ditto.json.JsonPointer;
+import org.eclipse.ditto.json.JsonValue;
+import org.eclipse.ditto.protocol.Adaptable;
+import org.eclipse.ditto.protocol.adapter.DittoProtocolAdapter;
+import org.eclipse.ditto.protocol.adapter.ProtocolAdapter;
+import org.eclipse.ditto.things.model.Thing;
+import org.eclipse.ditto.things.model.ThingId;
+import org.eclipse.ditto.things.model.ThingRevision;
+import org.eclipse.ditto.things.model.signals.events.ThingCreated;
+import org.eclipse.ditto.things.model.signals.events.ThingDeleted;
+import org.eclipse.ditto.things.model.signals.events.ThingEvent;
+import org.eclipse.ditto.things.model.signals.events.ThingMerged;
+import org.eclipse.ditto.things.model.signals.events.ThingModified;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Default implementation of {@link TwinReplica}. Reads are lock-free; the state of each thing is updated under the
+ * lock of its slot, so that events of different things are applied concurrently.
+ *
+ * @since 3.6.0
+ */
+final class TwinReplicaImpl implements TwinReplica {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(TwinReplicaImpl.class);
+
+    private static final ProtocolAdapter PROTOCOL_ADAPTER = DittoProtocolAdapter.of(HeaderTranslator.empty());
+    private static final String DEFAULT_FIELDS = "thingId,policyId,definition,attributes,features";
+    private static final String REVISION_FIELD = "_revision";
+
+    private final Twin twin;
+    private final AdaptableBus adaptableBus;
+    private final boolean hasFilter;
+    private final Set<String> namespaces;
+    @Nullable private final JsonFieldSelector selectedFields;
+    private final String replicatedFields;
+    private final Map<ThingId, ThingSlot> slots;
+    private final Queue<ThingEvent<?>> eventsDuringLoad;
+    private final CompletableFuture<TwinReplica> loaded;
+    private final Object loadLock;
+    @GuardedBy("loadLock") private boolean loadTerminated;
+    @Nullable private volatile AdaptableBus.SubscriptionId eventSubscription;
+    @Nullable private volatile CompletableFuture<Integer> load;
+
+    private TwinReplicaImpl(final Twin twin, final AdaptableBus adaptableBus, final SearchQueryBuilderImpl query) {
+        this.twin = twin;
+        this.adaptableBus = adaptableBus;
+        hasFilter = query.getFilter().isPresent();
+        namespaces = query.getNamespaces();
+        selectedFields = query.getFields().map(JsonFactory::parseJsonFieldSelector).orElse(null);
+        // the revision is always selected: it orders the search results and events of a thing
+        replicatedFields =
+                query.getFields().map(fields -> fields + ",thingId").orElse(DEFAULT_FIELDS) + "," + REVISION_FIELD;
+        slots = new ConcurrentHashMap<>();
+        eventsDuringLoad = new ConcurrentLinkedQueue<>();
+        loaded = new CompletableFuture<>();
+        loadLock = new Object();
+        loadTerminated = false;
+    }
+
+    /**
+     * Create a replica and start loading it.
+     *
+     * @param querySpecifier the query selecting the things to replicate.
+     * @param snapshot the snapshot to start from if it exists, or {@code null} to load all things by the query.
+     * @param twin the twin to search and retrieve things with.
+     * @param messagingProvider the messaging provider to receive twin events from.
+     * @return the replica.
+     */
+    static TwinReplica start(final Consumer<SearchQueryBuilder> querySpecifier, @Nullable final Path snapshot,
+            final Twin twin, final MessagingProvider messagingProvider) {
+
+        checkNotNull(querySpecifier, "querySpecifier");
+        final SearchQueryBuilderImpl query = new SearchQueryBuilderImpl();
+        querySpecifier.accept(query);
+        final TwinReplicaImpl replica = new TwinReplicaImpl(twin, messagingProvider.getAdaptableBus(), query);
+        // subscribe before searching so that no event of a loaded thing is missed
+        replica.eventSubscription = messagingProvider.getAdaptableBus()
+                .subscribeForAdaptable(Classification.StreamingType.TWIN_EVENT, replica::onAdaptable);
+        if (null != snapshot && Files.exists(snapshot) && replica.readSnapshot(snapshot)) {
+            replica.startCatchUp(querySpecifier, query, messagingProvider.getMessagingConfiguration());
+        } else {
+            replica.startLoad(querySpecifier, query);
+        }
+        return replica;
+    }
+
+    @Override
+    public CompletionStage<TwinReplica> whenLoaded() {
+        return loaded.thenApply(Function.identity());
+    }
+
+    @Override
+    public Optional<JsonObject> get(final ThingId thingId) {
+        checkNotNull(thingId, "thingId");
+        final ThingSlot slot = slots.get(thingId);
+        return null == slot ? Optional.empty() : Optional.ofNullable(slot.state.thing);
+    }
+
+    @Override
+    public Optional<JsonValue> get(final ThingId thingId, final JsonPointer pointer) {
+        checkNotNull(pointer, "pointer");
+        return get(thingId).flatMap(thing -> pointer.isEmpty() ? Optional.of(thing) : thing.getValue(pointer));
+    }
+
+    @Override
+    public OptionalLong getRevision(final ThingId thingId) {
+        checkNotNull(thingId, "thingId");
+        final ThingSlot slot = slots.get(thingId);
+        final ReplicatedThing state = null == slot ? null : slot.state;
+        return null == state || null == state.thing ? OptionalLong.empty() : OptionalLong.of(state.revision);
+    }
+
+    @Override
+    public Set<ThingId> getThingIds() {
+        return slots.entrySet()
+                .stream()
+                .filter(entry -> null != entry.getValue().state.thing)
+                .map(Map.Entry::getKey)
+                .collect(Collectors.toSet());
+    }
+
+    @Override
+    public int size() {
+        return (int) slots.values().stream().filter(slot -> null != slot.state.thing).count();
+    }
+
+    @Override
+    public long writeSnapshot(final Path file) {
+        checkNotNull(file, "file");
+        final Iterator<ReplicaSnapshot.Record> records = slots.values()
+                .stream()
+                .map(slot -> slot.state)
+                .filter(state -> null != state.thing)
+                .map(state -> new ReplicaSnapshot.Record(state.thing, state.revision))
+                .iterator();
+        try {
+            return ReplicaSnapshot.write(file, records);
+        } catch (final IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    @Override
+    public void close() {
+        final AdaptableBus.SubscriptionId subscriptionId = eventSubscription;
+        if (null != subscriptionId) {
+            adaptableBus.unsubscribe(subscriptionId);
+            eventSubscription = null;
+        }
+        final CompletableFuture<Integer> runningLoad = load;
+        if (null != runningLoad) {
+            runningLoad.cancel(false);
+        }
+    }
+
+    private void startLoad(final Consumer<SearchQueryBuilder> querySpecifier, final SearchQueryBuilderImpl query) {
+        search(querySpecifier, query, replicatedFields, this::loadSearchResult)
+                .whenComplete(this::onLoadTerminated);
+    }
+
+    /**
+     * Search only the IDs and revisions of the things and retrieve those which changed since the snapshot was
+     * written. Things of the snapshot which are not found any more are removed. Changed things are retrieved in
+     * batches of the configured size and installed as their batches arrive.
+     */
+    private void startCatchUp(final Consumer<SearchQueryBuilder> querySpecifier,
+            final SearchQueryBuilderImpl query, final MessagingConfiguration configuration) {
+
+        final Set<ThingId> notFound = ConcurrentHashMap.newKeySet();
+        notFound.addAll(slots.keySet());
+        final Queue<ThingId> outdated = new ConcurrentLinkedQueue<>();
+        search(querySpecifier, query, "thingId," + REVISION_FIELD, searchResult -> {
+            final Optional<ThingId> thingId = thingIdOf(searchResult);
+            final OptionalLong revision = revisionOf(searchResult);
+            if (!thingId.isPresent() || !revision.isPresent()) {
+                return 0;
+            }
+            notFound.remove(thingId.get());
+            final ThingSlot slot = slots.get(thingId.get());
+            if (null == slot || slot.state.revision < revision.getAsLong()) {
+                outdated.add(thingId.get());
+            }
+            return 1;
+        }).thenCompose(count -> {
+            LOGGER.debug("Retrieving <{}> of <{}> things changed since the snapshot, removing <{}>", outdated.size(),
+                    count, notFound.size());
+            notFound.forEach(this::delete);
+            if (outdated.isEmpty()) {
+                return CompletableFuture.completedFuture(count);
+            }
+            final int batchSize = configuration.getRetrieveThingsBatchSize();
+            final CollectingSubscriber<Thing, ?, Integer> subscriber = CollectingSubscriber.of(
+                    Collectors.summingInt(thing -> {
+                        install(thing);
+                        return 1;
+                    }), batchSize * configuration.getRetrieveThingsParallelism(), batchSize);
+            final CompletableFuture<Integer> retrieval = subscriber.getResult();
+            load = retrieval;
+            twin.retrieveAsPublisher(JsonFactory.parseJsonFieldSelector(replicatedFields), outdated)
+                    .subscribe(subscriber);
+            return retrieval.thenApply(retrieved -> count);
+        }).whenComplete(this::onLoadTerminated);
+    }
+
+    private CompletionStage<Integer> search(final Consumer<SearchQueryBuilder> querySpecifier,
+            final SearchQueryBuilderImpl query, final String fields, final ToIntFunction<JsonObject> onSearchResult) {
+
+        final int batchSize = Math.min(query.getDemand(), query.getInitialDemand());
+        final CollectingSubscriber<JsonObject, ?, Integer> subscriber = CollectingSubscriber.of(
+                Collectors.summingInt(onSearchResult), query.getInitialDemand(), batchSize);
+        final CompletableFuture<Integer> result = subscriber.getResult();
+        load = result;
+        twin.search()
+                .publisher(search -> {
+                    querySpecifier.accept(search);
+                    search.fields(fields);
+                }, SearchResultExtractor.json())
+                .subscribe(subscriber);
+        return result;
+    }
+
+    private boolean readSnapshot(final Path snapshot) {
+        try {
+            final long count = ReplicaSnapshot.read(snapshot, (thing, revision) ->
+                    thingIdOf(thing).ifPresent(thingId -> slots.computeIfAbsent(thingId, id -> new ThingSlot())
+                            .state = new ReplicatedThing(thing, revision)));
+            LOGGER.debug("Read <{}> things from twin replica snapshot <{}>", count, snapshot);
+            return true;
+        } catch (final IOException | RuntimeException e) {
+            LOGGER.warn("Failed to read twin replica snapshot <{}>, loading all things instead", snapshot, e);
+            slots.clear();
+            return false;
+        }
+    }
+
+    private int loadSearchResult(final JsonObject searchResult) {
+        final Optional<ThingId> thingId = thingIdOf(searchResult);
+        final OptionalLong revision = revisionOf(searchResult);
+        if (!thingId.isPresent() || !revision.isPresent()) {
+            LOGGER.warn("Ignoring search result without thing ID or revision: <{}>", searchResult);
+            return 0;
+        }
+        final ThingSlot slot = slots.computeIfAbsent(thingId.get(), id -> new ThingSlot());
+        synchronized (slot) {
+            slot.install(thingId.get(), restrict(searchResult.remove(REVISION_FIELD)), revision.getAsLong());
+        }
+        return 1;
+    }
+
+    private void install(final Thing thing) {
+        thing.getEntityId().ifPresent(thingId -> {
+            final ThingSlot slot = slots.computeIfAbsent(thingId, id -> new ThingSlot());
+            synchronized (slot) {
+                slot.install(thingId, restrict(thing.toJson()), thing.getRevision().map(ThingRevision::toLong)
+                        .orElse(0L));
+            }
+        });
+    }
+
+    private void delete(final ThingId thingId) {
+        final ThingSlot slot = slots.get(thingId);
+        if (null != slot) {
+            synchronized (slot) {
+                slot.delete();
+            }
+        }
+    }
+
+    private void onLoadTerminated(@Nullable final Integer count, @Nullable final Throwable error) {
+        synchronized (loadLock) {
+            loadTerminated = true;
+        }
+        // events received during the load are applied after the search results, which may already be newer
+        for (ThingEvent<?> event = eventsDuringLoad.poll(); null != event; event = eventsDuringLoad.poll()) {
+            applyEvent(event);
+        }
+        if (null != error) {
+            LOGGER.warn("Initial load of twin replica failed after <{}> things", size(), error);
+            loaded.completeExceptionally(error);
+        } else {
+            LOGGER.debug("Loaded <{}> things into twin replica", count);
+            loaded.complete(this);
+        }
+    }
+
+    private void onAdaptable(final Adaptable adaptable) {
+        final Signal<?> signal = PROTOCOL_ADAPTER.fromAdaptable(adaptable);
+        if (!(signal instanceof ThingEvent)) {
+            return;
+        }
+        final ThingEvent<?> event = (ThingEvent<?>) signal;
+        if (!namespaces.isEmpty() && !namespaces.contains(event.getEntityId().getNamespace())) {
+            return;
+        }
+        synchronized (loadLock) {
+            if (!loadTerminated) {
+                eventsDuringLoad.add(event);
+                return;
+            }
+        }
+        applyEvent(event);
+    }
+
+    private void applyEvent(final ThingEvent<?> event) {
+        final ThingId thingId = event.getEntityId();
+        // without a filter, every thing of the namespaces matches the query
+        final ThingSlot slot = hasFilter ? slots.get(thingId) : slots.computeIfAbsent(thingId, id -> new ThingSlot());
+        if (null != slot) {
+            synchronized (slot) {
+                slot.onEvent(thingId, event);
+            }
+        }
+    }
+
+    private void resync(final ThingId thingId, final ThingSlot slot) {
+        LOGGER.debug("Retrieving <{}> to fill a gap in its revisions", thingId);
+        twin.retrieve(JsonFactory.parseJsonFieldSelector(replicatedFields), thingId).whenComplete((things, error) -> {
+            synchronized (slot) {
+                slot.resyncing = false;
+                if (null != error) {
+                    LOGGER.warn("Failed to retrieve <{}> of twin replica, retrying on its next event", thingId, error);
+                } else if (things.isEmpty()) {
+                    slot.delete();
+                } else {
+                    final Thing thing = things.get(0);
+                    slot.install(thingId, restrict(thing.toJson()),
+                            thing.getRevision().map(ThingRevision::toLong).orElse(0L));
+                }
+            }
+        });
+    }
+
+    private JsonObject restrict(final JsonObject thing) {
+        return null == selectedFields ? thing : thing.get(selectedFields);
+    }
+
+    private static Optional<ThingId> thingIdOf(final JsonObject thing) {
+        return thing.getValue(Thing.JsonFields.ID).map(ThingId::of);
+    }
+
+    private static OptionalLong revisionOf(final JsonObject searchResult) {
+        return searchResult.getValue(REVISION_FIELD)
+                .filter(JsonValue::isNumber)
+                .map(value -> OptionalLong.of(value.asLong()))
+                .orElseGet(OptionalLong::empty);
+    }
+
+    /**
+     * Apply a twin event to the JSON representation of a thing.
+     *
+     * @return the changed thing, or {@code null} if the thing was deleted.
+     */
+    @Nullable
+    private static JsonObject applyTo(@Nullable final JsonObject thing, final ThingEvent<?> event) {
+        if (event instanceof ThingCreated) {
+            return ((ThingCreated) event).getThing().toJson();
+        } else if (event instanceof ThingModified) {
+            return ((ThingModified) event).getThing().toJson();
+        } else if (event instanceof ThingDeleted) {
+            return null;
+        }
+        final JsonObject current = null == thing ? JsonObject.empty() : thing;
+        final JsonPointer path = event.getResourcePath();
+        final Optional<JsonValue> value;
+        if (event instanceof ThingMerged) {
+            // merging null removes the value
+            value = Optional.of(mergePatch(((ThingMerged) event).getValue(), current.getValue(path).orElse(null)))
+                    .filter(merged -> !merged.isNull());
+        } else {
+            // created and modified events carry the new value, deleted events none
+            value = event.getEntity(JsonSchemaVersion.LATEST);
+        }
+        if (path.isEmpty()) {
+            return value.filter(JsonValue::isObject).map(JsonValue::asObject).orElse(null);
+        } else if (value.isPresent()) {
+            return current.setValue(path, value.get());
+        } else {
+            return current.remove(path);
+        }
+    }
+
+    /**
+     * Apply a JSON merge patch as defined by RFC 7396.
+     */
+    private static JsonValue mergePatch(final JsonValue patch, @Nullable final JsonValue target) {
+        if (!patch.isObject()) {
+            return patch;
+        }
+        JsonObject result = null != target && target.isObject() ? target.asObject() : JsonObject.empty();
+        for (final JsonField field : patch.asObject()) {
+            final JsonValue value = field.getValue();
+            if (value.isNull()) {
+                result = result.remove(field.getKey());
+            } else {
+                result = result.setValue(field.getKey(),
+                        mergePatch(value, result.getValue(field.getKey()).orElse(null)));
+            }
+        }
+        return result;
+    }
+
+    private static final class ReplicatedThing {
+
+        private static final ReplicatedThing ABSENT = new ReplicatedThing(null, 0L);
+
+        @Nullable private final JsonObject thing;
+        private final long revision;
+
+        private ReplicatedThing(@Nullable final JsonObject thing, final long revision) {
+            this.thing = thing;
+            this.revision = revision;
+        }
+    }
+
+    /**
+     * The replicated state of one thing and the events waiting for a missing revision. Written under its own lock,
+     * read without locking.
+     */
+    private final class ThingSlot {
+
+        // replaced as a whole, so that readers see a thing together with its revision
+        private volatile ReplicatedThing state = ReplicatedThing.ABSENT;
+        @GuardedBy("this") private final SortedMap<Long, ThingEvent<?>> pendingEvents = new TreeMap<>();
+        @GuardedBy("this") private boolean resyncing = false;
+
+        @GuardedBy("this")
+        private long revision() {
+            return state.revision;
+        }
+
+        @GuardedBy("this")
+        private void install(final ThingId thingId, final JsonObject newThing, final long newRevision) {
+            if (newRevision > revision()) {
+                set(newThing, newRevision);
+            }
+            applyPendingEvents(thingId);
+        }
+
+        @GuardedBy("this")
+        private void delete() {
+            set(null, revision());
+            pendingEvents.clear();
+        }
+
+        @GuardedBy("this")
+        private void onEvent(final ThingId thingId, final ThingEvent<?> event) {
+            if (event.getRevision() > revision()) {
+                pendingEvents.put(event.getRevision(), event);
+                applyPendingEvents(thingId);
+            }
+        }
+
+        @GuardedBy("this")
+        private void applyPendingEvents(final ThingId thingId) {
+            pendingEvents.headMap(revision() + 1).clear();
+            while (!pendingEvents.isEmpty() && pendingEvents.firstKey() == revision() + 1) {
+                final ThingEvent<?> event = pendingEvents.remove(pendingEvents.firstKey());
+                final JsonObject changed = applyTo(state.thing, event);
+                set(null == changed ? null : restrict(changed), event.getRevision());
+            }
+            if (!pendingEvents.isEmpty() && !resyncing) {
+                // a revision is missing: the thing is retrieved again instead of waiting for the event
+                resyncing = true;
+                resync(thingId, this);
+            }
+        }
+
+        @GuardedBy("this")
+        private void set(@Nullable final JsonObject newThing, final long newRevision) {
+            state = new ReplicatedThing(newThing, newRevision);
+        }
+    }
+
+}
@@ -12,24 +12,39 @@
  */
 package org.eclipse.ditto.client.twin.internal;
 
+import static org.eclipse.ditto.base.model.common.ConditionChecker.checkNotNull;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
 import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collections;
 import java.util.List;
+import java.util.concurrent.CompletionStage;
 import java.util.function.Consumer;
+import java.util.stream.Collector;
 import java.util.stream.Collectors;
 import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
 
 import org.eclipse.ditto.client.internal.AbstractHandle;
+import org.eclipse.ditto.client.internal.SearchResultCache;
 import org.eclipse.ditto.client.messaging.MessagingProvider;
+import org.eclipse.ditto.client.streaming.CollectingSubscriber;
 import org.eclipse.ditto.client.streaming.MapPublisher;
+import org.eclipse.ditto.client.streaming.MergePublisher;
 import org.eclipse.ditto.client.streaming.SpliteratorSubscriber;
 import org.eclipse.ditto.client.streaming.ThingSearchPublisher;
+import org.eclipse.ditto.client.twin.SearchExport;
 import org.eclipse.ditto.client.twin.SearchQueryBuilder;
+import org.eclipse.ditto.client.twin.SearchResultExtractor;
 import org.eclipse.ditto.client.twin.TwinSearchHandle;
+import org.eclipse.ditto.json.JsonArray;
+import org.eclipse.ditto.json.JsonObject;
 import org.eclipse.ditto.json.JsonValue;
 import org.eclipse.ditto.base.model.acks.AcknowledgementLabel;
 import org.eclipse.ditto.base.model.acks.DittoAcknowledgementLabel;
 import org.eclipse.ditto.things.model.Thing;
-import org.eclipse.ditto.things.model.ThingsModelFactory;
 import org.eclipse.ditto.protocol.TopicPath;
 import org.eclipse.ditto.thingsearch.model.signals.commands.subscription.CreateSubscription;
 import org.eclipse.ditto.thingsearch.model.signals.events.SubscriptionHasNextPage;
@@ -46,49 +61,195 @@ final class TwinSearchHandleImpl extends AbstractHandle implements TwinSearchHan
 
     @Override
     public Publisher<List<Thing>> publisher(final Consumer<SearchQueryBuilder> querySpecifier) {
+        return publisher(querySpecifier, SearchResultExtractor.thing());
+    }
+
+    @Override
+    public Stream<Thing> stream(final Consumer<SearchQueryBuilder> querySpecifier) {
+        return stream(querySpecifier, SearchResultExtractor.thing());
+    }
+
+    @Override
+    public <T> Publisher<List<T>> publisher(final Consumer<SearchQueryBuilder> querySpecifier,
+            final SearchResultExtractor<T> extractor) {
+
+        checkNotNull(extractor, "extractor");
         final SearchQueryBuilderImpl builder = new SearchQueryBuilderImpl();
         querySpecifier.accept(builder);
-        final Publisher<SubscriptionHasNextPage> thingSearchPublisher =
-                ThingSearchPublisher.of(builder.createSubscription(), PROTOCOL_ADAPTER, messagingProvider);
-        return MapPublisher.of(thingSearchPublisher, TwinSearchHandleImpl::pageToThingList);
+        return MapPublisher.of(pagePublisher(builder), page -> pageToList(page, extractor));
     }
 
     @Override
-    public Stream<Thing> stream(final Consumer<SearchQueryBuilder> querySpecifier) {
-        return internalSpliterator(querySpecifier).asStream()
-                .flatMap(TwinSearchHandleImpl::streamAsThings);
+    public <T> Stream<T> stream(final Consumer<SearchQueryBuilder> querySpecifier,
+            final SearchResultExtractor<T> extractor) {
+
+        checkNotNull(extractor, "extractor");
+        final SearchQueryBuilderImpl builder = new SearchQueryBuilderImpl();
+        querySpecifier.accept(builder);
+        return internalSpliterator(builder, pagePublisher(builder)).asStream()
+                .flatMap(page -> streamExtracted(page, extractor));
     }
 
-    private SpliteratorSubscriber<SubscriptionHasNextPage> internalSpliterator(
-            final Consumer<SearchQueryBuilder> querySpecifier) {
+    @Override
+    public <R> CompletionStage<R> aggregate(final Consumer<SearchQueryBuilder> querySpecifier,
+            final Collector<? super JsonObject, ?, R> aggregator) {
+
+        checkNotNull(aggregator, "aggregator");
+        final SearchQueryBuilderImpl builder = new SearchQueryBuilderImpl();
+        querySpecifier.accept(builder);
+        final Publisher<List<JsonObject>> publisher =
+                MapPublisher.of(pagePublisher(builder), page -> pageToList(page, SearchResultExtractor.json()));
+        return collect(publisher, aggregator, builder);
+    }
+
+    private static <T, A, R> CompletionStage<R> collect(final Publisher<List<T>> publisher,
+            final Collector<? super T, A, R> collector, final SearchQueryBuilderImpl builder) {
+
+        final int batchSize = Math.min(builder.getDemand(), builder.getInitialDemand());
+        final CollectingSubscriber<T, A, R> subscriber =
+                CollectingSubscriber.of(collector, builder.getInitialDemand(), batchSize);
+        publisher.subscribe(subscriber);
+        return subscriber.getResult();
+    }
+
+    @Override
+    public long export(final Consumer<SearchQueryBuilder> querySpecifier, final SearchExport export) {
+        checkNotNull(export, "export");
+        final SearchQueryBuilderImpl builder = new SearchQueryBuilderImpl();
+        querySpecifier.accept(builder);
+        try (final SearchExportWriter writer = SearchExportWriter.open(export)) {
+            final CreateSubscription createSubscription =
+                    builder.createResumableSubscription(writer.getLastThingId().orElse(null));
+            try {
+                internalSpliterator(builder, searchPages(createSubscription)).asStream()
+                        .flatMap(page -> streamExtracted(page, SearchResultExtractor.json()))
+                        .forEach(searchResult -> {
+                            try {
+                                writer.write(searchResult);
+                            } catch (final IOException e) {
+                                throw new UncheckedIOException(e);
+                            }
+                        });
+            } catch (final UncheckedIOException e) {
+                throw e;
+            } catch (final RuntimeException e) {
+                // the search failed; keep the progress up to the last written search result
+                try {
+                    writer.checkpoint();
+                } catch (final IOException checkpointError) {
+                    e.addSuppressed(checkpointError);
+                }
+                throw e;
+            }
+            writer.complete();
+            return writer.getExportedInThisRun();
+        } catch (final IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    @Override
+    public Publisher<List<Thing>> parallelPublisher(final Consumer<SearchQueryBuilder> querySpecifier,
+            final int partitions) {
 
         final SearchQueryBuilderImpl builder = new SearchQueryBuilderImpl();
         querySpecifier.accept(builder);
-        final CreateSubscription createSubscription = builder.createSubscription();
+        final List<CreateSubscription> createSubscriptions = createPartitionedSubscriptions(builder, partitions);
+        return MapPublisher.of(mergedPublisher(builder, createSubscriptions),
+                page -> pageToList(page.getItems(), SearchResultExtractor.thing()));
+    }
+
+    @Override
+    public Stream<Thing> parallelStream(final Consumer<SearchQueryBuilder> querySpecifier, final int partitions) {
+        final SearchQueryBuilderImpl builder = new SearchQueryBuilderImpl();
+        querySpecifier.accept(builder);
+        final List<CreateSubscription> createSubscriptions = createPartitionedSubscriptions(builder, partitions);
+        final Publisher<SubscriptionHasNextPage> publisher = mergedPublisher(builder, createSubscriptions);
+        final Duration timeout = messagingProvider.getMessagingConfiguration().getTimeout();
+        final int bufferedPages = builder.getInitialDemand() * createSubscriptions.size();
+        final SpliteratorSubscriber<SubscriptionHasNextPage> subscriber =
+                SpliteratorSubscriber.of(timeout, bufferedPages, builder.getDemand());
+        publisher.subscribe(subscriber);
+        return StreamSupport.stream(subscriber, true)
+                .flatMap(page -> streamExtracted(page.getItems(), SearchResultExtractor.thing()));
+    }
+
+    private static List<CreateSubscription> createPartitionedSubscriptions(final SearchQueryBuilderImpl builder,
+            final int partitions) {
+
+        if (partitions <= 0) {
+            throw new IllegalArgumentException("Expect positive partitions, got: " + partitions);
+        }
+        return builder.createPartitionedSubscriptions(partitions);
+    }
+
+    private Publisher<SubscriptionHasNextPage> mergedPublisher(final SearchQueryBuilderImpl builder,
+            final List<CreateSubscription> createSubscriptions) {
+
+        final List<Publisher<SubscriptionHasNextPage>> publishers = createSubscriptions.stream()
+                .map(createSubscription -> ThingSearchPublisher.of(createSubscription, PROTOCOL_ADAPTER,
+                        messagingProvider))
+                .collect(Collectors.toList());
+        return MergePublisher.of(publishers, builder.getInitialDemand(), builder.getDemand());
+    }
+
+    /**
+     * Publish the pages of the query, from the search result cache if it is enabled and the results are not too large
+     * to be cached.
+     */
+    private Publisher<JsonArray> pagePublisher(final SearchQueryBuilderImpl builder) {
+        final SearchResultCache cache = messagingProvider.getSearchResultCache();
+        if (!cache.isEnabled()) {
+            return searchPages(builder.createSubscription());
+        }
+        final Object cacheKey = builder.getCacheKey();
+        if (cache.isTooLarge(cacheKey)) {
+            return searchPages(builder.createSubscription());
+        }
+        return CachedPagesPublisher.of(() -> cache.get(cacheKey, () -> fetchAllPages(builder, cache)),
+                () -> searchPages(builder.createSubscription()));
+    }
+
+    private Publisher<JsonArray> searchPages(final CreateSubscription createSubscription) {
+        return MapPublisher.of(ThingSearchPublisher.of(createSubscription, PROTOCOL_ADAPTER, messagingProvider),
+                SubscriptionHasNextPage::getItems);
+    }
+
+    private CompletionStage<List<JsonArray>> fetchAllPages(final SearchQueryBuilderImpl builder,
+            final SearchResultCache cache) {
+
+        final Publisher<List<JsonArray>> publisher = MapPublisher.of(
+                ThingSearchPublisher.of(builder.createSubscription(), PROTOCOL_ADAPTER, messagingProvider),
+                page -> Collections.singletonList(page.getItems()));
+        return collect(publisher, cache.newPagesCollector(), builder);
+    }
+
+    private SpliteratorSubscriber<JsonArray> internalSpliterator(final SearchQueryBuilderImpl builder,
+            final Publisher<JsonArray> publisher) {
+
         final Duration timeout = messagingProvider.getMessagingConfiguration().getTimeout();
         final int bufferedPages = builder.getInitialDemand();
         final int pagesPerBatch = builder.getDemand();
-        final Publisher<SubscriptionHasNextPage> publisher =
-                ThingSearchPublisher.of(createSubscription, PROTOCOL_ADAPTER, messagingProvider);
-        final SpliteratorSubscriber<SubscriptionHasNextPage> subscriber =
-                SpliteratorSubscriber.of(timeout, bufferedPages, pagesPerBatch);
+        final SpliteratorSubscriber<JsonArray> subscriber = builder.getAdaptiveDemandController()
+                .map(demandController -> SpliteratorSubscriber.<JsonArray>of(timeout, demandController))
+                .orElseGet(() -> SpliteratorSubscriber.of(timeout, bufferedPages, pagesPerBatch));
         publisher.subscribe(subscriber);
         return subscriber;
     }
 
-    private static Stream<Thing> streamAsThings(final SubscriptionHasNextPage page) {
-        return page.getItems()
-                .stream()
+    private static <T> Stream<T> streamExtracted(final JsonArray items, final SearchResultExtractor<T> extractor) {
+        return items.stream()
                 .map(JsonValue::asObject)
-                .map(ThingsModelFactory::newThing);
+                .map(extractor::extract);
     }
 
-    private static List<Thing> pageToThingList(final SubscriptionHasNextPage page) {
-        return page.getItems()
-                .stream()
-                .map(JsonValue::asObject)
-                .map(ThingsModelFactory::newThing)
-                .collect(Collectors.toList());
+    private static <T> List<T> pageToList(final JsonArray items, final SearchResultExtractor<T> extractor) {
+        // sized list without intermediate stream: pages are mapped on the hot path of every search
+        final List<T> result = new ArrayList<>(items.getSize());
+        for (final JsonValue item : items) {
+            result.add(extractor.extract(item.asObject()));
+        }
+        return result;
     }
 
     @Override
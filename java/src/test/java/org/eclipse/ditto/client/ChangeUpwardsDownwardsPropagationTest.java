@@ -640,4 +640,81 @@ public class ChangeUpwardsDownwardsPropagationTest extends AbstractDittoClientTe
         assertEquals(0, latch.getCount());
     }
 
+    @Test
+    public void testRegisterForDoublePropertyChangesWhenFeaturePropertyIsModified() throws Exception {
+        // start consuming changes:
+        client.twin().startConsumption();
+
+        final CountDownLatch latch = new CountDownLatch(1);
+
+        final JsonPointer temperaturePointer = newPointer("temperature");
+
+        client.twin()
+                .forFeature(thingId3, FEATURE_ID_1)
+                .registerForDoublePropertyChanges("testRegisterForDoublePropertyChangesWhenFeaturePropertyIsModified",
+                        temperaturePointer,
+                        (thingId, featureId, revision, value) -> {
+                            LOG.info("received value {}", value);
+                            assertThat((CharSequence) thingId).isEqualTo(thingId3);
+                            assertThat(featureId).isEqualTo(FEATURE_ID_1);
+                            assertThat(revision).isEqualTo(7L);
+                            assertThat(value).isEqualTo(21.5);
+
+                            latch.countDown();
+                        });
+
+        final MessageHeaders messageHeaders =
+                MessageHeaders.newBuilder(MessageDirection.FROM, thingId3, FeaturePropertyModified.TYPE)
+                        .featureId(FEATURE_ID_1)
+                        .build();
+
+        // update a Feature property
+        final Message<ThingEvent> featurePropertyModified =
+                MessagesModelFactory.<ThingEvent>newMessageBuilder(messageHeaders).payload(
+                        FeaturePropertyModified.of(thingId3, FEATURE_ID_1, temperaturePointer, JsonValue.of(21.5),
+                                7, Instant.now(), DittoHeaders.empty(), null)).build();
+
+        messaging.receiveEvent(featurePropertyModified);
+
+        latch.await(TIMEOUT_SECONDS, SECONDS);
+        assertEquals(0, latch.getCount());
+    }
+
+    @Test
+    public void testDownwardsRegisterForLongPropertyChangesWhenFeatureIsModified() throws Exception {
+        // start consuming changes:
+        client.twin().startConsumption();
+
+        final CountDownLatch latch = new CountDownLatch(1);
+
+        client.twin()
+                .forFeature(thingId3, FEATURE_ID_1)
+                .registerForLongPropertyChanges("testDownwardsRegisterForLongPropertyChangesWhenFeatureIsModified",
+                        "two",
+                        (thingId, featureId, revision, value) -> {
+                            LOG.info("received value {}", value);
+                            assertThat((CharSequence) thingId).isEqualTo(thingId3);
+                            assertThat(featureId).isEqualTo(FEATURE_ID_1);
+                            assertThat(revision).isEqualTo(3L);
+                            assertThat(value).isEqualTo(2L);
+
+                            latch.countDown();
+                        });
+
+        final MessageHeaders messageHeaders =
+                MessageHeaders.newBuilder(MessageDirection.FROM, thingId3, FeatureModified.TYPE)
+                        .featureId(FEATURE_ID_1)
+                        .build();
+
+        // modify the feature
+        final Message<ThingEvent> featureModified =
+                MessagesModelFactory.<ThingEvent>newMessageBuilder(messageHeaders).payload(
+                        FeatureModified.of(thingId3, FEATURE1, 3, Instant.now(), DittoHeaders.empty(), null)).build();
+
+        messaging.receiveEvent(featureModified);
+
+        latch.await(TIMEOUT_SECONDS, SECONDS);
+        assertEquals(0, latch.getCount());
+    }
+
 }
@@ -13,16 +13,24 @@
 package org.eclipse.ditto.client;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatExceptionOfType;
 import static org.eclipse.ditto.client.TestConstants.Thing.THING_ID;
 import static org.eclipse.ditto.client.assertions.ClientAssertions.assertThat;
 
 import java.time.Instant;
+import java.util.List;
 import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.CopyOnWriteArrayList;
 import java.util.concurrent.CountDownLatch;
 import java.util.concurrent.TimeUnit;
 
+import org.eclipse.ditto.base.model.acks.AcknowledgementLabel;
+import org.eclipse.ditto.base.model.acks.AcknowledgementRequest;
 import org.eclipse.ditto.base.model.headers.DittoHeaderDefinition;
+import org.eclipse.ditto.base.model.headers.DittoHeaders;
 import org.eclipse.ditto.base.model.signals.Signal;
+import org.eclipse.ditto.client.changes.Change;
 import org.eclipse.ditto.client.internal.AbstractDittoClientThingsTest;
 import org.eclipse.ditto.client.options.Options;
 import org.eclipse.ditto.json.JsonFactory;
@@ -49,6 +57,7 @@ import org.eclipse.ditto.things.model.signals.commands.modify.ModifyAttributes;
 import org.eclipse.ditto.things.model.signals.commands.modify.ModifyAttributesResponse;
 import org.eclipse.ditto.things.model.signals.events.AttributeCreated;
 import org.eclipse.ditto.things.model.signals.events.AttributeModified;
+import org.eclipse.ditto.things.model.signals.events.AttributesModified;
 import org.eclipse.ditto.things.model.signals.events.ThingEvent;
 import org.junit.Test;
 
@@ -159,6 +168,37 @@ public final class DittoClientAttributesTest extends AbstractDittoClientThingsTe
         reply(MergeThingResponse.of(THING_ID, absolutePath, command.getDittoHeaders()));
     }
 
+    @Test
+    public void testSetAttributeOneWay() {
+        final CompletionStage<Void> result = getManagement().forId(THING_ID)
+                .putAttributeOneWay(ATTRIBUTE_KEY_NEW, JsonValue.of(42));
+
+        assertThat(result.toCompletableFuture()).isCompleted();
+        final ModifyAttribute command = expectMsgClass(ModifyAttribute.class);
+        assertThat(command.getAttributeValue()).isEqualTo(JsonValue.of(42));
+        assertThat(command.getDittoHeaders().isResponseRequired()).isFalse();
+    }
+
+    @Test
+    public void testMergeAttributeOneWay() {
+        final CompletionStage<Void> result = getManagement().forId(THING_ID)
+                .mergeAttributeOneWay("new", JsonValue.of(42));
+
+        assertThat(result.toCompletableFuture()).isCompleted();
+        assertThat(expectMsgClass(MergeThing.class).getDittoHeaders().isResponseRequired()).isFalse();
+    }
+
+    @Test
+    public void testSetAttributeOneWayWithAcknowledgementsIsRejected() {
+        final AcknowledgementLabel label = AcknowledgementLabel.of("custom-ack");
+        assertThatExceptionOfType(IllegalArgumentException.class)
+                .isThrownBy(() -> getManagement().forId(THING_ID)
+                        .putAttributeOneWay("new", JsonValue.of(42),
+                                Options.headers(DittoHeaders.newBuilder()
+                                        .acknowledgementRequest(AcknowledgementRequest.of(label))
+                                        .build())));
+    }
+
     @Test
     public void testAddAttributeFailureDueToThingErrorResponse() throws Exception {
         final CompletableFuture<Void> resultFuture = getManagement()
@@ -286,6 +326,42 @@ public final class DittoClientAttributesTest extends AbstractDittoClientThingsTe
         assertThat(latch.await(TIMEOUT, TIME_UNIT)).isTrue();
     }
 
+    @Test
+    public void testHandlersForSameAttributeShareDerivedChange() throws Exception {
+        final CountDownLatch latch = new CountDownLatch(2);
+        final List<Change> receivedChanges = new CopyOnWriteArrayList<>();
+
+        getManagement().startConsumption();
+        getManagement().registerForAttributeChanges("first", ATTRIBUTE_KEY_NEW, attributeChange -> {
+            receivedChanges.add(attributeChange);
+            latch.countDown();
+        });
+        getManagement().registerForAttributeChanges("second", ATTRIBUTE_KEY_NEW, attributeChange -> {
+            receivedChanges.add(attributeChange);
+            latch.countDown();
+        });
+
+        final MessageHeaders messageHeaders =
+                MessageHeaders.newBuilder(MessageDirection.FROM, THING_ID, AttributesModified.TYPE).build();
+
+        final Message<ThingEvent> attributesModified =
+                MessagesModelFactory.<ThingEvent>newMessageBuilder(messageHeaders)
+                        .payload(AttributesModified.of(THING_ID,
+                                ThingsModelFactory.newAttributes(ATTRIBUTES),
+                                1,
+                                Instant.now(),
+                                headersWithChannel(),
+                                null))
+                        .build();
+
+        messaging.receiveEvent(attributesModified);
+
+        assertThat(latch.await(TIMEOUT, TIME_UNIT)).isTrue();
+        assertThat(receivedChanges).hasSize(2);
+        assertThat(receivedChanges.get(0)).isSameAs(receivedChanges.get(1));
+        assertThat(receivedChanges.get(0).getValue()).contains(JsonValue.of(42));
+    }
+
     @Test(expected = IllegalArgumentException.class)
     public void testDeleteAttribute_attributesRootPath() {
         getManagement()
@@ -13,6 +13,7 @@
 package org.eclipse.ditto.client;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatExceptionOfType;
 import static org.eclipse.ditto.client.TestConstants.Thing.THING_ID;
 
 import java.util.Arrays;
@@ -34,6 +35,7 @@ import org.eclipse.ditto.client.options.Options;
 import org.eclipse.ditto.json.JsonFactory;
 import org.eclipse.ditto.json.JsonObject;
 import org.eclipse.ditto.json.JsonPointer;
+import org.eclipse.ditto.json.JsonValue;
 import org.eclipse.ditto.things.model.Feature;
 import org.eclipse.ditto.things.model.FeatureDefinition;
 import org.eclipse.ditto.things.model.Features;
@@ -242,6 +244,49 @@ public final class DittoClientFeaturesTest extends AbstractDittoClientThingsTest
         reply(MergeThingResponse.of(THING_ID, completePath, mergeThing.getDittoHeaders()));
     }
 
+    @Test
+    public void testSetFeaturePropertyOneWay() {
+        final JsonPointer path = JsonFactory.newPointer("density");
+        final CompletionStage<Void> result = getManagement().forId(THING_ID)
+                .forFeature(FEATURE_ID)
+                .putPropertyOneWay(path, JsonValue.of(42));
+
+        assertThat(result.toCompletableFuture()).isCompleted();
+        final ModifyFeatureProperty command = expectMsgClass(ModifyFeatureProperty.class);
+        assertThat(command.getPropertyValue()).isEqualTo(JsonValue.of(42));
+        assertThat(command.getDittoHeaders().isResponseRequired()).isFalse();
+    }
+
+    @Test
+    public void testMergeFeaturePropertyOneWay() {
+        final CompletionStage<Void> result = getManagement().forId(THING_ID)
+                .forFeature(FEATURE_ID)
+                .mergePropertyOneWay("density", JsonValue.of(42));
+
+        assertThat(result.toCompletableFuture()).isCompleted();
+        assertThat(expectMsgClass(MergeThing.class).getDittoHeaders().isResponseRequired()).isFalse();
+    }
+
+    @Test
+    public void testSetFeaturePropertyOneWayWithoutValueIsRejected() {
+        assertThatExceptionOfType(NullPointerException.class)
+                .isThrownBy(() -> getManagement().forId(THING_ID)
+                        .forFeature(FEATURE_ID)
+                        .putPropertyOneWay("density", (JsonValue) null));
+    }
+
+    @Test
+    public void testSetFeaturePropertyOneWayWithAcknowledgementsIsRejected() {
+        final AcknowledgementLabel label = AcknowledgementLabel.of("custom-ack");
+        assertThatExceptionOfType(IllegalArgumentException.class)
+                .isThrownBy(() -> getManagement().forId(THING_ID)
+                        .forFeature(FEATURE_ID)
+                        .putPropertyOneWay("density", JsonValue.of(42),
+                                Options.headers(DittoHeaders.newBuilder()
+                                        .acknowledgementRequest(AcknowledgementRequest.of(label))
+                                        .build())));
+    }
+
     @Test
     public void testDeleteFeatureProperty() {
         final JsonPointer path = JsonFactory.newPointer("density");
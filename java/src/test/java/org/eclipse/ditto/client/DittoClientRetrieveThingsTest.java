@@ -0,0 +1,109 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.ditto.client;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import org.eclipse.ditto.client.internal.AbstractDittoClientTest;
+import org.eclipse.ditto.things.model.Thing;
+import org.eclipse.ditto.things.model.ThingId;
+import org.eclipse.ditto.things.model.signals.commands.query.RetrieveThings;
+import org.eclipse.ditto.things.model.signals.commands.query.RetrieveThingsResponse;
+import org.junit.Test;
+
+/**
+ * Test retrieving multiple things in batches.
+ */
+public final class DittoClientRetrieveThingsTest extends AbstractDittoClientTest {
+
+    // default retrieveThingsBatchSize of the mock messaging provider
+    private static final int BATCH_SIZE = 100;
+
+    @Test
+    public void retrieveSplitsIdsIntoBatchesAndKeepsTheirOrder() throws Exception {
+        final List<ThingId> thingIds = thingIds(2 * BATCH_SIZE + 1);
+
+        final CompletableFuture<List<Thing>> resultFuture = client.twin().retrieve(thingIds).toCompletableFuture();
+
+        final RetrieveThings first = expectMsgClass(RetrieveThings.class);
+        final RetrieveThings second = expectMsgClass(RetrieveThings.class);
+        final RetrieveThings third = expectMsgClass(RetrieveThings.class);
+        assertThat(first.getThingEntityIds()).isEqualTo(thingIds.subList(0, BATCH_SIZE));
+        assertThat(second.getThingEntityIds()).isEqualTo(thingIds.subList(BATCH_SIZE, 2 * BATCH_SIZE));
+        assertThat(third.getThingEntityIds()).containsExactly(thingIds.get(2 * BATCH_SIZE));
+
+        reply(respond(third));
+        reply(respond(first));
+        reply(respond(second));
+
+        assertThat(resultFuture.get(1L, TimeUnit.SECONDS))
+                .extracting(thing -> thing.getEntityId().orElse(null))
+                .isEqualTo(thingIds);
+    }
+
+    @Test
+    public void retrieveFewIdsSendsSingleCommand() throws Exception {
+        final List<ThingId> thingIds = thingIds(3);
+
+        final CompletableFuture<List<Thing>> resultFuture = client.twin().retrieve(thingIds).toCompletableFuture();
+
+        final RetrieveThings command = expectMsgClass(RetrieveThings.class);
+        assertThat(command.getThingEntityIds()).isEqualTo(thingIds);
+        reply(respond(command));
+        assertThat(resultFuture.get(1L, TimeUnit.SECONDS)).hasSize(3);
+    }
+
+    @Test
+    public void retrieveAsStreamPublishesThingsOfAllBatches() throws Exception {
+        final List<ThingId> thingIds = thingIds(BATCH_SIZE + 1);
+        final ExecutorService executor = Executors.newSingleThreadExecutor();
+        try {
+            final CompletableFuture<List<Thing>> streamFuture = CompletableFuture.supplyAsync(
+                    () -> client.twin().retrieveAsStream(thingIds).collect(Collectors.toList()), executor);
+
+            final RetrieveThings first = expectMsgClass(RetrieveThings.class);
+            final RetrieveThings second = expectMsgClass(RetrieveThings.class);
+            reply(respond(second));
+            reply(respond(first));
+
+            assertThat(streamFuture.get(1L, TimeUnit.SECONDS))
+                    .extracting(thing -> thing.getEntityId().orElse(null))
+                    .containsExactlyInAnyOrderElementsOf(thingIds);
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    private static RetrieveThingsResponse respond(final RetrieveThings command) {
+        final List<Thing> things = command.getThingEntityIds()
+                .stream()
+                .map(thingId -> Thing.newBuilder().setId(thingId).build())
+                .collect(Collectors.toList());
+        return RetrieveThingsResponse.of(things, null, command.getDittoHeaders());
+    }
+
+    private static List<ThingId> thingIds(final int count) {
+        return IntStream.range(0, count)
+                .mapToObj(i -> newThingId("retrieve-" + i))
+                .collect(Collectors.toList());
+    }
+
+}
@@ -0,0 +1,131 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.ditto.client;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatExceptionOfType;
+import static org.eclipse.ditto.client.TestConstants.Thing.THING_ID;
+
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+
+import org.eclipse.ditto.client.internal.AbstractDittoClientTest;
+import org.eclipse.ditto.client.management.ThingWriteCoalescer;
+import org.eclipse.ditto.json.JsonFactory;
+import org.eclipse.ditto.json.JsonPointer;
+import org.eclipse.ditto.json.JsonValue;
+import org.eclipse.ditto.things.model.signals.commands.ThingErrorResponse;
+import org.eclipse.ditto.things.model.signals.commands.exceptions.ThingNotAccessibleException;
+import org.eclipse.ditto.things.model.signals.commands.modify.MergeThing;
+import org.eclipse.ditto.things.model.signals.commands.modify.MergeThingResponse;
+import org.junit.Test;
+
+/**
+ * Test coalescing of writes via {@link ThingWriteCoalescer}.
+ */
+public final class DittoClientThingWriteCoalescerTest extends AbstractDittoClientTest {
+
+    private static final Duration LONG_WINDOW = Duration.ofMinutes(1L);
+    private static final String FEATURE_ID = "lamp";
+
+    @Test
+    public void writesAreFoldedIntoOneMergeThingAndCompletedFromItsResponse() throws Exception {
+        final ThingWriteCoalescer underTest = client.twin().forId(THING_ID).coalesceWrites(LONG_WINDOW, 10);
+
+        final CompletableFuture<Void> first =
+                underTest.mergeProperty(FEATURE_ID, "brightness", JsonValue.of(10)).toCompletableFuture();
+        final CompletableFuture<Void> second =
+                underTest.mergeProperty(FEATURE_ID, "brightness", JsonValue.of(20)).toCompletableFuture();
+        final CompletableFuture<Void> third =
+                underTest.mergeProperty(FEATURE_ID, "color/red", JsonValue.of(255)).toCompletableFuture();
+        final CompletableFuture<Void> fourth =
+                underTest.mergeAttribute("location", JsonFactory.nullLiteral()).toCompletableFuture();
+        underTest.flush();
+
+        final MergeThing command = expectMsgClass(MergeThing.class);
+        assertThat(command.getPath()).isEqualTo(JsonPointer.empty());
+        assertThat(command.getValue()).isEqualTo(JsonFactory.newObject("{\"features\": {\"lamp\": {\"properties\": " +
+                "{\"brightness\": 20, \"color\": {\"red\": 255}}}}, \"attributes\": {\"location\": null}}"));
+        assertThat(first).isNotDone();
+
+        reply(MergeThingResponse.of(THING_ID, command.getPath(), command.getDittoHeaders()));
+
+        CompletableFuture.allOf(first, second, third, fourth).get(1L, TimeUnit.SECONDS);
+    }
+
+    @Test
+    public void batchIsSentWhenMaxWritesIsReached() throws Exception {
+        final ThingWriteCoalescer underTest = client.twin().forId(THING_ID).coalesceWrites(LONG_WINDOW, 2);
+
+        final CompletableFuture<Void> first =
+                underTest.mergeAttribute("a", JsonValue.of(1)).toCompletableFuture();
+        final CompletableFuture<Void> second =
+                underTest.mergeAttribute("b", JsonValue.of(2)).toCompletableFuture();
+
+        final MergeThing command = expectMsgClass(MergeThing.class);
+        assertThat(command.getValue()).isEqualTo(JsonFactory.newObject("{\"attributes\": {\"a\": 1, \"b\": 2}}"));
+        reply(MergeThingResponse.of(THING_ID, command.getPath(), command.getDittoHeaders()));
+
+        CompletableFuture.allOf(first, second).get(1L, TimeUnit.SECONDS);
+    }
+
+    @Test
+    public void batchIsSentWhenWindowElapsed() throws Exception {
+        final ThingWriteCoalescer underTest =
+                client.twin().forId(THING_ID).coalesceWrites(Duration.ofMillis(50L), 10);
+
+        final CompletableFuture<Void> result =
+                underTest.mergeAttribute("a", JsonValue.of(1)).toCompletableFuture();
+
+        final MergeThing command = expectMsgClass(MergeThing.class);
+        reply(MergeThingResponse.of(THING_ID, command.getPath(), command.getDittoHeaders()));
+
+        result.get(1L, TimeUnit.SECONDS);
+    }
+
+    @Test
+    public void nonFoldableWriteSendsPendingBatchFirst() {
+        final ThingWriteCoalescer underTest = client.twin().forId(THING_ID).coalesceWrites(LONG_WINDOW, 10);
+
+        underTest.mergeAttribute("location", JsonFactory.nullLiteral());
+        underTest.mergeAttribute("location/latitude", JsonValue.of(42.0));
+        underTest.flush();
+
+        assertThat(expectMsgClass(MergeThing.class).getValue()).isEqualTo(JsonFactory.newObject("{\"attributes\": {\"location\": null}}"));
+        assertThat(expectMsgClass(MergeThing.class).getValue()).isEqualTo(JsonFactory.newObject("{\"attributes\": {\"location\": {\"latitude\": 42.0}}}"));
+    }
+
+    @Test
+    public void errorResponseFailsAllWritesOfTheBatch() {
+        final ThingWriteCoalescer underTest = client.twin().forId(THING_ID).coalesceWrites(LONG_WINDOW, 2);
+
+        final CompletableFuture<Void> first =
+                underTest.mergeAttribute("a", JsonValue.of(1)).toCompletableFuture();
+        final CompletableFuture<Void> second =
+                underTest.mergeAttribute("b", JsonValue.of(2)).toCompletableFuture();
+
+        final MergeThing command = expectMsgClass(MergeThing.class);
+        reply(ThingErrorResponse.of(ThingNotAccessibleException.newBuilder(THING_ID).build(),
+                command.getDittoHeaders()));
+
+        for (final CompletableFuture<Void> result : Arrays.asList(first, second)) {
+            assertThatExceptionOfType(ExecutionException.class)
+                    .isThrownBy(() -> result.get(1L, TimeUnit.SECONDS))
+                    .withCauseInstanceOf(ThingNotAccessibleException.class);
+        }
+    }
+
+}
@@ -0,0 +1,103 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.ditto.client;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.TimeUnit;
+
+import org.eclipse.ditto.client.internal.AbstractDittoClientTest;
+import org.eclipse.ditto.client.twin.BulkWriteProgress;
+import org.eclipse.ditto.client.twin.BulkWriteResult;
+import org.eclipse.ditto.json.JsonPointer;
+import org.eclipse.ditto.things.model.Thing;
+import org.eclipse.ditto.things.model.ThingId;
+import org.eclipse.ditto.things.model.signals.commands.ThingErrorResponse;
+import org.eclipse.ditto.things.model.signals.commands.exceptions.ThingNotAccessibleException;
+import org.eclipse.ditto.things.model.signals.commands.modify.DeleteThing;
+import org.eclipse.ditto.things.model.signals.commands.modify.DeleteThingResponse;
+import org.eclipse.ditto.things.model.signals.commands.modify.MergeThing;
+import org.eclipse.ditto.things.model.signals.commands.modify.MergeThingResponse;
+import org.junit.Test;
+
+/**
+ * Test bulk writes via {@link org.eclipse.ditto.client.twin.TwinBulkHandle}.
+ */
+public final class DittoClientTwinBulkTest extends AbstractDittoClientTest {
+
+    private static final ThingId THING_ID_1 = newThingId("bulk-1");
+    private static final ThingId THING_ID_2 = newThingId("bulk-2");
+    private static final ThingId THING_ID_3 = newThingId("bulk-3");
+    private static final JsonPointer ATTRIBUTE_KEY_NEW = JsonPointer.of("new");
+
+    @Test
+    public void deleteAllKeepsAtMostMaxInFlightCommandsAndReportsFailures() throws Exception {
+        final List<BulkWriteProgress> progress = new CopyOnWriteArrayList<>();
+        final CompletableFuture<BulkWriteResult> resultFuture = client.twin()
+                .bulk()
+                .maxInFlight(2)
+                .onProgress(progress::add)
+                .deleteAll(Arrays.asList(THING_ID_1, THING_ID_2, THING_ID_3))
+                .toCompletableFuture();
+
+        final DeleteThing first = expectMsgClass(DeleteThing.class);
+        final DeleteThing second = expectMsgClass(DeleteThing.class);
+        assertThat(first.getEntityId()).isEqualTo(THING_ID_1);
+        assertThat(second.getEntityId()).isEqualTo(THING_ID_2);
+        assertThat(resultFuture).isNotDone();
+
+        reply(DeleteThingResponse.of(THING_ID_1, first.getDittoHeaders()));
+        final DeleteThing third = expectMsgClass(DeleteThing.class);
+        assertThat(third.getEntityId()).isEqualTo(THING_ID_3);
+
+        final ThingNotAccessibleException error = ThingNotAccessibleException.newBuilder(THING_ID_2).build();
+        reply(ThingErrorResponse.of(error, second.getDittoHeaders()));
+        reply(DeleteThingResponse.of(THING_ID_3, third.getDittoHeaders()));
+
+        final BulkWriteResult result = resultFuture.get(1L, TimeUnit.SECONDS);
+        assertThat(result.getSucceeded()).isEqualTo(2L);
+        assertThat(result.isSuccessful()).isFalse();
+        assertThat(result.getFailures()).containsOnlyKeys(THING_ID_2);
+        assertThat(result.getFailures().get(THING_ID_2)).isInstanceOf(ThingNotAccessibleException.class);
+        assertThat(progress).hasSize(3)
+                .startsWith(BulkWriteProgress.of(2L, 1L, 0L))
+                .contains(BulkWriteProgress.of(3L, 2L, 1L));
+    }
+
+    @Test
+    public void mergeAllSendsMergeThingPerThing() throws Exception {
+        final List<Thing> things = new ArrayList<>();
+        things.add(Thing.newBuilder().setId(THING_ID_1).setAttribute(ATTRIBUTE_KEY_NEW, 1).build());
+        things.add(Thing.newBuilder().setId(THING_ID_2).setAttribute(ATTRIBUTE_KEY_NEW, 2).build());
+
+        final CompletableFuture<BulkWriteResult> resultFuture = client.twin()
+                .bulk()
+                .mergeAll(things.stream())
+                .toCompletableFuture();
+
+        for (final Thing ignored : things) {
+            final MergeThing command = expectMsgClass(MergeThing.class);
+            reply(MergeThingResponse.of(command.getEntityId(), command.getPath(), command.getDittoHeaders()));
+        }
+
+        final BulkWriteResult result = resultFuture.get(1L, TimeUnit.SECONDS);
+        assertThat(result.isSuccessful()).isTrue();
+        assertThat(result.getSucceeded()).isEqualTo(2L);
+    }
+
+}
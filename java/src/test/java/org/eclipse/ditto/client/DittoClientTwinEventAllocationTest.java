@@ -0,0 +1,132 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.ditto.client;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.eclipse.ditto.client.TestConstants.Thing.THING_ID;
+
+import java.lang.management.ManagementFactory;
+import java.time.Instant;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import org.eclipse.ditto.base.model.headers.DittoHeaders;
+import org.eclipse.ditto.client.internal.AbstractDittoClientTest;
+import org.eclipse.ditto.json.JsonObject;
+import org.eclipse.ditto.json.JsonPointer;
+import org.eclipse.ditto.json.JsonValue;
+import org.eclipse.ditto.protocol.ProtocolFactory;
+import org.eclipse.ditto.things.model.signals.events.AttributeModified;
+import org.junit.Assume;
+import org.junit.Test;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Enforces the allocation budget of routing twin events from the adaptable bus to change handlers. The budget is
+ * relative to the bytes allocated for deserializing the same events, which every routing needs, so that it does not
+ * depend on the JVM running the test.
+ */
+public final class DittoClientTwinEventAllocationTest extends AbstractDittoClientTest {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(DittoClientTwinEventAllocationTest.class);
+
+    /**
+     * Bytes allocated by all threads for one twin event, from parsing the published string to notifying the handler,
+     * relative to the bytes allocated for deserializing the event into a signal.
+     */
+    private static final double ROUTING_BUDGET_FACTOR = 1.5;
+
+    private static final int EVENTS = 10_000;
+
+    private volatile Object deserializedEvent;
+
+    @Test
+    public void routingTwinEventsStaysWithinAllocationBudget() throws Exception {
+        final com.sun.management.ThreadMXBean threadMXBean = getThreadMXBean();
+        final AtomicInteger handledEvents = new AtomicInteger();
+        client.twin().startConsumption();
+        client.twin()
+                .forId(THING_ID)
+                .registerForAttributeChanges("allocation", JsonPointer.of("counter"),
+                        change -> handledEvents.incrementAndGet());
+        final List<String> events = IntStream.range(0, EVENTS)
+                .mapToObj(i -> ProtocolFactory.wrapAsJsonifiableAdaptable(PROTOCOL_ADAPTER.toAdaptable(
+                        AttributeModified.of(THING_ID, JsonPointer.of("counter"), JsonValue.of(i), i + 1L,
+                                Instant.EPOCH, DittoHeaders.empty(), null))).toJsonString())
+                .collect(Collectors.toList());
+
+        // warm up
+        deserialize(events);
+        publishAndAwait(events, handledEvents, EVENTS);
+
+        final long allocatedBytesBeforeDeserializing = allocatedBytesOfAllThreads(threadMXBean);
+        deserialize(events);
+        final long deserializingBytesPerEvent =
+                (allocatedBytesOfAllThreads(threadMXBean) - allocatedBytesBeforeDeserializing) / EVENTS;
+
+        final long allocatedBytesBeforeRouting = allocatedBytesOfAllThreads(threadMXBean);
+        publishAndAwait(events, handledEvents, 2 * EVENTS);
+        final long routingBytesPerEvent =
+                (allocatedBytesOfAllThreads(threadMXBean) - allocatedBytesBeforeRouting) / EVENTS;
+
+        LOGGER.info("Deserializing a twin event allocated <{}> bytes, routing it <{}> bytes",
+                deserializingBytesPerEvent, routingBytesPerEvent);
+        assertThat(routingBytesPerEvent)
+                .isLessThanOrEqualTo((long) (ROUTING_BUDGET_FACTOR * deserializingBytesPerEvent));
+    }
+
+    private void deserialize(final List<String> events) {
+        for (final String event : events) {
+            deserializedEvent = PROTOCOL_ADAPTER.fromAdaptable(
+                    ProtocolFactory.jsonifiableAdaptableFromJson(JsonObject.of(event)));
+        }
+    }
+
+    private void publishAndAwait(final List<String> events, final AtomicInteger handledEvents,
+            final int expectedHandledEvents) throws InterruptedException {
+
+        events.forEach(messaging.getAdaptableBus()::publish);
+        // poll on this thread instead of a polling library to not allocate on other threads
+        final long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(30L);
+        while (handledEvents.get() < expectedHandledEvents && System.nanoTime() < deadline) {
+            TimeUnit.MILLISECONDS.sleep(1L);
+        }
+        assertThat(handledEvents).hasValue(expectedHandledEvents);
+    }
+
+    private static long allocatedBytesOfAllThreads(final com.sun.management.ThreadMXBean threadMXBean) {
+        long allocatedBytes = 0L;
+        for (final long threadAllocatedBytes : threadMXBean.getThreadAllocatedBytes(threadMXBean.getAllThreadIds())) {
+            // threads which terminated in the meantime are reported as -1
+            allocatedBytes += Math.max(0L, threadAllocatedBytes);
+        }
+        return allocatedBytes;
+    }
+
+    private static com.sun.management.ThreadMXBean getThreadMXBean() {
+        final Optional<com.sun.management.ThreadMXBean> threadMXBean =
+                Optional.of(ManagementFactory.getThreadMXBean())
+                        .filter(com.sun.management.ThreadMXBean.class::isInstance)
+                        .map(com.sun.management.ThreadMXBean.class::cast)
+                        .filter(com.sun.management.ThreadMXBean::isThreadAllocatedMemorySupported);
+        Assume.assumeTrue("thread allocation measurement is not supported", threadMXBean.isPresent());
+        threadMXBean.get().setThreadAllocatedMemoryEnabled(true);
+        return threadMXBean.get();
+    }
+
+}
@@ -0,0 +1,118 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.ditto.client;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatIllegalArgumentException;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.List;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
+
+import org.eclipse.ditto.base.model.headers.DittoHeaders;
+import org.eclipse.ditto.client.internal.AbstractDittoClientTest;
+import org.eclipse.ditto.json.JsonArray;
+import org.eclipse.ditto.json.JsonCollectors;
+import org.eclipse.ditto.json.JsonObject;
+import org.eclipse.ditto.things.model.Thing;
+import org.eclipse.ditto.things.model.ThingId;
+import org.eclipse.ditto.thingsearch.model.signals.commands.subscription.CreateSubscription;
+import org.eclipse.ditto.thingsearch.model.signals.commands.subscription.RequestFromSubscription;
+import org.eclipse.ditto.thingsearch.model.signals.events.SubscriptionComplete;
+import org.eclipse.ditto.thingsearch.model.signals.events.SubscriptionCreated;
+import org.eclipse.ditto.thingsearch.model.signals.events.SubscriptionHasNextPage;
+import org.junit.Test;
+
+/**
+ * Tests partitioned searches of {@link org.eclipse.ditto.client.twin.TwinSearchHandle}.
+ */
+public final class DittoClientTwinParallelSearchTest extends AbstractDittoClientTest {
+
+    @Test
+    public void queryWithSeveralNamespacesIsPartitionedByNamespaces() {
+        final Stream<Thing> searchResults = client.twin().search().parallelStream(search -> search
+                .namespaces(new HashSet<>(Arrays.asList("a", "b", "c", "d", "e")))
+                .initialDemand(2)
+                .demand(1), 2);
+
+        final List<CreateSubscription> createSubscriptions = new ArrayList<>();
+        for (int i = 0; i < 2; i++) {
+            final CreateSubscription createSubscription = expectMsgClass(CreateSubscription.class);
+            createSubscriptions.add(createSubscription);
+            reply(SubscriptionCreated.of("partition-" + i, createSubscription.getDittoHeaders()));
+        }
+        assertThat(createSubscriptions.get(0).getNamespaces()).contains(new HashSet<>(Arrays.asList("a", "c", "e")));
+        assertThat(createSubscriptions.get(1).getNamespaces()).contains(new HashSet<>(Arrays.asList("b", "d")));
+
+        expectMsgClass(RequestFromSubscription.class);
+        expectMsgClass(RequestFromSubscription.class);
+        reply(hasNext("partition-0", "a", 0, 3));
+        reply(hasNext("partition-1", "b", 0, 2));
+        reply(SubscriptionComplete.of("partition-1", DittoHeaders.empty()));
+        reply(hasNext("partition-0", "c", 0, 2));
+        reply(SubscriptionComplete.of("partition-0", DittoHeaders.empty()));
+
+        assertThat(searchResults.sequential().map(thing -> thing.getEntityId().orElseThrow(AssertionError::new)))
+                .containsExactlyInAnyOrder(ThingId.of("a:0"), ThingId.of("a:1"), ThingId.of("a:2"),
+                        ThingId.of("b:0"), ThingId.of("b:1"), ThingId.of("c:0"), ThingId.of("c:1"));
+    }
+
+    @Test
+    public void queryWithoutNamespacesIsPartitionedByThingIdRanges() {
+        client.twin().search().parallelPublisher(search -> search.filter("exists(attributes)"), 3);
+
+        assertThat(expectMsgClass(CreateSubscription.class).getFilter())
+                .contains("and(exists(attributes),lt(thingId,\"c\"))");
+        assertThat(expectMsgClass(CreateSubscription.class).getFilter())
+                .contains("and(exists(attributes),ge(thingId,\"c\"),lt(thingId,\"o\"))");
+        assertThat(expectMsgClass(CreateSubscription.class).getFilter())
+                .contains("and(exists(attributes),ge(thingId,\"o\"))");
+    }
+
+    @Test
+    public void queryWithOneNamespaceIsPartitionedByThingNameRanges() {
+        client.twin().search().parallelPublisher(search -> search.namespace("ns"), 2);
+
+        final CreateSubscription first = expectMsgClass(CreateSubscription.class);
+        final CreateSubscription second = expectMsgClass(CreateSubscription.class);
+        assertThat(first.getFilter()).contains("lt(thingId,\"ns:i\")");
+        assertThat(first.getNamespaces()).contains(new HashSet<>(Arrays.asList("ns")));
+        assertThat(second.getFilter()).contains("ge(thingId,\"ns:i\")");
+    }
+
+    @Test
+    public void singlePartitionKeepsQuery() {
+        client.twin().search().parallelPublisher(search -> search.filter("exists(attributes)"), 1);
+
+        assertThat(expectMsgClass(CreateSubscription.class).getFilter()).contains("exists(attributes)");
+    }
+
+    @Test
+    public void nonPositivePartitionsAreRejected() {
+        assertThatIllegalArgumentException()
+                .isThrownBy(() -> client.twin().search().parallelStream(search -> {}, 0));
+    }
+
+    private static SubscriptionHasNextPage hasNext(final String subscriptionId, final String namespace,
+            final int start, final int end) {
+
+        final JsonArray things = IntStream.range(start, end)
+                .mapToObj(i -> JsonObject.newBuilder().set("thingId", namespace + ":" + i).build())
+                .collect(JsonCollectors.valuesToArray());
+        return SubscriptionHasNextPage.of(subscriptionId, things, DittoHeaders.empty());
+    }
+
+}
@@ -0,0 +1,305 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.ditto.client;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.nio.file.Path;
+import java.time.Instant;
+import java.util.Collections;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.IntStream;
+
+import org.awaitility.Awaitility;
+import org.eclipse.ditto.base.model.headers.DittoHeaders;
+import org.eclipse.ditto.client.internal.AbstractDittoClientTest;
+import org.eclipse.ditto.client.twin.TwinReplica;
+import org.eclipse.ditto.json.JsonArray;
+import org.eclipse.ditto.json.JsonCollectors;
+import org.eclipse.ditto.json.JsonFieldSelector;
+import org.eclipse.ditto.json.JsonObject;
+import org.eclipse.ditto.json.JsonPointer;
+import org.eclipse.ditto.json.JsonValue;
+import org.eclipse.ditto.things.model.Thing;
+import org.eclipse.ditto.things.model.ThingId;
+import org.eclipse.ditto.things.model.signals.commands.query.RetrieveThings;
+import org.eclipse.ditto.things.model.signals.commands.query.RetrieveThingsResponse;
+import org.eclipse.ditto.things.model.signals.events.AttributeModified;
+import org.eclipse.ditto.things.model.signals.events.FeaturePropertyModified;
+import org.eclipse.ditto.things.model.signals.events.ThingCreated;
+import org.eclipse.ditto.things.model.signals.events.ThingDeleted;
+import org.eclipse.ditto.things.model.signals.events.ThingMerged;
+import org.eclipse.ditto.thingsearch.model.signals.commands.subscription.CreateSubscription;
+import org.eclipse.ditto.thingsearch.model.signals.commands.subscription.RequestFromSubscription;
+import org.eclipse.ditto.thingsearch.model.signals.events.SubscriptionComplete;
+import org.eclipse.ditto.thingsearch.model.signals.events.SubscriptionCreated;
+import org.eclipse.ditto.thingsearch.model.signals.events.SubscriptionHasNextPage;
+import org.junit.After;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+/**
+ * Tests {@link TwinReplica}.
+ */
+public final class DittoClientTwinReplicaTest extends AbstractDittoClientTest {
+
+    private static final String NAMESPACE = "replica";
+    private static final ThingId THING_ID = ThingId.of(NAMESPACE, "thing-0");
+    private static final long REVISION = 5L;
+
+    @Rule
+    public final TemporaryFolder folder = new TemporaryFolder();
+
+    private TwinReplica underTest;
+
+    @After
+    public void closeReplica() {
+        if (null != underTest) {
+            underTest.close();
+        }
+    }
+
+    @Test
+    public void loadsSearchResultsWithRevisions() throws Exception {
+        underTest = client.twin().replicate(search -> search.namespace(NAMESPACE).initialDemand(2).demand(1));
+
+        final CreateSubscription createSubscription = expectMsgClass(CreateSubscription.class);
+        assertThat(createSubscription.getNamespaces()).contains(Collections.singleton(NAMESPACE));
+        assertThat(createSubscription.getSelectedFields().map(JsonFieldSelector::getPointers).orElse(null))
+                .contains(JsonPointer.of("thingId"), JsonPointer.of("_revision"));
+        answerSearch(createSubscription, 3);
+
+        assertThat(underTest.whenLoaded().toCompletableFuture().get(10L, TimeUnit.SECONDS)).isSameAs(underTest);
+        assertThat(underTest.size()).isEqualTo(3);
+        assertThat(underTest.getThingIds()).contains(THING_ID, ThingId.of(NAMESPACE, "thing-2"));
+        assertThat(underTest.get(THING_ID)).contains(thing(THING_ID, 0));
+        assertThat(underTest.get(THING_ID, JsonPointer.of("attributes/counter"))).contains(JsonValue.of(0));
+        assertThat(underTest.getRevision(THING_ID)).hasValue(REVISION);
+        assertThat(underTest.get(ThingId.of(NAMESPACE, "unknown"))).isEmpty();
+    }
+
+    @Test
+    public void appliesTwinEventsInOrderOfRevisions() throws Exception {
+        underTest = loadedReplica();
+
+        reply(AttributeModified.of(THING_ID, JsonPointer.of("counter"), JsonValue.of(1), REVISION + 1,
+                Instant.EPOCH, DittoHeaders.empty(), null));
+        awaitRevision(REVISION + 1);
+        reply(FeaturePropertyModified.of(THING_ID, "lamp", JsonPointer.of("on"), JsonValue.of(true),
+                REVISION + 2, Instant.EPOCH, DittoHeaders.empty(), null));
+        awaitRevision(REVISION + 2);
+        reply(ThingMerged.of(THING_ID, JsonPointer.of("attributes"),
+                JsonObject.newBuilder().set("counter", JsonValue.nullLiteral()).set("location", "kitchen").build(),
+                REVISION + 3, Instant.EPOCH, DittoHeaders.empty(), null));
+        awaitRevision(REVISION + 3);
+        // stale events are ignored
+        reply(AttributeModified.of(THING_ID, JsonPointer.of("counter"), JsonValue.of(42), REVISION,
+                Instant.EPOCH, DittoHeaders.empty(), null));
+
+        assertThat(underTest.get(THING_ID, JsonPointer.of("attributes"))).contains(JsonObject.newBuilder()
+                .set("location", "kitchen")
+                .build());
+        assertThat(underTest.get(THING_ID, JsonPointer.of("features/lamp/properties/on"))).contains(JsonValue.of(true));
+
+        reply(ThingDeleted.of(THING_ID, REVISION + 4, Instant.EPOCH, DittoHeaders.empty(), null));
+        Awaitility.await().untilAsserted(() -> assertThat(underTest.get(THING_ID)).isEmpty());
+        assertThat(underTest.getRevision(THING_ID)).isEmpty();
+        assertThat(underTest.size()).isEqualTo(1);
+    }
+
+    @Test
+    public void revisionGapRetrievesThing() throws Exception {
+        underTest = loadedReplica();
+
+        reply(AttributeModified.of(THING_ID, JsonPointer.of("counter"), JsonValue.of(2), REVISION + 2,
+                Instant.EPOCH, DittoHeaders.empty(), null));
+        final RetrieveThings retrieveThings = expectMsgClass(RetrieveThings.class);
+        assertThat(retrieveThings.getThingEntityIds()).containsExactly(THING_ID);
+        assertThat(retrieveThings.getSelectedFields().map(JsonFieldSelector::getPointers).orElse(null))
+                .contains(JsonPointer.of("_revision"));
+        assertThat(underTest.getRevision(THING_ID)).hasValue(REVISION);
+
+        reply(RetrieveThingsResponse.of(JsonArray.of(thing(THING_ID, 3).toBuilder()
+                        .set("_revision", REVISION + 3)
+                        .build()), null, retrieveThings.getDittoHeaders()));
+        awaitRevision(REVISION + 3);
+        assertThat(underTest.get(THING_ID, JsonPointer.of("attributes/counter"))).contains(JsonValue.of(3));
+    }
+
+    @Test
+    public void missingEventFillsGapBeforeRetrieveResponds() throws Exception {
+        underTest = loadedReplica();
+
+        reply(AttributeModified.of(THING_ID, JsonPointer.of("counter"), JsonValue.of(2), REVISION + 2,
+                Instant.EPOCH, DittoHeaders.empty(), null));
+        final RetrieveThings retrieveThings = expectMsgClass(RetrieveThings.class);
+        reply(AttributeModified.of(THING_ID, JsonPointer.of("counter"), JsonValue.of(1), REVISION + 1,
+                Instant.EPOCH, DittoHeaders.empty(), null));
+        awaitRevision(REVISION + 2);
+        assertThat(underTest.get(THING_ID, JsonPointer.of("attributes/counter"))).contains(JsonValue.of(2));
+
+        // the older state of the retrieved thing is ignored
+        reply(RetrieveThingsResponse.of(JsonArray.of(thing(THING_ID, 1).toBuilder()
+                        .set("_revision", REVISION + 1)
+                        .build()), null, retrieveThings.getDittoHeaders()));
+        reply(AttributeModified.of(THING_ID, JsonPointer.of("counter"), JsonValue.of(3), REVISION + 3,
+                Instant.EPOCH, DittoHeaders.empty(), null));
+        awaitRevision(REVISION + 3);
+        assertThat(underTest.get(THING_ID, JsonPointer.of("attributes/counter"))).contains(JsonValue.of(3));
+    }
+
+    @Test
+    public void eventsDuringLoadAreAppliedAfterSearchResults() throws Exception {
+        underTest = client.twin().replicate(search -> search.namespace(NAMESPACE).initialDemand(2).demand(1));
+        final CreateSubscription createSubscription = expectMsgClass(CreateSubscription.class);
+        reply(AttributeModified.of(THING_ID, JsonPointer.of("counter"), JsonValue.of(1), REVISION + 1,
+                Instant.EPOCH, DittoHeaders.empty(), null));
+        answerSearch(createSubscription, 1);
+
+        underTest.whenLoaded().toCompletableFuture().get(10L, TimeUnit.SECONDS);
+        awaitRevision(REVISION + 1);
+        assertThat(underTest.get(THING_ID, JsonPointer.of("attributes/counter"))).contains(JsonValue.of(1));
+    }
+
+    @Test
+    public void createdThingsAreAddedWithoutFilter() throws Exception {
+        underTest = loadedReplica();
+        final ThingId createdThingId = ThingId.of(NAMESPACE, "created");
+
+        reply(ThingCreated.of(Thing.newBuilder().setId(createdThingId).setAttribute(JsonPointer.of("x"),
+                JsonValue.of(1)).build(), 1L, Instant.EPOCH, DittoHeaders.empty(), null));
+        // things of other namespaces are not replicated
+        reply(ThingCreated.of(Thing.newBuilder().setId(ThingId.of("other", "created")).build(), 1L, Instant.EPOCH,
+                DittoHeaders.empty(), null));
+
+        Awaitility.await().untilAsserted(() -> assertThat(underTest.getRevision(createdThingId)).hasValue(1L));
+        assertThat(underTest.get(createdThingId, JsonPointer.of("attributes/x"))).contains(JsonValue.of(1));
+        assertThat(underTest.get(ThingId.of("other", "created"))).isEmpty();
+    }
+
+    @Test
+    public void readsAreAnsweredLocally() throws Exception {
+        underTest = loadedReplica();
+        final AtomicInteger sent = new AtomicInteger();
+        messaging.onSend(m -> sent.incrementAndGet());
+        final JsonPointer pointer = JsonPointer.of("attributes/counter");
+        final int reads = 1_000;
+
+        long found = 0L;
+        for (int i = 0; i < reads; ++i) {
+            found += underTest.get(THING_ID, pointer).isPresent() ? 1 : 0;
+        }
+
+        assertThat(found).isEqualTo(reads);
+        assertThat(sent).hasValue(0);
+    }
+
+    @Test
+    public void startsFromSnapshotAndRetrievesOnlyChangedThings() throws Exception {
+        final Path snapshot = folder.getRoot().toPath().resolve("replica.snapshot");
+        final TwinReplica snapshotReplica =
+                client.twin().replicate(search -> search.namespace(NAMESPACE).initialDemand(2).demand(1));
+        answerSearch(expectMsgClass(CreateSubscription.class), 3);
+        snapshotReplica.whenLoaded().toCompletableFuture().get(10L, TimeUnit.SECONDS);
+        assertThat(snapshotReplica.writeSnapshot(snapshot)).isEqualTo(3L);
+        snapshotReplica.close();
+
+        underTest = client.twin()
+                .replicate(search -> search.namespace(NAMESPACE).initialDemand(2).demand(1), snapshot);
+        assertThat(underTest.get(THING_ID)).contains(thing(THING_ID, 0));
+        assertThat(underTest.getRevision(THING_ID)).hasValue(REVISION);
+
+        final CreateSubscription createSubscription = expectMsgClass(CreateSubscription.class);
+        assertThat(createSubscription.getSelectedFields().map(JsonFieldSelector::getPointers).orElse(null))
+                .containsExactlyInAnyOrder(JsonPointer.of("thingId"), JsonPointer.of("_revision"));
+        final ThingId changedThingId = ThingId.of(NAMESPACE, "thing-1");
+        final ThingId deletedThingId = ThingId.of(NAMESPACE, "thing-2");
+        final ThingId createdThingId = ThingId.of(NAMESPACE, "thing-3");
+        answerSearch(createSubscription, JsonArray.of(
+                revisionOnly(THING_ID, REVISION),
+                revisionOnly(changedThingId, REVISION + 1),
+                revisionOnly(createdThingId, REVISION)));
+
+        final RetrieveThings retrieveThings = expectMsgClass(RetrieveThings.class);
+        assertThat(retrieveThings.getThingEntityIds()).containsExactlyInAnyOrder(changedThingId, createdThingId);
+        reply(RetrieveThingsResponse.of(JsonArray.of(
+                thing(changedThingId, 1).toBuilder().set("_revision", REVISION + 1).build(),
+                thing(createdThingId, 0).toBuilder().set("_revision", REVISION).build()),
+                null, retrieveThings.getDittoHeaders()));
+
+        assertThat(underTest.whenLoaded().toCompletableFuture().get(10L, TimeUnit.SECONDS)).isSameAs(underTest);
+        assertThat(underTest.getThingIds()).containsExactlyInAnyOrder(THING_ID, changedThingId, createdThingId);
+        assertThat(underTest.get(deletedThingId)).isEmpty();
+        assertThat(underTest.get(changedThingId, JsonPointer.of("attributes/counter"))).contains(JsonValue.of(1));
+        assertThat(underTest.getRevision(changedThingId)).hasValue(REVISION + 1);
+        assertThat(underTest.get(createdThingId)).contains(thing(createdThingId, 0));
+    }
+
+    @Test
+    public void unreadableSnapshotLoadsAllThings() throws Exception {
+        final Path snapshot = folder.newFile("replica.snapshot").toPath();
+
+        underTest = client.twin()
+                .replicate(search -> search.namespace(NAMESPACE).initialDemand(2).demand(1), snapshot);
+        answerSearch(expectMsgClass(CreateSubscription.class), 2);
+
+        assertThat(underTest.whenLoaded().toCompletableFuture().get(10L, TimeUnit.SECONDS)).isSameAs(underTest);
+        assertThat(underTest.size()).isEqualTo(2);
+        assertThat(underTest.get(THING_ID)).contains(thing(THING_ID, 0));
+    }
+
+    private TwinReplica loadedReplica() throws Exception {
+        final TwinReplica replica =
+                client.twin().replicate(search -> search.namespace(NAMESPACE).initialDemand(2).demand(1));
+        answerSearch(expectMsgClass(CreateSubscription.class), 2);
+        return replica.whenLoaded().toCompletableFuture().get(10L, TimeUnit.SECONDS);
+    }
+
+    private void answerSearch(final CreateSubscription createSubscription, final int things) {
+        answerSearch(createSubscription, IntStream.range(0, things)
+                .mapToObj(i -> thing(ThingId.of(NAMESPACE, "thing-" + i), 0).toBuilder()
+                        .set("_revision", REVISION)
+                        .build())
+                .collect(JsonCollectors.valuesToArray()));
+    }
+
+    private void answerSearch(final CreateSubscription createSubscription, final JsonArray items) {
+        final String subscriptionId = "replica-" + items.getSize();
+        reply(SubscriptionCreated.of(subscriptionId, createSubscription.getDittoHeaders()));
+        assertThat(expectMsgClass(RequestFromSubscription.class).getDemand()).isEqualTo(2L);
+        reply(SubscriptionHasNextPage.of(subscriptionId, items, DittoHeaders.empty()));
+        assertThat(expectMsgClass(RequestFromSubscription.class).getDemand()).isEqualTo(1L);
+        reply(SubscriptionComplete.of(subscriptionId, DittoHeaders.empty()));
+    }
+
+    private void awaitRevision(final long revision) {
+        Awaitility.await().untilAsserted(() -> assertThat(underTest.getRevision(THING_ID)).hasValue(revision));
+    }
+
+    private static JsonObject revisionOnly(final ThingId thingId, final long revision) {
+        return JsonObject.newBuilder()
+                .set("thingId", thingId.toString())
+                .set("_revision", revision)
+                .build();
+    }
+
+    private static JsonObject thing(final ThingId thingId, final int counter) {
+        return JsonObject.newBuilder()
+                .set("thingId", thingId.toString())
+                .set("attributes", JsonObject.newBuilder().set("counter", counter).build())
+                .build();
+    }
+
+}
@@ -0,0 +1,105 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.ditto.client;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.IntStream;
+
+import org.eclipse.ditto.base.model.exceptions.DittoInternalErrorException;
+import org.eclipse.ditto.base.model.headers.DittoHeaders;
+import org.eclipse.ditto.client.internal.AbstractDittoClientTest;
+import org.eclipse.ditto.client.twin.SearchAggregators;
+import org.eclipse.ditto.json.JsonArray;
+import org.eclipse.ditto.json.JsonCollectors;
+import org.eclipse.ditto.json.JsonObject;
+import org.eclipse.ditto.thingsearch.model.signals.commands.subscription.CancelSubscription;
+import org.eclipse.ditto.thingsearch.model.signals.commands.subscription.CreateSubscription;
+import org.eclipse.ditto.thingsearch.model.signals.commands.subscription.RequestFromSubscription;
+import org.eclipse.ditto.thingsearch.model.signals.events.SubscriptionComplete;
+import org.eclipse.ditto.thingsearch.model.signals.events.SubscriptionCreated;
+import org.eclipse.ditto.thingsearch.model.signals.events.SubscriptionFailed;
+import org.eclipse.ditto.thingsearch.model.signals.events.SubscriptionHasNextPage;
+import org.junit.Test;
+
+/**
+ * Tests {@link org.eclipse.ditto.client.twin.TwinSearchHandle#aggregate(java.util.function.Consumer,
+ * java.util.stream.Collector)}.
+ */
+public final class DittoClientTwinSearchAggregateTest extends AbstractDittoClientTest {
+
+    @Test
+    public void aggregatesPagesAsTheyArrive() throws Exception {
+        final CompletableFuture<Map<String, Long>> result = client.twin().search()
+                .aggregate(search -> search.fields("thingId").initialDemand(2).demand(1),
+                        SearchAggregators.countByNamespace())
+                .toCompletableFuture();
+
+        final CreateSubscription createSubscription = expectMsgClass(CreateSubscription.class);
+        reply(SubscriptionCreated.of("aggregation", createSubscription.getDittoHeaders()));
+        assertThat(expectMsgClass(RequestFromSubscription.class).getDemand()).isEqualTo(2L);
+        reply(hasNext(0, 4));
+        assertThat(expectMsgClass(RequestFromSubscription.class).getDemand()).isEqualTo(1L);
+        reply(hasNext(4, 7));
+        assertThat(expectMsgClass(RequestFromSubscription.class).getDemand()).isEqualTo(1L);
+        reply(SubscriptionComplete.of("aggregation", DittoHeaders.empty()));
+
+        final Map<String, Long> counts = result.get(10L, TimeUnit.SECONDS);
+        assertThat(counts).containsOnlyKeys("a", "b");
+        assertThat(counts.get("a")).isEqualTo(4L);
+        assertThat(counts.get("b")).isEqualTo(3L);
+    }
+
+    @Test
+    public void failedSearchFailsAggregation() {
+        final CompletableFuture<Long> result = client.twin().search()
+                .aggregate(search -> {}, SearchAggregators.count())
+                .toCompletableFuture();
+
+        final CreateSubscription createSubscription = expectMsgClass(CreateSubscription.class);
+        reply(SubscriptionCreated.of("failed-aggregation", createSubscription.getDittoHeaders()));
+        expectMsgClass(RequestFromSubscription.class);
+        reply(SubscriptionFailed.of("failed-aggregation",
+                DittoInternalErrorException.newBuilder().message("expected").build(), DittoHeaders.empty()));
+
+        assertThat(result)
+                .failsWithin(10L, TimeUnit.SECONDS)
+                .withThrowableOfType(Exception.class)
+                .withCauseInstanceOf(DittoInternalErrorException.class);
+    }
+
+    @Test
+    public void cancellingAggregationCancelsSearch() {
+        final CompletableFuture<Long> result = client.twin().search()
+                .aggregate(search -> {}, SearchAggregators.count())
+                .toCompletableFuture();
+
+        final CreateSubscription createSubscription = expectMsgClass(CreateSubscription.class);
+        reply(SubscriptionCreated.of("cancelled-aggregation", createSubscription.getDittoHeaders()));
+        expectMsgClass(RequestFromSubscription.class);
+        result.cancel(false);
+
+        assertThat(expectMsgClass(CancelSubscription.class).getSubscriptionId()).isEqualTo("cancelled-aggregation");
+    }
+
+    private static SubscriptionHasNextPage hasNext(final int start, final int end) {
+        final JsonArray things = IntStream.range(start, end)
+                .mapToObj(i -> JsonObject.newBuilder().set("thingId", (i % 2 == 0 ? "a" : "b") + ":" + i).build())
+                .collect(JsonCollectors.valuesToArray());
+        return SubscriptionHasNextPage.of("aggregation", things, DittoHeaders.empty());
+    }
+
+}
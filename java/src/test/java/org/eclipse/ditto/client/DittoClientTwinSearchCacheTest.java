@@ -0,0 +1,186 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.ditto.client;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Arrays;
+import java.util.List;
+import java.util.function.Consumer;
+import java.util.stream.Stream;
+
+import org.awaitility.Awaitility;
+import org.eclipse.ditto.base.model.headers.DittoHeaders;
+import org.eclipse.ditto.base.model.signals.Signal;
+import org.eclipse.ditto.client.configuration.SearchResultCacheConfiguration;
+import org.eclipse.ditto.client.internal.AbstractDittoClientTest;
+import org.eclipse.ditto.client.internal.SearchResultCache;
+import org.eclipse.ditto.client.messaging.internal.MockMessagingProvider;
+import org.eclipse.ditto.client.twin.SearchQueryBuilder;
+import org.eclipse.ditto.json.JsonArray;
+import org.eclipse.ditto.json.JsonObject;
+import org.eclipse.ditto.json.JsonPointer;
+import org.eclipse.ditto.json.JsonValue;
+import org.eclipse.ditto.protocol.ProtocolFactory;
+import org.eclipse.ditto.things.model.ThingId;
+import org.eclipse.ditto.things.model.signals.events.AttributeModified;
+import org.eclipse.ditto.thingsearch.model.signals.commands.subscription.CancelSubscription;
+import org.eclipse.ditto.thingsearch.model.signals.commands.subscription.CreateSubscription;
+import org.eclipse.ditto.thingsearch.model.signals.commands.subscription.RequestFromSubscription;
+import org.eclipse.ditto.thingsearch.model.signals.events.SubscriptionComplete;
+import org.eclipse.ditto.thingsearch.model.signals.events.SubscriptionCreated;
+import org.eclipse.ditto.thingsearch.model.signals.events.SubscriptionHasNextPage;
+import org.junit.Before;
+import org.junit.Test;
+
+/**
+ * Tests caching of search results by {@link org.eclipse.ditto.client.twin.TwinSearchHandle}.
+ */
+public final class DittoClientTwinSearchCacheTest extends AbstractDittoClientTest {
+
+    private static final ThingId THING_ID = ThingId.of("namespace:cached");
+
+    private SearchResultCache cache;
+
+    @Before
+    public void replaceClientByCachingClient() {
+        replaceClient(SearchResultCacheConfiguration.newBuilder()
+                .timeToLive(Duration.ofMinutes(1L))
+                .build());
+    }
+
+    @Test
+    public void identicalQueriesShareOneSearch() {
+        final Stream<JsonObject> first = client.twin().search()
+                .streamJson(search -> search.filter("eq(attributes/x,1)")
+                        .options("size(10), sort(+thingId)")
+                        .fields("thingId,attributes")
+                        .initialDemand(2)
+                        .demand(1));
+        answerSearch("shared-search");
+        // whitespace in options and the order of fields do not change the results
+        final Stream<JsonObject> second = client.twin().search()
+                .streamJson(search -> search.filter("eq(attributes/x,1)")
+                        .options("size(10),sort(+thingId)")
+                        .fields("attributes,thingId"));
+
+        assertThat(first).containsExactly(thing(THING_ID), thing(ThingId.of("namespace:other")));
+        assertThat(second).containsExactly(thing(THING_ID), thing(ThingId.of("namespace:other")));
+        assertThat(cache.getMisses()).isEqualTo(1L);
+        assertThat(cache.getHits()).isEqualTo(1L);
+    }
+
+    @Test
+    public void twinEventOfContainedThingInvalidatesResults() {
+        final Consumer<SearchQueryBuilder> query = search -> search.filter("eq(attributes/x,1)")
+                .initialDemand(2)
+                .demand(1);
+        final Stream<JsonObject> first = client.twin().search().streamJson(query);
+        answerSearch("invalidated-search");
+        assertThat(first).hasSize(2);
+        assertThat(cache.getBytes()).isPositive();
+
+        reply(AttributeModified.of(THING_ID, JsonPointer.of("x"), JsonValue.of(2), 2L, Instant.EPOCH,
+                DittoHeaders.empty(), null));
+        Awaitility.await("invalidation").untilAsserted(() -> assertThat(cache.getBytes()).isZero());
+
+        final Stream<JsonObject> second = client.twin().search().streamJson(query);
+        answerSearch("repeated-search");
+        assertThat(second).hasSize(2);
+        assertThat(cache.getMisses()).isEqualTo(2L);
+    }
+
+    @Test
+    public void queryWithResultsLargerThanMaxBytesIsStreamed() {
+        replaceClient(SearchResultCacheConfiguration.newBuilder()
+                .timeToLive(Duration.ofMinutes(1L))
+                .maxBytes(1L)
+                .build());
+        final Consumer<SearchQueryBuilder> query = search -> search.filter("eq(attributes/x,1)")
+                .initialDemand(2)
+                .demand(1);
+        final Stream<JsonObject> first = client.twin().search().streamJson(query);
+        final CreateSubscription cachedSearch = expectMsgClass(CreateSubscription.class);
+        reply(SubscriptionCreated.of("too-large-search", cachedSearch.getDittoHeaders()));
+        assertThat(expectMsgClass(RequestFromSubscription.class).getDemand()).isEqualTo(2L);
+        reply(SubscriptionHasNextPage.of("too-large-search", JsonArray.of(thing(THING_ID)), DittoHeaders.empty()));
+
+        // the cached search is cancelled and the query is searched anew without the cache, in either order
+        final List<Signal<?>> signals = Arrays.asList(expectSignal(), expectSignal());
+        assertThat(signals).filteredOn(CancelSubscription.class::isInstance).hasSize(1);
+        final CreateSubscription streamedSearch = signals.stream()
+                .filter(CreateSubscription.class::isInstance)
+                .map(CreateSubscription.class::cast)
+                .findAny()
+                .orElseThrow(() -> new AssertionError("Expect CreateSubscription, got " + signals));
+        answerStreamedSearch(streamedSearch, "streamed-search");
+        assertThat(first).containsExactly(thing(THING_ID), thing(ThingId.of("namespace:other")));
+        assertThat(cache.getBytes()).isZero();
+
+        final Stream<JsonObject> second = client.twin().search().streamJson(query);
+        answerStreamedSearch(expectMsgClass(CreateSubscription.class), "repeated-search");
+        assertThat(second).hasSize(2);
+        assertThat(cache.getMisses()).isEqualTo(1L);
+    }
+
+    private void replaceClient(final SearchResultCacheConfiguration configuration) {
+        client.destroy();
+        messaging = new MockMessagingProvider() {
+
+            private final SearchResultCache searchResultCache = SearchResultCache.of(configuration, getAdaptableBus());
+
+            @Override
+            public SearchResultCache getSearchResultCache() {
+                return searchResultCache;
+            }
+        };
+        cache = messaging.getSearchResultCache();
+        client = DittoClients.newInstance(messaging)
+                .connect()
+                .toCompletableFuture()
+                .join();
+    }
+
+    private Signal<?> expectSignal() {
+        return PROTOCOL_ADAPTER.fromAdaptable(
+                ProtocolFactory.jsonifiableAdaptableFromJson(JsonObject.of(messaging.expectEmitted())));
+    }
+
+    private void answerStreamedSearch(final CreateSubscription createSubscription, final String subscriptionId) {
+        reply(SubscriptionCreated.of(subscriptionId, createSubscription.getDittoHeaders()));
+        assertThat(expectMsgClass(RequestFromSubscription.class).getDemand()).isEqualTo(2L);
+        reply(SubscriptionHasNextPage.of(subscriptionId,
+                JsonArray.of(thing(THING_ID), thing(ThingId.of("namespace:other"))), DittoHeaders.empty()));
+        reply(SubscriptionComplete.of(subscriptionId, DittoHeaders.empty()));
+    }
+
+    private void answerSearch(final String subscriptionId) {
+        final CreateSubscription createSubscription = expectMsgClass(CreateSubscription.class);
+        reply(SubscriptionCreated.of(subscriptionId, createSubscription.getDittoHeaders()));
+        assertThat(expectMsgClass(RequestFromSubscription.class).getDemand()).isEqualTo(2L);
+        reply(SubscriptionHasNextPage.of(subscriptionId,
+                JsonArray.of(thing(THING_ID), thing(ThingId.of("namespace:other"))), DittoHeaders.empty()));
+        assertThat(expectMsgClass(RequestFromSubscription.class).getDemand()).isEqualTo(1L);
+        reply(SubscriptionComplete.of(subscriptionId, DittoHeaders.empty()));
+    }
+
+    private static JsonObject thing(final ThingId thingId) {
+        return JsonObject.newBuilder()
+                .set("thingId", thingId.toString())
+                .set("attributes", JsonObject.newBuilder().set("x", 1).build())
+                .build();
+    }
+
+}
@@ -0,0 +1,184 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.ditto.client;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatExceptionOfType;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.List;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+import java.util.zip.GZIPInputStream;
+
+import org.eclipse.ditto.base.model.exceptions.DittoInternalErrorException;
+import org.eclipse.ditto.base.model.headers.DittoHeaders;
+import org.eclipse.ditto.client.internal.AbstractDittoClientTest;
+import org.eclipse.ditto.client.twin.SearchExport;
+import org.eclipse.ditto.json.JsonArray;
+import org.eclipse.ditto.json.JsonCollectors;
+import org.eclipse.ditto.json.JsonFactory;
+import org.eclipse.ditto.json.JsonFieldSelector;
+import org.eclipse.ditto.json.JsonObject;
+import org.eclipse.ditto.json.JsonPointer;
+import org.eclipse.ditto.thingsearch.model.signals.commands.subscription.CreateSubscription;
+import org.eclipse.ditto.thingsearch.model.signals.commands.subscription.RequestFromSubscription;
+import org.eclipse.ditto.thingsearch.model.signals.events.SubscriptionComplete;
+import org.eclipse.ditto.thingsearch.model.signals.events.SubscriptionCreated;
+import org.eclipse.ditto.thingsearch.model.signals.events.SubscriptionFailed;
+import org.eclipse.ditto.thingsearch.model.signals.events.SubscriptionHasNextPage;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+/**
+ * Tests {@link org.eclipse.ditto.client.twin.TwinSearchHandle#export(java.util.function.Consumer, SearchExport)}.
+ */
+public final class DittoClientTwinSearchExportTest extends AbstractDittoClientTest {
+
+    private static final String FILTER = "exists(attributes)";
+
+    @Rule
+    public final TemporaryFolder temporaryFolder = new TemporaryFolder();
+
+    private ExecutorService exportExecutor;
+
+    @Before
+    public void startExportExecutor() {
+        exportExecutor = Executors.newSingleThreadExecutor();
+    }
+
+    @After
+    public void stopExportExecutor() throws InterruptedException {
+        exportExecutor.shutdownNow();
+        assertThat(exportExecutor.awaitTermination(10L, TimeUnit.SECONDS)).isTrue();
+    }
+
+    @Test
+    public void exportResumesAfterDisconnect() throws Exception {
+        final Path target = temporaryFolder.getRoot().toPath().resolve("things.ndjson");
+        final SearchExport export = SearchExport.to(target).checkpointInterval(2);
+
+        final Future<Long> firstRun = startExport(export);
+        final CreateSubscription firstCreateSubscription = expectMsgClass(CreateSubscription.class);
+        assertThat(firstCreateSubscription.getFilter()).contains(FILTER);
+        assertThat(firstCreateSubscription.getOptions()).contains("sort(+thingId),size(5)");
+        assertThat(firstCreateSubscription.getSelectedFields().map(JsonFieldSelector::getPointers).orElse(null))
+                .contains(JsonPointer.of("attributes"), JsonPointer.of("thingId"));
+        reply(SubscriptionCreated.of("first-run", firstCreateSubscription.getDittoHeaders()));
+        expectMsgClass(RequestFromSubscription.class);
+        reply(hasNext("first-run", 0, 3));
+        reply(hasNext("first-run", 3, 5));
+        reply(SubscriptionFailed.of("first-run",
+                DittoInternalErrorException.newBuilder().message("connection lost").build(), DittoHeaders.empty()));
+
+        assertThatExceptionOfType(ExecutionException.class)
+                .isThrownBy(() -> firstRun.get(10L, TimeUnit.SECONDS))
+                .withCauseInstanceOf(DittoInternalErrorException.class);
+        // drop requests for further pages sent before the failure arrived
+        messaging.clearEmitted();
+        assertThat(Files.exists(export.getCheckpoint())).isTrue();
+        // simulate a line torn by a crash after the checkpoint
+        Files.write(target, "{\"thingId\":\"x:5\",\"attr".getBytes(StandardCharsets.UTF_8),
+                StandardOpenOption.APPEND);
+
+        final Future<Long> secondRun = startExport(export);
+        final CreateSubscription secondCreateSubscription = expectMsgClass(CreateSubscription.class);
+        assertThat(secondCreateSubscription.getFilter()).contains("and(" + FILTER + ",gt(thingId,\"x:4\"))");
+        reply(SubscriptionCreated.of("second-run", secondCreateSubscription.getDittoHeaders()));
+        expectMsgClass(RequestFromSubscription.class);
+        reply(hasNext("second-run", 5, 7));
+        reply(SubscriptionComplete.of("second-run", DittoHeaders.empty()));
+
+        assertThat(secondRun.get(10L, TimeUnit.SECONDS)).isEqualTo(2L);
+        assertThat(Files.exists(export.getCheckpoint())).isFalse();
+        assertThat(Files.readAllLines(target, StandardCharsets.UTF_8)).containsExactlyElementsOf(lines(0, 7));
+    }
+
+    @Test
+    public void gzipExportResumesAfterDisconnect() throws Exception {
+        final Path target = temporaryFolder.getRoot().toPath().resolve("things.ndjson.gz");
+        final SearchExport export = SearchExport.to(target).gzip(true).checkpointInterval(2).bufferSize(16);
+
+        final Future<Long> firstRun = startExport(export);
+        final CreateSubscription firstCreateSubscription = expectMsgClass(CreateSubscription.class);
+        reply(SubscriptionCreated.of("first-gzip-run", firstCreateSubscription.getDittoHeaders()));
+        expectMsgClass(RequestFromSubscription.class);
+        reply(hasNext("first-gzip-run", 0, 3));
+        reply(SubscriptionFailed.of("first-gzip-run",
+                DittoInternalErrorException.newBuilder().message("connection lost").build(), DittoHeaders.empty()));
+        assertThatExceptionOfType(ExecutionException.class).isThrownBy(() -> firstRun.get(10L, TimeUnit.SECONDS));
+        messaging.clearEmitted();
+
+        final Future<Long> secondRun = startExport(export);
+        final CreateSubscription secondCreateSubscription = expectMsgClass(CreateSubscription.class);
+        assertThat(secondCreateSubscription.getFilter()).contains("and(" + FILTER + ",gt(thingId,\"x:2\"))");
+        reply(SubscriptionCreated.of("second-gzip-run", secondCreateSubscription.getDittoHeaders()));
+        expectMsgClass(RequestFromSubscription.class);
+        reply(hasNext("second-gzip-run", 3, 6));
+        reply(SubscriptionComplete.of("second-gzip-run", DittoHeaders.empty()));
+
+        assertThat(secondRun.get(10L, TimeUnit.SECONDS)).isEqualTo(3L);
+        assertThat(readGzipLines(target)).containsExactlyElementsOf(lines(0, 6));
+    }
+
+    private Future<Long> startExport(final SearchExport export) {
+        return exportExecutor.submit(() -> client.twin().search().export(search -> search.filter(FILTER)
+                .options("size(5),sort(-attributes/x)")
+                .fields("attributes"), export));
+    }
+
+    private static SubscriptionHasNextPage hasNext(final String subscriptionId, final int start, final int end) {
+        final JsonArray things = IntStream.range(start, end)
+                .mapToObj(DittoClientTwinSearchExportTest::searchResult)
+                .collect(JsonCollectors.valuesToArray());
+        return SubscriptionHasNextPage.of(subscriptionId, things, DittoHeaders.empty());
+    }
+
+    private static JsonObject searchResult(final int i) {
+        return JsonObject.newBuilder()
+                .set("thingId", "x:" + i)
+                .set("attributes", JsonObject.newBuilder().set("x", i).build())
+                .build();
+    }
+
+    private static List<String> lines(final int start, final int end) {
+        return IntStream.range(start, end)
+                .mapToObj(DittoClientTwinSearchExportTest::searchResult)
+                .map(JsonObject::toString)
+                .collect(Collectors.toList());
+    }
+
+    private static List<String> readGzipLines(final Path file) throws IOException {
+        try (final BufferedReader reader = new BufferedReader(new InputStreamReader(
+                new GZIPInputStream(Files.newInputStream(file)), StandardCharsets.UTF_8))) {
+            return reader.lines()
+                    .map(line -> JsonFactory.newObject(line).toString())
+                    .collect(Collectors.toList());
+        }
+    }
+
+}
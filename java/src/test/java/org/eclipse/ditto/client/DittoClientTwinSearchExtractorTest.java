@@ -0,0 +1,125 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.ditto.client;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatNullPointerException;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Optional;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
+
+import org.eclipse.ditto.base.model.headers.DittoHeaders;
+import org.eclipse.ditto.client.internal.AbstractDittoClientTest;
+import org.eclipse.ditto.client.streaming.SpliteratorSubscriber;
+import org.eclipse.ditto.client.twin.SearchResultExtractor;
+import org.eclipse.ditto.json.JsonArray;
+import org.eclipse.ditto.json.JsonCollectors;
+import org.eclipse.ditto.json.JsonFactory;
+import org.eclipse.ditto.json.JsonFieldDefinition;
+import org.eclipse.ditto.json.JsonObject;
+import org.eclipse.ditto.things.model.ThingId;
+import org.eclipse.ditto.thingsearch.model.signals.commands.subscription.CreateSubscription;
+import org.eclipse.ditto.thingsearch.model.signals.commands.subscription.RequestFromSubscription;
+import org.eclipse.ditto.thingsearch.model.signals.events.SubscriptionComplete;
+import org.eclipse.ditto.thingsearch.model.signals.events.SubscriptionCreated;
+import org.eclipse.ditto.thingsearch.model.signals.events.SubscriptionHasNextPage;
+import org.junit.Test;
+import org.reactivestreams.Publisher;
+
+/**
+ * Tests searches of {@link org.eclipse.ditto.client.twin.TwinSearchHandle} with
+ * {@link org.eclipse.ditto.client.twin.SearchResultExtractor}s.
+ */
+public final class DittoClientTwinSearchExtractorTest extends AbstractDittoClientTest {
+
+    private static final JsonFieldDefinition<Integer> COUNTER =
+            JsonFactory.newIntFieldDefinition("attributes/counter");
+
+    @Test
+    public void streamJsonDeliversSearchResultsAsReceived() {
+        final Stream<JsonObject> searchResults =
+                client.twin().search().streamJson(search -> search.fields("thingId,attributes/counter"));
+
+        final String subscriptionId = startSubscription("json-subscription");
+        reply(hasNext(subscriptionId, 0, 3));
+        reply(SubscriptionComplete.of(subscriptionId, DittoHeaders.empty()));
+
+        assertThat(searchResults).containsExactly(searchResult(0), searchResult(1), searchResult(2));
+    }
+
+    @Test
+    public void streamWithExtractorDeliversExtractedElements() {
+        final Stream<ThingId> searchResults =
+                client.twin().search().stream(search -> search.fields("thingId"), SearchResultExtractor.thingId());
+
+        final String subscriptionId = startSubscription("thing-id-subscription");
+        reply(hasNext(subscriptionId, 0, 2));
+        reply(hasNext(subscriptionId, 2, 4));
+        reply(SubscriptionComplete.of(subscriptionId, DittoHeaders.empty()));
+
+        assertThat(searchResults).containsExactly(ThingId.of("x:0"), ThingId.of("x:1"), ThingId.of("x:2"),
+                ThingId.of("x:3"));
+    }
+
+    @Test
+    public void publisherWithExtractorPublishesExtractedPages() {
+        final Publisher<List<Optional<Integer>>> publisher =
+                client.twin().search().publisher(search -> {}, SearchResultExtractor.field(COUNTER));
+        final SpliteratorSubscriber<List<Optional<Integer>>> subscriber =
+                SpliteratorSubscriber.of(messaging.getMessagingConfiguration().getTimeout(), 2, 1);
+        publisher.subscribe(subscriber);
+
+        final String subscriptionId = startSubscription("field-subscription");
+        reply(hasNext(subscriptionId, 0, 2));
+        reply(SubscriptionHasNextPage.of(subscriptionId,
+                JsonArray.of(JsonObject.newBuilder().set("thingId", "x:2").build()), DittoHeaders.empty()));
+        reply(SubscriptionComplete.of(subscriptionId, DittoHeaders.empty()));
+
+        assertThat(StreamSupport.stream(subscriber, false))
+                .containsExactly(Arrays.asList(Optional.of(0), Optional.of(1)),
+                        Collections.singletonList(Optional.empty()));
+    }
+
+    @Test
+    public void nullExtractorIsRejected() {
+        assertThatNullPointerException()
+                .isThrownBy(() -> client.twin().search().stream(search -> {}, null));
+    }
+
+    private String startSubscription(final String subscriptionId) {
+        final CreateSubscription createSubscription = expectMsgClass(CreateSubscription.class);
+        reply(SubscriptionCreated.of(subscriptionId, createSubscription.getDittoHeaders()));
+        expectMsgClass(RequestFromSubscription.class);
+        return subscriptionId;
+    }
+
+    private static SubscriptionHasNextPage hasNext(final String subscriptionId, final int start, final int end) {
+        final JsonArray things = IntStream.range(start, end)
+                .mapToObj(DittoClientTwinSearchExtractorTest::searchResult)
+                .collect(JsonCollectors.valuesToArray());
+        return SubscriptionHasNextPage.of(subscriptionId, things, DittoHeaders.empty());
+    }
+
+    private static JsonObject searchResult(final int i) {
+        return JsonObject.newBuilder()
+                .set("thingId", "x:" + i)
+                .set(COUNTER, i)
+                .build();
+    }
+
+}
@@ -37,7 +37,7 @@ public final class ImmutableChangeTest {
     public void assertImmutability() {
         assertInstancesOf(ImmutableChange.class, areImmutable(),
                 provided(JsonValue.class, JsonPointer.class, EntityId.class, JsonObject.class,
-                        DittoHeaders.class, Consumer.class).isAlsoImmutable());
+                        DittoHeaders.class, Consumer.class, LazyJsonValue.class).isAlsoImmutable());
     }
 
     @Test
@@ -49,6 +49,8 @@ public final class ImmutableChangeTest {
                 .usingGetClass()
                 .withIgnoredFields("acknowledgementPublisher")
                 .withPrefabValues(EntityId.class, red, black)
+                .withPrefabValues(LazyJsonValue.class, LazyJsonValue.of(JsonValue.of("red")),
+                        LazyJsonValue.of(JsonValue.of("black")))
                 .verify();
     }
 
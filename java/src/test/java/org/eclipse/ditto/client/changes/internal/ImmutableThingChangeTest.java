@@ -15,6 +15,10 @@ package org.eclipse.ditto.client.changes.internal;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatNullPointerException;
 import static org.eclipse.ditto.client.TestConstants.Thing.THING_ID;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
 import static org.mutabilitydetector.unittesting.AllowedReason.provided;
 import static org.mutabilitydetector.unittesting.MutabilityAssert.assertInstancesOf;
 import static org.mutabilitydetector.unittesting.MutabilityMatchers.areImmutable;
@@ -26,6 +30,8 @@ import java.util.function.Consumer;
 import org.eclipse.ditto.client.changes.Change;
 import org.eclipse.ditto.client.changes.ChangeAction;
 import org.eclipse.ditto.client.changes.ThingChange;
+import org.eclipse.ditto.base.model.json.JsonSchemaVersion;
+import org.eclipse.ditto.json.JsonObject;
 import org.eclipse.ditto.json.JsonPointer;
 import org.eclipse.ditto.base.model.headers.DittoHeaders;
 import org.eclipse.ditto.things.model.Thing;
@@ -123,4 +129,23 @@ public final class ImmutableThingChangeTest {
         assertThat(thing).contains(THING_MOCK);
     }
 
+    @Test
+    public void valueIsMaterializedOnFirstAccessOnly() {
+        final Thing thing = Mockito.mock(Thing.class);
+        final JsonObject thingJson = JsonObject.newBuilder().set("thingId", THING_ID.toString()).build();
+        when(thing.getImplementedSchemaVersion()).thenReturn(JsonSchemaVersion.V_2);
+        when(thing.toJson(JsonSchemaVersion.V_2)).thenReturn(thingJson);
+
+        final ThingChange underTest =
+                new ImmutableThingChange(THING_ID, KNOWN_ACTION, thing, POINTER_MOCK, KNOWN_REVISION,
+                        KNOWN_TIMESTAMP, null, KNOWN_DITTO_HEADERS, ACK_CONSUMER);
+
+        assertThat(underTest.getRevision()).isEqualTo(KNOWN_REVISION);
+        verify(thing, never()).toJson(JsonSchemaVersion.V_2);
+
+        assertThat(underTest.getValue()).contains(thingJson);
+        assertThat(underTest.withExtra(JsonObject.empty()).getValue()).contains(thingJson);
+        verify(thing, times(1)).toJson(JsonSchemaVersion.V_2);
+    }
+
 }
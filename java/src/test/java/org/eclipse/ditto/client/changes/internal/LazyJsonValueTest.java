@@ -0,0 +1,81 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.ditto.client.changes.internal;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatNullPointerException;
+import static org.mutabilitydetector.unittesting.AllowedReason.assumingFields;
+import static org.mutabilitydetector.unittesting.AllowedReason.provided;
+import static org.mutabilitydetector.unittesting.MutabilityAssert.assertInstancesOf;
+import static org.mutabilitydetector.unittesting.MutabilityMatchers.areImmutable;
+
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+import org.eclipse.ditto.json.JsonValue;
+import org.junit.Test;
+
+/**
+ * Unit test for {@link LazyJsonValue}.
+ */
+public final class LazyJsonValueTest {
+
+    @Test
+    public void assertImmutability() {
+        assertInstancesOf(LazyJsonValue.class, areImmutable(),
+                provided(JsonValue.class, Supplier.class).isAlsoImmutable(),
+                assumingFields("value", "materialized").areModifiedAsPartOfAnUnobservableCachingStrategy());
+    }
+
+    @Test
+    public void computedByNullSupplierThrowsException() {
+        assertThatNullPointerException().isThrownBy(() -> LazyJsonValue.computedBy(null));
+    }
+
+    @Test
+    public void supplierIsInvokedOnFirstAccessOnly() {
+        final AtomicInteger invocations = new AtomicInteger();
+        final LazyJsonValue underTest = LazyJsonValue.computedBy(() -> {
+            invocations.incrementAndGet();
+            return JsonValue.of(42);
+        });
+
+        assertThat(invocations).hasValue(0);
+        assertThat(underTest.get()).isEqualTo(JsonValue.of(42));
+        assertThat(underTest.get()).isEqualTo(JsonValue.of(42));
+        assertThat(invocations).hasValue(1);
+    }
+
+    @Test
+    public void nullValueIsMemoized() {
+        final AtomicInteger invocations = new AtomicInteger();
+        final LazyJsonValue underTest = LazyJsonValue.computedBy(() -> {
+            invocations.incrementAndGet();
+            return null;
+        });
+
+        assertThat(underTest.get()).isNull();
+        assertThat(underTest.get()).isNull();
+        assertThat(invocations).hasValue(1);
+    }
+
+    @Test
+    public void lazyAndEagerValuesAreEqual() {
+        final LazyJsonValue lazy = LazyJsonValue.computedBy(() -> JsonValue.of("foo"));
+        final LazyJsonValue eager = LazyJsonValue.of(JsonValue.of("foo"));
+
+        assertThat(lazy).isEqualTo(eager).hasSameHashCodeAs(eager);
+        assertThat(LazyJsonValue.of(null)).isNotEqualTo(eager);
+    }
+
+}
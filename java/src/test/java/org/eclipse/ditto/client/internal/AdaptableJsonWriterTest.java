@@ -0,0 +1,172 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.ditto.client.internal;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.Random;
+import java.util.function.Function;
+
+import org.eclipse.ditto.base.model.headers.DittoHeaders;
+import org.eclipse.ditto.base.model.headers.translator.HeaderTranslator;
+import org.eclipse.ditto.base.model.signals.Signal;
+import org.eclipse.ditto.json.JsonArrayBuilder;
+import org.eclipse.ditto.json.JsonFactory;
+import org.eclipse.ditto.json.JsonObjectBuilder;
+import org.eclipse.ditto.json.JsonPointer;
+import org.eclipse.ditto.json.JsonValue;
+import org.eclipse.ditto.messages.model.Message;
+import org.eclipse.ditto.messages.model.MessageDirection;
+import org.eclipse.ditto.messages.model.MessageHeaders;
+import org.eclipse.ditto.messages.model.signals.commands.SendThingMessage;
+import org.eclipse.ditto.protocol.Adaptable;
+import org.eclipse.ditto.protocol.ProtocolFactory;
+import org.eclipse.ditto.protocol.adapter.DittoProtocolAdapter;
+import org.eclipse.ditto.protocol.adapter.ProtocolAdapter;
+import org.eclipse.ditto.things.model.ThingId;
+import org.eclipse.ditto.things.model.signals.commands.modify.MergeThing;
+import org.eclipse.ditto.things.model.signals.commands.modify.ModifyAttribute;
+import org.eclipse.ditto.things.model.signals.commands.modify.ModifyFeatureProperty;
+import org.eclipse.ditto.things.model.signals.commands.query.RetrieveThing;
+import org.junit.Test;
+
+/**
+ * Tests {@link AdaptableJsonWriter} by comparing its output for randomly generated signals with the output of
+ * {@code JsonifiableAdaptable}.
+ */
+public final class AdaptableJsonWriterTest {
+
+    private static final ProtocolAdapter PROTOCOL_ADAPTER = DittoProtocolAdapter.of(HeaderTranslator.empty());
+    private static final int ITERATIONS = 500;
+    private static final String SPECIAL_CHARACTERS = "\"\\/\b\f\n\r\t\u0000\u001f\u007f\u00e4\u20ac\u2028\ud83d\ude00";
+
+    @Test
+    public void modifyFeaturePropertyIsWrittenIdentically() {
+        assertIdenticalOutput(random -> ModifyFeatureProperty.of(randomThingId(random), randomKey(random),
+                randomPointer(random), randomValue(random, 3), randomHeaders(random)));
+    }
+
+    @Test
+    public void modifyAttributeIsWrittenIdentically() {
+        assertIdenticalOutput(random -> ModifyAttribute.of(randomThingId(random), randomPointer(random),
+                randomValue(random, 3), randomHeaders(random)));
+    }
+
+    @Test
+    public void mergeThingIsWrittenIdentically() {
+        assertIdenticalOutput(random -> MergeThing.withFeatureProperty(randomThingId(random), randomKey(random),
+                randomPointer(random), randomValue(random, 3), randomHeaders(random)));
+    }
+
+    @Test
+    public void liveMessageIsWrittenIdentically() {
+        assertIdenticalOutput(random -> {
+            final ThingId thingId = randomThingId(random);
+            final MessageHeaders messageHeaders =
+                    MessageHeaders.newBuilder(MessageDirection.TO, thingId, randomKey(random))
+                            .contentType("application/json")
+                            .build();
+            final Message<JsonValue> message = Message.<JsonValue>newBuilder(messageHeaders)
+                    .payload(randomValue(random, 3))
+                    .build();
+            return SendThingMessage.of(thingId, message, randomHeaders(random));
+        });
+    }
+
+    @Test
+    public void otherSignalsAreWrittenByJsonifiableAdaptable() {
+        final Adaptable adaptable = PROTOCOL_ADAPTER.toAdaptable(RetrieveThing.of(ThingId.of("org.eclipse:thing"),
+                DittoHeaders.newBuilder().randomCorrelationId().build()));
+
+        assertThat(AdaptableJsonWriter.isStreamable(adaptable)).isFalse();
+        assertThat(AdaptableJsonWriter.toJsonString(adaptable))
+                .isEqualTo(ProtocolFactory.wrapAsJsonifiableAdaptable(adaptable).toJsonString());
+    }
+
+    private static void assertIdenticalOutput(final Function<Random, Signal<?>> signalGenerator) {
+        for (int seed = 0; seed < ITERATIONS; seed++) {
+            final Adaptable adaptable = PROTOCOL_ADAPTER.toAdaptable(signalGenerator.apply(new Random(seed)));
+
+            assertThat(AdaptableJsonWriter.isStreamable(adaptable)).as("seed %d", seed).isTrue();
+            assertThat(AdaptableJsonWriter.toJsonString(adaptable))
+                    .as("seed %d", seed)
+                    .isEqualTo(ProtocolFactory.wrapAsJsonifiableAdaptable(adaptable).toJsonString());
+        }
+    }
+
+    private static ThingId randomThingId(final Random random) {
+        return ThingId.of("org.eclipse.ditto", "thing-" + random.nextInt(1000));
+    }
+
+    private static DittoHeaders randomHeaders(final Random random) {
+        return DittoHeaders.newBuilder()
+                .correlationId("correlation-" + randomString(random))
+                .responseRequired(random.nextBoolean())
+                .putHeader("custom-" + random.nextInt(10), randomString(random))
+                .build();
+    }
+
+    private static JsonPointer randomPointer(final Random random) {
+        final StringBuilder pointer = new StringBuilder(randomKey(random));
+        for (int i = random.nextInt(3); i > 0; i--) {
+            pointer.append('/').append(randomKey(random));
+        }
+        return JsonPointer.of(pointer.toString());
+    }
+
+    private static String randomKey(final Random random) {
+        return "key" + random.nextInt(100);
+    }
+
+    private static String randomString(final Random random) {
+        final StringBuilder stringBuilder = new StringBuilder();
+        for (int i = random.nextInt(8); i > 0; i--) {
+            if (random.nextInt(4) == 0) {
+                stringBuilder.append(SPECIAL_CHARACTERS.charAt(random.nextInt(SPECIAL_CHARACTERS.length())));
+            } else {
+                stringBuilder.append((char) ('a' + random.nextInt(26)));
+            }
+        }
+        return stringBuilder.toString();
+    }
+
+    private static JsonValue randomValue(final Random random, final int maxDepth) {
+        switch (random.nextInt(maxDepth > 0 ? 8 : 6)) {
+            case 0:
+                return JsonFactory.nullLiteral();
+            case 1:
+                return JsonValue.of(random.nextBoolean());
+            case 2:
+                return JsonValue.of(random.nextInt());
+            case 3:
+                return JsonValue.of(random.nextLong());
+            case 4:
+                return JsonValue.of(random.nextDouble() * 1000.0);
+            case 5:
+                return JsonValue.of(randomString(random));
+            case 6:
+                final JsonArrayBuilder arrayBuilder = JsonFactory.newArrayBuilder();
+                for (int i = random.nextInt(4); i > 0; i--) {
+                    arrayBuilder.add(randomValue(random, maxDepth - 1));
+                }
+                return arrayBuilder.build();
+            default:
+                final JsonObjectBuilder objectBuilder = JsonFactory.newObjectBuilder();
+                for (int i = random.nextInt(4); i > 0; i--) {
+                    objectBuilder.set(randomString(random).replace('/', '_') + i, randomValue(random, maxDepth - 1));
+                }
+                return objectBuilder.build();
+        }
+    }
+
+}
@@ -0,0 +1,62 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.ditto.client.internal;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.eclipse.ditto.client.TestConstants.Feature.FLUX_CAPACITOR_ID;
+import static org.eclipse.ditto.client.TestConstants.Thing.THING_ID;
+
+import java.text.MessageFormat;
+
+import org.eclipse.ditto.json.JsonPointer;
+import org.junit.Test;
+
+/**
+ * Tests {@link org.eclipse.ditto.client.internal.BusAddressPatterns}.
+ */
+public class BusAddressPatternsTest {
+
+    private static final JsonPointer PATH = JsonPointer.of("/foo/bar");
+
+    @Test
+    public void formatIsEqualToMessageFormat() {
+        assertFormattedLike(BusAddressPatterns.THING_PATTERN, "/things/{0}");
+        assertFormattedLike(BusAddressPatterns.ATTRIBUTES_PATTERN, "/things/{0}/attributes");
+        assertFormattedLike(BusAddressPatterns.ATTRIBUTE_PATTERN, "/things/{0}/attributes{1}");
+        assertFormattedLike(BusAddressPatterns.DEFINITION_PATTERN, "/things/{0}/definition");
+        assertFormattedLike(BusAddressPatterns.POLICY_ID_PATTERN, "/things/{0}/policyId");
+        assertFormattedLike(BusAddressPatterns.FEATURES_PATTERN, "/things/{0}/features");
+        assertFormattedLike(BusAddressPatterns.FEATURE_PATTERN, "/things/{0}/features/{1}");
+        assertFormattedLike(BusAddressPatterns.FEATURE_DEFINITION_PATTERN, "/things/{0}/features/{1}/definition");
+        assertFormattedLike(BusAddressPatterns.FEATURE_PROPERTIES_PATTERN, "/things/{0}/features/{1}/properties");
+        assertFormattedLike(BusAddressPatterns.FEATURE_PROPERTY_PATTERN, "/things/{0}/features/{1}/properties{2}");
+        assertFormattedLike(BusAddressPatterns.FEATURE_DESIRED_PROPERTIES_PATTERN,
+                "/things/{0}/features/{1}/desiredProperties");
+        assertFormattedLike(BusAddressPatterns.FEATURE_DESIRED_PROPERTY_PATTERN,
+                "/things/{0}/features/{1}/desiredProperties{2}");
+    }
+
+    @Test
+    public void formatWithArgumentsInDifferentOrder() {
+        assertThat(BusAddressPatterns.FEATURE_PROPERTY_PATTERN.format(THING_ID, FLUX_CAPACITOR_ID, PATH))
+                .isEqualTo("/things/" + THING_ID + "/features/" + FLUX_CAPACITOR_ID + "/properties/foo/bar");
+    }
+
+    private static void assertFormattedLike(final BusAddressPatterns pattern, final String messageFormatPattern) {
+        final Object[] arguments = {THING_ID, FLUX_CAPACITOR_ID, PATH};
+        assertThat(pattern.format(arguments))
+                .as(pattern.name())
+                .isEqualTo(MessageFormat.format(messageFormatPattern, arguments));
+    }
+
+}
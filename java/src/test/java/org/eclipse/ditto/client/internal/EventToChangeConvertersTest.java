@@ -0,0 +1,86 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.ditto.client.internal;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatExceptionOfType;
+import static org.eclipse.ditto.client.TestConstants.Thing.THING_ID;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+
+import java.time.Instant;
+import java.util.Map;
+
+import org.eclipse.ditto.base.model.headers.DittoHeaders;
+import org.eclipse.ditto.client.changes.Change;
+import org.eclipse.ditto.client.changes.ChangeAction;
+import org.eclipse.ditto.client.internal.bus.PointerBus;
+import org.eclipse.ditto.client.messaging.MessagingProvider;
+import org.eclipse.ditto.json.JsonPointer;
+import org.eclipse.ditto.json.JsonValue;
+import org.eclipse.ditto.things.model.signals.events.AttributeDeleted;
+import org.eclipse.ditto.things.model.signals.events.AttributeModified;
+import org.eclipse.ditto.things.model.signals.events.FeaturePropertyModified;
+import org.eclipse.ditto.things.model.signals.events.ThingDeleted;
+import org.eclipse.ditto.things.model.signals.events.ThingMerged;
+import org.junit.Before;
+import org.junit.Test;
+import org.mockito.ArgumentCaptor;
+
+/**
+ * Tests {@link EventToChangeConverters}.
+ */
+public final class EventToChangeConvertersTest {
+
+    private static final JsonPointer ATTRIBUTE_POINTER = JsonPointer.of("location/latitude");
+
+    private Map<String, EventToChangeConverter<?>> underTest;
+
+    @Before
+    public void setUp() {
+        underTest = EventToChangeConverters.forThingEvents(mock(MessagingProvider.class));
+    }
+
+    @Test
+    public void containsConvertersForThingEvents() {
+        assertThat(underTest).containsKeys(ThingMerged.TYPE, ThingDeleted.TYPE, AttributeModified.TYPE,
+                AttributeDeleted.TYPE, FeaturePropertyModified.TYPE);
+    }
+
+    @Test
+    public void convertedChangeIsNotifiedAtAddressOfEvent() {
+        final PointerBus bus = mock(PointerBus.class);
+        final AttributeModified event = AttributeModified.of(THING_ID, ATTRIBUTE_POINTER, JsonValue.of(42.0),
+                3L, Instant.EPOCH, DittoHeaders.empty(), null);
+
+        underTest.get(AttributeModified.TYPE).convertAndNotify(event, null, bus);
+
+        final ArgumentCaptor<JsonPointer> addressCaptor = ArgumentCaptor.forClass(JsonPointer.class);
+        final ArgumentCaptor<Change> changeCaptor = ArgumentCaptor.forClass(Change.class);
+        verify(bus).notify(addressCaptor.capture(), changeCaptor.capture());
+        assertThat(addressCaptor.getValue().append(JsonPointer.empty()))
+                .isEqualTo(JsonPointer.of(BusAddressFactory.forAttribute(THING_ID, ATTRIBUTE_POINTER)));
+        assertThat(changeCaptor.getValue().getAction()).isEqualTo(ChangeAction.UPDATED);
+        assertThat(changeCaptor.getValue().getRevision()).isEqualTo(3L);
+    }
+
+    @Test
+    public void eventOfUnexpectedTypeIsRejected() {
+        final ThingDeleted event = ThingDeleted.of(THING_ID, 1L, Instant.EPOCH, DittoHeaders.empty(), null);
+
+        assertThatExceptionOfType(IllegalStateException.class)
+                .isThrownBy(() -> underTest.get(AttributeModified.TYPE)
+                        .convertAndNotify(event, null, mock(PointerBus.class)));
+    }
+
+}
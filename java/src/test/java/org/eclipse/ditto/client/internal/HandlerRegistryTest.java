@@ -12,10 +12,12 @@
  */
 package org.eclipse.ditto.client.internal;
 
+import static org.assertj.core.api.Assertions.assertThat;
 import static org.junit.Assert.assertFalse;
 import static org.junit.Assert.assertTrue;
 import static org.junit.Assert.fail;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.reset;
 import static org.mockito.Mockito.times;
@@ -29,6 +31,9 @@ import org.eclipse.ditto.client.internal.bus.PointerBus;
 import org.eclipse.ditto.client.internal.bus.PointerWithData;
 import org.eclipse.ditto.client.internal.bus.Registration;
 import org.eclipse.ditto.client.registration.DuplicateRegistrationIdException;
+import org.eclipse.ditto.client.twin.TwinFeatureHandle;
+import org.eclipse.ditto.client.twin.TwinThingHandle;
+import org.eclipse.ditto.things.model.ThingId;
 import org.junit.Before;
 import org.junit.Test;
 import org.junit.runner.RunWith;
@@ -65,6 +70,11 @@ public class HandlerRegistryTest {
         new HandlerRegistry<>(null);
     }
 
+    @Test(expected = IllegalArgumentException.class)
+    public void constructorWithNonPositiveHandleCacheSize() {
+        new HandlerRegistry<>(busMock, 0);
+    }
+
     @Test
     public void registerWithNewRegistrationId() {
         // test
@@ -137,4 +147,79 @@ public class HandlerRegistryTest {
         // verify
         verify(busMock).on(selectorMock, consumerMock);
     }
+
+    @Test
+    public void thingHandleIsCreatedOnlyOnceForSameThingId() {
+        final HandlerRegistry<TwinThingHandle, TwinFeatureHandle> underTest = new HandlerRegistry<>(busMock);
+        final ThingId thingId = ThingId.of("org.eclipse.ditto.test:thing");
+        final TwinThingHandle handle = mock(TwinThingHandle.class);
+
+        final TwinThingHandle first = underTest.thingHandleForThingId(thingId, () -> handle);
+        final TwinThingHandle second = underTest.thingHandleForThingId(thingId, () -> {
+            throw new AssertionError("Handle must not be created twice");
+        });
+
+        assertThat(first).isSameAs(handle);
+        assertThat(second).isSameAs(handle);
+        assertThat(underTest.getThingHandle(thingId)).contains(handle);
+    }
+
+    @Test
+    public void leastRecentlyUsedHandlesAreEvicted() {
+        final HandlerRegistry<TwinThingHandle, TwinFeatureHandle> underTest = new HandlerRegistry<>(busMock, 2);
+        final ThingId thing1 = ThingId.of("org.eclipse.ditto.test:thing1");
+        final ThingId thing2 = ThingId.of("org.eclipse.ditto.test:thing2");
+        final ThingId thing3 = ThingId.of("org.eclipse.ditto.test:thing3");
+
+        underTest.thingHandleForThingId(thing1, () -> mock(TwinThingHandle.class));
+        underTest.thingHandleForThingId(thing2, () -> mock(TwinThingHandle.class));
+        // access thing1 again so that thing2 becomes the least recently used one
+        underTest.getThingHandle(thing1);
+        underTest.thingHandleForThingId(thing3, () -> mock(TwinThingHandle.class));
+
+        assertThat(underTest.getThingHandle(thing1)).isPresent();
+        assertThat(underTest.getThingHandle(thing2)).isEmpty();
+        assertThat(underTest.getThingHandle(thing3)).isPresent();
+    }
+
+    @Test
+    public void evictingHandlesKeepsHandlerRegistrations() {
+        final HandlerRegistry<TwinThingHandle, TwinFeatureHandle> underTest = new HandlerRegistry<>(busMock, 1);
+        underTest.register(KNOWN_REG_ID, selectorMock, consumerMock);
+
+        underTest.thingHandleForThingId(ThingId.of("org.eclipse.ditto.test:thing1"),
+                () -> mock(TwinThingHandle.class));
+        underTest.thingHandleForThingId(ThingId.of("org.eclipse.ditto.test:thing2"),
+                () -> mock(TwinThingHandle.class));
+
+        assertTrue(underTest.deregister(KNOWN_REG_ID));
+        verify(registrationMock).cancel();
+    }
+
+    @Test
+    public void handleCacheStaysBoundedWhenTouchingManyDistinctThings() {
+        final int cacheSize = 1_000;
+        final int distinctThings = 200_000;
+        final HandlerRegistry<TwinThingHandle, TwinFeatureHandle> underTest =
+                new HandlerRegistry<>(busMock, cacheSize);
+        final TwinThingHandle thingHandle = mock(TwinThingHandle.class);
+        final TwinFeatureHandle featureHandle = mock(TwinFeatureHandle.class);
+
+        for (int i = 0; i < distinctThings; i++) {
+            final ThingId thingId = ThingId.of("org.eclipse.ditto.test", "thing-" + i);
+            underTest.thingHandleForThingId(thingId, () -> thingHandle);
+            underTest.featureHandleForFeatureId(thingId, "feature", () -> featureHandle);
+
+            assertThat(underTest.getThingHandleCount()).isLessThanOrEqualTo(cacheSize);
+            assertThat(underTest.getFeatureHandleCount()).isLessThanOrEqualTo(cacheSize);
+        }
+
+        assertThat(underTest.getThingHandleCount()).isEqualTo(cacheSize);
+        assertThat(underTest.getFeatureHandleCount()).isEqualTo(cacheSize);
+        // only the most recently touched handles are retained
+        assertThat(underTest.getThingHandle(ThingId.of("org.eclipse.ditto.test", "thing-0"))).isEmpty();
+        assertThat(underTest.getThingHandle(
+                ThingId.of("org.eclipse.ditto.test", "thing-" + (distinctThings - cacheSize)))).isPresent();
+    }
+
 }
@@ -218,4 +218,68 @@ public final class OptionsToDittoHeadersTest {
                 .withNoCause();
     }
 
+    @Test
+    public void getDittoHeadersForCompiledOptionsEqualsHeadersOfSingleOptions() {
+        final Option<?>[] options = {
+                Options.headers(DittoHeaders.newBuilder().putHeader("foo", "bar").build()),
+                Options.condition(CONDITION_EXPRESSION),
+                Options.Modify.responseRequired(false),
+                Options.Modify.exists(false)
+        };
+        final DittoHeaders expectedDittoHeaders = OptionsToDittoHeaders.getDittoHeaders(SCHEMA_VERSION,
+                EnumSet.of(OptionName.Global.CONDITION, OptionName.Modify.EXISTS),
+                options);
+
+        final DittoHeaders actualDittoHeaders = OptionsToDittoHeaders.getDittoHeaders(SCHEMA_VERSION,
+                EnumSet.of(OptionName.Global.CONDITION, OptionName.Modify.EXISTS),
+                new Option<?>[]{Options.compile(options)});
+
+        DittoBaseAssertions.assertThat(actualDittoHeaders).hasCorrelationId();
+        assertThat(actualDittoHeaders.getCorrelationId()).isNotEqualTo(expectedDittoHeaders.getCorrelationId());
+        assertThat(actualDittoHeaders.toBuilder().removeHeader(DittoHeaderDefinition.CORRELATION_ID.getKey()).build())
+                .isEqualTo(expectedDittoHeaders.toBuilder()
+                        .removeHeader(DittoHeaderDefinition.CORRELATION_ID.getKey())
+                        .build());
+    }
+
+    @Test
+    public void getDittoHeadersForCompiledOptionsKeepsProvidedCorrelationId() {
+        final DittoHeaders additionalHeaders = DittoHeaders.newBuilder()
+                .correlationId(testName.getMethodName())
+                .build();
+
+        final DittoHeaders dittoHeaders = OptionsToDittoHeaders.getDittoHeaders(SCHEMA_VERSION,
+                Collections.emptySet(),
+                new Option<?>[]{Options.compile(Options.headers(additionalHeaders))});
+
+        DittoBaseAssertions.assertThat(dittoHeaders)
+                .hasCorrelationId(testName.getMethodName())
+                .hasSchemaVersion(SCHEMA_VERSION)
+                .hasIsResponseRequired(true);
+    }
+
+    @Test
+    public void getDittoHeadersForCompiledOptionsCombinedWithFurtherOption() {
+        final DittoHeaders dittoHeaders = OptionsToDittoHeaders.getDittoHeaders(SCHEMA_VERSION,
+                EnumSet.of(OptionName.Global.CONDITION, OptionName.Modify.EXISTS),
+                new Option<?>[]{Options.compile(Options.condition(CONDITION_EXPRESSION)), Options.Modify.exists(true)});
+
+        assertThat(dittoHeaders)
+                .containsEntry(DittoHeaderDefinition.CONDITION.getKey(), CONDITION_EXPRESSION)
+                .containsEntry(DittoHeaderDefinition.IF_MATCH.getKey(), "*");
+    }
+
+    @Test
+    public void getDittoHeadersForDisallowedCompiledOption() {
+        assertThatIllegalArgumentException()
+                .isThrownBy(() -> OptionsToDittoHeaders.getDittoHeaders(SCHEMA_VERSION,
+                        Collections.emptySet(),
+                        new Option[]{Options.compile(Options.condition(CONDITION_EXPRESSION))}))
+                .withMessage("Option '%s' is not allowed. This operation only allows [%s, %s].",
+                        OptionName.Global.CONDITION,
+                        OptionName.Global.DITTO_HEADERS,
+                        OptionName.Modify.RESPONSE_REQUIRED)
+                .withNoCause();
+    }
+
 }
\ No newline at end of file
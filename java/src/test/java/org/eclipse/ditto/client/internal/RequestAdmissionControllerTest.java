@@ -0,0 +1,194 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.ditto.client.internal;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.eclipse.ditto.client.configuration.RequestAdmissionConfiguration;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+/**
+ * Tests {@link RequestAdmissionController}.
+ */
+public final class RequestAdmissionControllerTest {
+
+    private ScheduledExecutorService scheduledExecutor;
+    private AtomicLong nanoClock;
+    private List<CompletableFuture<String>> sentRequests;
+
+    @Before
+    public void setUp() {
+        scheduledExecutor = Executors.newSingleThreadScheduledExecutor();
+        nanoClock = new AtomicLong();
+        sentRequests = new CopyOnWriteArrayList<>();
+    }
+
+    @After
+    public void tearDown() {
+        scheduledExecutor.shutdownNow();
+    }
+
+    @Test
+    public void unlimitedControllerSendsImmediately() {
+        final CompletionStage<String> result = RequestAdmissionController.unlimited().admit(this::send);
+
+        assertThat(sentRequests).hasSize(1);
+        assertThat(result).isSameAs(sentRequests.get(0));
+    }
+
+    @Test
+    public void requestsExceedingInFlightLimitAreAdmittedInFifoOrder() {
+        final RequestAdmissionController underTest = controller(RequestAdmissionConfiguration.newBuilder()
+                .maxInFlightRequests(1));
+
+        final CompletableFuture<String> first = underTest.admit(this::send).toCompletableFuture();
+        final CompletableFuture<String> second = underTest.admit(this::send).toCompletableFuture();
+        final CompletableFuture<String> third = underTest.admit(this::send).toCompletableFuture();
+
+        assertThat(sentRequests).hasSize(1);
+        assertThat(underTest.getInFlightRequests()).isEqualTo(1);
+        assertThat(underTest.getQueuedRequests()).isEqualTo(2);
+
+        sentRequests.get(0).complete("first");
+        assertThat(first).isCompletedWithValue("first");
+        assertThat(sentRequests).hasSize(2);
+
+        sentRequests.get(1).complete("second");
+        assertThat(second).isCompletedWithValue("second");
+        sentRequests.get(2).complete("third");
+        assertThat(third).isCompletedWithValue("third");
+
+        assertThat(underTest.getAdmittedRequests()).isEqualTo(3);
+        assertThat(underTest.getInFlightRequests()).isZero();
+        assertThat(underTest.getQueuedRequests()).isZero();
+    }
+
+    @Test
+    public void failedResponseReleasesInFlightSlot() {
+        final RequestAdmissionController underTest = controller(RequestAdmissionConfiguration.newBuilder()
+                .maxInFlightRequests(1));
+        final IllegalStateException error = new IllegalStateException("expected");
+
+        final CompletableFuture<String> first = underTest.admit(this::send).toCompletableFuture();
+        underTest.admit(this::send);
+        sentRequests.get(0).completeExceptionally(error);
+
+        assertThat(first).isCompletedExceptionally();
+        assertThat(sentRequests).hasSize(2);
+    }
+
+    @Test
+    public void requestIsRejectedWhenQueueIsFull() {
+        final RequestAdmissionController underTest = controller(RequestAdmissionConfiguration.newBuilder()
+                .maxInFlightRequests(1)
+                .maxQueuedRequests(1));
+
+        underTest.admit(this::send);
+        underTest.admit(this::send);
+        final CompletableFuture<String> rejected = underTest.admit(this::send).toCompletableFuture();
+
+        assertThat(rejected).isCompletedExceptionally();
+        assertThat(rejected.handle((value, error) -> error).join()).isInstanceOf(RejectedExecutionException.class);
+        assertThat(underTest.getRejectedRequests()).isEqualTo(1);
+        assertThat(sentRequests).hasSize(1);
+    }
+
+    @Test
+    public void queuedRequestFailsWhenNotAdmittedBeforeDeadline() throws Exception {
+        final RequestAdmissionController underTest = controller(RequestAdmissionConfiguration.newBuilder()
+                .maxInFlightRequests(1)
+                .maxQueueWait(Duration.ofMillis(10L)));
+
+        underTest.admit(this::send);
+        final CompletableFuture<String> queued = underTest.admit(this::send).toCompletableFuture();
+
+        final Throwable error = queued.handle((value, e) -> e).get(5L, TimeUnit.SECONDS);
+        assertThat(error).isInstanceOf(TimeoutException.class);
+        assertThat(underTest.getTimedOutRequests()).isEqualTo(1);
+        assertThat(underTest.getQueuedRequests()).isZero();
+
+        sentRequests.get(0).complete("first");
+        assertThat(sentRequests).hasSize(1);
+    }
+
+    @Test
+    public void requestsExceedingRateWaitForTokens() throws Exception {
+        final RequestAdmissionController underTest = controller(RequestAdmissionConfiguration.newBuilder()
+                .maxRequestsPerSecond(2));
+
+        underTest.admit(this::send);
+        underTest.admit(this::send);
+        final CompletableFuture<String> third = underTest.admit(this::send).toCompletableFuture();
+        assertThat(sentRequests).hasSize(2);
+        assertThat(underTest.getQueuedRequests()).isEqualTo(1);
+
+        nanoClock.addAndGet(TimeUnit.MILLISECONDS.toNanos(500L));
+        final long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5L);
+        while (sentRequests.size() < 3 && System.nanoTime() < deadline) {
+            TimeUnit.MILLISECONDS.sleep(10L);
+        }
+
+        assertThat(sentRequests).hasSize(3);
+        sentRequests.get(2).complete("third");
+        assertThat(third).isCompletedWithValue("third");
+    }
+
+    @Test
+    public void completingQueuedRequestRemovesItWithoutSending() {
+        final RequestAdmissionController underTest = controller(RequestAdmissionConfiguration.newBuilder()
+                .maxInFlightRequests(1));
+
+        underTest.admit(this::send);
+        underTest.admit(this::send).toCompletableFuture().cancel(false);
+        sentRequests.get(0).complete("first");
+
+        assertThat(sentRequests).hasSize(1);
+        assertThat(underTest.getQueuedRequests()).isZero();
+    }
+
+    @Test
+    public void cancellingAdmittedRequestCancelsResponseAndReleasesInFlightSlot() {
+        final RequestAdmissionController underTest = controller(RequestAdmissionConfiguration.newBuilder()
+                .maxInFlightRequests(1));
+
+        underTest.admit(this::send).toCompletableFuture().cancel(false);
+
+        assertThat(sentRequests.get(0)).isCancelled();
+        assertThat(underTest.getInFlightRequests()).isZero();
+    }
+
+    private RequestAdmissionController controller(final RequestAdmissionConfiguration.Builder builder) {
+        return new RequestAdmissionController(builder.build(), scheduledExecutor, nanoClock::get);
+    }
+
+    private CompletionStage<String> send() {
+        final CompletableFuture<String> response = new CompletableFuture<>();
+        sentRequests.add(response);
+        return response;
+    }
+
+}
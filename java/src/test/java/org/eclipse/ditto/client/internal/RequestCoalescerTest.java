@@ -0,0 +1,114 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.ditto.client.internal;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionStage;
+
+import org.junit.Before;
+import org.junit.Test;
+
+/**
+ * Tests {@link RequestCoalescer}.
+ */
+public final class RequestCoalescerTest {
+
+    private static final String KEY = "thing:1";
+
+    private List<CompletableFuture<String>> sentRequests;
+
+    @Before
+    public void setUp() {
+        sentRequests = new ArrayList<>();
+    }
+
+    @Test
+    public void requestsWithEqualKeyJoinInFlightRequest() {
+        final RequestCoalescer underTest = RequestCoalescer.newInstance();
+
+        final CompletableFuture<String> first = underTest.coalesce(KEY, this::send).toCompletableFuture();
+        final CompletableFuture<String> second = underTest.coalesce(KEY, this::send).toCompletableFuture();
+        final CompletableFuture<String> other = underTest.coalesce("thing:2", this::send).toCompletableFuture();
+
+        assertThat(sentRequests).hasSize(2);
+        sentRequests.get(0).complete("response");
+
+        assertThat(first).isCompletedWithValue("response");
+        assertThat(second).isCompletedWithValue("response");
+        assertThat(other).isNotDone();
+        assertThat(underTest.getSentRequests()).isEqualTo(2L);
+        assertThat(underTest.getCoalescedRequests()).isEqualTo(1L);
+        assertThat(underTest.getCoalescingRate()).isEqualTo(1.0 / 3);
+    }
+
+    @Test
+    public void requestAfterResponseIsSentAgain() {
+        final RequestCoalescer underTest = RequestCoalescer.newInstance();
+
+        underTest.coalesce(KEY, this::send);
+        sentRequests.get(0).complete("first");
+        final CompletableFuture<String> second = underTest.coalesce(KEY, this::send).toCompletableFuture();
+
+        assertThat(sentRequests).hasSize(2);
+        sentRequests.get(1).complete("second");
+        assertThat(second).isCompletedWithValue("second");
+    }
+
+    @Test
+    public void failureIsPropagatedToAllJoinedRequests() {
+        final RequestCoalescer underTest = RequestCoalescer.newInstance();
+        final IllegalStateException error = new IllegalStateException("expected");
+
+        final CompletableFuture<String> first = underTest.coalesce(KEY, this::send).toCompletableFuture();
+        final CompletableFuture<String> second = underTest.coalesce(KEY, this::send).toCompletableFuture();
+        sentRequests.get(0).completeExceptionally(error);
+
+        assertThat(first).hasFailedWithThrowableThat().isSameAs(error);
+        assertThat(second).hasFailedWithThrowableThat().isSameAs(error);
+    }
+
+    @Test
+    public void cancellingOneJoinedRequestDoesNotAffectOthers() {
+        final RequestCoalescer underTest = RequestCoalescer.newInstance();
+
+        final CompletableFuture<String> first = underTest.coalesce(KEY, this::send).toCompletableFuture();
+        final CompletableFuture<String> second = underTest.coalesce(KEY, this::send).toCompletableFuture();
+        first.cancel(false);
+        sentRequests.get(0).complete("response");
+
+        assertThat(second).isCompletedWithValue("response");
+    }
+
+    @Test
+    public void disabledCoalescerSendsEveryRequest() {
+        final RequestCoalescer underTest = RequestCoalescer.disabled();
+
+        final CompletionStage<String> first = underTest.coalesce(KEY, this::send);
+        underTest.coalesce(KEY, this::send);
+
+        assertThat(sentRequests).hasSize(2);
+        assertThat(first).isSameAs(sentRequests.get(0));
+        assertThat(underTest.getCoalescingRate()).isZero();
+    }
+
+    private CompletionStage<String> send() {
+        final CompletableFuture<String> response = new CompletableFuture<>();
+        sentRequests.add(response);
+        return response;
+    }
+
+}
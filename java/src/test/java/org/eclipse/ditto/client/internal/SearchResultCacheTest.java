@@ -0,0 +1,232 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.ditto.client.internal;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatExceptionOfType;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.stream.Stream;
+
+import org.eclipse.ditto.client.configuration.SearchResultCacheConfiguration;
+import org.eclipse.ditto.json.JsonArray;
+import org.eclipse.ditto.json.JsonObject;
+import org.eclipse.ditto.things.model.ThingId;
+import org.junit.Before;
+import org.junit.Test;
+
+/**
+ * Tests {@link SearchResultCache}.
+ */
+public final class SearchResultCacheTest {
+
+    private static final Duration TIME_TO_LIVE = Duration.ofSeconds(10L);
+    private static final ThingId THING_ID = ThingId.of("namespace:thing");
+
+    private AtomicLong clock;
+    private List<CompletableFuture<List<JsonArray>>> searches;
+    private SearchResultCache underTest;
+
+    @Before
+    public void setUp() {
+        clock = new AtomicLong(0L);
+        searches = new ArrayList<>();
+        underTest = newCache(1024L * 1024L);
+    }
+
+    @Test
+    public void identicalQueriesJoinInFlightSearch() {
+        final CompletableFuture<List<JsonArray>> first = underTest.get("query", this::search).toCompletableFuture();
+        final CompletableFuture<List<JsonArray>> second = underTest.get("query", this::search).toCompletableFuture();
+        final CompletableFuture<List<JsonArray>> other = underTest.get("other", this::search).toCompletableFuture();
+
+        assertThat(searches).hasSize(2);
+        final List<JsonArray> pages = pagesOf(THING_ID);
+        searches.get(0).complete(pages);
+
+        assertThat(first).isCompletedWithValue(pages);
+        assertThat(second).isCompletedWithValue(pages);
+        assertThat(other).isNotDone();
+        assertThat(underTest.getMisses()).isEqualTo(2L);
+        assertThat(underTest.getHits()).isEqualTo(1L);
+    }
+
+    @Test
+    public void resultsExpireAfterTimeToLive() {
+        final List<JsonArray> pages = pagesOf(THING_ID);
+        underTest.get("query", this::search);
+        searches.get(0).complete(pages);
+
+        clock.addAndGet(TIME_TO_LIVE.toNanos() - 1L);
+        assertThat(underTest.get("query", this::search).toCompletableFuture()).isCompletedWithValue(pages);
+        assertThat(searches).hasSize(1);
+
+        clock.incrementAndGet();
+        assertThat(underTest.get("query", this::search).toCompletableFuture()).isNotDone();
+        assertThat(searches).hasSize(2);
+        assertThat(underTest.getHits()).isEqualTo(1L);
+        assertThat(underTest.getMisses()).isEqualTo(2L);
+    }
+
+    @Test
+    public void twinEventDropsResultsContainingTheThing() {
+        underTest.get("query", this::search);
+        underTest.get("other", this::search);
+        searches.get(0).complete(pagesOf(THING_ID));
+        searches.get(1).complete(pagesOf(ThingId.of("namespace:other")));
+
+        underTest.invalidate(THING_ID);
+
+        underTest.get("query", this::search);
+        underTest.get("other", this::search);
+        assertThat(searches).hasSize(3);
+    }
+
+    @Test
+    public void twinEventDropsResultsWithoutThingIds() {
+        underTest.get("query", this::search);
+        searches.get(0).complete(Collections.singletonList(JsonArray.of(JsonObject.newBuilder()
+                .set("attributes", JsonObject.newBuilder().set("x", 1).build())
+                .build())));
+
+        underTest.invalidate(ThingId.of("namespace:unrelated"));
+
+        underTest.get("query", this::search);
+        assertThat(searches).hasSize(2);
+    }
+
+    @Test
+    public void resultsOfSearchInFlightDuringTwinEventAreNotCached() {
+        final CompletableFuture<List<JsonArray>> result = underTest.get("query", this::search).toCompletableFuture();
+        underTest.invalidate(ThingId.of("namespace:unrelated"));
+        final List<JsonArray> pages = pagesOf(THING_ID);
+        searches.get(0).complete(pages);
+
+        assertThat(result).isCompletedWithValue(pages);
+        assertThat(underTest.getBytes()).isZero();
+        underTest.get("query", this::search);
+        assertThat(searches).hasSize(2);
+    }
+
+    @Test
+    public void leastRecentlyUsedResultsAreEvicted() {
+        final List<JsonArray> pages = pagesOf(THING_ID);
+        final long pageBytes = pages.get(0).getUpperBoundForStringSize();
+        underTest = newCache(2 * pageBytes);
+
+        underTest.get("first", this::search);
+        searches.get(0).complete(pages);
+        underTest.get("second", this::search);
+        searches.get(1).complete(pages);
+        // use the first result so that the second one is least recently used
+        underTest.get("first", this::search);
+        underTest.get("third", this::search);
+        searches.get(2).complete(pages);
+
+        assertThat(underTest.getBytes()).isEqualTo(2 * pageBytes);
+        underTest.get("first", this::search);
+        underTest.get("third", this::search);
+        assertThat(searches).hasSize(3);
+        underTest.get("second", this::search);
+        assertThat(searches).hasSize(4);
+    }
+
+    @Test
+    public void resultsLargerThanMaxBytesAreNotCached() {
+        final List<JsonArray> pages = pagesOf(THING_ID);
+        underTest = newCache(pages.get(0).getUpperBoundForStringSize() - 1L);
+
+        underTest.get("query", this::search);
+        searches.get(0).complete(pages);
+
+        assertThat(underTest.getBytes()).isZero();
+        underTest.get("query", this::search);
+        assertThat(searches).hasSize(2);
+    }
+
+    @Test
+    public void pagesCollectorStopsAtMaxBytes() {
+        final JsonArray page = pagesOf(THING_ID).get(0);
+        underTest = newCache(2 * page.getUpperBoundForStringSize());
+
+        assertThat(Stream.of(page, page).collect(underTest.newPagesCollector())).containsExactly(page, page);
+        assertThatExceptionOfType(SearchResultCache.ResultTooLargeException.class)
+                .isThrownBy(() -> Stream.of(page, page, page).collect(underTest.newPagesCollector()));
+    }
+
+    @Test
+    public void queriesWithTooLargeResultsBypassTheCacheUntilTimeToLive() {
+        final CompletableFuture<List<JsonArray>> result = underTest.get("query", this::search).toCompletableFuture();
+        final CompletableFuture<List<JsonArray>> joined = underTest.get("query", this::search).toCompletableFuture();
+        searches.get(0).completeExceptionally(new SearchResultCache.ResultTooLargeException(1L));
+
+        assertThat(result).isCompletedExceptionally();
+        assertThat(joined).isCompletedExceptionally();
+        assertThat(underTest.isTooLarge("query")).isTrue();
+        assertThat(underTest.isTooLarge("other")).isFalse();
+
+        clock.addAndGet(TIME_TO_LIVE.toNanos());
+        assertThat(underTest.isTooLarge("query")).isFalse();
+    }
+
+    @Test
+    public void failedSearchesAreNotCached() {
+        final CompletableFuture<List<JsonArray>> result = underTest.get("query", this::search).toCompletableFuture();
+        searches.get(0).completeExceptionally(new IllegalStateException("expected"));
+
+        assertThat(result).isCompletedExceptionally();
+        assertThat(underTest.isTooLarge("query")).isFalse();
+        underTest.get("query", this::search);
+        assertThat(searches).hasSize(2);
+    }
+
+    @Test
+    public void disabledCacheStartsEverySearch() {
+        final SearchResultCache disabled = SearchResultCache.disabled();
+
+        disabled.get("query", this::search);
+        searches.get(0).complete(pagesOf(THING_ID));
+        disabled.get("query", this::search);
+
+        assertThat(disabled.isEnabled()).isFalse();
+        assertThat(searches).hasSize(2);
+        assertThat(disabled.getHits()).isZero();
+        assertThat(disabled.getMisses()).isZero();
+    }
+
+    private SearchResultCache newCache(final long maxBytes) {
+        return SearchResultCache.of(SearchResultCacheConfiguration.newBuilder()
+                .timeToLive(TIME_TO_LIVE)
+                .maxBytes(maxBytes)
+                .build(), clock::get);
+    }
+
+    private CompletionStage<List<JsonArray>> search() {
+        final CompletableFuture<List<JsonArray>> search = new CompletableFuture<>();
+        searches.add(search);
+        return search;
+    }
+
+    private static List<JsonArray> pagesOf(final ThingId thingId) {
+        return Collections.singletonList(JsonArray.of(JsonObject.newBuilder()
+                .set("thingId", thingId.toString())
+                .build()));
+    }
+
+}
@@ -0,0 +1,103 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.ditto.client.internal.bus;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+import org.eclipse.ditto.protocol.Adaptable;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+/**
+ * Tests {@link DefaultAdaptableBus}.
+ */
+public final class DefaultAdaptableBusTest {
+
+    private static final Duration TIMEOUT = Duration.ofSeconds(60L);
+
+    private ExecutorService executor;
+    private ScheduledExecutorService scheduledExecutor;
+    private DefaultAdaptableBus underTest;
+
+    @Before
+    public void setUp() {
+        executor = Executors.newSingleThreadExecutor();
+        scheduledExecutor = Executors.newSingleThreadScheduledExecutor();
+        underTest = (DefaultAdaptableBus) BusFactory.createAdaptableBus(executor, scheduledExecutor);
+    }
+
+    @After
+    public void tearDown() {
+        underTest.shutdownExecutors();
+    }
+
+    @Test
+    public void cancellingSubscriptionsReleasesConsumersAndTimeouts() {
+        final List<CompletableFuture<Adaptable>> subscriptions = new ArrayList<>();
+        for (int i = 0; i < 1000; i++) {
+            subscriptions.add(underTest.subscribeOnceForAdaptable(Classification.forCorrelationId("correlation-" + i),
+                    TIMEOUT).toCompletableFuture());
+        }
+        assertThat(underTest.getOneTimeSubscriptionCount()).isEqualTo(1000);
+        assertThat(underTest.getScheduledTimeoutCount()).isEqualTo(1000);
+
+        subscriptions.forEach(subscription -> subscription.cancel(false));
+
+        assertThat(underTest.getOneTimeSubscriptionCount()).isZero();
+        assertThat(underTest.getScheduledTimeoutCount()).isZero();
+    }
+
+    @Test
+    public void receivedMessageReleasesTimeout() throws Exception {
+        final CompletableFuture<String> subscription =
+                underTest.subscribeOnceForString(Classification.forString("hello"), TIMEOUT).toCompletableFuture();
+
+        underTest.publish("hello");
+
+        assertThat(subscription.get(5L, TimeUnit.SECONDS)).isEqualTo("hello");
+        awaitReleased();
+    }
+
+    @Test
+    public void timeoutFailsSubscriptionAndReleasesIt() throws Exception {
+        final CompletableFuture<String> subscription = underTest.subscribeOnceForString(
+                Classification.forString("hello"), Duration.ofMillis(10L)).toCompletableFuture();
+
+        final Throwable error = subscription.handle((value, e) -> e).get(5L, TimeUnit.SECONDS);
+
+        assertThat(error).isInstanceOf(TimeoutException.class);
+        awaitReleased();
+    }
+
+    private void awaitReleased() throws InterruptedException {
+        final long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5L);
+        while ((underTest.getOneTimeSubscriptionCount() > 0 || underTest.getScheduledTimeoutCount() > 0) &&
+                System.nanoTime() < deadline) {
+            TimeUnit.MILLISECONDS.sleep(10L);
+        }
+        assertThat(underTest.getOneTimeSubscriptionCount()).isZero();
+        assertThat(underTest.getScheduledTimeoutCount()).isZero();
+    }
+
+}
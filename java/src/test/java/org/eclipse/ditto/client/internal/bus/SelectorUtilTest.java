@@ -13,9 +13,34 @@
 package org.eclipse.ditto.client.internal.bus;
 
 import static org.assertj.core.api.Assertions.assertThat;
-
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.util.Optional;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+import org.eclipse.ditto.base.model.headers.DittoHeaders;
+import org.eclipse.ditto.base.model.json.JsonSchemaVersion;
+import org.eclipse.ditto.client.changes.Change;
+import org.eclipse.ditto.client.changes.ChangeAction;
+import org.eclipse.ditto.client.changes.ThingChange;
+import org.eclipse.ditto.client.changes.internal.ImmutableThingChange;
+import org.eclipse.ditto.client.internal.HandlerRegistry;
+import org.eclipse.ditto.json.JsonObject;
 import org.eclipse.ditto.json.JsonPointer;
+import org.eclipse.ditto.json.JsonValue;
+import org.eclipse.ditto.things.model.Thing;
+import org.eclipse.ditto.things.model.ThingId;
 import org.junit.Test;
+import org.mockito.ArgumentCaptor;
+import org.slf4j.LoggerFactory;
 
 /**
  * Tests functionality of {@link SelectorUtil}.
@@ -104,4 +129,73 @@ public final class SelectorUtilTest {
         assertThat(orSelector.matches(JsonPointer.of("sel"))).isFalse();
     }
 
+    @Test
+    public void notifyChangeCalculatesChangePathsOfObjectValue() {
+        final JsonObject value = JsonObject.of("{\"foo\":{\"sub\":1,\"misc\":\"hello\"},\"bar\":{\"other\":false}}");
+        final JsonPointerWithChangePaths pointer = notifyChangeWithValue(value);
+
+        assertThat(pointer.getTargetPath()).isEqualTo(JsonPointer.of("/things/org.eclipse.ditto:thing/attributes"));
+        assertThat(pointer.getChangePaths()).containsExactly(
+                JsonPointer.of("/foo"),
+                JsonPointer.of("/foo/sub"),
+                JsonPointer.of("/foo/misc"),
+                JsonPointer.of("/bar"),
+                JsonPointer.of("/bar/other"));
+    }
+
+    @Test
+    public void notifyChangeUsesRootChangePathForNonObjectValue() {
+        final JsonPointerWithChangePaths pointer = notifyChangeWithValue(JsonValue.of(42));
+
+        assertThat(pointer.getChangePaths()).containsExactly(JsonPointer.empty());
+    }
+
+    @Test
+    public void notifyChangeDoesNotReadValueForHandlersOfChangedEntity() throws Exception {
+        final ThingId thingId = ThingId.of("org.eclipse.ditto:thing");
+        final Thing thing = mock(Thing.class);
+        when(thing.getImplementedSchemaVersion()).thenReturn(JsonSchemaVersion.V_2);
+        when(thing.toJson(JsonSchemaVersion.V_2)).thenReturn(JsonObject.empty());
+        final ExecutorService executor = Executors.newSingleThreadExecutor();
+        try {
+            final PointerBus bus = BusFactory.createPointerBus("test", executor);
+            final HandlerRegistry<?, ?> handlerRegistry = new HandlerRegistry<>(bus);
+            final CountDownLatch latch = new CountDownLatch(1);
+            SelectorUtil.registerForChanges(handlerRegistry, "metadata",
+                    JsonPointerSelectors.jsonPointer("/things/{thingId}"), ThingChange.class,
+                    change -> {
+                        if (change.getRevision() == 7L) {
+                            latch.countDown();
+                        }
+                    }, (change, value, path, params) -> new ImmutableThingChange(change, null));
+            // handlers of nested paths of other things do not need the change paths either
+            SelectorUtil.registerForChanges(handlerRegistry, "other",
+                    JsonPointerSelectors.jsonPointer("/things/org.eclipse.ditto:other/attributes/foo"),
+                    Change.class, change -> {}, (change, value, path, params) -> change);
+
+            SelectorUtil.notifyChange(LoggerFactory.getLogger(SelectorUtilTest.class), bus,
+                    "/things/" + thingId, new ImmutableThingChange(thingId, ChangeAction.UPDATED, thing, 7L,
+                            null, null, DittoHeaders.empty(), acknowledgement -> {}));
+
+            assertThat(latch.await(10L, TimeUnit.SECONDS)).isTrue();
+            verify(thing, never()).toJson(any(JsonSchemaVersion.class));
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    private static JsonPointerWithChangePaths notifyChangeWithValue(final JsonValue value) {
+        final PointerBus bus = mock(PointerBus.class);
+        final Change change = mock(Change.class);
+        when(change.getValue()).thenReturn(Optional.of(value));
+
+        SelectorUtil.notifyChange(LoggerFactory.getLogger(SelectorUtilTest.class), bus,
+                "/things/org.eclipse.ditto:thing/attributes", change);
+
+        final ArgumentCaptor<JsonPointer> pointerCaptor = ArgumentCaptor.forClass(JsonPointer.class);
+        verify(bus).notify(pointerCaptor.capture(), eq(change));
+        assertThat(pointerCaptor.getValue()).isInstanceOf(JsonPointerWithChangePaths.class);
+        return (JsonPointerWithChangePaths) pointerCaptor.getValue();
+    }
+
 }
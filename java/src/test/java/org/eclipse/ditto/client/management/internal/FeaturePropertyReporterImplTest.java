@@ -0,0 +1,159 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.ditto.client.management.internal;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.time.Duration;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
+
+import org.eclipse.ditto.client.management.FeaturePropertiesManagement;
+import org.eclipse.ditto.client.management.ReportingPolicy;
+import org.eclipse.ditto.json.JsonPointer;
+import org.eclipse.ditto.json.JsonValue;
+import org.junit.Before;
+import org.junit.Test;
+import org.mockito.Mockito;
+
+/**
+ * Tests {@link FeaturePropertyReporterImpl}.
+ */
+public final class FeaturePropertyReporterImplTest {
+
+    private static final JsonPointer TEMPERATURE = JsonPointer.of("temperature");
+    private static final JsonPointer STATUS = JsonPointer.of("status");
+
+    private final AtomicLong nanoTime = new AtomicLong();
+    private final List<JsonValue> sentValues = new CopyOnWriteArrayList<>();
+    private final AtomicReference<CompletableFuture<Void>> putResult = new AtomicReference<>();
+
+    private FeaturePropertiesManagement feature;
+
+    @Before
+    public void setUp() {
+        putResult.set(CompletableFuture.completedFuture(null));
+        feature = Mockito.mock(FeaturePropertiesManagement.class, invocation -> {
+            sentValues.add(invocation.getArgument(1));
+            return putResult.get();
+        });
+    }
+
+    @Test
+    public void onChangeSuppressesEqualValues() {
+        final FeaturePropertyReporterImpl underTest = newReporter(ReportingPolicy.onChange());
+
+        underTest.report(STATUS, JsonValue.of("on"));
+        underTest.report(STATUS, JsonValue.of("on"));
+        underTest.report(STATUS, JsonValue.of("off"));
+
+        assertThat(sentValues).containsExactly(JsonValue.of("on"), JsonValue.of("off"));
+        assertThat(underTest.getSentCount()).isEqualTo(2L);
+        assertThat(underTest.getSuppressedCount()).isEqualTo(1L);
+    }
+
+    @Test
+    public void absoluteDeadbandIsAppliedToLastSentValue() {
+        final FeaturePropertyReporterImpl underTest =
+                newReporter(ReportingPolicy.newBuilder().absoluteDeadband(0.5).build());
+
+        underTest.report(TEMPERATURE, JsonValue.of(20.0));
+        underTest.report(TEMPERATURE, JsonValue.of(20.3));
+        underTest.report(TEMPERATURE, JsonValue.of(20.5));
+        underTest.report(TEMPERATURE, JsonValue.of(20.6));
+
+        assertThat(sentValues).containsExactly(JsonValue.of(20.0), JsonValue.of(20.6));
+        assertThat(underTest.getSuppressedCount()).isEqualTo(2L);
+    }
+
+    @Test
+    public void relativeDeadbandIsAppliedToLastSentValue() {
+        final FeaturePropertyReporterImpl underTest =
+                newReporter(ReportingPolicy.newBuilder().relativeDeadband(0.1).build());
+
+        underTest.report(TEMPERATURE, JsonValue.of(100));
+        underTest.report(TEMPERATURE, JsonValue.of(109));
+        underTest.report(TEMPERATURE, JsonValue.of(89));
+
+        assertThat(sentValues).containsExactly(JsonValue.of(100), JsonValue.of(89));
+    }
+
+    @Test
+    public void minIntervalSuppressesChangedValues() {
+        final FeaturePropertyReporterImpl underTest =
+                newReporter(ReportingPolicy.newBuilder().minInterval(Duration.ofSeconds(1L)).build());
+
+        underTest.report(TEMPERATURE, JsonValue.of(1));
+        nanoTime.addAndGet(Duration.ofMillis(500L).toNanos());
+        underTest.report(TEMPERATURE, JsonValue.of(2));
+        nanoTime.addAndGet(Duration.ofMillis(500L).toNanos());
+        underTest.report(TEMPERATURE, JsonValue.of(3));
+
+        assertThat(sentValues).containsExactly(JsonValue.of(1), JsonValue.of(3));
+    }
+
+    @Test
+    public void maxStalenessSendsUnchangedValues() {
+        final FeaturePropertyReporterImpl underTest = newReporter(ReportingPolicy.newBuilder()
+                .absoluteDeadband(1.0)
+                .maxStaleness(Duration.ofMinutes(1L))
+                .build());
+
+        underTest.report(TEMPERATURE, JsonValue.of(20));
+        nanoTime.addAndGet(Duration.ofSeconds(59L).toNanos());
+        underTest.report(TEMPERATURE, JsonValue.of(20));
+        nanoTime.addAndGet(Duration.ofSeconds(1L).toNanos());
+        underTest.report(TEMPERATURE, JsonValue.of(20));
+
+        assertThat(sentValues).containsExactly(JsonValue.of(20), JsonValue.of(20));
+    }
+
+    @Test
+    public void propertyPolicyOverridesDefaultPolicy() {
+        final FeaturePropertyReporterImpl underTest = new FeaturePropertyReporterImpl(feature,
+                ReportingPolicy.onChange(),
+                Collections.singletonMap(TEMPERATURE, ReportingPolicy.newBuilder().absoluteDeadband(1.0).build()),
+                nanoTime::get);
+
+        underTest.report(TEMPERATURE, JsonValue.of(20));
+        underTest.report(TEMPERATURE, JsonValue.of(21));
+        underTest.report(STATUS, JsonValue.of(20));
+        underTest.report(STATUS, JsonValue.of(21));
+
+        assertThat(sentValues).containsExactly(JsonValue.of(20), JsonValue.of(20), JsonValue.of(21));
+    }
+
+    @Test
+    public void failedValueIsSentAgain() {
+        final FeaturePropertyReporterImpl underTest = newReporter(ReportingPolicy.onChange());
+        final CompletableFuture<Void> failedResult = new CompletableFuture<>();
+        failedResult.completeExceptionally(new IllegalStateException("expected"));
+        putResult.set(failedResult);
+
+        underTest.report(STATUS, JsonValue.of("on"));
+        putResult.set(CompletableFuture.completedFuture(null));
+        underTest.report(STATUS, JsonValue.of("on"));
+
+        assertThat(sentValues).containsExactly(JsonValue.of("on"), JsonValue.of("on"));
+        assertThat(underTest.getSuppressedCount()).isZero();
+    }
+
+    private FeaturePropertyReporterImpl newReporter(final ReportingPolicy policy) {
+        return new FeaturePropertyReporterImpl(feature, policy, Collections.emptyMap(), nanoTime::get);
+    }
+
+}
@@ -17,6 +17,7 @@ import static org.mutabilitydetector.unittesting.MutabilityMatchers.areImmutable
 
 import org.assertj.core.api.Assertions;
 import org.assertj.core.api.JUnitSoftAssertions;
+import org.eclipse.ditto.policies.model.PolicyId;
 import org.junit.Rule;
 import org.junit.Test;
 
@@ -67,4 +68,31 @@ public final class OptionsTest {
         softly.assertThat(option.getValue()).as("option value").isEqualTo(liveChannelConditionExpression);
     }
 
+    @Test
+    public void compileOptionWhichDoesNotOnlyContributeHeadersThrowsException() {
+        Assertions.assertThatIllegalArgumentException()
+                .isThrownBy(() -> Options.compile(Options.condition("exists(attributes/foo)"),
+                        Options.Modify.copyPolicy(PolicyId.of("foo:policy"))))
+                .withMessageStartingWith("Option '%s' can not be compiled.", OptionName.Modify.COPY_POLICY)
+                .withNoCause();
+    }
+
+    @Test
+    public void compileOptionsWithSameNameButDifferentValueThrowsException() {
+        Assertions.assertThatIllegalArgumentException()
+                .isThrownBy(() -> Options.compile(Options.Modify.exists(true), Options.Modify.exists(false)));
+    }
+
+    @Test
+    public void compileValidOptionsReturnsExpected() {
+        final Option<?>[] options = {Options.Modify.responseRequired(false), Options.Modify.exists(true)};
+
+        final CompiledOptions compiledOptions = Options.compile(options);
+
+        softly.assertThat(compiledOptions.getName()).as("option name").isEqualTo(OptionName.Global.COMPILED_OPTIONS);
+        softly.assertThat(compiledOptions.getOptions()).as("options").containsExactly(options);
+        softly.assertThat(compiledOptions.getValue().isResponseRequired()).as("response required").isFalse();
+        softly.assertThat(compiledOptions.getValue().getIfMatch()).as("if-match").isPresent();
+    }
+
 }
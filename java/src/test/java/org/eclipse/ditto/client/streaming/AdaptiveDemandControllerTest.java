@@ -0,0 +1,117 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.ditto.client.streaming;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatIllegalArgumentException;
+
+import java.time.Duration;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.junit.Before;
+import org.junit.Test;
+
+/**
+ * Tests {@link AdaptiveDemandController}.
+ */
+public final class AdaptiveDemandControllerTest {
+
+    private static final long MILLIS = TimeUnit.MILLISECONDS.toNanos(1L);
+
+    private AtomicLong nanoClock;
+
+    @Before
+    public void setUp() {
+        nanoClock = new AtomicLong();
+    }
+
+    @Test
+    public void requestsMinimumDemandWithoutMeasurements() {
+        final AdaptiveDemandController underTest = controller(2, 8);
+
+        assertThat(underTest.onSubscribe()).isEqualTo(2);
+        assertThat(underTest.getTargetDemand()).isEqualTo(2);
+        assertThat(underTest.getOutstandingDemand()).isEqualTo(2);
+        assertThat(underTest.getRoundTripTime()).isEmpty();
+        assertThat(underTest.getProcessingTime()).isEmpty();
+    }
+
+    @Test
+    public void fastConsumerOfSlowPagesRaisesDemandUpToMaximum() {
+        final AdaptiveDemandController underTest = controller(1, 8);
+        underTest.onSubscribe();
+
+        nanoClock.addAndGet(100 * MILLIS);
+        underTest.onElement();
+        final int requested = underTest.onConsumed(10 * MILLIS);
+
+        assertThat(underTest.getRoundTripTime()).contains(Duration.ofMillis(100L));
+        assertThat(underTest.getProcessingTime()).contains(Duration.ofMillis(10L));
+        assertThat(underTest.getTargetDemand()).isEqualTo(8);
+        assertThat(requested).isEqualTo(8);
+        assertThat(underTest.getOutstandingDemand()).isEqualTo(8);
+    }
+
+    @Test
+    public void demandFollowsRatioOfRoundTripAndProcessingTime() {
+        final AdaptiveDemandController underTest = controller(1, 100);
+        underTest.onSubscribe();
+
+        nanoClock.addAndGet(40 * MILLIS);
+        underTest.onElement();
+        underTest.onConsumed(10 * MILLIS);
+
+        assertThat(underTest.getTargetDemand()).isEqualTo(5);
+    }
+
+    @Test
+    public void slowConsumerKeepsMinimumDemand() {
+        final AdaptiveDemandController underTest = controller(1, 8);
+        underTest.onSubscribe();
+
+        nanoClock.addAndGet(MILLIS);
+        underTest.onElement();
+        final int requested = underTest.onConsumed(100 * MILLIS);
+
+        assertThat(underTest.getTargetDemand()).isEqualTo(2);
+        assertThat(requested).isEqualTo(2);
+    }
+
+    @Test
+    public void bufferedElementsAreNotRequestedAgain() {
+        final AdaptiveDemandController underTest = controller(4, 4);
+        underTest.onSubscribe();
+        underTest.onElement();
+        underTest.onElement();
+        underTest.onElement();
+
+        assertThat(underTest.getBufferedElements()).isEqualTo(3);
+        assertThat(underTest.getOutstandingDemand()).isEqualTo(1);
+        assertThat(underTest.onConsumed(MILLIS)).isEqualTo(1);
+        assertThat(underTest.getBufferedElements()).isEqualTo(2);
+        assertThat(underTest.getPeakBufferedElements()).isEqualTo(3);
+        assertThat(underTest.getOutstandingDemand()).isEqualTo(2);
+    }
+
+    @Test
+    public void invalidBoundsAreRejected() {
+        assertThatIllegalArgumentException().isThrownBy(() -> AdaptiveDemandController.of(0, 1));
+        assertThatIllegalArgumentException().isThrownBy(() -> AdaptiveDemandController.of(2, 1));
+    }
+
+    private AdaptiveDemandController controller(final int minDemand, final int maxDemand) {
+        return new AdaptiveDemandController(minDemand, maxDemand, nanoClock::get);
+    }
+
+}
@@ -0,0 +1,173 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.ditto.client.streaming;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+
+import org.eclipse.ditto.client.twin.SearchAggregators;
+import org.eclipse.ditto.json.JsonObject;
+import org.junit.Test;
+import org.reactivestreams.Publisher;
+import org.reactivestreams.Subscriber;
+import org.reactivestreams.Subscription;
+
+/**
+ * Tests {@link CollectingSubscriber}.
+ */
+public final class CollectingSubscriberTest {
+
+    @Test
+    public void aggregatesOneMillionThingsWithBoundedDemand() throws Exception {
+        final SyntheticPublisher publisher = new SyntheticPublisher(1_000_000, 1000);
+        final CollectingSubscriber<JsonObject, ?, Map<String, Long>> underTest =
+                CollectingSubscriber.of(SearchAggregators.countByNamespace(), 2, 1);
+
+        publisher.subscribe(underTest);
+
+        final Map<String, Long> result = underTest.getResult().get(60L, TimeUnit.SECONDS);
+        assertThat(result).hasSize(10);
+        assertThat(result.values()).containsOnly(100_000L);
+        // the heap holds at most the requested pages besides the groups, however many things are aggregated
+        assertThat(publisher.maxOutstandingDemand).isLessThanOrEqualTo(2L);
+    }
+
+    @Test
+    public void failingAccumulatorCancelsSubscription() {
+        final SyntheticPublisher publisher = new SyntheticPublisher(1_000_000, 1000);
+        final CollectingSubscriber<JsonObject, ?, Long> underTest =
+                CollectingSubscriber.of(Collectors.summingLong(thing -> {
+                    throw new IllegalArgumentException("expected");
+                }), 2, 1);
+
+        publisher.subscribe(underTest);
+
+        assertThat(underTest.getResult()).isCompletedExceptionally();
+        assertThat(underTest.getResult().handle((r, e) -> e).join()).isInstanceOf(IllegalArgumentException.class);
+        assertThat(publisher.cancelled).isTrue();
+        assertThat(publisher.publishedPages).isEqualTo(1);
+    }
+
+    @Test
+    public void failingFinisherFailsResult() {
+        final CollectingSubscriber<JsonObject, ?, List<JsonObject>> underTest = CollectingSubscriber.of(
+                Collectors.collectingAndThen(Collectors.toList(), list -> {
+                    throw new IllegalStateException("expected");
+                }), 2, 1);
+
+        new SyntheticPublisher(10, 5).subscribe(underTest);
+
+        assertThat(underTest.getResult().handle((r, e) -> e).join()).isInstanceOf(IllegalStateException.class);
+    }
+
+    @Test
+    public void cancellingResultCancelsSubscription() {
+        final SyntheticPublisher publisher = new SyntheticPublisher(1_000_000, 1000);
+        final CollectingSubscriber<JsonObject, ?, Long> underTest =
+                CollectingSubscriber.of(SearchAggregators.count(), 2, 1);
+        publisher.pauseAfter = 3;
+
+        publisher.subscribe(underTest);
+        underTest.getResult().cancel(false);
+
+        assertThat(publisher.cancelled).isTrue();
+        assertThat(underTest.getResult()).isCancelled();
+    }
+
+    @Test
+    public void failureOfPublisherFailsResult() {
+        final CollectingSubscriber<JsonObject, ?, Long> underTest =
+                CollectingSubscriber.of(SearchAggregators.count(), 2, 1);
+        final CompletableFuture<Long> result = underTest.getResult();
+
+        underTest.onSubscribe(new Subscription() {
+            @Override
+            public void request(final long n) {}
+
+            @Override
+            public void cancel() {}
+        });
+        underTest.onError(new IllegalStateException("expected"));
+
+        assertThat(result).isCompletedExceptionally();
+        assertThat(result.handle((r, e) -> e).join()).isInstanceOf(IllegalStateException.class);
+    }
+
+    /**
+     * Publishes pages of generated things on the thread signalling demand, without retaining any page.
+     */
+    private static final class SyntheticPublisher implements Publisher<List<JsonObject>> {
+
+        private final int things;
+        private final int pageSize;
+        private int pauseAfter = Integer.MAX_VALUE;
+        private int publishedPages = 0;
+        private long maxOutstandingDemand = 0L;
+        private boolean cancelled = false;
+
+        private SyntheticPublisher(final int things, final int pageSize) {
+            this.things = things;
+            this.pageSize = pageSize;
+        }
+
+        @Override
+        public void subscribe(final Subscriber<? super List<JsonObject>> subscriber) {
+            subscriber.onSubscribe(new Subscription() {
+
+                private long demand = 0L;
+                private boolean emitting = false;
+                private int published = 0;
+
+                @Override
+                public void request(final long n) {
+                    demand += n;
+                    maxOutstandingDemand = Math.max(maxOutstandingDemand, demand);
+                    if (emitting) {
+                        return;
+                    }
+                    emitting = true;
+                    while (demand > 0 && !cancelled && published < things && publishedPages < pauseAfter) {
+                        demand--;
+                        final int end = Math.min(things, published + pageSize);
+                        final List<JsonObject> page = new ArrayList<>(end - published);
+                        for (int i = published; i < end; i++) {
+                            page.add(JsonObject.newBuilder()
+                                    .set("thingId", "namespace" + (i % 10) + ":thing" + i)
+                                    .build());
+                        }
+                        published = end;
+                        publishedPages++;
+                        subscriber.onNext(page);
+                    }
+                    if (published >= things && !cancelled) {
+                        cancelled = true;
+                        subscriber.onComplete();
+                    }
+                    emitting = false;
+                }
+
+                @Override
+                public void cancel() {
+                    cancelled = true;
+                }
+            });
+        }
+    }
+
+}
@@ -0,0 +1,102 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.ditto.client.streaming;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatExceptionOfType;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+/**
+ * Tests {@link Mailbox}.
+ */
+public final class MailboxTest {
+
+    private ExecutorService executor;
+
+    @Before
+    public void setUp() {
+        executor = Executors.newFixedThreadPool(4);
+    }
+
+    @After
+    public void tearDown() {
+        executor.shutdownNow();
+    }
+
+    @Test
+    public void runsTasksOneAfterAnotherInSubmissionOrder() throws InterruptedException {
+        final int taskCount = 1000;
+        final Mailbox underTest = Mailbox.of(executor);
+        final List<Integer> processed = Collections.synchronizedList(new ArrayList<>());
+        final AtomicInteger concurrentTasks = new AtomicInteger();
+        final AtomicInteger maxConcurrentTasks = new AtomicInteger();
+        final CountDownLatch done = new CountDownLatch(taskCount);
+
+        for (int i = 0; i < taskCount; i++) {
+            final int task = i;
+            underTest.execute(() -> {
+                maxConcurrentTasks.accumulateAndGet(concurrentTasks.incrementAndGet(), Math::max);
+                processed.add(task);
+                concurrentTasks.decrementAndGet();
+                done.countDown();
+            });
+        }
+
+        assertThat(done.await(10L, TimeUnit.SECONDS)).isTrue();
+        assertThat(maxConcurrentTasks.get()).isEqualTo(1);
+        for (int i = 0; i < taskCount; i++) {
+            assertThat(processed.get(i)).isEqualTo(i);
+        }
+    }
+
+    @Test
+    public void shutdownRejectsNewTasksAndShutdownNowDropsQueuedTasks() throws InterruptedException {
+        final Mailbox underTest = Mailbox.of(executor);
+        final CountDownLatch blocked = new CountDownLatch(1);
+        final CountDownLatch release = new CountDownLatch(1);
+        final AtomicInteger processed = new AtomicInteger();
+
+        underTest.execute(() -> {
+            blocked.countDown();
+            try {
+                release.await();
+            } catch (final InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        });
+        assertThat(blocked.await(10L, TimeUnit.SECONDS)).isTrue();
+        underTest.execute(processed::incrementAndGet);
+        underTest.shutdownNow();
+        release.countDown();
+
+        assertThatExceptionOfType(RejectedExecutionException.class)
+                .isThrownBy(() -> underTest.execute(processed::incrementAndGet));
+        executor.shutdown();
+        assertThat(executor.awaitTermination(10L, TimeUnit.SECONDS)).isTrue();
+        assertThat(processed.get()).isZero();
+    }
+
+}
@@ -0,0 +1,139 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.ditto.client.streaming;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatExceptionOfType;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Queue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import org.awaitility.Awaitility;
+import org.eclipse.ditto.things.model.Thing;
+import org.eclipse.ditto.things.model.ThingId;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+import org.reactivestreams.Publisher;
+
+/**
+ * Tests {@link MergePublisher}.
+ */
+public final class MergePublisherTest {
+
+    private static final int PAGE_SIZE = 1000;
+    private static final long PAGE_LATENCY_MILLIS = 2L;
+
+    private ScheduledExecutorService scheduledExecutor;
+    private List<Thing> page;
+
+    @Before
+    public void setUp() {
+        scheduledExecutor = Executors.newScheduledThreadPool(4);
+        page = IntStream.range(0, PAGE_SIZE)
+                .mapToObj(i -> Thing.newBuilder().setId(ThingId.of("x", String.valueOf(i))).build())
+                .collect(Collectors.toList());
+    }
+
+    @After
+    public void tearDown() {
+        scheduledExecutor.shutdownNow();
+    }
+
+    @Test
+    public void allPartitionsAreRequestedAtTheSameTime() {
+        final int partitions = 4;
+        final List<Queue<CompletableFuture<List<Thing>>>> pendingPages = new ArrayList<>(partitions);
+        final List<Publisher<Thing>> sources = new ArrayList<>(partitions);
+        for (int i = 0; i < partitions; i++) {
+            final Queue<CompletableFuture<List<Thing>>> pendingPagesOfPartition = new ConcurrentLinkedQueue<>();
+            pendingPages.add(pendingPagesOfPartition);
+            sources.add(RetrieveThingsPublisher.of(Collections.singletonList(ThingId.of("x", "page")), 1, 1,
+                    pageIds -> {
+                        final CompletableFuture<List<Thing>> pendingPage = new CompletableFuture<>();
+                        pendingPagesOfPartition.add(pendingPage);
+                        return pendingPage;
+                    }));
+        }
+        final SpliteratorSubscriber<Thing> subscriber =
+                SpliteratorSubscriber.of(Duration.ofSeconds(10L), 16 * partitions, 8);
+        MergePublisher.of(sources, 16, 8).subscribe(subscriber);
+
+        // no page was answered yet, so no partition waits for another one to be requested
+        Awaitility.await("requests of all partitions").untilAsserted(() ->
+                assertThat(pendingPages).allSatisfy(pendingPagesOfPartition ->
+                        assertThat(pendingPagesOfPartition).hasSize(1)));
+        pendingPages.forEach(pendingPagesOfPartition -> pendingPagesOfPartition.remove().complete(page));
+
+        assertThat(subscriber.asStream().count()).isEqualTo((long) partitions * PAGE_SIZE);
+    }
+
+    @Test
+    public void failureOfOnePublisherFailsMergedPublisher() {
+        final IllegalStateException error = new IllegalStateException("expected");
+        final List<Publisher<Thing>> sources = new ArrayList<>(sources(2, 10 * PAGE_SIZE));
+        sources.add(RetrieveThingsPublisher.of(Collections.singletonList(ThingId.of("x", "failing")), 1, 1,
+                batch -> failedFuture(error)));
+        final SpliteratorSubscriber<Thing> subscriber = SpliteratorSubscriber.of(Duration.ofSeconds(10L), 16, 1);
+        MergePublisher.of(sources, 2, 1).subscribe(subscriber);
+
+        assertThatExceptionOfType(IllegalStateException.class)
+                .isThrownBy(() -> subscriber.asStream().count())
+                .withMessage("expected");
+    }
+
+    @Test
+    public void mergingNoPublishersCompletes() {
+        final SpliteratorSubscriber<Thing> subscriber = SpliteratorSubscriber.of();
+        MergePublisher.<Thing>of(Collections.emptyList(), 2, 1).subscribe(subscriber);
+
+        assertThat(subscriber.asStream()).isEmpty();
+    }
+
+    /**
+     * Publishers which together yield {@code results} things in pages, each page arriving after a latency like a page
+     * of search results.
+     */
+    private List<Publisher<Thing>> sources(final int count, final int results) {
+        final List<Publisher<Thing>> sources = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            final List<ThingId> pageIds = Collections.nCopies(results / count / PAGE_SIZE, ThingId.of("x", "page"));
+            sources.add(RetrieveThingsPublisher.of(pageIds, 1, 1, pageId -> delayedPage()));
+        }
+        return sources;
+    }
+
+    private CompletionStage<List<Thing>> delayedPage() {
+        final CompletableFuture<List<Thing>> result = new CompletableFuture<>();
+        scheduledExecutor.schedule(() -> result.complete(page), PAGE_LATENCY_MILLIS, TimeUnit.MILLISECONDS);
+        return result;
+    }
+
+    private static <T> CompletionStage<T> failedFuture(final Throwable error) {
+        final CompletableFuture<T> result = new CompletableFuture<>();
+        result.completeExceptionally(error);
+        return result;
+    }
+
+}
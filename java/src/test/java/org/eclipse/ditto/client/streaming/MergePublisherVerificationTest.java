@@ -0,0 +1,58 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.ditto.client.streaming;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.stream.Collectors;
+import java.util.stream.LongStream;
+
+import org.eclipse.ditto.things.model.Thing;
+import org.eclipse.ditto.things.model.ThingId;
+import org.reactivestreams.Publisher;
+import org.reactivestreams.tck.PublisherVerification;
+import org.reactivestreams.tck.TestEnvironment;
+
+/**
+ * Verify reactive-streams compatibility of {@link MergePublisher}.
+ */
+public final class MergePublisherVerificationTest extends PublisherVerification<Thing> {
+
+    private static final int SOURCES = 3;
+
+    public MergePublisherVerificationTest() {
+        super(new TestEnvironment(1000L, 1000L, false), 1000L);
+    }
+
+    @Override
+    public Publisher<Thing> createPublisher(final long l) {
+        final List<Publisher<Thing>> sources = new ArrayList<>(SOURCES);
+        for (int i = 0; i < SOURCES; i++) {
+            final List<ThingId> thingIds = LongStream.range(0L, l / SOURCES + (i < l % SOURCES ? 1L : 0L))
+                    .mapToObj(j -> ThingId.of("x", i + "-" + j))
+                    .collect(Collectors.toList());
+            sources.add(RetrieveThingsPublisher.of(thingIds, 2, 1, batch -> CompletableFuture.completedFuture(
+                    batch.stream().map(thingId -> Thing.newBuilder().setId(thingId).build())
+                            .collect(Collectors.toList()))));
+        }
+        return MergePublisher.of(sources, 4, 2);
+    }
+
+    @Override
+    public Publisher<Thing> createFailedPublisher() {
+        // MergePublisher cannot fail before its publishers are requested from.
+        return null;
+    }
+
+}
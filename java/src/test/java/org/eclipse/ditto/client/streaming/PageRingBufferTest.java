@@ -0,0 +1,133 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.ditto.client.streaming;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatExceptionOfType;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import org.junit.Test;
+
+/**
+ * Tests {@link PageRingBuffer}.
+ */
+public final class PageRingBufferTest {
+
+    private static final long TIMEOUT_NANOS = TimeUnit.SECONDS.toNanos(10L);
+
+    @Test
+    public void elementsWrapAroundInOrder() throws Exception {
+        final PageRingBuffer<Integer> underTest = PageRingBuffer.of(3);
+        final List<Integer> taken = new ArrayList<>();
+        for (int i = 0; i < 10; ++i) {
+            underTest.offer(i);
+            underTest.offer(-i);
+            taken.add(underTest.poll(TIMEOUT_NANOS));
+            taken.add(underTest.poll(TIMEOUT_NANOS));
+        }
+        assertThat(taken).isEqualTo(IntStream.range(0, 10)
+                .boxed()
+                .flatMap(i -> IntStream.of(i, -i).boxed())
+                .collect(Collectors.toList()));
+        assertThat(underTest.size()).isZero();
+    }
+
+    @Test
+    public void offeringBeyondCapacityFails() {
+        final PageRingBuffer<Integer> underTest = PageRingBuffer.of(3);
+        underTest.offer(1);
+        underTest.offer(2);
+        underTest.offer(3);
+
+        assertThatExceptionOfType(IllegalStateException.class).isThrownBy(() -> underTest.offer(4));
+        assertThat(underTest.size()).isEqualTo(3);
+    }
+
+    @Test
+    public void terminationIsSeenAfterElementsByEveryPoll() throws Exception {
+        final PageRingBuffer<Integer> underTest = PageRingBuffer.of(1);
+        underTest.offer(1);
+        final IllegalStateException error = new IllegalStateException("expected");
+        underTest.fail(error);
+        underTest.complete();
+
+        assertThat(underTest.isTerminated()).isTrue();
+        assertThat(underTest.poll(TIMEOUT_NANOS)).isEqualTo(1);
+        assertThat(underTest.poll(TIMEOUT_NANOS)).isNull();
+        assertThat(underTest.poll(TIMEOUT_NANOS)).isNull();
+        assertThat(underTest.getError()).isSameAs(error);
+    }
+
+    @Test
+    public void pollTimesOut() {
+        final PageRingBuffer<Integer> underTest = PageRingBuffer.of(1);
+
+        assertThatExceptionOfType(TimeoutException.class)
+                .isThrownBy(() -> underTest.poll(TimeUnit.MILLISECONDS.toNanos(10L)));
+    }
+
+    @Test
+    public void concurrentConsumersTakeEachElementOnce() throws Exception {
+        final int elements = 100_000;
+        final int consumers = 4;
+        final int capacity = 8;
+        final PageRingBuffer<Integer> underTest = PageRingBuffer.of(capacity);
+        // demand of the producer: it offers only as many elements as were taken
+        final Semaphore freeSlots = new Semaphore(capacity);
+        final ExecutorService executor = Executors.newFixedThreadPool(consumers + 1);
+        try {
+            final List<CompletableFuture<List<Integer>>> taken = new ArrayList<>();
+            for (int i = 0; i < consumers; ++i) {
+                taken.add(CompletableFuture.supplyAsync(() -> {
+                    final List<Integer> result = new ArrayList<>();
+                    try {
+                        for (Integer element = underTest.poll(TIMEOUT_NANOS); null != element;
+                                element = underTest.poll(TIMEOUT_NANOS)) {
+                            result.add(element);
+                            freeSlots.release();
+                        }
+                    } catch (final InterruptedException | TimeoutException e) {
+                        throw new IllegalStateException(e);
+                    }
+                    return result;
+                }, executor));
+            }
+            executor.execute(() -> {
+                for (int i = 0; i < elements; ++i) {
+                    freeSlots.acquireUninterruptibly();
+                    underTest.offer(i);
+                }
+                underTest.complete();
+            });
+
+            final List<Integer> all = new ArrayList<>();
+            for (final CompletableFuture<List<Integer>> future : taken) {
+                all.addAll(future.get(1L, TimeUnit.MINUTES));
+            }
+            assertThat(all).hasSize(elements).doesNotHaveDuplicates();
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+}
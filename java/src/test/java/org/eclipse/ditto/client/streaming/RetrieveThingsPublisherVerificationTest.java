@@ -0,0 +1,68 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.ditto.client.streaming;
+
+import java.util.Iterator;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.concurrent.CompletableFuture;
+import java.util.stream.Collectors;
+
+import org.eclipse.ditto.things.model.Thing;
+import org.eclipse.ditto.things.model.ThingId;
+import org.reactivestreams.Publisher;
+import org.reactivestreams.tck.PublisherVerification;
+import org.reactivestreams.tck.TestEnvironment;
+
+/**
+ * Verify reactive-streams compatibility of {@link RetrieveThingsPublisher}.
+ */
+public final class RetrieveThingsPublisherVerificationTest extends PublisherVerification<Thing> {
+
+    public RetrieveThingsPublisherVerificationTest() {
+        super(new TestEnvironment(1000L, 1000L, false), 1000L);
+    }
+
+    @Override
+    public Publisher<Thing> createPublisher(final long l) {
+        return RetrieveThingsPublisher.of(() -> thingIds(l), 3, 2, batch -> CompletableFuture.completedFuture(
+                batch.stream().map(thingId -> Thing.newBuilder().setId(thingId).build()).collect(Collectors.toList())));
+    }
+
+    @Override
+    public Publisher<Thing> createFailedPublisher() {
+        // RetrieveThingsPublisher cannot fail before the first batch is requested.
+        return null;
+    }
+
+    private static Iterator<ThingId> thingIds(final long count) {
+        return new Iterator<ThingId>() {
+
+            private long i = 0;
+
+            @Override
+            public boolean hasNext() {
+                return i < count;
+            }
+
+            @Override
+            public ThingId next() {
+                if (!hasNext()) {
+                    throw new NoSuchElementException();
+                }
+                return ThingId.of("x", String.valueOf(i++));
+            }
+        };
+    }
+
+}
@@ -13,16 +13,43 @@
 package org.eclipse.ditto.client.streaming;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatExceptionOfType;
 
 import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Spliterator;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
 
 import org.junit.Test;
+import org.reactivestreams.Subscription;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
 
 /**
  * Verify reactive-streams compatibility of {@link org.eclipse.ditto.client.streaming.SpliteratorSubscriber}.
  */
 public final class SpliteratorSubscriberTest {
 
+    private static final Logger LOGGER = LoggerFactory.getLogger(SpliteratorSubscriberTest.class);
+
+    private static final Subscription NO_OP_SUBSCRIPTION = new Subscription() {
+        @Override
+        public void request(final long n) {
+            // elements are pushed by the test
+        }
+
+        @Override
+        public void cancel() {
+            // nothing to cancel
+        }
+    };
+
     @Test
     public void parallelismEqualsBufferSize() {
         final int parallelism = 9;
@@ -32,4 +59,143 @@ public final class SpliteratorSubscriberTest {
         }
         assertThat(underTest.trySplit()).describedAs("Split #" + parallelism + " should be null").isNull();
     }
+
+    @Test
+    public void adaptiveDemandControllerDecidesRequests() {
+        final AdaptiveDemandController demandController = AdaptiveDemandController.of(2, 4);
+        final SpliteratorSubscriber<Integer> underTest = SpliteratorSubscriber.of(Duration.ofMinutes(1L),
+                demandController);
+        final List<Long> requests = new CopyOnWriteArrayList<>();
+        underTest.onSubscribe(new Subscription() {
+            @Override
+            public void request(final long n) {
+                requests.add(n);
+            }
+
+            @Override
+            public void cancel() {
+                // nothing to cancel
+            }
+        });
+        assertThat(requests).containsExactly(2L);
+
+        underTest.onNext(1);
+        underTest.onNext(2);
+        assertThat(demandController.getBufferedElements()).isEqualTo(2);
+        assertThat(demandController.getOutstandingDemand()).isZero();
+
+        assertThat(underTest.tryAdvance(element -> {})).isTrue();
+        assertThat(underTest.tryAdvance(element -> {})).isTrue();
+        assertThat(demandController.getBufferedElements()).isZero();
+        assertThat(requests.stream().mapToLong(Long::longValue).sum())
+                .isEqualTo(2L + demandController.getOutstandingDemand())
+                .isLessThanOrEqualTo(2L + demandController.getMaxDemand());
+    }
+
+    @Test
+    public void fullBufferIsFollowedByEndOfStream() {
+        final SpliteratorSubscriber<Integer> underTest = SpliteratorSubscriber.of(Duration.ofMinutes(1L), 1, 1);
+        underTest.onSubscribe(NO_OP_SUBSCRIPTION);
+        underTest.onNext(1);
+        // no capacity is reserved for the end of the stream
+        underTest.onComplete();
+
+        assertThat(underTest.estimateSize()).isEqualTo(1L);
+        assertThat(underTest.tryAdvance(element -> assertThat(element).isEqualTo(1))).isTrue();
+        assertThat(underTest.tryAdvance(element -> {})).isFalse();
+        assertThat(underTest.tryAdvance(element -> {})).isFalse();
+        assertThat(underTest.estimateSize()).isZero();
+    }
+
+    @Test
+    public void errorIsThrownToAllSplitsAfterBufferedElements() {
+        final SpliteratorSubscriber<Integer> underTest = SpliteratorSubscriber.of(Duration.ofMinutes(1L), 2, 1);
+        underTest.onSubscribe(NO_OP_SUBSCRIPTION);
+        final Spliterator<Integer> split = underTest.trySplit();
+        underTest.onNext(1);
+        underTest.onNext(2);
+        underTest.onError(new IllegalStateException("expected"));
+
+        assertThat(underTest.tryAdvance(element -> {})).isTrue();
+        assertThat(split.tryAdvance(element -> {})).isTrue();
+        assertThatExceptionOfType(IllegalStateException.class)
+                .isThrownBy(() -> underTest.tryAdvance(element -> {}))
+                .withMessage("expected");
+        assertThatExceptionOfType(IllegalStateException.class)
+                .isThrownBy(() -> split.tryAdvance(element -> {}))
+                .withMessage("expected");
+    }
+
+    @Test
+    public void waitingConsumerReceivesNextElement() throws Exception {
+        final SpliteratorSubscriber<Integer> underTest = SpliteratorSubscriber.of(Duration.ofMinutes(1L), 2, 1);
+        underTest.onSubscribe(NO_OP_SUBSCRIPTION);
+        final List<Integer> received = new CopyOnWriteArrayList<>();
+        final CompletableFuture<Boolean> advanced = CompletableFuture.supplyAsync(() ->
+                underTest.tryAdvance(received::add));
+
+        Thread.sleep(50L);
+        assertThat(advanced).isNotDone();
+        underTest.onNext(42);
+
+        assertThat(advanced.get(10L, TimeUnit.SECONDS)).isTrue();
+        assertThat(received).containsExactly(42);
+    }
+
+    @Test
+    public void waitingForElementTimesOut() {
+        final SpliteratorSubscriber<Integer> underTest = SpliteratorSubscriber.of(Duration.ofMillis(10L), 2, 1);
+        underTest.onSubscribe(NO_OP_SUBSCRIPTION);
+
+        assertThatExceptionOfType(IllegalStateException.class)
+                .isThrownBy(() -> underTest.tryAdvance(element -> {}))
+                .withMessage("timed out after 10 ms");
+    }
+
+    /**
+     * Measures the throughput of consuming pages through {@link SpliteratorSubscriber#asStream()} while they are
+     * published by another thread. Run with more pages to get a meaningful number.
+     */
+    @Test
+    public void streamConsumptionThroughput() {
+        final int pages = 20_000;
+        final int pageSize = 200;
+        final List<Integer> page = new ArrayList<>(Collections.nCopies(pageSize, 1));
+        final ExecutorService publisherThread = Executors.newSingleThreadExecutor();
+        try {
+            final SpliteratorSubscriber<List<Integer>> underTest =
+                    SpliteratorSubscriber.of(Duration.ofMinutes(1L), 16, 4);
+            underTest.onSubscribe(new Subscription() {
+                private int published = 0;
+
+                @Override
+                public void request(final long n) {
+                    publisherThread.execute(() -> {
+                        for (long i = 0; i < n && published < pages; ++i) {
+                            published++;
+                            underTest.onNext(page);
+                        }
+                        if (published == pages) {
+                            underTest.onComplete();
+                        }
+                    });
+                }
+
+                @Override
+                public void cancel() {
+                    // runs to completion
+                }
+            });
+
+            final long startNanos = System.nanoTime();
+            final long elements = underTest.asStream().flatMap(List::stream).mapToLong(Integer::longValue).sum();
+            final long elapsedNanos = System.nanoTime() - startNanos;
+
+            assertThat(elements).isEqualTo((long) pages * pageSize);
+            LOGGER.info("Consumed {} elements in {} pages: {} elements/s", elements, pages,
+                    elements * TimeUnit.SECONDS.toNanos(1L) / Math.max(1L, elapsedNanos));
+        } finally {
+            publisherThread.shutdownNow();
+        }
+    }
 }
@@ -0,0 +1,68 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.ditto.client.streaming;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.eclipse.ditto.base.model.headers.DittoHeaders;
+import org.eclipse.ditto.client.internal.AbstractDittoClientTest;
+import org.eclipse.ditto.thingsearch.model.signals.commands.subscription.CreateSubscription;
+import org.eclipse.ditto.thingsearch.model.signals.commands.subscription.RequestFromSubscription;
+import org.eclipse.ditto.thingsearch.model.signals.events.SubscriptionComplete;
+import org.eclipse.ditto.thingsearch.model.signals.events.SubscriptionCreated;
+import org.eclipse.ditto.thingsearch.model.signals.events.SubscriptionHasNextPage;
+import org.junit.Test;
+import org.reactivestreams.Publisher;
+
+/**
+ * Tests {@link ThingSearchSubscription}.
+ */
+public final class ThingSearchSubscriptionTest extends AbstractDittoClientTest {
+
+    @Test
+    public void threadCountDoesNotGrowWithConcurrentSubscriptions() {
+        final List<String> subscriptionIds = new ArrayList<>(startSubscriptions("few", 10));
+        final int threadsWithFewSubscriptions = Thread.activeCount();
+
+        subscriptionIds.addAll(startSubscriptions("many", 500));
+        final int threadsWithManySubscriptions = Thread.activeCount();
+
+        assertThat(threadsWithManySubscriptions - threadsWithFewSubscriptions).isLessThan(10);
+        subscriptionIds.forEach(subscriptionId -> reply(SubscriptionComplete.of(subscriptionId, DittoHeaders.empty())));
+    }
+
+    private List<String> startSubscriptions(final String prefix, final int count) {
+        final List<Publisher<SubscriptionHasNextPage>> publishers = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            publishers.add(ThingSearchPublisher.of(CreateSubscription.of(DittoHeaders.empty()), PROTOCOL_ADAPTER,
+                    messaging));
+        }
+        publishers.forEach(publisher -> publisher.subscribe(SpliteratorSubscriber.of()));
+        final List<String> subscriptionIds = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            final CreateSubscription createSubscription = expectMsgClass(CreateSubscription.class);
+            final String subscriptionId = prefix + "-" + i;
+            subscriptionIds.add(subscriptionId);
+            reply(SubscriptionCreated.of(subscriptionId, createSubscription.getDittoHeaders()));
+        }
+        // every subscription processed its first request
+        for (int i = 0; i < count; i++) {
+            expectMsgClass(RequestFromSubscription.class);
+        }
+        return subscriptionIds;
+    }
+
+}
@@ -0,0 +1,104 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.ditto.client.twin;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatIllegalArgumentException;
+
+import java.util.Comparator;
+import java.util.DoubleSummaryStatistics;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
+
+import org.eclipse.ditto.json.JsonFactory;
+import org.eclipse.ditto.json.JsonObject;
+import org.eclipse.ditto.json.JsonPointer;
+import org.eclipse.ditto.json.JsonValue;
+import org.eclipse.ditto.things.model.ThingId;
+import org.junit.Test;
+
+/**
+ * Tests {@link SearchAggregators}.
+ */
+public final class SearchAggregatorsTest {
+
+    private static final JsonPointer COLOR = JsonPointer.of("attributes/color");
+    private static final JsonPointer TEMPERATURE = JsonPointer.of("features/sensor/properties/temperature");
+
+    @Test
+    public void countCountsSearchResults() {
+        assertThat(searchResults().collect(SearchAggregators.count())).isEqualTo(10L);
+    }
+
+    @Test
+    public void countByNamespaceGroupsByNamespaceOfThingId() {
+        final Map<String, Long> counts = searchResults().collect(SearchAggregators.countByNamespace());
+        assertThat(counts).containsOnlyKeys("even", "odd");
+        assertThat(counts.get("even")).isEqualTo(5L);
+        assertThat(counts.get("odd")).isEqualTo(5L);
+    }
+
+    @Test
+    public void countByValueSkipsSearchResultsWithoutValue() {
+        final Map<JsonValue, Long> counts = searchResults().collect(SearchAggregators.countByValue(COLOR));
+        assertThat(counts).containsOnlyKeys(JsonValue.of("red"), JsonValue.of("green"));
+        assertThat(counts.get(JsonValue.of("red"))).isEqualTo(3L);
+        assertThat(counts.get(JsonValue.of("green"))).isEqualTo(3L);
+    }
+
+    @Test
+    public void statisticsSkipsSearchResultsWithoutNumber() {
+        final DoubleSummaryStatistics statistics =
+                searchResults().collect(SearchAggregators.statistics(TEMPERATURE));
+        assertThat(statistics.getCount()).isEqualTo(9L);
+        assertThat(statistics.getMin()).isEqualTo(1.0);
+        assertThat(statistics.getMax()).isEqualTo(9.0);
+        assertThat(statistics.getAverage()).isEqualTo(5.0);
+    }
+
+    @Test
+    public void topKRetainsGreatestElements() {
+        final List<ThingId> top = searchResults().collect(SearchAggregators.topK(3, SearchResultExtractor.thingId(),
+                Comparator.comparing(ThingId::getName)));
+        assertThat(top).containsExactly(ThingId.of("odd:thing9"), ThingId.of("even:thing8"),
+                ThingId.of("odd:thing7"));
+    }
+
+    @Test
+    public void topKRejectsNonPositiveK() {
+        assertThatIllegalArgumentException()
+                .isThrownBy(() -> SearchAggregators.topK(0, SearchResultExtractor.json(),
+                        Comparator.comparing(JsonObject::getSize)));
+    }
+
+    private static Stream<JsonObject> searchResults() {
+        return IntStream.range(0, 10).mapToObj(i -> {
+            final JsonObject searchResult = JsonObject.newBuilder()
+                    .set("thingId", (i % 2 == 0 ? "even" : "odd") + ":thing" + i)
+                    .set(JsonFactory.newIntFieldDefinition(TEMPERATURE), i)
+                    .build();
+            if (i == 0) {
+                return searchResult.setValue(TEMPERATURE, "unknown");
+            } else if (i < 4) {
+                return searchResult.setValue(COLOR, "red");
+            } else if (i < 7) {
+                return searchResult.setValue(COLOR, "green");
+            } else {
+                return searchResult;
+            }
+        });
+    }
+
+}
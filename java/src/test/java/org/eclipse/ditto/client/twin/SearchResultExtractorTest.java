@@ -0,0 +1,128 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.ditto.client.twin;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatNullPointerException;
+
+import java.lang.management.ManagementFactory;
+import java.util.List;
+import java.util.Optional;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import org.eclipse.ditto.json.JsonFactory;
+import org.eclipse.ditto.json.JsonFieldDefinition;
+import org.eclipse.ditto.json.JsonObject;
+import org.eclipse.ditto.things.model.Thing;
+import org.eclipse.ditto.things.model.ThingId;
+import org.junit.Assume;
+import org.junit.Test;
+
+/**
+ * Tests {@link SearchResultExtractor}.
+ */
+public final class SearchResultExtractorTest {
+
+    private static final JsonFieldDefinition<String> MANUFACTURER =
+            JsonFactory.newStringFieldDefinition("attributes/manufacturer");
+
+    private static final JsonObject SEARCH_RESULT = JsonObject.newBuilder()
+            .set("thingId", "org.eclipse.ditto:thing")
+            .set("policyId", "org.eclipse.ditto:policy")
+            .set(MANUFACTURER, "ACME")
+            .set("features", JsonObject.newBuilder()
+                    .set("lamp", JsonObject.newBuilder()
+                            .set("properties", JsonObject.newBuilder().set("on", true).set("brightness", 80).build())
+                            .build())
+                    .build())
+            .build();
+
+    @Test
+    public void jsonReturnsSearchResultAsReceived() {
+        assertThat(SearchResultExtractor.json().extract(SEARCH_RESULT)).isSameAs(SEARCH_RESULT);
+    }
+
+    @Test
+    public void thingBuildsThing() {
+        final Thing thing = SearchResultExtractor.thing().extract(SEARCH_RESULT);
+        assertThat(thing.getEntityId()).contains(ThingId.of("org.eclipse.ditto:thing"));
+        assertThat(thing.getFeatures()).isPresent();
+    }
+
+    @Test
+    public void thingIdReadsThingId() {
+        assertThat(SearchResultExtractor.thingId().extract(SEARCH_RESULT))
+                .isEqualTo(ThingId.of("org.eclipse.ditto:thing"));
+    }
+
+    @Test
+    public void fieldReadsFieldIfPresent() {
+        assertThat(SearchResultExtractor.field(MANUFACTURER).extract(SEARCH_RESULT)).contains("ACME");
+        assertThat(SearchResultExtractor.field(JsonFactory.newStringFieldDefinition("attributes/model"))
+                .extract(SEARCH_RESULT)).isEmpty();
+    }
+
+    @Test
+    public void fieldRejectsNullDefinition() {
+        assertThatNullPointerException().isThrownBy(() -> SearchResultExtractor.field(null));
+    }
+
+    /**
+     * Compares the bytes allocated for mapping pages of 200 search results to things and to thing IDs.
+     */
+    @Test
+    public void extractingThingIdsAllocatesLessThanBuildingThings() {
+        final com.sun.management.ThreadMXBean threadMXBean = getThreadMXBean();
+        final List<JsonObject> page = IntStream.range(0, 200)
+                .mapToObj(i -> SEARCH_RESULT.setValue("thingId", "org.eclipse.ditto:thing-" + i))
+                .collect(Collectors.toList());
+        final int pages = 50;
+
+        // warm up
+        allocatedBytes(threadMXBean, page, pages, SearchResultExtractor.thing());
+        allocatedBytes(threadMXBean, page, pages, SearchResultExtractor.thingId());
+
+        final long thingBytes = allocatedBytes(threadMXBean, page, pages, SearchResultExtractor.thing());
+        final long thingIdBytes = allocatedBytes(threadMXBean, page, pages, SearchResultExtractor.thingId());
+
+        assertThat(thingIdBytes).isLessThan(thingBytes / 2);
+    }
+
+    private static long allocatedBytes(final com.sun.management.ThreadMXBean threadMXBean,
+            final List<JsonObject> page, final int pages, final SearchResultExtractor<?> extractor) {
+
+        final long threadId = Thread.currentThread().getId();
+        final long before = threadMXBean.getThreadAllocatedBytes(threadId);
+        for (int i = 0; i < pages; i++) {
+            for (final JsonObject searchResult : page) {
+                if (null == extractor.extract(searchResult)) {
+                    throw new AssertionError("extracted null");
+                }
+            }
+        }
+        return threadMXBean.getThreadAllocatedBytes(threadId) - before;
+    }
+
+    private static com.sun.management.ThreadMXBean getThreadMXBean() {
+        final Optional<com.sun.management.ThreadMXBean> threadMXBean =
+                Optional.of(ManagementFactory.getThreadMXBean())
+                        .filter(com.sun.management.ThreadMXBean.class::isInstance)
+                        .map(com.sun.management.ThreadMXBean.class::cast)
+                        .filter(com.sun.management.ThreadMXBean::isThreadAllocatedMemorySupported);
+        Assume.assumeTrue("thread allocation measurement is not supported", threadMXBean.isPresent());
+        threadMXBean.get().setThreadAllocatedMemoryEnabled(true);
+        return threadMXBean.get();
+    }
+
+}
@@ -0,0 +1,120 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.ditto.client.twin.internal;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.TimeoutException;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import org.eclipse.ditto.base.model.exceptions.DittoInternalErrorException;
+import org.eclipse.ditto.client.twin.BulkWriteProgress;
+import org.eclipse.ditto.client.twin.BulkWriteResult;
+import org.eclipse.ditto.things.model.ThingId;
+import org.junit.Test;
+
+/**
+ * Tests {@link BulkWriteOperation}.
+ */
+public final class BulkWriteOperationTest {
+
+    private static final int MANY_THINGS = 100_000;
+
+    @Test
+    public void synchronouslyCompletingWritesDoNotRecurse() {
+        final List<ThingId> thingIds = IntStream.range(0, MANY_THINGS)
+                .mapToObj(i -> ThingId.of("org.eclipse.ditto.test", "bulk-" + i))
+                .collect(Collectors.toList());
+
+        final CompletionStage<BulkWriteResult> result = BulkWriteOperation.start(thingIds, thingId -> thingId,
+                thingId -> CompletableFuture.completedFuture(null), 100, null);
+
+        assertThat(result.toCompletableFuture()).isCompletedWithValueMatching(
+                bulkWriteResult -> bulkWriteResult.getSucceeded() == MANY_THINGS && bulkWriteResult.isSuccessful());
+    }
+
+    @Test
+    public void keepsAtMostMaxInFlightWritesPending() {
+        final List<CompletableFuture<Object>> pendingWrites = new ArrayList<>();
+        final CompletionStage<BulkWriteResult> result = BulkWriteOperation.start(thingIds(5), thingId -> thingId,
+                thingId -> {
+                    final CompletableFuture<Object> write = new CompletableFuture<>();
+                    pendingWrites.add(write);
+                    return write;
+                }, 2, null);
+
+        assertThat(pendingWrites).hasSize(2);
+        pendingWrites.get(0).complete(null);
+        assertThat(pendingWrites).hasSize(3);
+        pendingWrites.get(1).completeExceptionally(new TimeoutException("expected"));
+        pendingWrites.get(2).complete(null);
+        pendingWrites.get(3).complete(null);
+        assertThat(result.toCompletableFuture()).isNotDone();
+        pendingWrites.get(4).complete(null);
+
+        final BulkWriteResult bulkWriteResult = result.toCompletableFuture().join();
+        assertThat(bulkWriteResult.getSucceeded()).isEqualTo(4L);
+        assertThat(bulkWriteResult.getFailures()).containsOnlyKeys(thingIds(5).get(1));
+        assertThat(bulkWriteResult.getFailures().get(thingIds(5).get(1)))
+                .isInstanceOf(DittoInternalErrorException.class)
+                .hasCauseInstanceOf(TimeoutException.class);
+    }
+
+    @Test
+    public void repeatedFailuresOfTheSameThingAreCounted() {
+        final ThingId thingId = thingIds(1).get(0);
+        final List<ThingId> writes = Arrays.asList(thingId, thingId, thingId);
+        final List<BulkWriteProgress> progress = new ArrayList<>();
+        final CompletionStage<BulkWriteResult> result = BulkWriteOperation.start(writes, id -> id,
+                id -> failedFuture(new TimeoutException("expected")), 10, progress::add);
+
+        final BulkWriteResult bulkWriteResult = result.toCompletableFuture().join();
+        assertThat(bulkWriteResult.getSucceeded()).isZero();
+        assertThat(bulkWriteResult.getFailed()).isEqualTo(3L);
+        assertThat(bulkWriteResult.getFailures()).containsOnlyKeys(thingId);
+        assertThat(bulkWriteResult.isSuccessful()).isFalse();
+        assertThat(progress).last().isEqualTo(BulkWriteProgress.of(3L, 0L, 3L));
+    }
+
+    @Test
+    public void failingThingIdExtractionFailsBulkWrite() {
+        final IllegalArgumentException error = new IllegalArgumentException("expected");
+        final CompletionStage<BulkWriteResult> result = BulkWriteOperation.start(thingIds(3), thingId -> {
+            if (thingId.getName().endsWith("1")) {
+                throw error;
+            }
+            return thingId;
+        }, thingId -> CompletableFuture.completedFuture(null), 10, null);
+
+        assertThat(result.toCompletableFuture()).hasFailedWithThrowableThat().isSameAs(error);
+    }
+
+    private static <T> CompletableFuture<T> failedFuture(final Throwable error) {
+        final CompletableFuture<T> result = new CompletableFuture<>();
+        result.completeExceptionally(error);
+        return result;
+    }
+
+    private static List<ThingId> thingIds(final int count) {
+        return IntStream.range(0, count)
+                .mapToObj(i -> ThingId.of("org.eclipse.ditto.test", "bulk-" + i))
+                .collect(Collectors.toList());
+    }
+
+}
@@ -0,0 +1,124 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.ditto.client.twin.internal;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatExceptionOfType;
+
+import java.io.IOException;
+import java.io.RandomAccessFile;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
+
+import org.eclipse.ditto.json.JsonObject;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+/**
+ * Tests {@link ReplicaSnapshot}.
+ */
+public final class ReplicaSnapshotTest {
+
+    private static final int THINGS = 10_000;
+
+    @Rule
+    public final TemporaryFolder folder = new TemporaryFolder();
+
+    @Test
+    public void readsWrittenThingsWithRevisions() throws IOException {
+        final Path file = folder.getRoot().toPath().resolve("replica.snapshot");
+        final List<ReplicaSnapshot.Record> records = records(THINGS);
+
+        assertThat(ReplicaSnapshot.write(file, records.iterator())).isEqualTo(THINGS);
+
+        final List<ReplicaSnapshot.Record> read = new ArrayList<>();
+        final long count =
+                ReplicaSnapshot.read(file, (thing, revision) -> read.add(new ReplicaSnapshot.Record(thing, revision)));
+        assertThat(count).isEqualTo(THINGS);
+        assertRecords(read, records);
+    }
+
+    @Test
+    public void readsRecordsSpanningMappedRegions() throws IOException {
+        final Path file = folder.getRoot().toPath().resolve("replica.snapshot");
+        final List<ReplicaSnapshot.Record> records = records(100);
+        ReplicaSnapshot.write(file, records.iterator());
+
+        final List<ReplicaSnapshot.Record> read = new ArrayList<>();
+        ReplicaSnapshot.read(file, (thing, revision) -> read.add(new ReplicaSnapshot.Record(thing, revision)), 1000);
+        assertRecords(read, records);
+    }
+
+    @Test
+    public void replacesExistingSnapshot() throws IOException {
+        final Path file = folder.getRoot().toPath().resolve("replica.snapshot");
+        ReplicaSnapshot.write(file, records(10).iterator());
+        ReplicaSnapshot.write(file, records(3).iterator());
+
+        assertThat(ReplicaSnapshot.read(file, (thing, revision) -> {})).isEqualTo(3L);
+        try (final Stream<Path> files = Files.list(folder.getRoot().toPath())) {
+            assertThat(files).containsExactly(file);
+        }
+    }
+
+    @Test
+    public void truncatedSnapshotIsRejected() throws IOException {
+        final Path file = folder.getRoot().toPath().resolve("replica.snapshot");
+        ReplicaSnapshot.write(file, records(10).iterator());
+        try (final RandomAccessFile randomAccessFile = new RandomAccessFile(file.toFile(), "rw")) {
+            randomAccessFile.setLength(randomAccessFile.length() - 5);
+        }
+
+        assertThatExceptionOfType(IOException.class)
+                .isThrownBy(() -> ReplicaSnapshot.read(file, (thing, revision) -> {}));
+    }
+
+    @Test
+    public void fileOfOtherFormatIsRejected() throws IOException {
+        final Path file = folder.getRoot().toPath().resolve("replica.snapshot");
+        Files.write(file, "{\"thingId\":\"replica:thing-0\"}".getBytes(StandardCharsets.UTF_8));
+
+        assertThatExceptionOfType(IOException.class)
+                .isThrownBy(() -> ReplicaSnapshot.read(file, (thing, revision) -> {}));
+    }
+
+    private static List<ReplicaSnapshot.Record> records(final int things) {
+        return IntStream.range(0, things)
+                .mapToObj(i -> new ReplicaSnapshot.Record(JsonObject.newBuilder()
+                        .set("thingId", "replica:thing-" + i)
+                        .set("attributes", JsonObject.newBuilder()
+                                .set("counter", i)
+                                .set("label", "\u00fcber-" + i)
+                                .build())
+                        .build(), i + 1L))
+                .collect(Collectors.toList());
+    }
+
+    private static void assertRecords(final List<ReplicaSnapshot.Record> actual,
+            final List<ReplicaSnapshot.Record> expected) {
+
+        assertThat(actual).hasSameSizeAs(expected);
+        for (int i = 0; i < expected.size(); ++i) {
+            assertThat(actual.get(i).getThing()).isEqualTo(expected.get(i).getThing());
+            assertThat(actual.get(i).getRevision()).isEqualTo(expected.get(i).getRevision());
+        }
+    }
+
+}